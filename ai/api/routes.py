@@ -1,13 +1,29 @@
 from fastapi import APIRouter
-from ai.api.schemas import AnalysisRequest, AnalysisResponse, TaskStatusResponse
+from fastapi import Header
+from fastapi import HTTPException
+from ai.api.schemas import (
+    AnalysisRequest,
+    AnalysisResponse,
+    ProbeRequest,
+    ProbeResponse,
+    TaskStatusResponse,
+)
 from ai.worker.celery_app import celery_app
 from celery.result import AsyncResult
+from typing import Optional
+import ffmpeg
+import logging
+import os
+
+logger = logging.getLogger(__name__)
 
 router = APIRouter()
 
 
 @router.post("/analyze", response_model=AnalysisResponse)
-async def analyze_audio(request: AnalysisRequest):
+async def analyze_audio(
+    request: AnalysisRequest, traceparent: Optional[str] = Header(default=None)
+):
     """
     오디오 분석 작업을 요청.
     Celery Worker에게 작업을 비동기로 전달하고, 작업 ID(Job ID)를 즉시 반환.
@@ -15,6 +31,7 @@ async def analyze_audio(request: AnalysisRequest):
     Args:
         request.file_path: 분석할 오디오 파일 경로 (Docker 내부 경로)
         request.options: 분석 옵션 (모델명, 언어, 배치 사이즈 등)
+        traceparent: 백엔드 요청의 W3C trace context (있으면 Worker 작업 헤더로 전달)
 
     Returns:
         jobId: 작업 추적 ID
@@ -22,15 +39,31 @@ async def analyze_audio(request: AnalysisRequest):
     """
     # Celery 작업 큐에 작업 추가 (비동기)
     # send_task를 사용하여 Worker 코드와의 의존성을 분리.
+    # traceparent 를 작업 헤더로 넘겨 Worker 로그를 백엔드 trace 와 연결
     task = celery_app.send_task(
-        "ai.worker.tasks.process_audio_task", args=[request.file_path, request.options]
+        "ai.worker.tasks.process_audio_task",
+        args=[request.file_path, request.options],
+        headers={"traceparent": traceparent} if traceparent else None,
     )
+    logger.info(f"Task submitted: task_id={task.id}, traceparent={traceparent}")
 
     return AnalysisResponse(
         job_id=task.id, status="PENDING", message="Task submitted successfully"
     )
 
 
+@router.post("/probe", response_model=ProbeResponse)
+def probe_media(request: ProbeRequest):
+    """
+    미디어 길이를 조회.
+    백엔드가 긴 영상을 여러 구간으로 나눠 병렬 처리할지 결정할 때 사용.
+    """
+    if not os.path.exists(request.file_path):
+        raise HTTPException(status_code=404, detail="File not found")
+    info = ffmpeg.probe(request.file_path)
+    return ProbeResponse(duration_seconds=float(info["format"]["duration"]))
+
+
 @router.get("/status/{job_id}", response_model=TaskStatusResponse)
 async def get_task_status(job_id: str):
     """
@@ -40,6 +73,8 @@ async def get_task_status(job_id: str):
         status: PENDING, PROCESSING, SUCCESS, FAILURE 중 하나
         progress: 진행률 (0.0 ~ 100.0)
         result: 완료된 경우 분석 결과 데이터
+        workerClass: 작업을 처리한 워커 등급 (GPU 이름과 메모리)
+        workerSeconds: 워커가 작업을 받은 뒤 끝날 때까지 걸린 시간(초)
         errorCode: 실패 시 에러 코드
         errorMessage: 실패 시 에러 메시지
     """
@@ -55,10 +90,17 @@ async def get_task_status(job_id: str):
         response.status = "PROCESSING"
         if isinstance(task_result.info, dict):
             response.progress = float(task_result.info.get("progress", 0))
+            response.worker_class = task_result.info.get("workerClass")
     elif task_result.state == "SUCCESS":
         response.status = "SUCCESS"
         response.progress = 100.0
-        response.result = task_result.result
+        result = task_result.result
+        # 이전 워커는 세그먼트 리스트를 그대로 반환
+        if isinstance(result, dict):
+            response.worker_class = result.get("workerClass")
+            response.worker_seconds = result.get("workerSeconds")
+            result = result.get("segments")
+        response.result = result
     elif task_result.state == "FAILURE":
         response.status = "FAILURE"
         # Worker에서 발생한 에러 정보를 파싱.
@@ -70,6 +112,8 @@ async def get_task_status(job_id: str):
             error_data = json.loads(error_str)
             response.error_code = error_data.get("code")
             response.error_message = error_data.get("message")
+            response.worker_class = error_data.get("workerClass")
+            response.worker_seconds = error_data.get("workerSeconds")
         except (json.JSONDecodeError, TypeError):
             # 일반 파이썬 예외인 경우 그대로 반환
             response.error_code = "WORKER_999"  # UNKNOWN
@@ -54,3 +54,17 @@ class TaskStatusResponse(CamelModel):
     result: Optional[Any] = None  # 성공 시 결과 데이터
     error_code: Optional[ErrorCode] = None  # 실패 시 에러 코드
     error_message: Optional[str] = None  # 실패 시 상세 메시지
+    worker_class: Optional[str] = None  # 처리한 워커 등급 (배치 크기 학습용)
+    worker_seconds: Optional[float] = None  # 작업을 받은 뒤 걸린 시간 (대기열 시간 제외)
+
+
+class ProbeRequest(CamelModel):
+    """미디어 정보 조회 요청"""
+
+    file_path: str  # 조회할 미디어 파일의 절대 경로
+
+
+class ProbeResponse(CamelModel):
+    """미디어 정보 조회 응답"""
+
+    duration_seconds: float  # 미디어 길이(초)
@@ -186,24 +186,38 @@ class STTService:
             logger.warning(f"Alignment failed: {e}")
             return result
 
-    def preprocess_audio(self, input_path: str) -> str:
+    def preprocess_audio(
+        self,
+        input_path: str,
+        start_time: Optional[float] = None,
+        end_time: Optional[float] = None,
+    ) -> str:
         """
         FFmpeg를 이용해 입력 오디오를 AI 모델에 최적화된 포맷으로 변환.
         Target: 16kHz, Mono, WAV
 
         Args:
             input_path: 원본 오디오 파일 경로
+            start_time: 구간 시작(초). 지정 시 해당 구간만 잘라서 변환
+            end_time: 구간 끝(초)
 
         Returns:
             str: 변환된 임시 파일 경로
         """
-        output_path = f"{os.path.splitext(input_path)[0]}_16k.wav"
+        # 같은 파일의 여러 구간이 동시에 처리될 수 있으므로 구간별로 파일명 분리
+        suffix = "" if start_time is None else f"_{int(start_time * 1000)}"
+        output_path = f"{os.path.splitext(input_path)[0]}_16k{suffix}.wav"
         if not os.path.exists(input_path):
             raise FileNotFoundError(f"Input audio file not found: {input_path}")
         try:
             logger.info(f"Preprocessing audio: {input_path} -> {output_path}")
+            input_args = {}
+            if start_time is not None:
+                input_args["ss"] = start_time
+            if end_time is not None:
+                input_args["to"] = end_time
             (
-                ffmpeg.input(input_path)
+                ffmpeg.input(input_path, **input_args)
                 .output(output_path, ac=1, ar=16000)
                 .overwrite_output()
                 .run(quiet=True)
@@ -221,6 +235,8 @@ class STTService:
         language: Optional[str] = None,
         align: bool = True,
         model_name: str = "base",
+        start_time: Optional[float] = None,
+        end_time: Optional[float] = None,
     ) -> List[Dict[str, Any]]:
         """
         전체 음성 인식 파이프라인을 실행.
@@ -232,11 +248,14 @@ class STTService:
             language: 언어 코드 (None이면 자동 감지)
             align: 정렬(Alignment) 수행 여부
             model_name: 사용할 모델명
+            start_time: 구간 시작(초). 결과 타임스탬프는 원본 기준으로 보정
+            end_time: 구간 끝(초)
 
         Returns:
-            List[Dict]: 세그먼트 리스트 (startTime, endTime, text)
+            List[Dict]: 세그먼트 리스트 (startTime, endTime, text, words)
         """
-        processed_path = self.preprocess_audio(audio_path)
+        processed_path = self.preprocess_audio(audio_path, start_time, end_time)
+        offset = start_time or 0.0
         try:
             # 1. 모델 로드
             self.load_model(model_name)
@@ -257,9 +276,19 @@ class STTService:
             formatted_results = []
             for segment in result["segments"]:
                 item = {
-                    "startTime": round(segment["start"], 3),
-                    "endTime": round(segment["end"], 3),
+                    "startTime": round(segment["start"] + offset, 3),
+                    "endTime": round(segment["end"] + offset, 3),
                     "text": segment["text"].strip(),
+                    "words": [
+                        {
+                            "startTime": round(word["start"] + offset, 3),
+                            "endTime": round(word["end"] + offset, 3),
+                            "word": word["word"],
+                        }
+                        # 숫자 등 정렬되지 않은 단어는 타임스탬프가 없음
+                        for word in segment.get("words", [])
+                        if "start" in word and "end" in word
+                    ],
                 }
                 formatted_results.append(item)
             return formatted_results
@@ -1,4 +1,5 @@
 from celery import Celery
+from ai.worker.tracing import setup_tracing
 import os
 from dotenv import load_dotenv
 
@@ -10,6 +11,9 @@ REDIS_PORT = os.getenv("REDIS_PORT", "6379")
 BROKER_URL = f"redis://{REDIS_HOST}:{REDIS_PORT}/0"
 BACKEND_URL = f"redis://{REDIS_HOST}:{REDIS_PORT}/0"
 
+# 작업 span 을 백엔드 trace 에 이어 붙임 (ai.worker.tasks 참고)
+setup_tracing("overlang-ai-worker")
+
 celery_app = Celery(
     "ai_worker",
     broker=BROKER_URL,
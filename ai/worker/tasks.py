@@ -1,13 +1,18 @@
 from ai.worker.celery_app import celery_app
+from ai.worker.tracing import extract_context
 from ai.stt_service import STTService
 import logging
 import warnings
 import json
 import os
+import time
 import torch
+from opentelemetry import trace
+from opentelemetry.trace import SpanKind
 from ai.api.schemas import ErrorCode
 
 logger = logging.getLogger(__name__)
+tracer = trace.get_tracer(__name__)
 
 # UserWarning 경고 무시 (WhisperX 내부 경고 등)
 warnings.filterwarnings("ignore", category=UserWarning)
@@ -17,6 +22,28 @@ warnings.filterwarnings("ignore", category=UserWarning)
 current_stt_service = STTService(model_name="large-v3-turbo")
 
 
+def _worker_class():
+    """배치 크기 학습 기준이 되는 워커 등급 (WORKER_CLASS 가 없으면 GPU 이름과 메모리)"""
+    configured = os.getenv("WORKER_CLASS")
+    if configured:
+        return configured
+    if not torch.cuda.is_available():
+        return "cpu"
+    props = torch.cuda.get_device_properties(0)
+    return f"{props.name} {round(props.total_memory / 1024**3)}GB"
+
+
+WORKER_CLASS = _worker_class()
+
+
+def _traceparent(request):
+    """백엔드가 보낸 W3C traceparent (Celery 버전에 따라 속성 또는 headers 에 들어옴)"""
+    value = getattr(request, "traceparent", None)
+    if value is None and isinstance(getattr(request, "headers", None), dict):
+        value = request.headers.get("traceparent")
+    return value
+
+
 @celery_app.task(bind=True)
 def process_audio_task(self, file_path: str, options: dict = None):
     """
@@ -25,17 +52,34 @@ def process_audio_task(self, file_path: str, options: dict = None):
     Args:
         self: Task 인스턴스 (상태 업데이트용)
         file_path (str): 분석할 오디오 파일의 절대 경로 (/app/ai/...)
-        options (dict): 분석 옵션 (model, batch_size, language, no_align 등)
+        options (dict): 분석 옵션 (model, batch_size, language, no_align,
+            start_time/end_time: 긴 영상을 나눠 처리할 때의 구간(초) 등)
 
     Returns:
-        dict: 분석 결과 (Segments 리스트)
+        dict: 분석 결과 (segments: Segments 리스트, workerClass: 처리한 워커 등급,
+            workerSeconds: 작업을 받은 뒤 걸린 시간(초), 백엔드 GPU 사용량 정산용)
     """
+    traceparent = _traceparent(self.request)
+    # 백엔드 디스패치 span 의 자식으로 작업 span 을 열어 STT 처리 시간을 같은 trace 에 남김
+    with tracer.start_as_current_span(
+        "stt.process_audio",
+        context=extract_context(traceparent),
+        kind=SpanKind.CONSUMER,
+        attributes={"celery.task_id": self.request.id, "worker.class": WORKER_CLASS},
+    ):
+        logger.info(f"Task started: {file_path}, traceparent={traceparent}")
+        return _process_audio(self, file_path, options)
+
+
+def _process_audio(task, file_path: str, options: dict = None):
+    """process_audio_task 본문 (작업 span 안에서 실행)"""
     global current_stt_service
+    started = time.monotonic()
+    span = trace.get_current_span()
 
     try:
-        logger.info(f"Task started: {file_path}")
         # 상태 업데이트: 0%
-        self.update_state(state="PROCESSING", meta={"progress": 0})
+        task.update_state(state="PROCESSING", meta={"progress": 0, "workerClass": WORKER_CLASS})
 
         if options is None:
             options = {}
@@ -45,6 +89,10 @@ def process_audio_task(self, file_path: str, options: dict = None):
         batch_size = options.get("batch_size", 16)
         no_align = options.get("no_align", False)
         language = options.get("language", "ko")
+        start_time = options.get("start_time")
+        end_time = options.get("end_time")
+        span.set_attribute("stt.model", target_model)
+        span.set_attribute("stt.batch_size", batch_size)
 
         # 2. 모델 교체 로직 (VRAM 보호 및 최적화)
         # 요청된 모델이 현재 로드된 모델과 다르면 교체 작업을 수행
@@ -60,7 +108,7 @@ def process_audio_task(self, file_path: str, options: dict = None):
             current_stt_service = STTService(model_name=target_model)
             current_stt_service.load_model()
 
-        self.update_state(state="PROCESSING", meta={"progress": 20})
+        task.update_state(state="PROCESSING", meta={"progress": 20, "workerClass": WORKER_CLASS})
 
         # 3. 분석 실행
         logger.info(f"Calling transcribe... Model: {target_model}, Lang: {language}")
@@ -70,21 +118,28 @@ def process_audio_task(self, file_path: str, options: dict = None):
             batch_size=batch_size,
             align=not no_align,  # no_align이 True면 align은 False
             language=language,
+            start_time=start_time,
+            end_time=end_time,
         )
 
         logger.info("Transcribe completed.")
-        self.update_state(state="PROCESSING", meta={"progress": 90})
+        task.update_state(state="PROCESSING", meta={"progress": 90, "workerClass": WORKER_CLASS})
 
         # 4. 결과 파일 저장 - 원본 파일명 뒤에 _result.json을 붙여서 저장
-        output_json_path = f"{os.path.splitext(file_path)[0]}_result.json"
+        suffix = "" if start_time is None else f"_{int(start_time * 1000)}"
+        output_json_path = f"{os.path.splitext(file_path)[0]}_result{suffix}.json"
         with open(output_json_path, "w", encoding="utf-8") as f:
             json.dump(result, f, ensure_ascii=False, indent=2)
 
         logger.info(f"Result saved to: {output_json_path}")
 
         # 작업 성공 완료 처리
-        self.update_state(state="SUCCESS")
-        return result
+        task.update_state(state="SUCCESS")
+        return {
+            "segments": result,
+            "workerClass": WORKER_CLASS,
+            "workerSeconds": round(time.monotonic() - started, 3),
+        }
 
     except Exception as e:
         # 에러 핸들링 및 상태 보고
@@ -106,6 +161,16 @@ def process_audio_task(self, file_path: str, options: dict = None):
             error_msg = f"Audio file not found: {file_path}"
 
         logger.exception(f"Task failed: [{error_code}] {error_msg}")
+        span.set_attribute("error.code", error_code.value)
 
         # API 서버가 파싱할 수 있도록 JSON 형태의 에러 메시지를 담아 예외 발생
-        raise Exception(json.dumps({"code": error_code, "message": error_msg}))
+        raise Exception(
+            json.dumps(
+                {
+                    "code": error_code,
+                    "message": error_msg,
+                    "workerClass": WORKER_CLASS,
+                    "workerSeconds": round(time.monotonic() - started, 3),
+                }
+            )
+        )
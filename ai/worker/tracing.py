@@ -0,0 +1,32 @@
+from opentelemetry import trace
+from opentelemetry.sdk.resources import Resource
+from opentelemetry.sdk.trace import TracerProvider
+from opentelemetry.sdk.trace.export import BatchSpanProcessor
+from opentelemetry.trace.propagation.tracecontext import TraceContextTextMapPropagator
+import os
+
+# 백엔드와 같은 환경 변수 (TRACING_EXPORT_ENABLED, OTLP_TRACING_ENDPOINT)
+EXPORT_ENABLED = os.getenv("TRACING_EXPORT_ENABLED", "false").lower() == "true"
+OTLP_ENDPOINT = os.getenv("OTLP_TRACING_ENDPOINT", "http://localhost:4318/v1/traces")
+
+_propagator = TraceContextTextMapPropagator()
+
+
+def setup_tracing(service_name: str):
+    """Worker 프로세스의 TracerProvider 설정 (내보내기가 꺼져 있어도 span 과 trace ID 는 만듦)"""
+    provider = TracerProvider(resource=Resource.create({"service.name": service_name}))
+    if EXPORT_ENABLED:
+        from opentelemetry.exporter.otlp.proto.http.trace_exporter import (
+            OTLPSpanExporter,
+        )
+
+        provider.add_span_processor(
+            BatchSpanProcessor(OTLPSpanExporter(endpoint=OTLP_ENDPOINT))
+        )
+    trace.set_tracer_provider(provider)
+
+
+def extract_context(traceparent: str = None):
+    """백엔드가 보낸 W3C traceparent 로 부모 context 복원 (없으면 새 trace 로 시작)"""
+    carrier = {"traceparent": traceparent} if traceparent else {}
+    return _propagator.extract(carrier)
@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# 로컬 대역(Firebase 공개키, AI 서버, LOCAL 저장소)으로 백엔드를 띄우고 Gatling 시나리오 실행
+#
+# 사용: ./gradlew -PloadTest loadTest
+#   $1 bootJar, $2 gatling 소스셋 클래스패스, $3 시뮬레이션 클래스, $4 작업 폴더, $5 빌드 ID
+# PostgreSQL 필요 (docker compose up postgres), 결과는 $4/results (HTML)
+# 빌드별 p50/p95/p99 는 LOADTEST_HISTORY (기본 $4/history.csv)
+# 시나리오 설정은 LOADTEST_JAVA_OPTS 의 -Dloadtest.* / -Dstub.* (OverlangSimulation, LoadTestStubServer 참고)
+set -euo pipefail
+
+BOOT_JAR=$1
+GATLING_CP=$2
+SIMULATION=$3
+WORK_DIR=$4
+BUILD_ID=$5
+APP_PORT=${LOADTEST_APP_PORT:-18081}
+STUB_PORT=${LOADTEST_STUB_PORT:-18090}
+PROJECT_ID=overlang-loadtest
+KEYSTORE="$WORK_DIR/signing.p12"
+KEYSTORE_PASSWORD=overlang-loadtest
+HISTORY=${LOADTEST_HISTORY:-$WORK_DIR/history.csv}
+read -r -a JAVA_OPTS <<< "${LOADTEST_JAVA_OPTS:-}"
+
+mkdir -p "$WORK_DIR"
+PIDS=()
+cleanup() {
+  for pid in "${PIDS[@]}"; do
+    kill "$pid" 2>/dev/null || true
+  done
+}
+trap cleanup EXIT
+
+# 응답이 오면 준비 완료 (상태 코드 무관)
+wait_for() {
+  local url=$1 pid=$2 log=$3
+  for _ in $(seq 600); do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "process exited before ready, log: $log" >&2
+      exit 1
+    fi
+    if [ "$(curl -s -o /dev/null -w '%{http_code}' "$url" || true)" != "000" ]; then
+      return
+    fi
+    sleep 0.2
+  done
+  echo "not ready: $url, log: $log" >&2
+  exit 1
+}
+
+# 토큰 서명 키 (스텁은 인증서를 공개키 목록으로, 시뮬레이션은 개인키로 토큰 발급)
+if [ ! -f "$KEYSTORE" ]; then
+  keytool -genkeypair -alias loadtest -keyalg RSA -keysize 2048 -sigalg SHA256withRSA \
+    -dname CN=overlang-loadtest -validity 30 -storetype PKCS12 \
+    -keystore "$KEYSTORE" -storepass "$KEYSTORE_PASSWORD" -keypass "$KEYSTORE_PASSWORD"
+fi
+
+java "${JAVA_OPTS[@]}" -cp "$GATLING_CP" com.overlang.loadtest.stub.LoadTestStubServer \
+  "$STUB_PORT" "$KEYSTORE" "$KEYSTORE_PASSWORD" "$PROJECT_ID" >"$WORK_DIR/stub.log" 2>&1 &
+PIDS+=($!)
+wait_for "http://localhost:$STUB_PORT/certs" "${PIDS[-1]}" "$WORK_DIR/stub.log"
+
+# 서비스 계정 없이 스텁 공개키로 토큰 검증, 업로드는 LOCAL 저장소, 요청 제한은 사용자별로 넉넉하게
+java -jar "$BOOT_JAR" \
+  --server.port="$APP_PORT" \
+  --firebase.service-account-path= \
+  --firebase.project-id="$PROJECT_ID" \
+  --firebase.keys.certificates-url="http://localhost:$STUB_PORT/certs" \
+  --overlang.storage.type=LOCAL \
+  --overlang.storage.local.root="$WORK_DIR/media" \
+  --overlang.ai.base-url="http://localhost:$STUB_PORT" \
+  --overlang.llm.enabled=false \
+  --overlang.job.dispatch.max-running="${LOADTEST_MAX_RUNNING:-8}" \
+  --overlang.admission.upload.rate-per-minute=60 \
+  --overlang.admission.job-creation.rate-per-minute=120 \
+  --spring.jpa.show-sql=false \
+  --logging.level.org.hibernate.SQL=INFO \
+  --logging.level.org.hibernate.orm.jdbc.bind=INFO \
+  >"$WORK_DIR/app.log" 2>&1 &
+PIDS+=($!)
+wait_for "http://localhost:$APP_PORT/actuator/health" "${PIDS[-1]}" "$WORK_DIR/app.log"
+
+status=0
+java "${JAVA_OPTS[@]}" \
+  -Dloadtest.base-url="http://localhost:$APP_PORT" \
+  -Dloadtest.keystore="$KEYSTORE" \
+  -Dloadtest.keystore-password="$KEYSTORE_PASSWORD" \
+  -Dloadtest.project-id="$PROJECT_ID" \
+  -Dloadtest.work-dir="$WORK_DIR" \
+  -cp "$GATLING_CP" io.gatling.app.Gatling \
+  --simulation "$SIMULATION" \
+  --results-folder "$WORK_DIR/results" || status=$?
+
+# 단정(assertion) 실패여도 리포트는 남김
+java -cp "$GATLING_CP" com.overlang.loadtest.LoadTestReport \
+  "$WORK_DIR/results" "$BUILD_ID" "$HISTORY"
+exit "$status"
@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+# 기본 실행과 빠른 기동 모드(Spring AOT + AppCDS)의 기동 시간/메모리 비교
+#
+# 사용: ./gradlew -PfastStartup startupBenchmark [-PbenchmarkRuns=5]
+#   $1 기본 bootJar, $2 풀어 놓은 jar, $3 AppCDS 아카이브, $4 반복 횟수
+# time-to-ready: 프로세스 시작부터 /actuator/health 가 응답할 때까지 (DOWN 이어도 웹 서버와 컨텍스트는 준비됨)
+# RSS: 준비 완료 직후 /proc/<pid>/status 의 VmRSS
+set -euo pipefail
+
+BOOT_JAR=$1
+FAST_JAR=$2
+CDS_ARCHIVE=$3
+RUNS=${4:-5}
+PORT=${BENCHMARK_PORT:-18080}
+TIMEOUT_SECONDS=${BENCHMARK_TIMEOUT_SECONDS:-120}
+
+now_ms() {
+  date +%s%3N
+}
+
+rss_kb() {
+  awk '/^VmRSS:/ {print $2}' "/proc/$1/status" 2>/dev/null || ps -o rss= -p "$1"
+}
+
+# 한 번 실행해 "time-to-ready(ms) rss(kB)" 출력
+measure() {
+  local log
+  log=$(mktemp)
+  local started
+  started=$(now_ms)
+  "$@" --server.port="$PORT" >"$log" 2>&1 &
+  local pid=$!
+
+  local ready=""
+  while [ -z "$ready" ]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "application exited before ready, log: $log" >&2
+      exit 1
+    fi
+    if [ $(( $(now_ms) - started )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+      kill "$pid"
+      echo "application not ready in ${TIMEOUT_SECONDS}s, log: $log" >&2
+      exit 1
+    fi
+    local code
+    code=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/actuator/health" || true)
+    if [ "$code" != "000" ]; then
+      ready=$(( $(now_ms) - started ))
+    else
+      sleep 0.05
+    fi
+  done
+
+  local rss
+  rss=$(rss_kb "$pid")
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  rm -f "$log"
+  echo "$ready $rss"
+}
+
+# 반복 측정 후 "중앙값 time-to-ready, 중앙값 RSS" 출력
+run_mode() {
+  local name=$1
+  shift
+  local times=() rsses=()
+  for _ in $(seq "$RUNS"); do
+    read -r t r < <(measure "$@")
+    times+=("$t")
+    rsses+=("$r")
+  done
+  local median_time median_rss
+  median_time=$(printf '%s\n' "${times[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+  median_rss=$(printf '%s\n' "${rsses[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+  printf '%-22s | %12d | %10d\n' "$name" "$median_time" "$(( median_rss / 1024 ))"
+}
+
+echo "runs per mode: $RUNS"
+printf '%-22s | %12s | %10s\n' "mode" "ready (ms)" "RSS (MB)"
+run_mode "default" java -jar "$BOOT_JAR"
+run_mode "aot" java -Dspring.aot.enabled=true -jar "$FAST_JAR"
+run_mode "aot + cds" java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true -jar "$FAST_JAR"
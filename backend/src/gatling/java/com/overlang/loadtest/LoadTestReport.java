@@ -0,0 +1,215 @@
+package com.overlang.loadtest;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Gatling 결과에서 요청별 p50/p95/p99 응답 시간과 처리량을 뽑아 빌드별 이력(CSV)에 추가하고, 직전 빌드와
+ * 비교해 출력.
+ *
+ * <p>백분위는 gatling.conf 의 percentile1~3 (50/95/99).
+ *
+ * <p>사용: LoadTestReport &lt;results 폴더&gt; &lt;빌드 ID&gt; &lt;이력 CSV&gt;
+ */
+public final class LoadTestReport {
+
+  private static final String HEADER =
+      "build,finished_at,request,requests,failed,p50_ms,p95_ms,p99_ms,rps";
+
+  // Gatling 버전에 따라 js/stats.json 또는 자바스크립트 객체(js/stats.js)로 남음
+  private static final JsonMapper JSON =
+      JsonMapper.builder()
+          .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+          .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+          .build();
+
+  record Row(
+      String build,
+      String finishedAt,
+      String request,
+      long requests,
+      long failed,
+      double p50,
+      double p95,
+      double p99,
+      double rps) {
+
+    String csv() {
+      return String.join(
+          ",",
+          build,
+          finishedAt,
+          '"' + request.replace("\"", "\"\"") + '"',
+          Long.toString(requests),
+          Long.toString(failed),
+          format(p50),
+          format(p95),
+          format(p99),
+          format(rps));
+    }
+
+    static Row parse(String line) {
+      // 요청 이름만 따옴표로 감쌈
+      int open = line.indexOf('"');
+      int close = line.lastIndexOf('"');
+      String[] head = line.substring(0, open).split(",");
+      String[] tail = line.substring(close + 2).split(",");
+      return new Row(
+          head[0],
+          head[1],
+          line.substring(open + 1, close).replace("\"\"", "\""),
+          Long.parseLong(tail[0]),
+          Long.parseLong(tail[1]),
+          Double.parseDouble(tail[2]),
+          Double.parseDouble(tail[3]),
+          Double.parseDouble(tail[4]),
+          Double.parseDouble(tail[5]));
+    }
+  }
+
+  private LoadTestReport() {}
+
+  public static void main(String[] args) throws IOException {
+    Path resultsDir = Path.of(args[0]);
+    String build = args[1];
+    Path history = Path.of(args[2]);
+
+    Path stats = latestStats(resultsDir);
+    String finishedAt = Instant.now().toString();
+    List<Row> rows = new ArrayList<>();
+    collect(JSON.readTree(jsonObject(Files.readString(stats))), build, finishedAt, rows);
+
+    Map<String, Row> previous = previousBuild(history, build);
+    System.out.printf(
+        "%-28s %9s %7s %9s %9s %9s %8s   %s%n",
+        "request",
+        "requests",
+        "failed",
+        "p50(ms)",
+        "p95(ms)",
+        "p99(ms)",
+        "req/s",
+        "p95/p99 vs prev");
+    for (Row row : rows) {
+      System.out.printf(
+          "%-28s %9d %7d %9.0f %9.0f %9.0f %8.1f   %s%n",
+          row.request(),
+          row.requests(),
+          row.failed(),
+          row.p50(),
+          row.p95(),
+          row.p99(),
+          row.rps(),
+          delta(previous.get(row.request()), row));
+    }
+
+    if (Files.notExists(history)) {
+      Files.createDirectories(history.toAbsolutePath().getParent());
+      Files.writeString(history, HEADER + "\n");
+    }
+    Files.write(history, rows.stream().map(Row::csv).toList(), StandardOpenOption.APPEND);
+    System.out.println("report: " + stats.getParent().getParent());
+    System.out.println("history: " + history.toAbsolutePath());
+  }
+
+  // 가장 최근 실행 폴더의 통계 파일
+  private static Path latestStats(Path resultsDir) throws IOException {
+    try (Stream<Path> runs = Files.list(resultsDir)) {
+      Path run =
+          runs.filter(Files::isDirectory)
+              .max(Comparator.comparing(LoadTestReport::lastModified))
+              .orElseThrow(() -> new IllegalStateException("no Gatling results in " + resultsDir));
+      Path json = run.resolve("js/stats.json");
+      return Files.exists(json) ? json : run.resolve("js/stats.js");
+    }
+  }
+
+  // 전체(All Requests)와 그룹/요청별 행, 그룹 안의 요청은 "그룹 / 요청" 이름
+  private static void collect(JsonNode node, String build, String finishedAt, List<Row> rows) {
+    JsonNode stats = node.path("stats");
+    if (!stats.isMissingNode()) {
+      String path = node.path("path").asText("");
+      rows.add(
+          new Row(
+              build,
+              finishedAt,
+              path.isEmpty() ? stats.path("name").asText() : path,
+              stats.path("numberOfRequests").path("total").asLong(),
+              stats.path("numberOfRequests").path("ko").asLong(),
+              stats.path("percentiles1").path("total").asDouble(),
+              stats.path("percentiles2").path("total").asDouble(),
+              stats.path("percentiles3").path("total").asDouble(),
+              stats.path("meanNumberOfRequestsPerSecond").path("total").asDouble()));
+    }
+    node.path("contents").forEach(child -> collect(child, build, finishedAt, rows));
+  }
+
+  // 같은 이력 파일에서 이번 빌드가 아닌 마지막 빌드의 요청별 행
+  private static Map<String, Row> previousBuild(Path history, String build) throws IOException {
+    Map<String, Row> previous = new HashMap<>();
+    if (Files.notExists(history)) {
+      return previous;
+    }
+    List<Row> rows =
+        Files.readAllLines(history).stream()
+            .skip(1)
+            .filter(line -> !line.isBlank())
+            .map(Row::parse)
+            .toList();
+    String last = null;
+    for (Row row : rows) {
+      if (!row.build().equals(build)) {
+        last = row.build();
+      }
+    }
+    for (Row row : rows) {
+      if (row.build().equals(last)) {
+        previous.put(row.request(), row);
+      }
+    }
+    return previous;
+  }
+
+  private static String jsonObject(String content) {
+    return content.substring(content.indexOf('{'), content.lastIndexOf('}') + 1);
+  }
+
+  // 직전 빌드 대비 p95/p99 변화율
+  private static String delta(Row before, Row after) {
+    if (before == null) {
+      return "-";
+    }
+    return "%+.0f%% / %+.0f%%"
+        .formatted(change(before.p95(), after.p95()), change(before.p99(), after.p99()));
+  }
+
+  private static double change(double before, double after) {
+    return before == 0 ? 0 : (after - before) * 100 / before;
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ROOT, "%.1f", value);
+  }
+
+  private static FileTime lastModified(Path path) {
+    try {
+      return Files.getLastModifiedTime(path);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
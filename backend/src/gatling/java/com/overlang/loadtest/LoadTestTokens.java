@@ -0,0 +1,77 @@
+package com.overlang.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Base64;
+
+// keytool 로 만든 부하 테스트용 서명 키 (PKCS12) 로 Firebase ID 토큰 형식의 RS256 JWT 발급
+// 스텁 서버는 같은 키의 인증서를 공개키 목록으로 내려 주므로 백엔드는 실제 토큰과 같은 경로로 검증
+public final class LoadTestTokens {
+
+  public static final String KEY_ID = "overlang-loadtest";
+  private static final String ALIAS = "loadtest";
+  private static final Base64.Encoder URL = Base64.getUrlEncoder().withoutPadding();
+
+  private final PrivateKey privateKey;
+  private final X509Certificate certificate;
+  private final String projectId;
+
+  private LoadTestTokens(PrivateKey privateKey, X509Certificate certificate, String projectId) {
+    this.privateKey = privateKey;
+    this.certificate = certificate;
+    this.projectId = projectId;
+  }
+
+  public static LoadTestTokens load(Path keystore, String password, String projectId)
+      throws IOException, GeneralSecurityException {
+    KeyStore store = KeyStore.getInstance("PKCS12");
+    try (InputStream in = Files.newInputStream(keystore)) {
+      store.load(in, password.toCharArray());
+    }
+    return new LoadTestTokens(
+        (PrivateKey) store.getKey(ALIAS, password.toCharArray()),
+        (X509Certificate) store.getCertificate(ALIAS),
+        projectId);
+  }
+
+  /** 공개키 목록 응답에 넣을 PEM 인증서 */
+  public String certificatePem() throws GeneralSecurityException {
+    return "-----BEGIN CERTIFICATE-----\n"
+        + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII))
+            .encodeToString(certificate.getEncoded())
+        + "\n-----END CERTIFICATE-----\n";
+  }
+
+  /** uid 별 ID 토큰 (1시간 유효, 실제 Firebase 토큰과 같은 클레임) */
+  public String issue(String uid) {
+    long now = Instant.now().getEpochSecond();
+    String header = "{\"alg\":\"RS256\",\"kid\":\"" + KEY_ID + "\",\"typ\":\"JWT\"}";
+    String claims =
+        """
+        {"iss":"https://securetoken.google.com/%1$s","aud":"%1$s","auth_time":%2$d,"iat":%2$d,\
+        "exp":%3$d,"sub":"%4$s","email":"%4$s@loadtest.overlang"}"""
+            .formatted(projectId, now, now + 3600, uid);
+    String signingInput = encode(header) + "." + encode(claims);
+    try {
+      Signature signature = Signature.getInstance("SHA256withRSA");
+      signature.initSign(privateKey);
+      signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+      return signingInput + "." + URL.encodeToString(signature.sign());
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String encode(String json) {
+    return URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
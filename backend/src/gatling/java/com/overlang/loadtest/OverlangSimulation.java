@@ -0,0 +1,154 @@
+package com.overlang.loadtest;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 주요 사용자 흐름 부하 테스트 (로그인, 대시보드 폴링, 대용량 업로드 후 작업 진행률 확인).
+ *
+ * <p>가상 사용자마다 다른 uid 로 토큰을 발급하므로 회원별 요청 제한(overlang.admission.*)은 사용자 간에 나뉨. 설정은 시스템
+ * 프로퍼티 loadtest.* (scripts/load-test.sh 참고).
+ */
+public class OverlangSimulation extends Simulation {
+
+  private static final Set<String> FINISHED = Set.of("COMPLETED", "FAILED");
+
+  private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:18081");
+  private final Duration duration = seconds("loadtest.duration-seconds", 120);
+  private final Duration rampUp = seconds("loadtest.ramp-seconds", 30);
+  private final double loginsPerSecond =
+      Double.parseDouble(System.getProperty("loadtest.login-rate", "5"));
+  private final int dashboardUsers = Integer.getInteger("loadtest.dashboard-users", 50);
+  private final int uploadUsers = Integer.getInteger("loadtest.upload-users", 5);
+  private final Duration pollInterval = seconds("loadtest.poll-seconds", 5);
+
+  private final LoadTestTokens tokens;
+  private final Path video;
+
+  public OverlangSimulation() throws Exception {
+    tokens =
+        LoadTestTokens.load(
+            Path.of(System.getProperty("loadtest.keystore")),
+            System.getProperty("loadtest.keystore-password"),
+            System.getProperty("loadtest.project-id"));
+    video =
+        SyntheticVideo.create(
+            Path.of(System.getProperty("loadtest.work-dir", "build/load-test"), "upload.mp4"),
+            Long.getLong("loadtest.upload-mb", 256) * 1024 * 1024,
+            Integer.getInteger("stub.media-duration-seconds", 600));
+
+    HttpProtocolBuilder protocol =
+        http.baseUrl(baseUrl)
+            .acceptHeader("application/json")
+            .header("Authorization", "Bearer #{token}");
+
+    setUp(
+            login().injectOpen(constantUsersPerSec(loginsPerSecond).during(duration)),
+            dashboard().injectOpen(rampUsers(dashboardUsers).during(rampUp)),
+            uploadAndWatch().injectOpen(rampUsers(uploadUsers).during(duration)))
+        .protocols(protocol)
+        .assertions(global().failedRequests().percent().lt(1.0));
+  }
+
+  // 로그인 (첫 요청이면 회원 가입)
+  private ChainBuilder signIn() {
+    return feed(users())
+        .exec(
+            http("POST /auth/firebase")
+                .post("/api/v1/auth/firebase")
+                .check(status().is(200), jsonPath("$.status").is("SUCCESS")));
+  }
+
+  private ScenarioBuilder login() {
+    return scenario("login").exec(signIn());
+  }
+
+  // 대시보드를 열어 둔 사용자가 프로젝트 목록을 주기적으로 다시 불러옴
+  private ScenarioBuilder dashboard() {
+    return scenario("dashboard polling")
+        .exec(signIn())
+        .during(duration)
+        .on(
+            pace(pollInterval)
+                .exec(http("GET /projects").get("/api/v1/projects").check(status().is(200))));
+  }
+
+  // 영상 업로드 -> 프로젝트 생성 -> 분석 작업 생성 -> 끝날 때까지 작업 진행률 확인
+  private ScenarioBuilder uploadAndWatch() {
+    return scenario("upload and watch job")
+        .exec(signIn())
+        .exec(
+            http("POST /files/upload")
+                .post("/api/v1/files/upload")
+                .bodyPart(
+                    RawFileBodyPart("file", video.toString())
+                        .contentType("video/mp4")
+                        .fileName("loadtest.mp4"))
+                .asMultipartForm()
+                .check(
+                    status().is(200),
+                    jsonPath("$.data.fileKey").saveAs("fileKey"),
+                    jsonPath("$.data.fileUrl").saveAs("fileUrl")))
+        .exitHereIfFailed()
+        .exec(
+            http("POST /projects")
+                .post("/api/v1/projects")
+                .body(
+                    StringBody(
+                        """
+                        {"title":"load test","sourceType":"UPLOAD",\
+                        "fileUrl":"#{fileUrl}","fileKey":"#{fileKey}"}"""))
+                .asJson()
+                .check(status().is(200), jsonPath("$.data.projectId").saveAs("projectId")))
+        .exitHereIfFailed()
+        .exec(
+            http("POST /projects/{id}/jobs")
+                .post("/api/v1/projects/#{projectId}/jobs")
+                .body(StringBody("{\"jobType\":\"FULL_ANALYSIS\",\"targetLanguage\":\"ko\"}"))
+                .asJson()
+                .check(status().is(200), jsonPath("$.data.jobId").saveAs("jobId")))
+        .exitHereIfFailed()
+        .group("job until finished")
+        .on(
+            asLongAs(session -> !finished(session))
+                .on(
+                    pause(pollInterval)
+                        .exec(
+                            http("GET /jobs/{id}")
+                                .get("/api/v1/jobs/#{jobId}")
+                                .check(
+                                    status().is(200),
+                                    jsonPath("$.data.status").saveAs("jobStatus")))));
+  }
+
+  private static boolean finished(Session session) {
+    return session.contains("jobStatus") && FINISHED.contains(session.getString("jobStatus"));
+  }
+
+  // 가상 사용자마다 새 uid 와 그 uid 의 ID 토큰
+  private Iterator<Map<String, Object>> users() {
+    return Stream.generate(
+            () -> {
+              String uid = "loadtest-" + UUID.randomUUID();
+              return Map.<String, Object>of("uid", uid, "token", tokens.issue(uid));
+            })
+        .iterator();
+  }
+
+  private static Duration seconds(String property, long defaultSeconds) {
+    return Duration.ofSeconds(Long.getLong(property, defaultSeconds));
+  }
+}
@@ -0,0 +1,70 @@
+package com.overlang.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 업로드 검증(MediaProbe)을 통과하는 최소 MP4: ftyp + 지정 크기의 mdat + 끝에 moov (영상/음성 트랙 하나씩)
+public final class SyntheticVideo {
+
+  private SyntheticVideo() {}
+
+  /** 이미 같은 크기의 파일이 있으면 다시 만들지 않음 */
+  public static Path create(Path path, long mdatBytes, int durationSeconds) throws IOException {
+    if (Files.exists(path) && Files.size(path) > mdatBytes) {
+      return path;
+    }
+    Files.createDirectories(path.getParent());
+    try (OutputStream out = Files.newOutputStream(path)) {
+      out.write(box("ftyp", ascii("isom")));
+      out.write(ByteBuffer.allocate(8).putInt((int) (mdatBytes + 8)).put(ascii("mdat")).array());
+      byte[] chunk = new byte[1024 * 1024];
+      for (long written = 0; written < mdatBytes; written += chunk.length) {
+        out.write(chunk, 0, (int) Math.min(chunk.length, mdatBytes - written));
+      }
+      out.write(
+          box(
+              "moov",
+              mvhd(1000, durationSeconds * 1000),
+              trak("vide", "avc1"),
+              trak("soun", "mp4a")));
+    }
+    return path;
+  }
+
+  private static byte[] mvhd(int timescale, int duration) {
+    ByteBuffer body = ByteBuffer.allocate(100);
+    body.putInt(0); // version 0, flags
+    body.putInt(0).putInt(0); // creation, modification
+    body.putInt(timescale).putInt(duration);
+    return box("mvhd", body.array());
+  }
+
+  private static byte[] trak(String handler, String codec) {
+    ByteBuffer hdlr = ByteBuffer.allocate(24);
+    hdlr.putInt(0).putInt(0).put(ascii(handler));
+    ByteBuffer stsd = ByteBuffer.allocate(24);
+    stsd.putInt(0).putInt(1).putInt(16).put(ascii(codec));
+    byte[] stbl = box("stbl", box("stsd", stsd.array()));
+    return box("trak", box("mdia", box("hdlr", hdlr.array()), box("minf", stbl)));
+  }
+
+  private static byte[] box(String type, byte[]... children) {
+    int size = 8;
+    for (byte[] child : children) {
+      size += child.length;
+    }
+    ByteBuffer box = ByteBuffer.allocate(size).putInt(size).put(ascii(type));
+    for (byte[] child : children) {
+      box.put(child);
+    }
+    return box.array();
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+}
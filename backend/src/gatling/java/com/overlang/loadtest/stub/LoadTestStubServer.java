@@ -0,0 +1,135 @@
+package com.overlang.loadtest.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.loadtest.LoadTestTokens;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 외부 서비스 대역 (Firebase 서명 공개키 목록, AI 서버 API).
+ *
+ * <p>AI 작업은 GPU 없이 시간만 흘려보냄: 제출 후 processing-seconds 동안 PROCESSING 진행률을 올리고, 이후 segments 개의
+ * 자막으로 SUCCESS. 객체 저장소는 백엔드의 LOCAL 저장소(STORAGE_TYPE=LOCAL)로 대신함.
+ *
+ * <p>사용: LoadTestStubServer &lt;port&gt; &lt;keystore&gt; &lt;password&gt; &lt;projectId&gt;
+ * [-Dstub.processing-seconds=20] [-Dstub.segments=120] [-Dstub.media-duration-seconds=600]
+ */
+public final class LoadTestStubServer {
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  // 워커 결과 형식 ({startTime, endTime, text, words}), 단어 정렬은 생략
+  record TranscriptSegment(double startTime, double endTime, String text, List<Object> words) {
+
+    TranscriptSegment(double startTime, double endTime, String text) {
+      this(startTime, endTime, text, List.of());
+    }
+  }
+
+  private final Map<String, Long> tasks = new ConcurrentHashMap<>(); // AI 작업 ID -> 제출 시각
+  private final String certificatesBody;
+  private final long processingMillis;
+  private final int segments;
+  private final double mediaDurationSeconds;
+
+  private LoadTestStubServer(LoadTestTokens tokens) throws Exception {
+    this.certificatesBody =
+        JSON.writeValueAsString(Map.of(LoadTestTokens.KEY_ID, tokens.certificatePem()));
+    this.processingMillis = Long.getLong("stub.processing-seconds", 20) * 1000;
+    this.segments = Integer.getInteger("stub.segments", 120);
+    this.mediaDurationSeconds = Integer.getInteger("stub.media-duration-seconds", 600);
+  }
+
+  public static void main(String[] args) throws Exception {
+    int port = Integer.parseInt(args[0]);
+    LoadTestTokens tokens = LoadTestTokens.load(Path.of(args[1]), args[2], args[3]);
+    LoadTestStubServer stub = new LoadTestStubServer(tokens);
+
+    HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/certs", stub::certificates);
+    server.createContext("/api/v1/analyze", stub::analyze);
+    server.createContext("/api/v1/status/", stub::status);
+    server.createContext("/api/v1/probe", stub::probe);
+    server.start();
+    System.out.println("Load test stubs listening on port " + port);
+  }
+
+  // GoogleCertificateKeySource 가 max-age 로 만료 시각을 정함
+  private void certificates(HttpExchange exchange) throws IOException {
+    exchange.getResponseHeaders().set("Cache-Control", "public, max-age=3600");
+    send(exchange, 200, certificatesBody);
+  }
+
+  private void analyze(HttpExchange exchange) throws IOException {
+    exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+    String taskId = UUID.randomUUID().toString();
+    tasks.put(taskId, System.currentTimeMillis());
+    send(exchange, 200, Map.of("jobId", taskId, "status", "PENDING", "message", "queued"));
+  }
+
+  private void status(HttpExchange exchange) throws IOException {
+    String taskId = exchange.getRequestURI().getPath().substring("/api/v1/status/".length());
+    Long submittedAt = tasks.get(taskId);
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("jobId", taskId);
+    if (submittedAt == null) {
+      body.put("status", "FAILURE");
+      body.put("errorCode", "WORKER_404");
+      body.put("errorMessage", "unknown task");
+      send(exchange, 200, body);
+      return;
+    }
+    long elapsed = System.currentTimeMillis() - submittedAt;
+    if (elapsed < processingMillis) {
+      // 워커와 같이 모델 준비 후 20%, 인식 중 90% 까지
+      body.put("status", "PROCESSING");
+      body.put("progress", 20.0 + 70.0 * elapsed / processingMillis);
+    } else {
+      tasks.remove(taskId);
+      body.put("status", "SUCCESS");
+      body.put("progress", 100.0);
+      body.put("result", transcript());
+    }
+    send(exchange, 200, body);
+  }
+
+  private void probe(HttpExchange exchange) throws IOException {
+    exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+    send(exchange, 200, Map.of("durationSeconds", mediaDurationSeconds));
+  }
+
+  private List<TranscriptSegment> transcript() {
+    double length = mediaDurationSeconds / segments;
+    List<TranscriptSegment> result = new ArrayList<>(segments);
+    for (int i = 0; i < segments; i++) {
+      result.add(
+          new TranscriptSegment(i * length, (i + 1) * length, "load test line " + (i + 1)));
+    }
+    return result;
+  }
+
+  private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+    byte[] bytes =
+        body instanceof String text
+            ? text.getBytes(StandardCharsets.UTF_8)
+            : JSON.writeValueAsBytes(body);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -1,9 +1,14 @@
 package com.overlang.api.controller;
 
 import com.overlang.api.dto.file.FileUploadResponse;
-import com.overlang.domain.file.service.S3UploadService;
+import com.overlang.domain.file.service.FileUploadService;
+import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.idempotency.Idempotent;
+import com.overlang.global.ratelimit.AdmissionClass;
+import com.overlang.global.ratelimit.RateLimited;
 import com.overlang.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,12 +18,18 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/api/v1/files")
 public class FileController {
 
-  private final S3UploadService s3UploadService;
+  private final FileUploadService fileUploadService;
 
   @Operation(summary = "파일 업로드")
+  @RateLimited(AdmissionClass.UPLOAD)
+  @Idempotent
   @PostMapping(value = "/upload", consumes = "multipart/form-data")
-  public ApiResponse<FileUploadResponse> upload(@RequestPart("file") MultipartFile file) {
-    FileUploadResponse response = s3UploadService.uploadVideo(file);
+  public ApiResponse<FileUploadResponse> upload(
+      @RequestPart("file") MultipartFile file, HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    FileUploadResponse response = fileUploadService.uploadVideo(memberId, file);
     return ApiResponse.success(response);
   }
 }
@@ -0,0 +1,47 @@
+package com.overlang.api.controller;
+
+import com.overlang.api.dto.job.JobCreateRequest;
+import com.overlang.api.dto.job.JobResponse;
+import com.overlang.domain.job.service.JobService;
+import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.ratelimit.AdmissionClass;
+import com.overlang.global.ratelimit.RateLimited;
+import com.overlang.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class JobController {
+
+  private final JobService jobService;
+
+  @Operation(summary = "분석 작업 생성")
+  @RateLimited(AdmissionClass.JOB_CREATION)
+  @PostMapping("/projects/{projectId}/jobs")
+  public ApiResponse<JobResponse> createJob(
+      @PathVariable Long projectId,
+      @Valid @RequestBody JobCreateRequest request,
+      HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    JobResponse response = jobService.createJob(memberId, projectId, request);
+    return ApiResponse.success(response);
+  }
+
+  @Operation(summary = "분석 작업 조회")
+  @GetMapping("/jobs/{jobId}")
+  public ApiResponse<JobResponse> getJob(
+      @PathVariable Long jobId, HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    JobResponse response = jobService.getJob(memberId, jobId);
+    return ApiResponse.success(response);
+  }
+}
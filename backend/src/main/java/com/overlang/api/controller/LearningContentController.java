@@ -0,0 +1,35 @@
+package com.overlang.api.controller;
+
+import com.overlang.api.dto.learning.LearningContentResponse;
+import com.overlang.domain.learning.service.LearningContentService;
+import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class LearningContentController {
+
+  private final LearningContentService learningContentService;
+
+  @Operation(
+      summary = "학습 콘텐츠 조회",
+      description = "language 를 생략하면 작업의 대상 언어, 여러 언어 작업은 추가 언어를 지정할 수 있습니다.")
+  @GetMapping("/jobs/{jobId}/learning-contents")
+  public ApiResponse<List<LearningContentResponse>> getLearningContents(
+      @PathVariable Long jobId,
+      @RequestParam(required = false) String language,
+      HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    List<LearningContentResponse> response =
+        learningContentService.findContents(memberId, jobId, language);
+    return ApiResponse.success(response);
+  }
+}
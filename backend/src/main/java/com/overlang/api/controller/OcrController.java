@@ -0,0 +1,51 @@
+package com.overlang.api.controller;
+
+import com.overlang.api.dto.ocr.OcrItemResponse;
+import com.overlang.domain.ocr.service.OcrLookupService;
+import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class OcrController {
+
+  private final OcrLookupService ocrLookupService;
+
+  @Operation(
+      summary = "화면 글자(OCR) 전체 조회",
+      description =
+          "Accept 헤더로 application/cbor 또는 application/x-jackson-smile 을 보내면 바이너리로 응답합니다.")
+  @GetMapping("/jobs/{jobId}/ocr-items")
+  public ApiResponse<List<OcrItemResponse>> getOcrItems(
+      @PathVariable Long jobId, HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    List<OcrItemResponse> response = ocrLookupService.findAll(memberId, jobId);
+    return ApiResponse.success(response);
+  }
+
+  @Operation(
+      summary = "탭한 위치의 화면 글자 조회",
+      description = "time 초 화면에서 (x, y) 를 포함하는 OCR 항목을 신뢰도 높은 순으로 반환합니다.")
+  @GetMapping("/jobs/{jobId}/ocr-items/lookup")
+  public ApiResponse<List<OcrItemResponse>> lookup(
+      @PathVariable Long jobId,
+      @RequestParam double time,
+      @RequestParam double x,
+      @RequestParam double y,
+      @RequestParam(defaultValue = "5") int limit,
+      HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    List<OcrItemResponse> response = ocrLookupService.lookup(memberId, jobId, time, x, y, limit);
+    return ApiResponse.success(response);
+  }
+}
@@ -1,11 +1,17 @@
 package com.overlang.api.controller;
 
+import com.overlang.api.dto.project.ProjectBulkDeleteRequest;
 import com.overlang.api.dto.project.ProjectCreateRequest;
 import com.overlang.api.dto.project.ProjectCreateResponse;
+import com.overlang.api.dto.project.ProjectDeleteResponse;
 import com.overlang.api.dto.project.ProjectDetailResponse;
 import com.overlang.api.dto.project.ProjectResponse;
+import com.overlang.domain.project.service.ProjectDeletionService;
 import com.overlang.domain.project.service.ProjectService;
 import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.idempotency.Idempotent;
+import com.overlang.global.ratelimit.AdmissionClass;
+import com.overlang.global.ratelimit.RateLimited;
 import com.overlang.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,8 +28,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class ProjectController {
 
   private final ProjectService projectService;
+  private final ProjectDeletionService projectDeletionService;
 
   @Operation(summary = "프로젝트 생성")
+  @RateLimited(AdmissionClass.JOB_CREATION)
+  @Idempotent
   @PostMapping
   public ApiResponse<ProjectCreateResponse> createProject(
       @Valid @RequestBody ProjectCreateRequest request, HttpServletRequest httpServletRequest) {
@@ -53,4 +62,28 @@ public class ProjectController {
     ProjectDetailResponse response = projectService.getProject(memberId, projectId);
     return ApiResponse.success(response);
   }
+
+  @Operation(summary = "프로젝트 삭제", description = "저장소 파일은 백그라운드에서 삭제")
+  @DeleteMapping("/{projectId}")
+  public ApiResponse<ProjectDeleteResponse> deleteProject(
+      @PathVariable Long projectId, HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    ProjectDeleteResponse response = projectDeletionService.deleteProject(memberId, projectId);
+    return ApiResponse.success(response);
+  }
+
+  @Operation(summary = "프로젝트 일괄 삭제", description = "본인 프로젝트만 삭제, 저장소 파일은 백그라운드에서 삭제")
+  @PostMapping("/delete")
+  public ApiResponse<ProjectDeleteResponse> deleteProjects(
+      @Valid @RequestBody ProjectBulkDeleteRequest request,
+      HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    ProjectDeleteResponse response =
+        projectDeletionService.deleteProjects(memberId, request.projectIds());
+    return ApiResponse.success(response);
+  }
 }
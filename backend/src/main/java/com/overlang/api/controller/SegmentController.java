@@ -0,0 +1,71 @@
+package com.overlang.api.controller;
+
+import com.overlang.api.dto.segment.SegmentEditRequest;
+import com.overlang.api.dto.segment.SegmentEditResponse;
+import com.overlang.api.dto.segment.SegmentResponse;
+import com.overlang.api.dto.segment.WordResponse;
+import com.overlang.domain.segment.service.SegmentEditService;
+import com.overlang.domain.segment.service.TranscriptService;
+import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class SegmentController {
+
+  private final SegmentEditService segmentEditService;
+  private final TranscriptService transcriptService;
+
+  @Operation(
+      summary = "자막 전체 조회",
+      description =
+          "language 를 생략하면 작업의 대상 언어 번역, 여러 언어 작업은 추가 언어를 지정할 수 있습니다. "
+              + "Accept 헤더로 application/cbor 또는 application/x-jackson-smile 을 보내면 바이너리로 응답합니다.")
+  @GetMapping("/jobs/{jobId}/segments")
+  public ApiResponse<List<SegmentResponse>> getSegments(
+      @PathVariable Long jobId,
+      @RequestParam(required = false) String language,
+      HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    List<SegmentResponse> response = transcriptService.findSegments(memberId, jobId, language);
+    return ApiResponse.success(response);
+  }
+
+  @Operation(
+      summary = "구간 단어 타임스탬프 조회",
+      description = "from 이상 to 미만(초) 구간과 겹치는 단어를 시간 순서로 돌려줍니다.")
+  @GetMapping("/jobs/{jobId}/words")
+  public ApiResponse<List<WordResponse>> getWords(
+      @PathVariable Long jobId,
+      @RequestParam double from,
+      @RequestParam double to,
+      HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    List<WordResponse> response = transcriptService.findWords(memberId, jobId, from, to);
+    return ApiResponse.success(response);
+  }
+
+  @Operation(summary = "자막 수정 (바뀐 줄만 재번역)")
+  @PatchMapping("/jobs/{jobId}/segments")
+  public ApiResponse<SegmentEditResponse> editSegments(
+      @PathVariable Long jobId,
+      @Valid @RequestBody SegmentEditRequest request,
+      HttpServletRequest httpServletRequest) {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+
+    SegmentEditResponse response = segmentEditService.edit(memberId, jobId, request);
+    return ApiResponse.success(response);
+  }
+}
@@ -0,0 +1,76 @@
+package com.overlang.api.controller;
+
+import com.overlang.domain.file.service.VideoStreamService;
+import com.overlang.domain.file.service.VideoStreamService.ByteRange;
+import com.overlang.domain.project.service.ProjectService;
+import com.overlang.global.auth.AuthInterceptor;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/projects")
+public class VideoStreamController {
+
+  private final ProjectService projectService;
+  private final VideoStreamService videoStreamService;
+
+  @Operation(summary = "프로젝트 영상 스트리밍", description = "Range 요청을 지원합니다 (206 Partial Content).")
+  @GetMapping("/{projectId}/video")
+  public void stream(
+      @PathVariable Long projectId,
+      @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+      HttpServletRequest httpServletRequest,
+      HttpServletResponse response)
+      throws IOException {
+
+    Long memberId = (Long) httpServletRequest.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+    String fileKey = projectService.getVideoFileKey(memberId, projectId);
+    long total = videoStreamService.contentLength(fileKey);
+
+    ByteRange range;
+    try {
+      range = VideoStreamService.resolveRange(rangeHeader, total);
+    } catch (IllegalArgumentException e) {
+      response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+      response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + total);
+      return;
+    }
+    if (range.partial()) {
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      response.setHeader(
+          HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + total);
+    } else {
+      response.setStatus(HttpServletResponse.SC_OK);
+    }
+
+    long length = range.length();
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    response.setContentType(resolveContentType(fileKey).toString());
+    response.setContentLengthLong(length);
+
+    try {
+      videoStreamService.write(fileKey, range.start(), length, total, response.getOutputStream());
+    } catch (IOException e) {
+      // 탐색(seek) 시 브라우저가 이전 요청을 끊는 것은 정상 동작
+      log.debug("Video stream aborted: projectId={}, reason={}", projectId, e.getMessage());
+    }
+  }
+
+  private MediaType resolveContentType(String fileKey) {
+    return MediaTypeFactory.getMediaType(fileKey).orElse(MediaType.APPLICATION_OCTET_STREAM);
+  }
+}
@@ -1,3 +1,9 @@
 package com.overlang.api.dto.file;
 
-public record FileUploadResponse(String fileName, String fileKey, String fileUrl) {}
+public record FileUploadResponse(
+    String fileName,
+    String fileKey,
+    String fileUrl,
+    Double durationSeconds,
+    Boolean hasVideo,
+    Boolean hasAudio) {}
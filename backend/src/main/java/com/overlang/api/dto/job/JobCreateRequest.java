@@ -0,0 +1,25 @@
+package com.overlang.api.dto.job;
+
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.entity.TranslationProvider;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "분석 작업 생성 요청 DTO")
+public record JobCreateRequest(
+    @Schema(description = "작업 유형", example = "FULL_ANALYSIS") @NotNull JobType jobType,
+    @Schema(description = "원본 언어 (없으면 자동 감지)", example = "en") String sourceLanguage,
+    @Schema(description = "번역 대상 언어", example = "ko") @NotBlank String targetLanguage,
+    @Schema(description = "번역 제공자", example = "DEFAULT") TranslationProvider translationProvider,
+    @Schema(description = "사용자 API 키 사용 여부", example = "false") Boolean useUserApiKey,
+    @Schema(description = "재시도할 원본 작업 ID (RETRY 일 때만 사용)", example = "null") Long retryOfJobId,
+    @Schema(description = "STT 모델 (없으면 서버 기본 모델)", example = "large-v3-turbo") @Size(max = 50)
+        String sttModel,
+    @Schema(
+            description = "추가 번역 대상 언어 (STT/OCR 은 한 번만 하고 번역/학습 콘텐츠를 언어별로 생성)",
+            example = "[\"ja\", \"es\"]")
+        @Size(max = 10)
+        List<@NotBlank @Size(max = 20) String> additionalTargetLanguages) {}
@@ -0,0 +1,14 @@
+package com.overlang.api.dto.job;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.JobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "번역 대상 언어별 진행 상황 DTO")
+public record JobLanguageResponse(
+    @Schema(description = "번역 대상 언어", example = "ja") String language,
+    @Schema(description = "언어별 상태", example = "RUNNING") JobStatus status,
+    @Schema(description = "언어별 현재 단계", example = "LLM_ANALYSIS") CurrentStage currentStage,
+    @Schema(description = "언어별 진행률 (0~100)", example = "50") Integer progress,
+    @Schema(description = "에러 코드 (실패 시)", example = "TRANSLATION_001") String errorCode,
+    @Schema(description = "에러 메시지 (실패 시)", example = "null") String errorMessage) {}
@@ -0,0 +1,22 @@
+package com.overlang.api.dto.job;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.entity.JobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "분석 작업 응답 DTO")
+public record JobResponse(
+    @Schema(description = "작업 ID", example = "1") Long jobId,
+    @Schema(description = "프로젝트 ID", example = "1") Long projectId,
+    @Schema(description = "작업 유형", example = "FULL_ANALYSIS") JobType jobType,
+    @Schema(description = "작업 상태", example = "RUNNING") JobStatus status,
+    @Schema(description = "현재 단계", example = "STT_TRANSCRIPTION") CurrentStage currentStage,
+    @Schema(description = "진행률 (0~100)", example = "40") Integer progress,
+    @Schema(description = "에러 코드 (실패 시)", example = "WORKER_001") String errorCode,
+    @Schema(description = "에러 메시지 (실패 시)", example = "null") String errorMessage,
+    @Schema(description = "생성 시각", example = "2026-04-18T10:00:00Z") Instant createdAt,
+    @Schema(description = "번역 대상 언어별 진행 상황 (여러 언어 작업만, 아니면 빈 목록)")
+        List<JobLanguageResponse> languages) {}
@@ -0,0 +1,14 @@
+package com.overlang.api.dto.learning;
+
+import com.overlang.domain.learning.entity.LearningContentType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "학습 콘텐츠 DTO")
+public record LearningContentResponse(
+    @Schema(description = "학습 콘텐츠 ID", example = "7") Long id,
+    @Schema(description = "콘텐츠 유형", example = "KEYWORD") LearningContentType contentType,
+    @Schema(description = "제목", example = "주요 표현") String title,
+    @Schema(description = "내용", example = "take off: 이륙하다") String content,
+    @Schema(description = "관련 구간 시작 시각(초)", example = "12.0") Double startTime,
+    @Schema(description = "관련 구간 끝 시각(초)", example = "18.5") Double endTime,
+    @Schema(description = "콘텐츠 언어", example = "ko") String language) {}
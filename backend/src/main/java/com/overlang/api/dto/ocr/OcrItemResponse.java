@@ -0,0 +1,16 @@
+package com.overlang.api.dto.ocr;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "화면 글자(OCR) 항목 DTO")
+public record OcrItemResponse(
+    @Schema(description = "OCR 항목 ID", example = "42") Long id,
+    @Schema(description = "화면에 나타나는 시각(초)", example = "12.0") double startTime,
+    @Schema(description = "화면에서 사라지는 시각(초)", example = "15.5") double endTime,
+    @Schema(description = "박스 왼쪽 위 x", example = "120.0") double x,
+    @Schema(description = "박스 왼쪽 위 y", example = "48.0") double y,
+    @Schema(description = "박스 너비", example = "300.0") double w,
+    @Schema(description = "박스 높이", example = "40.0") double h,
+    @Schema(description = "인식 신뢰도", example = "0.93") Double confidence,
+    @Schema(description = "인식된 원문", example = "出口") String originText,
+    @Schema(description = "번역문", example = "출구") String translatedText) {}
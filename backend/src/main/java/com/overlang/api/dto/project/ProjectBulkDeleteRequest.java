@@ -0,0 +1,13 @@
+package com.overlang.api.dto.project;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "프로젝트 일괄 삭제 요청 DTO")
+public record ProjectBulkDeleteRequest(
+    @Schema(description = "삭제할 프로젝트 ID 목록 (최대 100개)", example = "[1, 2, 3]")
+        @NotEmpty
+        @Size(max = 100)
+        List<Long> projectIds) {}
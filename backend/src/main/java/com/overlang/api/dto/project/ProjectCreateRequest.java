@@ -11,7 +11,9 @@ public record ProjectCreateRequest(
     @Schema(description = "원본 유형", example = "UPLOAD") @NotNull SourceType sourceType,
     @Schema(description = "원본 URL (유튜브일 때만 사용)", example = "https://youtube.com/watch?v=xxxx")
         String sourceUrl,
-    @Schema(description = "업로드 파일 URL (파일 업로드일 때만 사용)", example = "https://s3-bucket/video.mp4")
+    @Schema(
+            description = "업로드 파일 URL (사용하지 않음, 서버가 저장소에 맞게 정함)",
+            example = "https://s3-bucket/video.mp4")
         String fileUrl,
     @Schema(description = "S3 내부 파일 키 (파일 업로드일 때만 사용)", example = "uploads/videos/abc.mp4")
         String fileKey) {}
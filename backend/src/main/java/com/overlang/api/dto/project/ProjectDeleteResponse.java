@@ -0,0 +1,9 @@
+package com.overlang.api.dto.project;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "프로젝트 삭제 응답 DTO")
+public record ProjectDeleteResponse(
+    @Schema(description = "삭제된 프로젝트 ID 목록", example = "[1, 2]") List<Long> deletedProjectIds,
+    @Schema(description = "백그라운드에서 삭제할 저장소 파일 수", example = "2") int queuedFileDeletions) {}
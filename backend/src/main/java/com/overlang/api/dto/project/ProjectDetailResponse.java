@@ -14,5 +14,6 @@ public record ProjectDetailResponse(
     @Schema(description = "원본 URL (YOUTUBE일 때만 존재)", example = "null") String sourceUrl,
     @Schema(description = "업로드 파일 URL (UPLOAD일 때만 존재)", example = "https://s3-bucket/video.mp4")
         String fileUrl,
+    @Schema(description = "영상 길이(초, 알 수 없으면 null)", example = "632.5") Double durationSeconds,
     @Schema(description = "프로젝트 상태", example = "PROCESSING") ProjectStatus status,
     @Schema(description = "생성 시각", example = "2026-03-14T18:00:00Z") Instant createdAt) {}
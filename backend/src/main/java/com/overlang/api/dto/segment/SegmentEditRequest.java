@@ -0,0 +1,23 @@
+package com.overlang.api.dto.segment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "자막 수정 요청 DTO")
+public record SegmentEditRequest(
+    @Schema(description = "수정할 자막 구간 목록 (최대 200개)") @NotEmpty @Size(max = 200) @Valid
+        List<SegmentEdit> edits) {
+
+  @Schema(description = "자막 구간 수정")
+  public record SegmentEdit(
+      @Schema(description = "자막 구간 순서 (1부터)", example = "12") @NotNull Integer seq,
+      @Schema(description = "수정한 원문", example = "I'm going to show you how it works.")
+          @NotBlank
+          @Size(max = 2000)
+          String text) {}
+}
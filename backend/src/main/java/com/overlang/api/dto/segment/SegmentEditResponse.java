@@ -0,0 +1,9 @@
+package com.overlang.api.dto.segment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "자막 수정 응답 DTO")
+public record SegmentEditResponse(
+    @Schema(description = "내용이 바뀐 자막 구간 수", example = "2") int editedSegments,
+    @Schema(description = "바뀐 구간의 재번역/학습 콘텐츠 갱신 예약 여부", example = "true")
+        boolean retranslationQueued) {}
@@ -0,0 +1,15 @@
+package com.overlang.api.dto.segment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "자막 구간 DTO")
+public record SegmentResponse(
+    @Schema(description = "구간 ID", example = "101") Long id,
+    @Schema(description = "작업 내 순서 (1부터)", example = "1") int seq,
+    @Schema(description = "시작 시각(초)", example = "0.0") double startTime,
+    @Schema(description = "끝 시각(초)", example = "3.2") double endTime,
+    @Schema(description = "원문", example = "Hello everyone") String text,
+    @Schema(description = "번역문", example = "안녕하세요 여러분") String translatedText,
+    @Schema(description = "원문 언어", example = "en") String languageCode,
+    @Schema(description = "수정 후 재번역 전이라 번역이 원문과 맞지 않음", example = "false")
+        boolean translationStale) {}
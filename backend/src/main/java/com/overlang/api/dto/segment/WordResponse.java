@@ -0,0 +1,10 @@
+package com.overlang.api.dto.segment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "단어 타임스탬프 DTO")
+public record WordResponse(
+    @Schema(description = "단어가 속한 자막 구간 순서", example = "12") int segmentSeq,
+    @Schema(description = "시작 시각(초)", example = "35.12") double startTime,
+    @Schema(description = "끝 시각(초)", example = "35.48") double endTime,
+    @Schema(description = "단어", example = "pronunciation") String word) {}
@@ -0,0 +1,60 @@
+package com.overlang.domain.archive.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import com.overlang.domain.job.entity.Job;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+// 저장소로 옮긴 작업 결과 (segments, ocr_items), 복원되면 restoredAt 이 채워지고 다시 보관될 수 있음
+@Entity
+@Table(name = "job_archives")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobArchive extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @OneToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "job_id", nullable = false, unique = true)
+  private Job job;
+
+  @Column(name = "file_key", nullable = false, length = 1024)
+  private String fileKey;
+
+  @Column(name = "segment_count", nullable = false)
+  private Integer segmentCount;
+
+  @Column(name = "ocr_item_count", nullable = false)
+  private Integer ocrItemCount;
+
+  @Column(name = "byte_size", nullable = false)
+  private Long byteSize; // 압축된 보관 파일 크기
+
+  @Column(name = "archived_at", nullable = false)
+  private Instant archivedAt;
+
+  @Column(name = "restored_at")
+  private Instant restoredAt;
+
+  public JobArchive(
+      Job job, String fileKey, Integer segmentCount, Integer ocrItemCount, Long byteSize) {
+    this.job = job;
+    archive(fileKey, segmentCount, ocrItemCount, byteSize);
+  }
+
+  public void archive(String fileKey, Integer segmentCount, Integer ocrItemCount, Long byteSize) {
+    this.fileKey = fileKey;
+    this.segmentCount = segmentCount;
+    this.ocrItemCount = ocrItemCount;
+    this.byteSize = byteSize;
+    this.archivedAt = Instant.now();
+    this.restoredAt = null;
+  }
+
+  public void restored() {
+    this.restoredAt = Instant.now();
+  }
+}
@@ -0,0 +1,60 @@
+package com.overlang.domain.archive.repository;
+
+import com.overlang.domain.archive.entity.JobArchive;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface JobArchiveRepository extends JpaRepository<JobArchive, Long> {
+
+  Optional<JobArchive> findByJobId(Long jobId);
+
+  // 동시에 들어온 복원 요청은 하나만 진행
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from JobArchive a where a.job.id = :jobId and a.restoredAt is null")
+  Optional<JobArchive> lockArchivedByJobId(@Param("jobId") Long jobId);
+
+  // before 이후 프로젝트/작업 활동이 없고, 결과 행이 남아 있으며, 최근에 복원되지 않은 종료 작업
+  @Query(
+      value =
+          """
+          select j.id from jobs j
+          join projects p on p.id = j.project_id
+          where j.status in ('COMPLETED', 'FAILED')
+            and p.updated_at < :before
+            and not exists (
+              select 1 from jobs a
+              where a.project_id = j.project_id
+                and (a.updated_at >= :before or a.status in ('PENDING', 'RUNNING')))
+            and not exists (
+              select 1 from job_archives ja
+              where ja.job_id = j.id and (ja.restored_at is null or ja.restored_at >= :before))
+            and (exists (select 1 from segments s where s.job_id = j.id)
+              or exists (select 1 from ocr_items o where o.job_id = j.id))
+          order by j.id
+          limit :limit
+          """,
+      nativeQuery = true)
+  List<Long> findCandidateJobIds(@Param("before") Instant before, @Param("limit") int limit);
+
+  // 프로젝트 일괄 삭제 (작업보다 먼저)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_archives"))
+  @Query(
+      value =
+          """
+          delete from job_archives
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
@@ -0,0 +1,56 @@
+package com.overlang.domain.archive.service;
+
+import com.overlang.domain.archive.service.JobArchiveService.StoredArchive;
+import com.overlang.domain.file.service.StorageDeletionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 오래 활동이 없는 프로젝트의 작업 결과를 주기적으로 저장소로 보관
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "overlang.archive.enabled", havingValue = "true")
+public class JobArchiveRunner {
+
+  private final JobArchiveService jobArchiveService;
+  private final StorageDeletionService storageDeletionService;
+  private final int batchSize;
+
+  public JobArchiveRunner(
+      JobArchiveService jobArchiveService,
+      StorageDeletionService storageDeletionService,
+      @Value("${overlang.archive.batch-size}") int batchSize) {
+    this.jobArchiveService = jobArchiveService;
+    this.storageDeletionService = storageDeletionService;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(
+      initialDelayString = "${overlang.archive.initial-delay-ms:60000}",
+      fixedDelayString = "${overlang.archive.interval-ms:3600000}")
+  public void archiveInactive() {
+    for (Long jobId : jobArchiveService.findCandidates(batchSize)) {
+      archive(jobId);
+    }
+  }
+
+  // 내보내기(읽기 트랜잭션) -> 저장소 업로드(트랜잭션 밖) -> 행 삭제(쓰기 트랜잭션)
+  private void archive(Long jobId) {
+    StoredArchive stored = null;
+    try {
+      JobResultArchive payload = jobArchiveService.export(jobId);
+      stored = jobArchiveService.store(payload);
+      if (jobArchiveService.commit(jobId, stored, payload)) {
+        return;
+      }
+    } catch (Exception e) {
+      log.warn("Job archive failed: jobId={}, reason={}", jobId, e.getMessage());
+    }
+    // 올렸지만 반영하지 못한 보관 파일 정리
+    if (stored != null) {
+      storageDeletionService.enqueue(stored.fileKey());
+    }
+  }
+}
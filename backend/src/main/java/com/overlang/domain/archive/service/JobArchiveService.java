@@ -0,0 +1,259 @@
+package com.overlang.domain.archive.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.domain.archive.entity.JobArchive;
+import com.overlang.domain.archive.repository.JobArchiveRepository;
+import com.overlang.domain.archive.service.JobResultArchive.ArchivedOcrItem;
+import com.overlang.domain.archive.service.JobResultArchive.ArchivedSegment;
+import com.overlang.domain.file.service.StorageDeletionService;
+import com.overlang.domain.file.storage.StorageService;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.ocr.entity.OcrItem;
+import com.overlang.domain.ocr.repository.OcrItemRepository;
+import com.overlang.domain.ocr.service.OcrIndexCache;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.service.SegmentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비활성 프로젝트의 작업 결과 보관/복원.
+ *
+ * <p>segments, ocr_items 는 gzip JSON 으로 저장소에 옮기고 행을 지운다. 단어 타임스탬프는 행 대신 작업당 압축 blob 으로 DB 에 남긴다.
+ * 결과 행이 필요한 경로(재시도 등)는 {@link #restore} 를 먼저 호출한다. 보관 순서는 {@link JobArchiveRunner} 참고.
+ */
+@Slf4j
+@Service
+public class JobArchiveService {
+
+  private static final String CONTENT_TYPE = "application/gzip";
+
+  private final JobArchiveRepository jobArchiveRepository;
+  private final JobRepository jobRepository;
+  private final SegmentRepository segmentRepository;
+  private final OcrItemRepository ocrItemRepository;
+  private final OcrIndexCache ocrIndexCache;
+  private final SegmentService segmentService;
+  private final StorageService storageService;
+  private final StorageDeletionService storageDeletionService;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final Duration inactivePeriod;
+
+  public JobArchiveService(
+      JobArchiveRepository jobArchiveRepository,
+      JobRepository jobRepository,
+      SegmentRepository segmentRepository,
+      OcrItemRepository ocrItemRepository,
+      OcrIndexCache ocrIndexCache,
+      SegmentService segmentService,
+      StorageService storageService,
+      StorageDeletionService storageDeletionService,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${overlang.archive.inactive-days}") long inactiveDays) {
+    this.jobArchiveRepository = jobArchiveRepository;
+    this.jobRepository = jobRepository;
+    this.segmentRepository = segmentRepository;
+    this.ocrItemRepository = ocrItemRepository;
+    this.ocrIndexCache = ocrIndexCache;
+    this.segmentService = segmentService;
+    this.storageService = storageService;
+    this.storageDeletionService = storageDeletionService;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.inactivePeriod = Duration.ofDays(inactiveDays);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Long> findCandidates(int limit) {
+    return jobArchiveRepository.findCandidateJobIds(Instant.now().minus(inactivePeriod), limit);
+  }
+
+  /** 보관 파일 위치와 압축된 크기 */
+  public record StoredArchive(String fileKey, long byteSize) {}
+
+  /** 트랜잭션 밖에서 호출 (업로드가 끝난 뒤 {@link #commit} 으로 행을 지움) */
+  public StoredArchive store(JobResultArchive payload) throws IOException {
+    String fileKey =
+        "archives/jobs/" + payload.jobId() + "-" + System.currentTimeMillis() + ".json.gz";
+    Path temp = Files.createTempFile("overlang-archive-", ".json.gz");
+    try {
+      try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+        objectMapper.writeValue(out, payload);
+      }
+      long byteSize = Files.size(temp);
+      storageService.store(fileKey, temp, CONTENT_TYPE);
+      return new StoredArchive(fileKey, byteSize);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  @Transactional(readOnly = true)
+  public JobResultArchive export(Long jobId) {
+    List<ArchivedSegment> segments =
+        segmentRepository.findByJobIdOrderBySeqAsc(jobId).stream()
+            .map(
+                s ->
+                    new ArchivedSegment(
+                        s.getSeq(),
+                        s.getStartTime(),
+                        s.getEndTime(),
+                        s.getText(),
+                        s.getTranslatedText(),
+                        s.getLanguageCode(),
+                        s.getTranslationStale()))
+            .toList();
+    List<ArchivedOcrItem> ocrItems =
+        ocrItemRepository.findByJobIdOrderByIdAsc(jobId).stream()
+            .map(
+                o ->
+                    new ArchivedOcrItem(
+                        o.getStartTime(),
+                        o.getEndTime(),
+                        o.getOriginText(),
+                        o.getTranslatedText(),
+                        o.getX(),
+                        o.getY(),
+                        o.getW(),
+                        o.getH(),
+                        o.getConfidence()))
+            .toList();
+    return new JobResultArchive(JobResultArchive.VERSION, jobId, segments, ocrItems);
+  }
+
+  // 내보낸 뒤 결과가 바뀌었으면 (재번역, 수정 등) 이번 보관은 취소
+  @Transactional
+  public boolean commit(Long jobId, StoredArchive stored, JobResultArchive payload) {
+    if (!export(jobId).equals(payload)) {
+      log.info("Archive skipped, results changed during export: jobId={}", jobId);
+      return false;
+    }
+    Job job = jobRepository.getReferenceById(jobId);
+    int words = segmentService.compactWords(job);
+    segmentRepository.deleteByJobId(jobId);
+    ocrItemRepository.deleteByJobId(jobId);
+    ocrIndexCache.evict(jobId);
+
+    String fileKey = stored.fileKey();
+    long byteSize = stored.byteSize();
+    int segmentCount = payload.segments().size();
+    int ocrItemCount = payload.ocrItems().size();
+    jobArchiveRepository
+        .findByJobId(jobId)
+        .ifPresentOrElse(
+            archive -> archive.archive(fileKey, segmentCount, ocrItemCount, byteSize),
+            () ->
+                jobArchiveRepository.save(
+                    new JobArchive(job, fileKey, segmentCount, ocrItemCount, byteSize)));
+
+    meterRegistry.counter("overlang.archive.jobs", "result", "archived").increment();
+    log.info(
+        "Job results archived: jobId={}, segments={}, ocrItems={}, compactedWords={}, bytes={}",
+        jobId,
+        segmentCount,
+        ocrItemCount,
+        words,
+        byteSize);
+    return true;
+  }
+
+  /** 보관된 결과가 있으면 행으로 되돌림 (호출한 트랜잭션과 별도로 커밋) */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void restore(Long jobId) {
+    JobArchive archive = jobArchiveRepository.lockArchivedByJobId(jobId).orElse(null);
+    if (archive == null) {
+      return;
+    }
+    long started = System.nanoTime();
+    JobResultArchive payload = read(archive.getFileKey());
+    Job job = jobRepository.getReferenceById(jobId);
+
+    // 보관할 때와 같은 순서로 넣어 seq / id 순서 기준 체크포인트 해시 유지
+    segmentRepository.saveAll(
+        payload.segments().stream()
+            .map(
+                s -> {
+                  Segment segment =
+                      new Segment(
+                          job,
+                          s.startTime(),
+                          s.endTime(),
+                          s.seq(),
+                          s.text(),
+                          s.translatedText(),
+                          s.languageCode());
+                  if (Boolean.TRUE.equals(s.translationStale())) {
+                    segment.markTranslationStale();
+                  }
+                  return segment;
+                })
+            .toList());
+    ocrItemRepository.saveAll(
+        payload.ocrItems().stream()
+            .map(
+                o ->
+                    new OcrItem(
+                        job,
+                        o.startTime(),
+                        o.endTime(),
+                        o.originText(),
+                        o.translatedText(),
+                        o.x(),
+                        o.y(),
+                        o.w(),
+                        o.h(),
+                        o.confidence()))
+            .toList());
+    // 복원된 행은 ID 가 새로 매겨지므로 캐시된 색인을 버림
+    ocrIndexCache.evict(jobId);
+
+    archive.restored();
+    storageDeletionService.enqueue(archive.getFileKey());
+    meterRegistry.counter("overlang.archive.jobs", "result", "restored").increment();
+    log.info(
+        "Job results restored: jobId={}, segments={}, ocrItems={}, elapsedMs={}",
+        jobId,
+        payload.segments().size(),
+        payload.ocrItems().size(),
+        (System.nanoTime() - started) / 1_000_000);
+  }
+
+  private JobResultArchive read(String fileKey) {
+    Path temp = null;
+    try {
+      temp = Files.createTempFile("overlang-restore-", ".json.gz");
+      storageService.download(fileKey, temp);
+      try (InputStream in = new GZIPInputStream(Files.newInputStream(temp))) {
+        return objectMapper.readValue(in, JobResultArchive.class);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("보관된 작업 결과를 불러오지 못했습니다: " + fileKey, e);
+    } finally {
+      if (temp != null) {
+        try {
+          Files.deleteIfExists(temp);
+        } catch (IOException e) {
+          log.warn("Restore temp file not deleted: path={}", temp);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.overlang.domain.archive.service;
+
+import java.util.List;
+
+/** 저장소에 gzip JSON 으로 보관하는 작업 결과. 복원 시 같은 순서로 다시 넣어 체크포인트 해시가 유지된다. */
+public record JobResultArchive(
+    int version, Long jobId, List<ArchivedSegment> segments, List<ArchivedOcrItem> ocrItems) {
+
+  // 2: 구간의 재번역 대기 표시 추가 (1 로 보관된 결과는 표시 없이 복원)
+  public static final int VERSION = 2;
+
+  public record ArchivedSegment(
+      Integer seq,
+      Double startTime,
+      Double endTime,
+      String text,
+      String translatedText,
+      String languageCode,
+      Boolean translationStale) {}
+
+  public record ArchivedOcrItem(
+      Double startTime,
+      Double endTime,
+      String originText,
+      String translatedText,
+      Double x,
+      Double y,
+      Double w,
+      Double h,
+      Double confidence) {}
+}
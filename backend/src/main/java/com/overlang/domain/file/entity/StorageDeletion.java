@@ -0,0 +1,49 @@
+package com.overlang.domain.file.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+// 삭제 대기 중인 저장소 파일 (프로젝트 삭제 트랜잭션에서 함께 기록, 백그라운드 워커가 정리)
+@Entity
+@Table(
+    name = "storage_deletions",
+    indexes = @Index(name = "idx_storage_deletions_next_attempt", columnList = "next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorageDeletion extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "file_key", nullable = false, length = 1024)
+  private String fileKey;
+
+  @Column(nullable = false)
+  private Integer attempts;
+
+  @Column(name = "next_attempt_at")
+  private Instant nextAttemptAt; // null 이면 재시도 포기 (수동 확인 대상)
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  public StorageDeletion(String fileKey) {
+    this.fileKey = fileKey;
+    this.attempts = 0;
+    this.nextAttemptAt = Instant.now();
+  }
+
+  // 워커가 가져간 동안 다른 인스턴스가 다시 가져가지 않도록 다음 시도 시각을 미룸
+  public void claim(Instant leaseUntil) {
+    this.attempts++;
+    this.nextAttemptAt = leaseUntil;
+  }
+
+  public void fail(String error, Instant retryAt) {
+    this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    this.nextAttemptAt = retryAt;
+  }
+}
@@ -0,0 +1,61 @@
+package com.overlang.domain.file.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 업로드 시점에 읽은 영상 메타데이터 (프로젝트 생성 시 fileKey 로 찾아 업로드한 회원인지 확인 후 Project 에 복사)
+@Entity
+@Table(name = "uploaded_media")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadedMedia extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 업로드한 회원 (V8 이전 업로드는 null, 어떤 회원도 프로젝트로 만들 수 없음)
+  @Column(name = "member_id")
+  private Long memberId;
+
+  @Column(name = "file_key", nullable = false, unique = true, length = 1024)
+  private String fileKey;
+
+  @Column(nullable = false, length = 20)
+  private String container;
+
+  @Column(name = "duration_seconds")
+  private Double durationSeconds;
+
+  @Column(name = "video_codec", length = 50)
+  private String videoCodec;
+
+  @Column(name = "audio_codec", length = 50)
+  private String audioCodec;
+
+  @Column(name = "has_video")
+  private Boolean hasVideo;
+
+  @Column(name = "has_audio")
+  private Boolean hasAudio;
+
+  public UploadedMedia(
+      Long memberId,
+      String fileKey,
+      String container,
+      Double durationSeconds,
+      String videoCodec,
+      String audioCodec,
+      Boolean hasVideo,
+      Boolean hasAudio) {
+    this.memberId = memberId;
+    this.fileKey = fileKey;
+    this.container = container;
+    this.durationSeconds = durationSeconds;
+    this.videoCodec = videoCodec;
+    this.audioCodec = audioCodec;
+    this.hasVideo = hasVideo;
+    this.hasAudio = hasAudio;
+  }
+}
@@ -0,0 +1,64 @@
+package com.overlang.domain.file.repository;
+
+import com.overlang.domain.file.entity.StorageDeletion;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+  // 여러 인스턴스가 같은 행을 가져가지 않도록 잠긴 행은 건너뜀
+  @Query(
+      value =
+          """
+          select * from storage_deletions
+          where next_attempt_at <= :now
+          order by id
+          limit :limit
+          for update skip locked
+          """,
+      nativeQuery = true)
+  List<StorageDeletion> lockDue(@Param("now") Instant now, @Param("limit") int limit);
+
+  // 삭제할 프로젝트의 파일 중 남는 프로젝트가 같이 쓰지 않는 것만 기록
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "storage_deletions"))
+  @Query(
+      value =
+          """
+          insert into storage_deletions
+            (file_key, attempts, next_attempt_at, created_at, updated_at)
+          select distinct p.file_key, 0, now(), now(), now()
+          from projects p
+          where p.id in (:projectIds)
+            and p.file_key is not null
+            and p.file_key <> ''
+            and not exists (
+              select 1 from projects o
+              where o.file_key = p.file_key and o.id not in (:projectIds))
+          """,
+      nativeQuery = true)
+  int enqueueProjectFiles(@Param("projectIds") List<Long> projectIds);
+
+  // 보관 중인(복원되지 않은) 작업 결과 파일
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "storage_deletions"))
+  @Query(
+      value =
+          """
+          insert into storage_deletions
+            (file_key, attempts, next_attempt_at, created_at, updated_at)
+          select a.file_key, 0, now(), now(), now()
+          from job_archives a
+          join jobs j on j.id = a.job_id
+          where j.project_id in (:projectIds) and a.restored_at is null
+          """,
+      nativeQuery = true)
+  int enqueueJobArchives(@Param("projectIds") List<Long> projectIds);
+}
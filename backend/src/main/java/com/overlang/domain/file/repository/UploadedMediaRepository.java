@@ -0,0 +1,32 @@
+package com.overlang.domain.file.repository;
+
+import com.overlang.domain.file.entity.UploadedMedia;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface UploadedMediaRepository extends JpaRepository<UploadedMedia, Long> {
+
+  Optional<UploadedMedia> findByFileKey(String fileKey);
+
+  // 삭제할 프로젝트만 쓰던 업로드 메타데이터 삭제
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "uploaded_media"))
+  @Query(
+      value =
+          """
+          delete from uploaded_media m
+          where m.file_key in (select file_key from projects where id in (:projectIds))
+            and not exists (
+              select 1 from projects o
+              where o.file_key = m.file_key and o.id not in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
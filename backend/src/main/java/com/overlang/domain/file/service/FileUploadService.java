@@ -0,0 +1,137 @@
+package com.overlang.domain.file.service;
+
+import com.overlang.api.dto.file.FileUploadResponse;
+import com.overlang.domain.file.entity.UploadedMedia;
+import com.overlang.domain.file.repository.UploadedMediaRepository;
+import com.overlang.domain.file.service.MediaProbe.Container;
+import com.overlang.domain.file.service.MediaProbe.MediaInfo;
+import com.overlang.domain.file.storage.StorageService;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Service
+public class FileUploadService {
+
+  private static final Set<String> ALLOWED_CONTENT_TYPES =
+      Set.of("video/mp4", "video/quicktime", "video/x-msvideo", "video/x-matroska");
+  // 헤더를 읽지 않는 형식 (길이/트랙을 모르는 채로 저장)
+  private static final String UNPROBED_CONTENT_TYPE = "video/x-msvideo";
+
+  private final StorageService storageService;
+  private final UploadedMediaRepository uploadedMediaRepository;
+  private final double maxDurationSeconds;
+
+  public FileUploadService(
+      StorageService storageService,
+      UploadedMediaRepository uploadedMediaRepository,
+      @Value("${overlang.upload.max-duration-seconds}") double maxDurationSeconds) {
+    this.storageService = storageService;
+    this.uploadedMediaRepository = uploadedMediaRepository;
+    this.maxDurationSeconds = maxDurationSeconds;
+  }
+
+  public FileUploadResponse uploadVideo(Long memberId, MultipartFile file) {
+    validateFile(file);
+
+    String originalFilename = file.getOriginalFilename();
+    String extension = extractExtension(originalFilename);
+    String uniqueFileName = UUID.randomUUID() + extension;
+    String fileKey = "uploads/videos/" + uniqueFileName;
+
+    Path staged = null;
+    try {
+      // transferTo(File) 는 디스크에 있는 multipart 임시 파일을 가능하면 rename 으로 넘김
+      staged = Files.createTempFile("overlang-upload-", extension);
+      file.transferTo(staged.toFile());
+      MediaInfo media = probe(staged, file.getContentType());
+      storageService.store(fileKey, staged, file.getContentType());
+
+      // 헤더를 읽지 않은 형식은 트랙 유무를 모름 (null)
+      boolean probed = media.container() != Container.UNKNOWN;
+      Boolean hasVideo = probed ? media.hasVideo() : null;
+      Boolean hasAudio = probed ? media.hasAudio() : null;
+      uploadedMediaRepository.save(
+          new UploadedMedia(
+              memberId,
+              fileKey,
+              media.container().name(),
+              media.durationSeconds(),
+              media.videoCodec(),
+              media.audioCodec(),
+              hasVideo,
+              hasAudio));
+
+      return new FileUploadResponse(
+          originalFilename,
+          fileKey,
+          storageService.fileUrl(null, fileKey),
+          media.durationSeconds(),
+          hasVideo,
+          hasAudio);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("파일 업로드 중 오류가 발생했습니다.");
+    } finally {
+      deleteQuietly(staged);
+    }
+  }
+
+  private void validateFile(MultipartFile file) {
+    if (file == null || file.isEmpty()) {
+      throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+    }
+
+    if (file.getContentType() == null || !ALLOWED_CONTENT_TYPES.contains(file.getContentType())) {
+      throw new IllegalArgumentException("지원하지 않는 영상 형식입니다.");
+    }
+  }
+
+  // 헤더만 읽고 본문은 skip(seek) 하므로 파일 크기와 상관없이 수 KB~수 MB 만 읽음
+  private MediaInfo probe(Path staged, String contentType) throws IOException {
+    MediaInfo media;
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(staged), 64 * 1024)) {
+      media = MediaProbe.probe(in);
+    }
+    if (media.container() == Container.UNKNOWN) {
+      if (!UNPROBED_CONTENT_TYPE.equals(contentType)) {
+        throw new IllegalArgumentException("영상 형식을 확인할 수 없는 파일입니다.");
+      }
+      return media;
+    }
+    if (!media.hasAudio() && !media.hasVideo()) {
+      throw new IllegalArgumentException("오디오/비디오 트랙이 없는 파일입니다.");
+    }
+    if (media.durationSeconds() != null && media.durationSeconds() > maxDurationSeconds) {
+      throw new IllegalArgumentException(
+          "영상 길이가 허용 범위(" + (long) maxDurationSeconds + "초)를 넘습니다.");
+    }
+    return media;
+  }
+
+  private String extractExtension(String fileName) {
+    if (fileName == null || !fileName.contains(".")) {
+      return "";
+    }
+    return fileName.substring(fileName.lastIndexOf("."));
+  }
+
+  private void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Upload staging file not deleted: path={}", path);
+    }
+  }
+}
@@ -0,0 +1,436 @@
+package com.overlang.domain.file.service;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 스트림에서 컨테이너 메타데이터(길이, 트랙, 코덱)만 읽는다.
+ *
+ * <p>MP4/MOV 는 최상위 box 를 따라가며 moov 만 메모리로 읽고 mdat 등은 skip 한다. Matroska/WebM 은 Segment 안의
+ * Info 와 Tracks 요소만 읽고 첫 Cluster 에서 멈춘다. 파일 스트림의 skip 은 seek 이므로 moov 가 파일 끝에 있어도 본문을 읽지
+ * 않는다.
+ */
+public final class MediaProbe {
+
+  // moov / Info / Tracks 로 읽어들일 최대 크기 (비정상 파일 방어)
+  static final int MAX_HEADER_BYTES = 64 * 1024 * 1024;
+
+  private static final int EBML_MAGIC = 0x1A45DFA3;
+  private static final int EBML_DOC_TYPE = 0x4282;
+  private static final int MKV_SEGMENT = 0x18538067;
+  private static final int MKV_INFO = 0x1549A966;
+  private static final int MKV_TIMESTAMP_SCALE = 0x2AD7B1;
+  private static final int MKV_DURATION = 0x4489;
+  private static final int MKV_TRACKS = 0x1654AE6B;
+  private static final int MKV_TRACK_ENTRY = 0xAE;
+  private static final int MKV_TRACK_TYPE = 0x83;
+  private static final int MKV_CODEC_ID = 0x86;
+  private static final int MKV_CLUSTER = 0x1F43B675;
+
+  private MediaProbe() {}
+
+  public enum Container {
+    MP4,
+    MATROSKA,
+    UNKNOWN
+  }
+
+  public record Track(boolean video, String codec) {}
+
+  public record MediaInfo(Container container, Double durationSeconds, List<Track> tracks) {
+
+    public boolean hasVideo() {
+      return tracks.stream().anyMatch(Track::video);
+    }
+
+    public boolean hasAudio() {
+      return tracks.stream().anyMatch(t -> !t.video());
+    }
+
+    public String videoCodec() {
+      return tracks.stream().filter(Track::video).map(Track::codec).findFirst().orElse(null);
+    }
+
+    public String audioCodec() {
+      return tracks.stream().filter(t -> !t.video()).map(Track::codec).findFirst().orElse(null);
+    }
+  }
+
+  /** 알 수 없는 컨테이너는 UNKNOWN, 알려진 컨테이너가 깨져 있으면 IllegalArgumentException */
+  public static MediaInfo probe(InputStream stream) throws IOException {
+    DataInputStream in = new DataInputStream(stream);
+    byte[] head = new byte[8];
+    int read = in.readNBytes(head, 0, head.length);
+    if (read < head.length) {
+      throw new IllegalArgumentException("영상 파일이 너무 짧습니다.");
+    }
+    ByteBuffer headBuffer = ByteBuffer.wrap(head);
+    String type = new String(head, 4, 4, StandardCharsets.ISO_8859_1);
+    try {
+      if (headBuffer.getInt(0) == EBML_MAGIC) {
+        return probeMatroska(in, head);
+      }
+      if (List.of("ftyp", "moov", "mdat", "free", "skip", "wide").contains(type)) {
+        return probeMp4(in, Integer.toUnsignedLong(headBuffer.getInt(0)), type);
+      }
+    } catch (EOFException e) {
+      throw new IllegalArgumentException("영상 파일이 잘려 메타데이터를 읽을 수 없습니다.", e);
+    }
+    return new MediaInfo(Container.UNKNOWN, null, List.of());
+  }
+
+  // --- MP4 / QuickTime ---
+
+  private static MediaInfo probeMp4(DataInputStream in, long firstSize, String firstType)
+      throws IOException {
+    long size = firstSize;
+    String type = firstType;
+    while (true) {
+      long headerLength = 8;
+      if (size == 1) {
+        size = in.readLong();
+        headerLength = 16;
+      }
+      if (size == 0) {
+        // 파일 끝까지 이어지는 box (보통 mdat), 이후에 moov 가 올 수 없음
+        break;
+      }
+      if (size < headerLength) {
+        throw new IllegalArgumentException("MP4 box 크기가 올바르지 않습니다: " + type);
+      }
+      long body = size - headerLength;
+      if (type.equals("moov")) {
+        return parseMoov(ByteBuffer.wrap(readBody(in, body)));
+      }
+      in.skipNBytes(body);
+
+      byte[] header = new byte[8];
+      if (in.readNBytes(header, 0, 8) < 8) {
+        break;
+      }
+      size = Integer.toUnsignedLong(ByteBuffer.wrap(header).getInt());
+      type = new String(header, 4, 4, StandardCharsets.ISO_8859_1);
+    }
+    throw new IllegalArgumentException("MP4 파일에 moov 정보가 없습니다.");
+  }
+
+  private static MediaInfo parseMoov(ByteBuffer moov) {
+    Double duration = null;
+    List<Track> tracks = new ArrayList<>();
+    for (Box box : children(moov)) {
+      if (box.type().equals("mvhd")) {
+        duration = parseMvhd(box.body());
+      } else if (box.type().equals("trak")) {
+        Track track = parseTrak(box.body());
+        if (track != null) {
+          tracks.add(track);
+        }
+      }
+    }
+    return new MediaInfo(Container.MP4, duration, tracks);
+  }
+
+  private static Double parseMvhd(ByteBuffer mvhd) {
+    int version = mvhd.get() & 0xFF;
+    mvhd.position(mvhd.position() + 3); // flags
+    long timescale;
+    long duration;
+    if (version == 1) {
+      mvhd.position(mvhd.position() + 16);
+      timescale = Integer.toUnsignedLong(mvhd.getInt());
+      duration = mvhd.getLong();
+    } else {
+      mvhd.position(mvhd.position() + 8);
+      timescale = Integer.toUnsignedLong(mvhd.getInt());
+      duration = Integer.toUnsignedLong(mvhd.getInt());
+    }
+    // fragmented MP4 는 mvhd 길이가 0 (moof 를 따라가지 않고 모르는 길이로 둠)
+    return timescale == 0 || duration <= 0 ? null : (double) duration / timescale;
+  }
+
+  // trak > mdia > hdlr 의 handler 로 종류를, mdia > minf > stbl > stsd 첫 항목으로 코덱을 읽음
+  private static Track parseTrak(ByteBuffer trak) {
+    ByteBuffer mdia = child(trak, "mdia");
+    if (mdia == null) {
+      return null;
+    }
+    ByteBuffer hdlr = child(mdia, "hdlr");
+    if (hdlr == null || hdlr.remaining() < 12) {
+      return null;
+    }
+    String handler = fourCc(hdlr, hdlr.position() + 8);
+    if (!handler.equals("vide") && !handler.equals("soun")) {
+      return null;
+    }
+    String codec = null;
+    ByteBuffer minf = child(mdia, "minf");
+    ByteBuffer stbl = minf == null ? null : child(minf, "stbl");
+    ByteBuffer stsd = stbl == null ? null : child(stbl, "stsd");
+    if (stsd != null && stsd.remaining() >= 16) {
+      codec = fourCc(stsd, stsd.position() + 12).strip();
+    }
+    return new Track(handler.equals("vide"), codec);
+  }
+
+  private record Box(String type, ByteBuffer body) {}
+
+  private static List<Box> children(ByteBuffer parent) {
+    List<Box> boxes = new ArrayList<>();
+    ByteBuffer buffer = parent.duplicate();
+    while (buffer.remaining() >= 8) {
+      int start = buffer.position();
+      long size = Integer.toUnsignedLong(buffer.getInt());
+      String type = fourCc(buffer, start + 4);
+      buffer.position(start + 8);
+      int headerLength = 8;
+      if (size == 1) {
+        size = buffer.getLong();
+        headerLength = 16;
+      } else if (size == 0) {
+        size = buffer.limit() - start;
+      }
+      if (size < headerLength || start + size > buffer.limit()) {
+        throw new IllegalArgumentException("MP4 box 크기가 올바르지 않습니다: " + type);
+      }
+      ByteBuffer body = buffer.duplicate();
+      body.position(start + headerLength).limit((int) (start + size));
+      boxes.add(new Box(type, body.slice()));
+      buffer.position((int) (start + size));
+    }
+    return boxes;
+  }
+
+  private static ByteBuffer child(ByteBuffer parent, String type) {
+    return children(parent).stream()
+        .filter(b -> b.type().equals(type))
+        .map(Box::body)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static String fourCc(ByteBuffer buffer, int index) {
+    byte[] bytes = new byte[4];
+    for (int i = 0; i < 4; i++) {
+      bytes[i] = buffer.get(index + i);
+    }
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+
+  // --- Matroska / WebM (EBML) ---
+
+  private static MediaInfo probeMatroska(DataInputStream in, byte[] head) throws IOException {
+    // head 의 앞 4바이트가 EBML 헤더 ID, 나머지 4바이트는 크기 vint 의 시작
+    ByteBuffer headRest = ByteBuffer.wrap(head, 4, 4);
+    long headerSize = readVint(headRest, in);
+    ByteBuffer ebmlHeader = ByteBuffer.wrap(concat(headRest, in, headerSize));
+    String docType = null;
+    for (Element element : elements(ebmlHeader)) {
+      if (element.id() == EBML_DOC_TYPE) {
+        docType = string(element.body());
+      }
+    }
+    if (docType == null || !(docType.equals("matroska") || docType.equals("webm"))) {
+      throw new IllegalArgumentException("지원하지 않는 EBML 문서 형식입니다: " + docType);
+    }
+
+    if (readId(in) != MKV_SEGMENT) {
+      throw new IllegalArgumentException("Matroska Segment 가 없습니다.");
+    }
+    readSize(in); // Segment 크기 (라이브 녹화 파일은 unknown)
+
+    long timestampScale = 1_000_000;
+    Double rawDuration = null;
+    List<Track> tracks = null;
+    while (true) {
+      int id;
+      try {
+        id = readId(in);
+      } catch (EOFException e) {
+        break;
+      }
+      long size = readSize(in);
+      if (id == MKV_CLUSTER && (tracks != null || size < 0)) {
+        break; // 본문 시작, Info/Tracks 는 보통 이보다 앞에 있음
+      }
+      if (size < 0) {
+        throw new IllegalArgumentException("크기를 알 수 없는 Matroska 요소입니다.");
+      }
+      if (id == MKV_INFO) {
+        for (Element element : elements(ByteBuffer.wrap(readBody(in, size)))) {
+          if (element.id() == MKV_TIMESTAMP_SCALE) {
+            timestampScale = unsigned(element.body());
+          } else if (element.id() == MKV_DURATION) {
+            rawDuration = floating(element.body());
+          }
+        }
+      } else if (id == MKV_TRACKS) {
+        tracks = parseTracks(ByteBuffer.wrap(readBody(in, size)));
+      } else {
+        in.skipNBytes(size);
+      }
+      if (rawDuration != null && tracks != null) {
+        break;
+      }
+    }
+    Double duration = rawDuration == null ? null : rawDuration * timestampScale / 1_000_000_000.0;
+    return new MediaInfo(Container.MATROSKA, duration, tracks == null ? List.of() : tracks);
+  }
+
+  private static List<Track> parseTracks(ByteBuffer body) {
+    List<Track> tracks = new ArrayList<>();
+    for (Element entry : elements(body)) {
+      if (entry.id() != MKV_TRACK_ENTRY) {
+        continue;
+      }
+      long type = 0;
+      String codec = null;
+      for (Element element : elements(entry.body())) {
+        if (element.id() == MKV_TRACK_TYPE) {
+          type = unsigned(element.body());
+        } else if (element.id() == MKV_CODEC_ID) {
+          codec = string(element.body());
+        }
+      }
+      // 1: video, 2: audio (자막 등 나머지는 무시)
+      if (type == 1 || type == 2) {
+        tracks.add(new Track(type == 1, codec));
+      }
+    }
+    return tracks;
+  }
+
+  private record Element(int id, ByteBuffer body) {}
+
+  private static List<Element> elements(ByteBuffer parent) {
+    List<Element> elements = new ArrayList<>();
+    ByteBuffer buffer = parent.duplicate();
+    while (buffer.hasRemaining()) {
+      int id = readId(buffer);
+      long size = readVint(buffer, null);
+      if (size < 0 || size > buffer.remaining()) {
+        throw new IllegalArgumentException("Matroska 요소 크기가 올바르지 않습니다.");
+      }
+      ByteBuffer body = buffer.slice(buffer.position(), (int) size);
+      elements.add(new Element(id, body));
+      buffer.position(buffer.position() + (int) size);
+    }
+    return elements;
+  }
+
+  // 요소 ID 는 길이 표시 비트를 포함한 값 그대로 사용 (1~4 바이트)
+  private static int readId(DataInputStream in) throws IOException {
+    int first = in.readUnsignedByte();
+    int length = Integer.numberOfLeadingZeros(first) - 23;
+    if (length < 1 || length > 4) {
+      throw new IllegalArgumentException("Matroska 요소 ID 가 올바르지 않습니다.");
+    }
+    int id = first;
+    for (int i = 1; i < length; i++) {
+      id = (id << 8) | in.readUnsignedByte();
+    }
+    return id;
+  }
+
+  private static int readId(ByteBuffer buffer) {
+    int first = buffer.get() & 0xFF;
+    int length = Integer.numberOfLeadingZeros(first) - 23;
+    if (length < 1 || length > 4 || buffer.remaining() < length - 1) {
+      throw new IllegalArgumentException("Matroska 요소 ID 가 올바르지 않습니다.");
+    }
+    int id = first;
+    for (int i = 1; i < length; i++) {
+      id = (id << 8) | (buffer.get() & 0xFF);
+    }
+    return id;
+  }
+
+  private static long readSize(DataInputStream in) throws IOException {
+    return readVint(ByteBuffer.allocate(0), in);
+  }
+
+  // 크기 vint, 모든 값 비트가 1 이면 unknown(-1). buffer 를 먼저 소비하고 모자라면 in 에서 읽음
+  private static long readVint(ByteBuffer buffer, DataInputStream in) {
+    try {
+      int first = nextByte(buffer, in);
+      int length = Integer.numberOfLeadingZeros(first) - 23;
+      if (length < 1 || length > 8) {
+        throw new IllegalArgumentException("Matroska 크기 값이 올바르지 않습니다.");
+      }
+      long value = first & (0xFF >> length);
+      boolean allOnes = value == (0xFF >> length);
+      for (int i = 1; i < length; i++) {
+        int b = nextByte(buffer, in);
+        allOnes &= b == 0xFF;
+        value = (value << 8) | b;
+      }
+      return allOnes ? -1 : value;
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Matroska 헤더를 읽을 수 없습니다.", e);
+    }
+  }
+
+  private static int nextByte(ByteBuffer buffer, DataInputStream in) throws IOException {
+    if (buffer.hasRemaining()) {
+      return buffer.get() & 0xFF;
+    }
+    if (in == null) {
+      throw new IllegalArgumentException("Matroska 요소가 잘렸습니다.");
+    }
+    return in.readUnsignedByte();
+  }
+
+  // head 에 남은 바이트와 스트림을 이어 size 만큼 읽음
+  private static byte[] concat(ByteBuffer rest, DataInputStream in, long size)
+      throws IOException {
+    if (size < 0 || size > MAX_HEADER_BYTES) {
+      throw new IllegalArgumentException("EBML 헤더 크기가 올바르지 않습니다.");
+    }
+    byte[] bytes = new byte[(int) size];
+    int fromHead = Math.min(rest.remaining(), bytes.length);
+    rest.get(bytes, 0, fromHead);
+    in.readFully(bytes, fromHead, bytes.length - fromHead);
+    return bytes;
+  }
+
+  private static long unsigned(ByteBuffer body) {
+    long value = 0;
+    ByteBuffer buffer = body.duplicate();
+    while (buffer.hasRemaining()) {
+      value = (value << 8) | (buffer.get() & 0xFF);
+    }
+    return value;
+  }
+
+  private static double floating(ByteBuffer body) {
+    return switch (body.remaining()) {
+      case 4 -> body.duplicate().getFloat();
+      case 8 -> body.duplicate().getDouble();
+      default -> throw new IllegalArgumentException("Matroska Duration 형식이 올바르지 않습니다.");
+    };
+  }
+
+  private static String string(ByteBuffer body) {
+    byte[] bytes = new byte[body.remaining()];
+    body.duplicate().get(bytes);
+    int end = bytes.length;
+    while (end > 0 && bytes[end - 1] == 0) {
+      end--;
+    }
+    return new String(bytes, 0, end, StandardCharsets.UTF_8);
+  }
+
+  private static byte[] readBody(DataInputStream in, long size) throws IOException {
+    if (size > MAX_HEADER_BYTES) {
+      throw new IllegalArgumentException("영상 메타데이터가 너무 큽니다.");
+    }
+    byte[] body = new byte[(int) size];
+    in.readFully(body);
+    return body;
+  }
+}
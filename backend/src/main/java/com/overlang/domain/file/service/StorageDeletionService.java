@@ -0,0 +1,81 @@
+package com.overlang.domain.file.service;
+
+import com.overlang.domain.file.entity.StorageDeletion;
+import com.overlang.domain.file.repository.StorageDeletionRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// storage_deletions 행 가져가기/결과 반영 (저장소 호출은 트랜잭션 밖 StorageDeletionWorker 에서)
+@Slf4j
+@Service
+public class StorageDeletionService {
+
+  // 가져간 뒤 결과를 반영하지 못하고 죽으면 이 시간 뒤 다시 시도
+  private static final Duration LEASE = Duration.ofMinutes(5);
+  private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+  private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+  private final StorageDeletionRepository storageDeletionRepository;
+  private final int maxAttempts;
+
+  public StorageDeletionService(
+      StorageDeletionRepository storageDeletionRepository,
+      @Value("${overlang.storage.deletion.max-attempts}") int maxAttempts) {
+    this.storageDeletionRepository = storageDeletionRepository;
+    this.maxAttempts = maxAttempts;
+  }
+
+  /** 호출한 트랜잭션이 커밋되면 백그라운드에서 삭제 */
+  @Transactional
+  public void enqueue(String fileKey) {
+    storageDeletionRepository.save(new StorageDeletion(fileKey));
+  }
+
+  @Transactional
+  public List<StorageDeletion> claimDue(int limit) {
+    Instant now = Instant.now();
+    List<StorageDeletion> due = storageDeletionRepository.lockDue(now, limit);
+    due.forEach(deletion -> deletion.claim(now.plus(LEASE)));
+    return due;
+  }
+
+  // failed: fileKey -> 사유 (없는 키는 삭제 완료)
+  @Transactional
+  public void complete(List<StorageDeletion> claimed, Map<String, String> failed) {
+    Instant now = Instant.now();
+    for (StorageDeletion claimedDeletion : claimed) {
+      String error = failed.get(claimedDeletion.getFileKey());
+      if (error == null) {
+        storageDeletionRepository.deleteById(claimedDeletion.getId());
+        continue;
+      }
+      StorageDeletion deletion =
+          storageDeletionRepository.findById(claimedDeletion.getId()).orElse(null);
+      if (deletion == null) {
+        continue;
+      }
+      if (deletion.getAttempts() >= maxAttempts) {
+        log.error(
+            "Storage deletion gave up: fileKey={}, attempts={}, reason={}",
+            deletion.getFileKey(),
+            deletion.getAttempts(),
+            error);
+        deletion.fail(error, null);
+      } else {
+        deletion.fail(error, now.plus(backoff(deletion.getAttempts())));
+      }
+    }
+  }
+
+  // 30초, 1분, 2분 ... 최대 1시간
+  private Duration backoff(int attempts) {
+    Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+  }
+}
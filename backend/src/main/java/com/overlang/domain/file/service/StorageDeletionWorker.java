@@ -0,0 +1,46 @@
+package com.overlang.domain.file.service;
+
+import com.overlang.domain.file.entity.StorageDeletion;
+import com.overlang.domain.file.storage.StorageService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 삭제된 프로젝트의 저장소 파일을 배치(최대 1000 개)로 지우고, 실패한 키는 백오프 후 재시도
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageDeletionWorker {
+
+  private final StorageDeletionService storageDeletionService;
+  private final StorageService storageService;
+
+  @Scheduled(fixedDelayString = "${overlang.storage.deletion.interval-ms:5000}")
+  public void deletePending() {
+    List<StorageDeletion> claimed;
+    do {
+      claimed = storageDeletionService.claimDue(StorageService.MAX_DELETE_BATCH);
+      if (claimed.isEmpty()) {
+        return;
+      }
+      List<String> fileKeys = claimed.stream().map(StorageDeletion::getFileKey).toList();
+      Map<String, String> failed;
+      try {
+        failed = storageService.deleteAll(fileKeys);
+      } catch (Exception e) {
+        // 요청 자체가 실패하면 배치 전체를 재시도
+        failed = new HashMap<>();
+        for (String fileKey : fileKeys) {
+          failed.put(fileKey, e.getMessage());
+        }
+      }
+      storageDeletionService.complete(claimed, failed);
+      log.info(
+          "Storage files deleted: requested={}, failed={}", fileKeys.size(), failed.size());
+    } while (claimed.size() == StorageService.MAX_DELETE_BATCH);
+  }
+}
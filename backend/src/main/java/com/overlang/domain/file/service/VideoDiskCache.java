@@ -0,0 +1,191 @@
+package com.overlang.domain.file.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+// 자주 재생되는 영상 원본을 로컬 디스크에 보관하는 LRU 캐시
+@Slf4j
+@Component
+public class VideoDiskCache {
+
+  private static final String TEMP_SUFFIX = ".part";
+
+  private final Path dir;
+  private final long maxBytes;
+
+  // 접근 순서 기준 LinkedHashMap (key -> 파일 크기), 가장 오래 안 쓴 항목이 맨 앞
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+  private final ExecutorService fillExecutor = Executors.newFixedThreadPool(2);
+  private long currentBytes;
+
+  @FunctionalInterface
+  public interface Filler {
+    void writeTo(Path target) throws IOException;
+  }
+
+  public VideoDiskCache(
+      @Value("${overlang.video-cache.dir}") String dir,
+      @Value("${overlang.video-cache.max-size}") DataSize maxSize)
+      throws IOException {
+    this.dir = Path.of(dir);
+    this.maxBytes = maxSize.toBytes();
+    Files.createDirectories(this.dir);
+    loadExisting();
+  }
+
+  /** 캐시에 있으면 파일 경로 반환 (LRU 순서 갱신) */
+  public Optional<Path> get(String key) {
+    synchronized (entries) {
+      if (entries.get(key) == null) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(pathOf(key));
+  }
+
+  /** 캐시에 있는 파일의 크기, 없으면 -1 */
+  public long sizeOf(String key) {
+    synchronized (entries) {
+      Long size = entries.get(key);
+      return size == null ? -1 : size;
+    }
+  }
+
+  /** 백그라운드로 캐시를 채움. 같은 key 에 대한 중복 다운로드는 하나로 합침 */
+  public void fillAsync(String key, long expectedSize, Filler filler) {
+    if (expectedSize > maxBytes || sizeOf(key) >= 0) {
+      return;
+    }
+    // 자리를 먼저 차지한 뒤 실행 (computeIfAbsent 안에서 실행하면 바로 끝난 작업의 remove 가 갱신 중인 맵에
+    // 들어가거나 완료 후 자리가 남음), 자기 자리만 지워 뒤이어 들어온 채우기를 지우지 않음
+    CompletableFuture<Void> placeholder = new CompletableFuture<>();
+    if (inFlight.putIfAbsent(key, placeholder) != null) {
+      return;
+    }
+    try {
+      CompletableFuture.runAsync(() -> fill(key, filler), fillExecutor)
+          .whenComplete(
+              (ignored, e) -> {
+                inFlight.remove(key, placeholder);
+                placeholder.complete(null);
+              });
+    } catch (RejectedExecutionException e) {
+      // 종료 중
+      inFlight.remove(key, placeholder);
+    }
+  }
+
+  public long currentBytes() {
+    synchronized (entries) {
+      return currentBytes;
+    }
+  }
+
+  public long maxBytes() {
+    return maxBytes;
+  }
+
+  private void fill(String key, Filler filler) {
+    Path temp = dir.resolve(UUID.randomUUID() + TEMP_SUFFIX);
+    try {
+      filler.writeTo(temp);
+      long size = Files.size(temp);
+      Files.move(temp, pathOf(key), StandardCopyOption.REPLACE_EXISTING);
+      put(key, size);
+      log.info("Video cached: key={}, size={}", key, size);
+    } catch (Exception e) {
+      log.warn("Video cache fill failed: key={}, reason={}", key, e.getMessage());
+    } finally {
+      deleteQuietly(temp);
+    }
+  }
+
+  private void put(String key, long size) {
+    synchronized (entries) {
+      Long previous = entries.put(key, size);
+      currentBytes += size - (previous == null ? 0 : previous);
+      evictIfNeeded();
+    }
+  }
+
+  // entries 락을 잡은 상태에서 호출
+  private void evictIfNeeded() {
+    Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+    while (currentBytes > maxBytes && it.hasNext()) {
+      Map.Entry<String, Long> eldest = it.next();
+      it.remove();
+      currentBytes -= eldest.getValue();
+      // 스트리밍 중인 파일이어도 이미 열린 채널은 그대로 읽을 수 있음
+      deleteQuietly(pathOf(eldest.getKey()));
+      log.info("Video evicted: key={}", eldest.getKey());
+    }
+  }
+
+  // 재시작 시 남아 있는 캐시 파일을 수정 시각 순으로 다시 등록
+  private void loadExisting() throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      files
+          .filter(Files::isRegularFile)
+          .sorted(Comparator.comparingLong(this::lastModified))
+          .forEach(
+              path -> {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                  deleteQuietly(path);
+                  return;
+                }
+                try {
+                  put(name.replace('_', '/'), Files.size(path));
+                } catch (IOException e) {
+                  deleteQuietly(path);
+                }
+              });
+    }
+  }
+
+  private Path pathOf(String key) {
+    // fileKey 는 서버가 생성한 "uploads/videos/{uuid}.ext" 형태이므로 '/' 만 치환
+    return dir.resolve(key.replace('/', '_'));
+  }
+
+  private long lastModified(Path path) {
+    try {
+      return Files.getLastModifiedTime(path).toMillis();
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+
+  private void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Video cache delete failed: path={}", path);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    fillExecutor.shutdownNow();
+  }
+}
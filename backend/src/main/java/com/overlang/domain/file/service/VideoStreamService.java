@@ -0,0 +1,107 @@
+package com.overlang.domain.file.service;
+
+import com.overlang.domain.file.storage.FileTransfer;
+import com.overlang.domain.file.storage.StorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+
+// 영상 원본 Range 스트리밍 (로컬 저장소는 파일에서 바로, 원격 저장소는 디스크 캐시 우선 후 Range GET)
+@Slf4j
+@Service
+public class VideoStreamService {
+
+  private final StorageService storageService;
+  private final VideoDiskCache videoDiskCache;
+
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+  private final Counter bytesFromCache;
+  private final Counter bytesFromStorage;
+
+  /** 응답할 바이트 구간 [start, end] (partial 이면 206 Partial Content) */
+  public record ByteRange(long start, long end, boolean partial) {
+
+    public long length() {
+      return end - start + 1;
+    }
+  }
+
+  public VideoStreamService(
+      StorageService storageService, VideoDiskCache videoDiskCache, MeterRegistry meterRegistry) {
+    this.storageService = storageService;
+    this.videoDiskCache = videoDiskCache;
+
+    this.cacheHits = meterRegistry.counter("overlang.video.cache.requests", "result", "hit");
+    this.cacheMisses = meterRegistry.counter("overlang.video.cache.requests", "result", "miss");
+    this.bytesFromCache = meterRegistry.counter("overlang.video.bytes.served", "source", "cache");
+    this.bytesFromStorage =
+        meterRegistry.counter("overlang.video.bytes.served", "source", "storage");
+    Gauge.builder("overlang.video.cache.size.bytes", videoDiskCache, VideoDiskCache::currentBytes)
+        .register(meterRegistry);
+  }
+
+  /** 영상 전체 크기 (캐시에 있으면 저장소 조회 생략) */
+  public long contentLength(String fileKey) throws IOException {
+    long cached = videoDiskCache.sizeOf(fileKey);
+    if (cached >= 0) {
+      return cached;
+    }
+    return storageService.contentLength(fileKey);
+  }
+
+  /**
+   * Range 헤더의 첫 구간 (다중 Range 는 플레이어가 사용하지 않음), 헤더가 없거나 비어 있으면 전체.
+   *
+   * @throws IllegalArgumentException 형식이 잘못됐거나 영상 범위를 벗어남 (416)
+   */
+  public static ByteRange resolveRange(String rangeHeader, long total) {
+    List<HttpRange> ranges =
+        rangeHeader == null ? List.of() : HttpRange.parseRanges(rangeHeader);
+    if (ranges.isEmpty()) {
+      return new ByteRange(0, total - 1, false);
+    }
+    HttpRange range = ranges.get(0);
+    return new ByteRange(range.getRangeStart(total), range.getRangeEnd(total), true);
+  }
+
+  /** [start, start + length) 구간을 out 으로 전송 */
+  public void write(String fileKey, long start, long length, long totalLength, OutputStream out)
+      throws IOException {
+    // 로컬 디스크 저장소는 캐시할 필요 없이 원본 파일에서 바로 전송
+    Optional<Path> local = storageService.localPath(fileKey);
+    if (local.isPresent()) {
+      FileTransfer.transfer(local.get(), start, length, out);
+      bytesFromStorage.increment(length);
+      return;
+    }
+
+    Optional<Path> cached = videoDiskCache.get(fileKey);
+    if (cached.isPresent()) {
+      try {
+        FileTransfer.transfer(cached.get(), start, length, out);
+        cacheHits.increment();
+        bytesFromCache.increment(length);
+        return;
+      } catch (NoSuchFileException e) {
+        // 조회 직후 축출된 경우 스토리지에서 바로 읽음
+        log.debug("Video evicted during read: key={}", fileKey);
+      }
+    }
+
+    cacheMisses.increment();
+    videoDiskCache.fillAsync(
+        fileKey, totalLength, target -> storageService.download(fileKey, target));
+    storageService.transferTo(fileKey, start, length, out);
+    bytesFromStorage.increment(length);
+  }
+}
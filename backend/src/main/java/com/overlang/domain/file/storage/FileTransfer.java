@@ -0,0 +1,39 @@
+package com.overlang.domain.file.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// FileChannel.transferTo 로 파일 구간 전송. 대상이 FileChannel 이면 커널 안에서 복사(copy_file_range)되지만,
+// 서블릿 출력 스트림처럼 OutputStream 을 감싼 채널이면 JDK 가 내부 버퍼로 읽어 쓰므로 sendfile 이 아님
+public final class FileTransfer {
+
+  private FileTransfer() {}
+
+  // 응답 스트림: Channels.newChannel 로 감싸 사용자 공간 버퍼를 거침 (직접 읽기 반복문만 대신함)
+  public static void transfer(Path path, long start, long length, OutputStream out)
+      throws IOException {
+    transfer(path, start, length, Channels.newChannel(out));
+  }
+
+  public static void transfer(Path path, long start, long length, WritableByteChannel target)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long position = start;
+      long remaining = length;
+      while (remaining > 0) {
+        long sent = channel.transferTo(position, remaining, target);
+        if (sent <= 0) {
+          throw new EOFException("File is shorter than expected: " + path);
+        }
+        position += sent;
+        remaining -= sent;
+      }
+    }
+  }
+}
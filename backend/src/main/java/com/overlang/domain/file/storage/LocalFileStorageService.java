@@ -0,0 +1,117 @@
+package com.overlang.domain.file.storage;
+
+import io.micrometer.observation.annotation.Observed;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+// 로컬 디스크 저장소, 워커도 같은 경로로 파일을 읽음 (단일 노드 배포)
+@Slf4j
+public class LocalFileStorageService implements StorageService {
+
+  private static final String TEMP_SUFFIX = ".part";
+
+  protected final Path root;
+
+  public LocalFileStorageService(Path root) throws IOException {
+    this.root = root.toAbsolutePath().normalize();
+    Files.createDirectories(this.root);
+  }
+
+  @Override
+  public StorageType type() {
+    return StorageType.LOCAL;
+  }
+
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "LOCAL"})
+  public void store(String fileKey, Path source, String contentType) throws IOException {
+    Path target = resolve(fileKey);
+    Files.createDirectories(target.getParent());
+    try {
+      // 업로드 임시 파일과 같은 파일 시스템이면 rename 만으로 끝남
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+      return;
+    } catch (AtomicMoveNotSupportedException e) {
+      log.debug("Cross-device upload, copying: key={}", fileKey);
+    }
+
+    Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+    try (FileChannel out =
+        FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      FileTransfer.transfer(source, 0, Files.size(source), out);
+      out.force(false);
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    Files.deleteIfExists(source);
+  }
+
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "LOCAL"})
+  public long contentLength(String fileKey) throws IOException {
+    return Files.size(resolve(fileKey));
+  }
+
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "LOCAL"})
+  public void transferTo(String fileKey, long start, long length, OutputStream out)
+      throws IOException {
+    FileTransfer.transfer(resolve(fileKey), start, length, out);
+  }
+
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "LOCAL"})
+  public void download(String fileKey, Path target) throws IOException {
+    Files.copy(resolve(fileKey), target, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "LOCAL"})
+  public Map<String, String> deleteAll(List<String> fileKeys) {
+    Map<String, String> failed = new HashMap<>();
+    for (String fileKey : fileKeys) {
+      try {
+        Files.deleteIfExists(resolve(fileKey));
+      } catch (IOException | IllegalArgumentException e) {
+        failed.put(fileKey, e.toString());
+      }
+    }
+    return failed;
+  }
+
+  @Override
+  public Optional<Path> localPath(String fileKey) {
+    return Optional.of(resolve(fileKey));
+  }
+
+  @Override
+  public String workerPath(String fileKey) {
+    return resolve(fileKey).toString();
+  }
+
+  // fileKey 가 저장소 루트 밖을 가리키지 못하도록 검사
+  protected Path resolve(String fileKey) {
+    Path path = root.resolve(fileKey).normalize();
+    if (!path.startsWith(root) || path.equals(root)) {
+      throw new IllegalArgumentException("잘못된 파일 키입니다.");
+    }
+    return path;
+  }
+}
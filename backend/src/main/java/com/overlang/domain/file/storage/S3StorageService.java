@@ -0,0 +1,116 @@
+package com.overlang.domain.file.storage;
+
+import io.micrometer.observation.annotation.Observed;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+// S3 저장소 (워커는 media-root 아래로 동기화된 파일을 읽음)
+public class S3StorageService implements StorageService {
+
+  private final S3Client s3Client;
+  private final String bucket;
+  private final String mediaRoot;
+
+  public S3StorageService(S3Client s3Client, String bucket, String mediaRoot) {
+    this.s3Client = s3Client;
+    this.bucket = bucket;
+    this.mediaRoot = mediaRoot;
+  }
+
+  @Override
+  public StorageType type() {
+    return StorageType.S3;
+  }
+
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "S3"})
+  public void store(String fileKey, Path source, String contentType) {
+    s3Client.putObject(
+        PutObjectRequest.builder().bucket(bucket).key(fileKey).contentType(contentType).build(),
+        RequestBody.fromFile(source));
+  }
+
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "S3"})
+  public long contentLength(String fileKey) {
+    return s3Client
+        .headObject(HeadObjectRequest.builder().bucket(bucket).key(fileKey).build())
+        .contentLength();
+  }
+
+  // 요청 구간만 S3 Range GET
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "S3"})
+  public void transferTo(String fileKey, long start, long length, OutputStream out)
+      throws IOException {
+    GetObjectRequest request =
+        GetObjectRequest.builder()
+            .bucket(bucket)
+            .key(fileKey)
+            .range("bytes=" + start + "-" + (start + length - 1))
+            .build();
+
+    try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+      in.transferTo(out);
+    }
+  }
+
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "S3"})
+  public void download(String fileKey, Path target) {
+    s3Client.getObject(
+        GetObjectRequest.builder().bucket(bucket).key(fileKey).build(),
+        ResponseTransformer.toFile(target));
+  }
+
+  // DeleteObjects 한 번에 최대 1000 개, quiet 모드라 실패한 키만 응답에 담김
+  @Override
+  @Observed(name = "overlang.storage", lowCardinalityKeyValues = {"storage.type", "S3"})
+  public Map<String, String> deleteAll(List<String> fileKeys) {
+    Map<String, String> failed = new HashMap<>();
+    for (int from = 0; from < fileKeys.size(); from += MAX_DELETE_BATCH) {
+      List<ObjectIdentifier> objects =
+          fileKeys.subList(from, Math.min(from + MAX_DELETE_BATCH, fileKeys.size())).stream()
+              .map(key -> ObjectIdentifier.builder().key(key).build())
+              .toList();
+      DeleteObjectsResponse response =
+          s3Client.deleteObjects(
+              DeleteObjectsRequest.builder()
+                  .bucket(bucket)
+                  .delete(Delete.builder().objects(objects).quiet(true).build())
+                  .build());
+      for (S3Error error : response.errors()) {
+        failed.put(error.key(), error.code() + ": " + error.message());
+      }
+    }
+    return failed;
+  }
+
+  @Override
+  public Optional<Path> localPath(String fileKey) {
+    return Optional.empty();
+  }
+
+  @Override
+  public String workerPath(String fileKey) {
+    return mediaRoot + "/" + fileKey;
+  }
+}
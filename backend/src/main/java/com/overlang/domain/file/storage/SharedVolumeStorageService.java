@@ -0,0 +1,26 @@
+package com.overlang.domain.file.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// 백엔드와 워커가 같은 볼륨을 서로 다른 경로에 마운트한 저장소 (예: /data/media -> /app/media)
+public class SharedVolumeStorageService extends LocalFileStorageService {
+
+  private final String workerRoot;
+
+  public SharedVolumeStorageService(Path root, String workerRoot) throws IOException {
+    super(root);
+    this.workerRoot = workerRoot.endsWith("/") ? workerRoot : workerRoot + "/";
+  }
+
+  @Override
+  public StorageType type() {
+    return StorageType.SHARED_VOLUME;
+  }
+
+  @Override
+  public String workerPath(String fileKey) {
+    // 루트 밖 키 검사 후 워커 마운트 기준 경로로 변환
+    return workerRoot + root.relativize(resolve(fileKey)).toString().replace('\\', '/');
+  }
+}
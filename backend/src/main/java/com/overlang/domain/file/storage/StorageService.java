@@ -0,0 +1,57 @@
+package com.overlang.domain.file.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 업로드 영상 저장소.
+ *
+ * <p>fileKey 는 저장소 종류와 상관없이 "uploads/videos/{uuid}.{ext}" 형태의 상대 경로이고 Project.fileKey 에 그대로 저장된다.
+ * 로컬 디스크 계열 구현은 {@link #localPath} 로 파일을 직접 열 수 있어 스트리밍 전에 내려받지 않고 워커 전달에 복사가 없다.
+ */
+public interface StorageService {
+
+  /** S3 DeleteObjects 한 번에 지울 수 있는 최대 키 수 */
+  int MAX_DELETE_BATCH = 1000;
+
+  /** VideoStreamController (Range 요청 지원, 소유자 확인) */
+  String VIDEO_STREAM_URL = "/api/v1/projects/%d/video";
+
+  StorageType type();
+
+  /** 로컬 임시 파일을 fileKey 위치로 저장 (같은 파일 시스템이면 이동, source 는 남지 않을 수 있음) */
+  void store(String fileKey, Path source, String contentType) throws IOException;
+
+  long contentLength(String fileKey) throws IOException;
+
+  /** [start, start + length) 구간을 out 으로 전송 */
+  void transferTo(String fileKey, long start, long length, OutputStream out) throws IOException;
+
+  /** 파일 전체를 target 으로 내려받음 */
+  void download(String fileKey, Path target) throws IOException;
+
+  /**
+   * 파일 일괄 삭제. 삭제하지 못한 fileKey 와 사유를 돌려주고, 이미 없는 파일은 삭제된 것으로 본다.
+   *
+   * <p>한 번에 넘기는 키는 {@link #MAX_DELETE_BATCH} 개 이하.
+   */
+  Map<String, String> deleteAll(List<String> fileKeys);
+
+  /** 백엔드 프로세스에서 바로 열 수 있는 경로 (원격 저장소면 비어 있음) */
+  Optional<Path> localPath(String fileKey);
+
+  /** AI 워커에 넘길 파일 경로 */
+  String workerPath(String fileKey);
+
+  /**
+   * 응답에 내려줄 영상 URL. 저장소 종류와 상관없이 소유자를 확인하는 프로젝트 영상 스트리밍 API 이고 (S3 객체 URL 을 그대로 내려주지
+   * 않음), 프로젝트가 생기기 전(projectId 가 null)에는 null.
+   */
+  default String fileUrl(Long projectId, String fileKey) {
+    return projectId == null ? null : VIDEO_STREAM_URL.formatted(projectId);
+  }
+}
@@ -0,0 +1,7 @@
+package com.overlang.domain.file.storage;
+
+public enum StorageType {
+  S3, // S3 버킷 (워커는 media-root 아래로 동기화된 파일을 읽음)
+  LOCAL, // 백엔드와 워커가 같은 경로로 보는 로컬 디스크 (단일 노드)
+  SHARED_VOLUME // 같은 볼륨을 백엔드와 워커가 서로 다른 경로에 마운트
+}
@@ -0,0 +1,43 @@
+package com.overlang.domain.idempotency.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+// 회원별 Idempotency-Key 와 요청 지문, 저장된 응답 (expiresAt 이 지나면 새 요청으로 처리)
+@Entity
+@Table(
+    name = "idempotency_keys",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "idempotency_key"}),
+    indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "member_id", nullable = false)
+  private Long memberId;
+
+  @Column(name = "idempotency_key", nullable = false, length = 255)
+  private String idempotencyKey;
+
+  @Column(nullable = false, length = 64)
+  private String fingerprint; // 메서드, 경로, 본문의 SHA-256
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private IdempotencyStatus status;
+
+  @Column(name = "response_status")
+  private Integer responseStatus;
+
+  @Column(name = "response_body", columnDefinition = "TEXT")
+  private String responseBody; // 직렬화된 ApiResponse
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt; // 처리 중이면 처리 제한 시각, 완료면 보관 만료 시각
+}
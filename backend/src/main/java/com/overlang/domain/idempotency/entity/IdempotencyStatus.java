@@ -0,0 +1,6 @@
+package com.overlang.domain.idempotency.entity;
+
+public enum IdempotencyStatus {
+  IN_FLIGHT, // 처리 중 (같은 키 요청은 대기)
+  COMPLETED // 응답 저장됨 (같은 키 요청은 재생)
+}
@@ -0,0 +1,78 @@
+package com.overlang.domain.idempotency.repository;
+
+import com.overlang.domain.idempotency.entity.IdempotencyRecord;
+import com.overlang.domain.idempotency.entity.IdempotencyStatus;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+// 요청 처리 트랜잭션과 별개로 바로 커밋되어야 다른 인스턴스가 처리 중 상태를 봄
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+  Optional<IdempotencyRecord> findByMemberIdAndIdempotencyKey(Long memberId, String idempotencyKey);
+
+  // 먼저 넣은 요청만 처리 (나머지는 0 을 받고 대기/재생)
+  @Transactional
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_keys"))
+  @Query(
+      value =
+          """
+          insert into idempotency_keys
+            (member_id, idempotency_key, fingerprint, status, expires_at, created_at, updated_at)
+          values (:memberId, :idempotencyKey, :fingerprint, 'IN_FLIGHT', :expiresAt, now(), now())
+          on conflict (member_id, idempotency_key) do nothing
+          """,
+      nativeQuery = true)
+  int tryInsert(
+      @Param("memberId") Long memberId,
+      @Param("idempotencyKey") String idempotencyKey,
+      @Param("fingerprint") String fingerprint,
+      @Param("expiresAt") Instant expiresAt);
+
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      update IdempotencyRecord r
+      set r.status = :status, r.responseStatus = :responseStatus,
+          r.responseBody = :responseBody, r.expiresAt = :expiresAt
+      where r.id = :id
+      """)
+  int complete(
+      @Param("id") Long id,
+      @Param("status") IdempotencyStatus status,
+      @Param("responseStatus") int responseStatus,
+      @Param("responseBody") String responseBody,
+      @Param("expiresAt") Instant expiresAt);
+
+  // 실패한 요청은 기록을 지워 재시도가 다시 처리되게 함
+  @Transactional
+  @Modifying
+  @Query("delete from IdempotencyRecord r where r.id = :id and r.status = :status")
+  int deleteByIdAndStatus(@Param("id") Long id, @Param("status") IdempotencyStatus status);
+
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      delete from IdempotencyRecord r
+      where r.memberId = :memberId and r.idempotencyKey = :idempotencyKey and r.expiresAt < :now
+      """)
+  int deleteExpired(
+      @Param("memberId") Long memberId,
+      @Param("idempotencyKey") String idempotencyKey,
+      @Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+  int deleteAllExpired(@Param("now") Instant now);
+}
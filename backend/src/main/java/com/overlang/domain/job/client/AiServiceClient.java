@@ -0,0 +1,91 @@
+package com.overlang.domain.job.client;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+// AI 서버(FastAPI) 호출 클라이언트
+@Component
+public class AiServiceClient {
+
+  // 워커 GPU 메모리 부족 (ai/api/schemas.py ErrorCode.GPU_OOM)
+  public static final String GPU_OOM = "WORKER_001";
+
+  private final RestClient restClient;
+
+  public record AnalyzeRequest(String filePath, Map<String, Object> options) {}
+
+  public record AnalyzeResponse(String jobId, String status, String message) {}
+
+  public record TaskStatus(
+      String jobId,
+      String status, // PENDING, PROCESSING, SUCCESS, FAILURE
+      Double progress,
+      List<TranscriptSegment> result, // SUCCESS 일 때 세그먼트 목록
+      String errorCode,
+      String errorMessage,
+      String workerClass, // 처리한 워커 등급 (GPU 이름과 메모리, 이전 워커는 null)
+      // 워커가 작업을 받은 뒤 끝날 때까지 걸린 시간 (대기열 시간 제외, 이전 워커는 null)
+      Double workerSeconds) {}
+
+  // 워커 결과의 세그먼트 항목 ({startTime, endTime, text, words})
+  public record TranscriptSegment(
+      Double startTime, Double endTime, String text, List<TranscriptWord> words) {}
+
+  // 정렬(alignment)된 단어 타임스탬프, 정렬을 끄면 비어 있음
+  public record TranscriptWord(Double startTime, Double endTime, String word) {}
+
+  public record ProbeRequest(String filePath) {}
+
+  public record ProbeResponse(Double durationSeconds) {}
+
+  public AiServiceClient(
+      RestClient.Builder restClientBuilder, @Value("${overlang.ai.base-url}") String baseUrl) {
+    this.restClient = restClientBuilder.baseUrl(baseUrl).build();
+  }
+
+  /** 분석 작업 요청 후 AI 서버 작업 ID 반환 */
+  public String submit(String filePath, Map<String, Object> options) {
+    AnalyzeResponse response =
+        restClient
+            .post()
+            .uri("/api/v1/analyze")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new AnalyzeRequest(filePath, options))
+            .retrieve()
+            .body(AnalyzeResponse.class);
+
+    if (response == null || response.jobId() == null) {
+      throw new IllegalStateException("AI 서버가 작업 ID를 반환하지 않았습니다.");
+    }
+    return response.jobId();
+  }
+
+  /** 워커가 보는 경로 기준 미디어 길이(초) 조회 */
+  public double probeDuration(String filePath) {
+    ProbeResponse response =
+        restClient
+            .post()
+            .uri("/api/v1/probe")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ProbeRequest(filePath))
+            .retrieve()
+            .body(ProbeResponse.class);
+
+    if (response == null || response.durationSeconds() == null) {
+      throw new IllegalStateException("AI 서버가 미디어 길이를 반환하지 않았습니다.");
+    }
+    return response.durationSeconds();
+  }
+
+  public TaskStatus getStatus(String aiTaskId) {
+    return restClient
+        .get()
+        .uri("/api/v1/status/{jobId}", aiTaskId)
+        .retrieve()
+        .body(TaskStatus.class);
+  }
+}
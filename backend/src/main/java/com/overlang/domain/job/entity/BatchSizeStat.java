@@ -0,0 +1,39 @@
+package com.overlang.domain.job.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+// (모델, 워커 등급, 영상 길이 구간)별 batch_size 관측 범위 (BatchSizeAdvisor 가 재시작 후 이어 씀)
+@Entity
+@Table(
+    name = "batch_size_stats",
+    uniqueConstraints =
+        @UniqueConstraint(columnNames = {"model", "worker_class", "duration_bucket"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchSizeStat extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 50)
+  private String model;
+
+  @Column(name = "worker_class", nullable = false, length = 100)
+  private String workerClass; // 워커가 보고한 GPU 이름과 메모리
+
+  @Column(name = "duration_bucket", nullable = false)
+  private Integer durationBucket; // 영상 길이 상한(분, 2의 거듭제곱), 모르면 0
+
+  @Column(name = "largest_success", nullable = false)
+  private Integer largestSuccess; // 끝까지 처리된 가장 큰 값, 없으면 0
+
+  @Column(name = "smallest_oom")
+  private Integer smallestOom; // GPU OOM 이 난 가장 작은 값
+
+  @Column(name = "oom_at")
+  private Instant oomAt;
+}
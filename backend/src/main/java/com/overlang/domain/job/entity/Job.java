@@ -3,7 +3,9 @@ package com.overlang.domain.job.entity;
 import com.overlang.domain.common.BaseTimeEntity;
 import com.overlang.domain.project.entity.Project;
 import jakarta.persistence.*;
+import java.time.Instant;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "jobs")
@@ -47,19 +49,52 @@ public class Job extends BaseTimeEntity { // 시간 자동 기록
   @Column(name = "use_user_api_key", nullable = false)
   private Boolean useUserApiKey;
 
+  @Column(name = "stt_model", length = 50) // 없으면 AI 서버 기본 모델
+  private String sttModel;
+
   @Column(name = "error_code", length = 100)
   private String errorCode;
 
   @Column(name = "error_message", columnDefinition = "TEXT")
   private String errorMessage;
 
+  @Column(name = "ai_task_id", length = 100) // AI 서버(Celery) 작업 ID
+  private String aiTaskId;
+
+  @Column(name = "dispatched_at")
+  private Instant dispatchedAt;
+
+  @Column(name = "claimed_at") // 백엔드 단계(LLM 분석)를 처리 중인 인스턴스가 가져간 시점
+  private Instant claimedAt;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "retry_of_job_id") // RETRY 작업의 원본 작업
+  private Job retryOf;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "resume_stage", length = 50) // 체크포인트 이후 다시 시작할 단계
+  private CurrentStage resumeStage;
+
+  @Column(name = "saved_gpu_seconds") // 체크포인트 재사용으로 절약한 GPU 시간
+  private Double savedGpuSeconds;
+
+  @Column(name = "batch_size") // 마지막으로 워커에 보낸 batch_size (BatchSizeAdvisor)
+  private Integer batchSize;
+
+  // 상태 전이 충돌 감지 (진행률 write-behind 는 version 을 올리지 않음, JobProgressCoalescer)
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Long version;
+
   public Job(
       Project project,
       JobType jobType,
       String sourceLanguage,
       String targetLanguage,
       TranslationProvider translationProvider,
-      Boolean useUserApiKey) {
+      Boolean useUserApiKey,
+      String sttModel) {
     this.project = project;
     this.jobType = jobType;
     this.status = JobStatus.PENDING;
@@ -70,9 +105,69 @@ public class Job extends BaseTimeEntity { // 시간 자동 기록
     this.translationProvider =
         translationProvider == null ? TranslationProvider.DEFAULT : translationProvider;
     this.useUserApiKey = useUserApiKey != null && useUserApiKey;
+    this.sttModel = sttModel == null || sttModel.isBlank() ? null : sttModel;
+  }
+
+  // 재시도: 원본 작업의 체크포인트 이후 단계부터 실행
+  public void resumeFrom(Job retryOf, CurrentStage resumeStage, double savedGpuSeconds) {
+    this.retryOf = retryOf;
+    this.resumeStage = resumeStage;
+    this.savedGpuSeconds = savedGpuSeconds;
+  }
+
+  /** 실제 단계 구성의 기준이 되는 작업 유형 (RETRY 는 원본을 따라감) */
+  public JobType pipelineType() {
+    if (jobType == JobType.RETRY && retryOf != null) {
+      return retryOf.pipelineType();
+    }
+    return jobType;
+  }
+
+  // 디스패처가 가져간 시점 (AI 작업 ID 는 AI 서버에 전달한 뒤 assignAiTask 로 기록, 구간으로 나눈 작업은 없음)
+  public void markDispatched(Integer batchSize) {
+    this.aiTaskId = null;
+    this.batchSize = batchSize;
+    this.dispatchedAt = Instant.now();
+    markRunning(CurrentStage.AUDIO_EXTRACTION, 0);
+  }
+
+  public void assignAiTask(String aiTaskId) {
+    this.aiTaskId = aiTaskId;
+  }
+
+  // 다시 대기열로 (GPU OOM 후 더 작은 batch_size 로, AI 서버 전달 실패 후 다음 주기에)
+  public void requeue() {
+    if (isFinished()) {
+      return;
+    }
+    this.status = JobStatus.PENDING;
+    this.currentStage = CurrentStage.QUEUED;
+    this.progress = 0;
+    this.aiTaskId = null;
+    this.dispatchedAt = null;
+  }
+
+  // GPU 단계가 끝나 백엔드 단계로 넘김 (워커 슬롯을 비움)
+  public void handOff(CurrentStage stage, int progress) {
+    this.aiTaskId = null;
+    this.claimedAt = null;
+    markRunning(stage, progress);
+  }
+
+  // 백엔드 단계 처리 선점 (처리가 끝나지 않고 멈추면 lease 가 지난 뒤 다른 인스턴스가 다시 가져감)
+  public void markClaimed() {
+    this.claimedAt = Instant.now();
+  }
+
+  /** 완료/실패한 작업은 다시 바뀌지 않음 (늦게 도착한 보고 무시) */
+  public boolean isFinished() {
+    return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
   }
 
   public void markRunning(CurrentStage stage, int progress) {
+    if (isFinished()) {
+      return;
+    }
     this.status = JobStatus.RUNNING;
     this.currentStage = stage;
     this.progress = progress;
@@ -81,6 +176,9 @@ public class Job extends BaseTimeEntity { // 시간 자동 기록
   }
 
   public void markCompleted() {
+    if (isFinished()) {
+      return;
+    }
     this.status = JobStatus.COMPLETED;
     this.currentStage = CurrentStage.FINALIZING;
     this.progress = 100;
@@ -89,6 +187,9 @@ public class Job extends BaseTimeEntity { // 시간 자동 기록
   }
 
   public void markFailed(String errorCode, String errorMessage) {
+    if (isFinished()) {
+      return;
+    }
     this.status = JobStatus.FAILED;
     this.errorCode = errorCode;
     this.errorMessage = errorMessage;
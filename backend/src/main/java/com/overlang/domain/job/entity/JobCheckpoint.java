@@ -0,0 +1,51 @@
+package com.overlang.domain.job.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 단계별 결과 체크포인트 (재시도 시 완료된 단계를 건너뛰기 위함)
+@Entity
+@Table(
+    name = "job_checkpoints",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "stage"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "job_id", nullable = false)
+  private Job job;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 50)
+  private CurrentStage stage;
+
+  @Column(name = "row_count", nullable = false)
+  private Integer rowCount; // 단계 결과 행 수
+
+  @Column(nullable = false, length = 64)
+  private String checksum; // 결과 행 SHA-256 (무결성 검증용)
+
+  @Column(name = "gpu_seconds", nullable = false)
+  private Double gpuSeconds; // 이 단계를 만드는 데 쓴 GPU 시간
+
+  public JobCheckpoint(
+      Job job, CurrentStage stage, Integer rowCount, String checksum, Double gpuSeconds) {
+    this.job = job;
+    this.stage = stage;
+    this.rowCount = rowCount;
+    this.checksum = checksum;
+    this.gpuSeconds = gpuSeconds;
+  }
+
+  public void update(Integer rowCount, String checksum, Double gpuSeconds) {
+    this.rowCount = rowCount;
+    this.checksum = checksum;
+    this.gpuSeconds = gpuSeconds;
+  }
+}
@@ -0,0 +1,138 @@
+package com.overlang.domain.job.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.*;
+
+// 긴 영상의 STT 를 나눠 처리하는 구간 (앞뒤 구간과 겹치도록 잘림)
+@Entity
+@Table(
+    name = "job_chunks",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "chunk_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobChunk extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "job_id", nullable = false)
+  private Job job;
+
+  @Column(name = "chunk_index", nullable = false)
+  private Integer chunkIndex;
+
+  @Column(name = "start_time", nullable = false)
+  private Double startTime; // 겹침 포함 구간 시작(초)
+
+  @Column(name = "end_time", nullable = false)
+  private Double endTime; // 겹침 포함 구간 끝(초)
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 50)
+  private JobStatus status;
+
+  @Column(nullable = false)
+  private Integer progress;
+
+  @Column(name = "ai_task_id", length = 100)
+  private String aiTaskId;
+
+  @Column(name = "dispatched_at")
+  private Instant dispatchedAt;
+
+  @Column(name = "finished_at")
+  private Instant finishedAt;
+
+  @Column(name = "batch_size") // 워커에 보낸 batch_size (BatchSizeAdvisor)
+  private Integer batchSize;
+
+  @Column(name = "worker_seconds") // 워커가 잰 처리 시간 합 (GPU OOM 후 다시 처리한 시간 포함)
+  private Double workerSeconds;
+
+  @Column(columnDefinition = "TEXT") // 완료된 구간의 워커 결과(JSON), 이어 붙인 뒤 비움
+  private String result;
+
+  @Column(name = "error_code", length = 100)
+  private String errorCode;
+
+  @Column(name = "error_message", columnDefinition = "TEXT")
+  private String errorMessage;
+
+  public JobChunk(Job job, Integer chunkIndex, Double startTime, Double endTime) {
+    this.job = job;
+    this.chunkIndex = chunkIndex;
+    this.startTime = startTime;
+    this.endTime = endTime;
+    this.status = JobStatus.PENDING;
+    this.progress = 0;
+  }
+
+  public double lengthSeconds() {
+    return endTime - startTime;
+  }
+
+  // 워커 처리 시간 (GPU 사용량 정산용), 처리 시간을 보고하지 않는 이전 워커는 디스패치부터 잰 시간
+  public double gpuSeconds() {
+    if (workerSeconds != null) {
+      return workerSeconds;
+    }
+    if (dispatchedAt == null) {
+      return 0.0;
+    }
+    Instant end = finishedAt == null ? Instant.now() : finishedAt;
+    return Duration.between(dispatchedAt, end).toMillis() / 1000.0;
+  }
+
+  // 디스패처가 가져간 시점 (AI 작업 ID 는 AI 서버에 전달한 뒤 assignAiTask 로 기록)
+  public void markDispatched(int batchSize) {
+    this.aiTaskId = null;
+    this.batchSize = batchSize;
+    this.dispatchedAt = Instant.now();
+    this.status = JobStatus.RUNNING;
+  }
+
+  public void assignAiTask(String aiTaskId) {
+    this.aiTaskId = aiTaskId;
+  }
+
+  public void addWorkerSeconds(Double seconds) {
+    if (seconds != null) {
+      this.workerSeconds = (workerSeconds == null ? 0.0 : workerSeconds) + seconds;
+    }
+  }
+
+  // 다시 대기열로 (GPU OOM 후 더 작은 batch_size 로, AI 서버 전달 실패 후 다음 주기에)
+  public void requeue() {
+    this.status = JobStatus.PENDING;
+    this.progress = 0;
+    this.aiTaskId = null;
+    this.dispatchedAt = null;
+  }
+
+  public void updateProgress(int progress) {
+    this.progress = progress;
+  }
+
+  public void markCompleted(String result) {
+    this.status = JobStatus.COMPLETED;
+    this.progress = 100;
+    this.result = result;
+    this.finishedAt = Instant.now();
+  }
+
+  public void clearResult() {
+    this.result = null;
+  }
+
+  public void markFailed(String errorCode, String errorMessage) {
+    this.status = JobStatus.FAILED;
+    this.errorCode = errorCode;
+    this.errorMessage = errorMessage;
+    this.finishedAt = Instant.now();
+  }
+}
@@ -0,0 +1,80 @@
+package com.overlang.domain.job.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 여러 언어 작업의 번역 대상 언어별 진행 상황 (STT/OCR 은 작업에서 한 번, 번역/LLM 분석은 언어별로 따로 완료)
+@Entity
+@Table(
+    name = "job_languages",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "language"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLanguage extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "job_id", nullable = false)
+  private Job job;
+
+  @Column(nullable = false, length = 20)
+  private String language;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 50)
+  private JobStatus status;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "current_stage", nullable = false, length = 50)
+  private CurrentStage currentStage;
+
+  @Column(nullable = false)
+  private Integer progress;
+
+  @Column(name = "error_code", length = 100)
+  private String errorCode;
+
+  @Column(name = "error_message", columnDefinition = "TEXT")
+  private String errorMessage;
+
+  public JobLanguage(Job job, String language) {
+    this.job = job;
+    this.language = language;
+    this.status = JobStatus.PENDING;
+    this.currentStage = CurrentStage.TRANSLATION;
+    this.progress = 0;
+  }
+
+  /** 작업의 targetLanguage (결과를 segments.translated_text, 언어 없는 학습 콘텐츠에 저장) */
+  public boolean isPrimary() {
+    return language.equals(job.getTargetLanguage());
+  }
+
+  public boolean isFinished() {
+    return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+  }
+
+  public void markRunning(CurrentStage stage, int progress) {
+    this.status = JobStatus.RUNNING;
+    this.currentStage = stage;
+    this.progress = progress;
+    this.errorCode = null;
+    this.errorMessage = null;
+  }
+
+  public void markCompleted() {
+    this.status = JobStatus.COMPLETED;
+    this.currentStage = CurrentStage.FINALIZING;
+    this.progress = 100;
+  }
+
+  public void markFailed(String errorCode, String errorMessage) {
+    this.status = JobStatus.FAILED;
+    this.errorCode = errorCode;
+    this.errorMessage = errorMessage;
+  }
+}
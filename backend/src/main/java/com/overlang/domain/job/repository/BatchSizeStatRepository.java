@@ -0,0 +1,43 @@
+package com.overlang.domain.job.repository;
+
+import com.overlang.domain.job.entity.BatchSizeStat;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface BatchSizeStatRepository extends JpaRepository<BatchSizeStat, Long> {
+
+  Optional<BatchSizeStat> findByModelAndWorkerClassAndDurationBucket(
+      String model, String workerClass, Integer durationBucket);
+
+  // 여러 인스턴스가 같은 키를 처음 기록해도 유니크 제약 위반으로 상태 동기화 트랜잭션이 실패하지 않도록
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "batch_size_stats"))
+  @Query(
+      value =
+          """
+          insert into batch_size_stats
+            (model, worker_class, duration_bucket, largest_success, smallest_oom, oom_at,
+             created_at, updated_at)
+          values (:model, :workerClass, :durationBucket, :largestSuccess,
+                  cast(:smallestOom as integer), cast(:oomAt as timestamp with time zone),
+                  now(), now())
+          on conflict (model, worker_class, duration_bucket) do update
+          set largest_success = excluded.largest_success, smallest_oom = excluded.smallest_oom,
+              oom_at = excluded.oom_at, updated_at = now()
+          """,
+      nativeQuery = true)
+  int upsert(
+      @Param("model") String model,
+      @Param("workerClass") String workerClass,
+      @Param("durationBucket") int durationBucket,
+      @Param("largestSuccess") int largestSuccess,
+      @Param("smallestOom") Integer smallestOom,
+      @Param("oomAt") Instant oomAt);
+}
@@ -0,0 +1,32 @@
+package com.overlang.domain.job.repository;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.JobCheckpoint;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+
+  List<JobCheckpoint> findByJobId(Long jobId);
+
+  Optional<JobCheckpoint> findByJobIdAndStage(Long jobId, CurrentStage stage);
+
+  // 프로젝트 일괄 삭제
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_checkpoints"))
+  @Query(
+      value =
+          """
+          delete from job_checkpoints
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
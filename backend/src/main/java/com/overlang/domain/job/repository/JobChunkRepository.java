@@ -0,0 +1,62 @@
+package com.overlang.domain.job.repository;
+
+import com.overlang.domain.job.entity.JobChunk;
+import com.overlang.domain.job.entity.JobStatus;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface JobChunkRepository extends JpaRepository<JobChunk, Long> {
+
+  @Query(
+      """
+      select c from JobChunk c join fetch c.job j join fetch j.project
+      where c.status = :status order by c.id
+      """)
+  List<JobChunk> findAllWithJobByStatus(@Param("status") JobStatus status);
+
+  List<JobChunk> findByJobIdOrderByChunkIndexAsc(Long jobId);
+
+  long countByStatus(JobStatus status);
+
+  // 대기 구간 선점 (여러 인스턴스가 같은 구간을 동시에 AI 서버에 보내지 않도록)
+  @Query(
+      value =
+          """
+          select * from job_chunks
+          where status = 'PENDING'
+          order by id
+          limit :limit
+          for update skip locked
+          """,
+      nativeQuery = true)
+  List<JobChunk> lockPending(@Param("limit") int limit);
+
+  // 선점한 인스턴스가 AI 작업 ID 를 기록하지 못하고 멈춘 구간
+  @Query(
+      """
+      select c from JobChunk c
+      where c.status = :status
+        and c.aiTaskId is null and c.dispatchedAt < :before
+      """)
+  List<JobChunk> findStaleClaims(
+      @Param("status") JobStatus status, @Param("before") Instant before);
+
+  // 프로젝트 일괄 삭제
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_chunks"))
+  @Query(
+      value =
+          """
+          delete from job_chunks
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
@@ -0,0 +1,47 @@
+package com.overlang.domain.job.repository;
+
+import com.overlang.domain.job.entity.JobLanguage;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface JobLanguageRepository extends JpaRepository<JobLanguage, Long> {
+
+  List<JobLanguage> findByJobIdOrderByIdAsc(Long jobId);
+
+  boolean existsByJobId(Long jobId);
+
+  boolean existsByJobIdAndLanguage(Long jobId, String language);
+
+  // 대기 중이거나, 처리하던 인스턴스가 죽어 오래 갱신되지 않은 언어 (다른 인스턴스가 잡은 행은 건너뜀)
+  @Query(
+      value =
+          """
+          select * from job_languages
+          where job_id = :jobId
+            and (status = 'PENDING' or (status = 'RUNNING' and updated_at < :staleBefore))
+          order by id
+          for update skip locked
+          """,
+      nativeQuery = true)
+  List<JobLanguage> lockClaimable(
+      @Param("jobId") Long jobId, @Param("staleBefore") Instant staleBefore);
+
+  // 프로젝트 일괄 삭제
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_languages"))
+  @Query(
+      value =
+          """
+          delete from job_languages
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
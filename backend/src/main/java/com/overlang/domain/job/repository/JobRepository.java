@@ -0,0 +1,107 @@
+package com.overlang.domain.job.repository;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobStatus;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+  // 디스패치 시 회원 ID 가 필요하므로 프로젝트까지 함께 조회
+  @Query("select j from Job j join fetch j.project where j.status = :status order by j.id")
+  List<Job> findAllWithProjectByStatus(@Param("status") JobStatus status);
+
+  // 대기 작업 선점 (여러 인스턴스가 같은 작업을 동시에 AI 서버에 보내지 않도록)
+  @Query(
+      value =
+          """
+          select * from jobs
+          where status = 'PENDING'
+          order by id
+          for update skip locked
+          """,
+      nativeQuery = true)
+  List<Job> lockPending();
+
+  // AI 워커에 전달됐거나 선점 후 전달 중인 작업만 GPU 슬롯을 차지 (구간으로 나눈 작업은 구간이 차지)
+  @Query(
+      """
+      select count(j) from Job j
+      where j.status = :status
+        and (j.aiTaskId is not null
+          or (j.currentStage = :stage
+            and j.dispatchedAt is not null
+            and not exists (select c.id from JobChunk c where c.job = j)))
+      """)
+  long countOccupyingWorkers(
+      @Param("status") JobStatus status, @Param("stage") CurrentStage stage);
+
+  // 선점한 인스턴스가 AI 작업 ID 를 기록하지 못하고 멈춘 작업
+  @Query(
+      """
+      select j from Job j
+      where j.status = :status
+        and j.aiTaskId is null
+        and j.currentStage = :stage
+        and j.dispatchedAt < :before
+        and not exists (select c.id from JobChunk c where c.job = j)
+      """)
+  List<Job> findStaleClaims(
+      @Param("status") JobStatus status,
+      @Param("stage") CurrentStage stage,
+      @Param("before") Instant before);
+
+  // 워커 없이 백엔드에서 처리하는 단계(LLM 분석 등)에 도달한 작업
+  @Query(
+      """
+      select j.id from Job j
+      where j.status = :status and j.currentStage = :stage and j.aiTaskId is null
+      order by j.id
+      """)
+  List<Long> findIdsAwaitingBackendStage(
+      @Param("status") JobStatus status, @Param("stage") CurrentStage stage);
+
+  // 백엔드 단계 작업 선점 (다른 인스턴스가 처리 중이면 건너뜀, lease 가 지난 선점은 다시 가져감)
+  @Query(
+      value =
+          """
+          select * from jobs
+          where status = 'RUNNING'
+            and current_stage = :stage
+            and ai_task_id is null
+            and (claimed_at is null or claimed_at < :staleBefore)
+          order by id
+          limit :limit
+          for update skip locked
+          """,
+      nativeQuery = true)
+  List<Job> lockAwaitingBackendStage(
+      @Param("stage") String stage,
+      @Param("staleBefore") Instant staleBefore,
+      @Param("limit") int limit);
+
+  @Query("select j from Job j join fetch j.project p where j.id = :id and p.member.id = :memberId")
+  Optional<Job> findByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+  // 삭제하려는 프로젝트의 작업 잠금 후 상태 (디스패처가 선점 중이면 커밋을 기다린 뒤의 상태,
+  // 먼저 잠그면 디스패처의 skip locked 선점에서 빠짐)
+  @Query(
+      value = "select status from jobs where project_id in (:projectIds) order by id for update",
+      nativeQuery = true)
+  List<String> lockStatusesByProjectIds(@Param("projectIds") List<Long> projectIds);
+
+  // 프로젝트 일괄 삭제 (retry_of_job_id 는 같은 프로젝트 안의 작업만 가리키므로 한 문장으로 삭제)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "jobs"))
+  @Query(value = "delete from jobs where project_id in (:projectIds)", nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
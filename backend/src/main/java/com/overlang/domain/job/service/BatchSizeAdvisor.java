@@ -0,0 +1,248 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.entity.BatchSizeStat;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.repository.BatchSizeStatRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * GPU OOM 이력으로 (모델, 워커 등급, 영상 길이 구간)별 OOM 없이 처리되는 가장 큰 batch_size 를 학습한다.
+ *
+ * <p>워커는 batch_size 가 클수록 빠르지만 GPU 메모리를 넘으면 GPU_OOM 으로 실패한다. 결과가 올 때마다 워커가 보고한 등급의 범위를
+ * 좁히고(BatchSizeBounds), 디스패치 시점에는 어느 워커가 가져갈지 모르므로 최근 결과를 보고한 워커 등급 중 가장 작은 값을 쓴다. 범위 가운데를
+ * 시도하는 탐색은 (모델, 길이 구간)마다 한 번에 하나만 보내 여러 작업이 한꺼번에 OOM 나지 않게 한다.
+ */
+@Slf4j
+@Component
+public class BatchSizeAdvisor {
+
+  static final String UNKNOWN_WORKER_CLASS = "unknown";
+  // 이 기간 동안 결과를 보고하지 않은 워커 등급은 디스패치 기준에서 뺌
+  private static final Duration WORKER_CLASS_WINDOW = Duration.ofDays(7);
+  // 탐색 작업 결과가 오지 않으면(취소/삭제) 이 시간 뒤 다른 작업으로 다시 탐색
+  private static final Duration PROBE_TIMEOUT = Duration.ofHours(1);
+  private static final int MAX_DURATION_BUCKET_MINUTES = 1024;
+
+  private record StatKey(String model, String workerClass, int durationBucket) {}
+
+  private record ProbeKey(String model, int durationBucket) {}
+
+  private record Observed(BatchSizeBounds bounds, Instant reportedAt) {}
+
+  private record Probe(int batchSize, Instant startedAt) {}
+
+  private final BatchSizeStatRepository batchSizeStatRepository;
+  private final MeterRegistry meterRegistry;
+  private final String defaultModel;
+  private final BatchSizeBounds.Limits limits;
+
+  // 커밋된 DB 기록의 메모리 사본 (디스패치마다 후보 수만큼 조회하므로), 처음 쓸 때 한 번 읽음
+  private final Map<StatKey, Observed> observed = new ConcurrentHashMap<>();
+  private final Map<ProbeKey, Probe> probes = new ConcurrentHashMap<>();
+  private volatile boolean loaded;
+
+  public BatchSizeAdvisor(
+      BatchSizeStatRepository batchSizeStatRepository,
+      MeterRegistry meterRegistry,
+      @Value("${overlang.ai.default-model}") String defaultModel,
+      @Value("${overlang.job.batch.initial-size}") int initialSize,
+      @Value("${overlang.job.batch.min-size}") int minSize,
+      @Value("${overlang.job.batch.max-size}") int maxSize,
+      @Value("${overlang.job.batch.oom-ttl-hours}") long oomTtlHours) {
+    this.batchSizeStatRepository = batchSizeStatRepository;
+    this.meterRegistry = meterRegistry;
+    this.defaultModel = defaultModel;
+    int min = Math.max(1, minSize);
+    int max = Math.max(min, maxSize);
+    this.limits =
+        new BatchSizeBounds.Limits(
+            Math.max(min, Math.min(max, initialSize)), min, max, Duration.ofHours(oomTtlHours));
+  }
+
+  /** 이 작업(또는 구간)에 보낼 batch_size */
+  public int select(Job job, Double durationSeconds) {
+    return select(modelOf(job), durationBucket(durationSeconds), Instant.now());
+  }
+
+  /** 확인된 값보다 큰 값을 보냈으면 결과가 올 때까지 같은 범위의 탐색을 멈춤 */
+  public void onDispatched(Job job, Double durationSeconds, int batchSize) {
+    String model = modelOf(job);
+    int bucket = durationBucket(durationSeconds);
+    Instant now = Instant.now();
+    if (batchSize > safe(model, bucket, now)) {
+      probes.put(new ProbeKey(model, bucket), new Probe(batchSize, now));
+    }
+  }
+
+  /** AI 서버에 보내지 못하고 대기열로 되돌린 작업이 잡고 있던 탐색 해제 */
+  public void onReleased(Job job, Double durationSeconds, int batchSize) {
+    ProbeKey key = new ProbeKey(modelOf(job), durationBucket(durationSeconds));
+    probes.computeIfPresent(key, (k, probe) -> probe.batchSize() == batchSize ? null : probe);
+  }
+
+  public void recordSuccess(
+      Job job, Double durationSeconds, String workerClass, Integer batchSize) {
+    int size = dispatchedSize(batchSize);
+    update(job, durationSeconds, workerClass, size, b -> b.succeeded(size, limits, Instant.now()));
+  }
+
+  /**
+   * GPU OOM 기록 후 더 작은 값으로 다시 시도할 수 있는지 반환 (최소 크기에서도 OOM 이면 false).
+   *
+   * <p>다음 값은 다시 디스패치할 때 select 가 좁혀진 범위로 고른다.
+   */
+  public boolean recordOom(Job job, Double durationSeconds, String workerClass, Integer batchSize) {
+    int size = dispatchedSize(batchSize);
+    update(
+        job, durationSeconds, workerClass, size, b -> b.failedWithOom(size, limits, Instant.now()));
+    boolean retry = size > limits.min();
+    meterRegistry
+        .counter(
+            "overlang.job.batch.oom",
+            "model",
+            modelOf(job),
+            "result",
+            retry ? "requeued" : "failed")
+        .increment();
+    return retry;
+  }
+
+  private int select(String model, int bucket, Instant now) {
+    Probe probe = probes.get(new ProbeKey(model, bucket));
+    if (probe != null && probe.startedAt().plus(PROBE_TIMEOUT).isAfter(now)) {
+      return safe(model, bucket, now);
+    }
+    return recentWorkerClasses(now).stream()
+        .mapToInt(c -> boundsOf(model, c, bucket).next(limits, now))
+        .min()
+        .orElse(limits.initial());
+  }
+
+  private int safe(String model, int bucket, Instant now) {
+    return recentWorkerClasses(now).stream()
+        .mapToInt(c -> boundsOf(model, c, bucket).safe(limits, now))
+        .min()
+        .orElse(limits.initial());
+  }
+
+  private synchronized void update(
+      Job job,
+      Double durationSeconds,
+      String workerClass,
+      int batchSize,
+      UnaryOperator<BatchSizeBounds> change) {
+    loadIfNeeded();
+    String model = modelOf(job);
+    int bucket = durationBucket(durationSeconds);
+    String worker =
+        workerClass == null || workerClass.isBlank() ? UNKNOWN_WORKER_CLASS : workerClass;
+
+    // 다른 인스턴스가 기록한 값부터 이어서 좁힘
+    BatchSizeBounds before =
+        batchSizeStatRepository
+            .findByModelAndWorkerClassAndDurationBucket(model, worker, bucket)
+            .map(this::toBounds)
+            .orElse(BatchSizeBounds.EMPTY);
+    BatchSizeBounds after = change.apply(before);
+    batchSizeStatRepository.upsert(
+        model, worker, bucket, after.largestSuccess(), after.smallestOom(), after.oomAt());
+
+    // 메모리 사본과 탐색 해제는 커밋된 뒤에 반영 (롤백되면 작업이 RUNNING 으로 남아 다시 보고됨)
+    afterCommit(
+        () -> {
+          observed.put(new StatKey(model, worker, bucket), new Observed(after, Instant.now()));
+          probes.computeIfPresent(
+              new ProbeKey(model, bucket),
+              (k, probe) -> batchSize >= probe.batchSize() ? null : probe);
+        });
+    if (!after.equals(before)) {
+      log.info(
+          "Batch size bounds updated: model={}, workerClass={}, durationBucket={}, "
+              + "largestSuccess={}, smallestOom={}",
+          model,
+          worker,
+          bucket,
+          after.largestSuccess(),
+          after.smallestOom());
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private Set<String> recentWorkerClasses(Instant now) {
+    loadIfNeeded();
+    Instant since = now.minus(WORKER_CLASS_WINDOW);
+    return observed.entrySet().stream()
+        .filter(e -> e.getValue().reportedAt().isAfter(since))
+        .map(e -> e.getKey().workerClass())
+        .collect(Collectors.toSet());
+  }
+
+  private BatchSizeBounds boundsOf(String model, String workerClass, int bucket) {
+    Observed o = observed.get(new StatKey(model, workerClass, bucket));
+    return o == null ? BatchSizeBounds.EMPTY : o.bounds();
+  }
+
+  private void loadIfNeeded() {
+    if (loaded) {
+      return;
+    }
+    synchronized (this) {
+      if (loaded) {
+        return;
+      }
+      for (BatchSizeStat stat : batchSizeStatRepository.findAll()) {
+        observed.put(
+            new StatKey(stat.getModel(), stat.getWorkerClass(), stat.getDurationBucket()),
+            new Observed(toBounds(stat), stat.getUpdatedAt()));
+      }
+      loaded = true;
+    }
+  }
+
+  private BatchSizeBounds toBounds(BatchSizeStat stat) {
+    return new BatchSizeBounds(stat.getLargestSuccess(), stat.getSmallestOom(), stat.getOomAt());
+  }
+
+  // 이 기능 이전에 디스패치된 작업은 batch_size 가 기록되지 않음 (당시 고정값 16)
+  private int dispatchedSize(Integer batchSize) {
+    return batchSize == null ? 16 : batchSize;
+  }
+
+  private String modelOf(Job job) {
+    return job.getSttModel() == null ? defaultModel : job.getSttModel();
+  }
+
+  // 길이가 두 배가 될 때마다 새 구간 (정렬 단계 메모리가 길이에 따라 늘어남), 모르면 0
+  static int durationBucket(Double durationSeconds) {
+    if (durationSeconds == null || durationSeconds <= 0) {
+      return 0;
+    }
+    int minutes = (int) Math.min(MAX_DURATION_BUCKET_MINUTES, Math.ceil(durationSeconds / 60));
+    return minutes <= 1 ? 1 : Integer.highestOneBit(minutes - 1) << 1;
+  }
+}
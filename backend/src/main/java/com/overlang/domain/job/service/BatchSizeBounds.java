@@ -0,0 +1,72 @@
+package com.overlang.domain.job.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 한 (모델, 워커 등급, 영상 길이 구간) 에서 관측한 batch_size 범위.
+ *
+ * <p>largestSuccess 는 끝까지 처리된 가장 큰 값(없으면 0), smallestOom 은 GPU OOM 이 난 가장 작은 값(없으면 null) 이다. 두 값
+ * 사이를 이분 탐색으로 좁혀 OOM 없이 처리되는 가장 큰 값에 수렴하므로 한 범위에서 나는 OOM 은 log2(max-size) 번 정도로 끝난다. OOM 기록은
+ * oomTtl 이 지나면 잊어(드라이버 교체, 같은 GPU 의 다른 작업 종료 등) 다시 위쪽을 시도한다.
+ */
+record BatchSizeBounds(int largestSuccess, Integer smallestOom, Instant oomAt) {
+
+  static final BatchSizeBounds EMPTY = new BatchSizeBounds(0, null, null);
+
+  record Limits(int initial, int min, int max, Duration oomTtl) {
+
+    int clamp(int batchSize) {
+      return Math.max(min, Math.min(max, batchSize));
+    }
+  }
+
+  /** 처리가 확인된 값 (성공 기록이 없으면 기본값, OOM 만 있으면 그 절반) */
+  int safe(Limits limits, Instant now) {
+    int ceiling = ceiling(limits, now);
+    if (largestSuccess > 0 && largestSuccess < ceiling) {
+      return limits.clamp(largestSuccess);
+    }
+    int guess = ceiling > limits.max() ? limits.initial() : Math.min(limits.initial(), ceiling / 2);
+    return limits.clamp(guess);
+  }
+
+  /** 다음에 보낼 값: 성공과 OOM 사이가 남아 있으면 가운데를 시도 */
+  int next(Limits limits, Instant now) {
+    int ceiling = ceiling(limits, now);
+    if (largestSuccess <= 0 || ceiling - largestSuccess <= 1) {
+      return safe(limits, now);
+    }
+    return limits.clamp((largestSuccess + ceiling) / 2);
+  }
+
+  BatchSizeBounds succeeded(int batchSize, Limits limits, Instant now) {
+    Integer oom = activeOom(limits, now);
+    // OOM 났던 값 이상이 성공하면 그 기록은 더 이상 맞지 않음
+    if (oom != null && batchSize >= oom) {
+      oom = null;
+    }
+    return new BatchSizeBounds(
+        Math.max(largestSuccess, batchSize), oom, oom == null ? null : oomAt);
+  }
+
+  BatchSizeBounds failedWithOom(int batchSize, Limits limits, Instant now) {
+    Integer active = activeOom(limits, now);
+    int oom = active == null ? batchSize : Math.min(active, batchSize);
+    // 성공했던 값에서도 OOM 이 나면 처음부터 다시 찾음
+    int success = largestSuccess < oom ? largestSuccess : 0;
+    return new BatchSizeBounds(success, oom, now);
+  }
+
+  private int ceiling(Limits limits, Instant now) {
+    Integer oom = activeOom(limits, now);
+    return oom == null ? limits.max() + 1 : oom;
+  }
+
+  private Integer activeOom(Limits limits, Instant now) {
+    if (smallestOom == null || oomAt == null || !oomAt.plus(limits.oomTtl()).isAfter(now)) {
+      return null;
+    }
+    return smallestOom;
+  }
+}
@@ -0,0 +1,214 @@
+package com.overlang.domain.job.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.domain.job.client.AiServiceClient;
+import com.overlang.domain.job.client.AiServiceClient.TaskStatus;
+import com.overlang.domain.job.client.AiServiceClient.TranscriptSegment;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobChunk;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobChunkRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 긴 영상의 STT 를 겹치는 구간으로 나눠 여러 워커에서 동시에 처리한다.
+ *
+ * <p>구간 수는 워커 슬롯 수를 넘지 않으므로 처리 시간은 대략 1/워커 수로 줄어든다. 구간 결과는 완료될 때마다 저장해 두고, 모든 구간이 끝나면 {@link
+ * TranscriptStitcher} 로 이어 붙인다. GPU OOM 으로 실패한 구간은 작업 전체를 실패시키지 않고 더 작은 batch_size 로 다시 처리한다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class ChunkedTranscriptionService {
+
+  private static final TypeReference<List<TranscriptSegment>> TRANSCRIPT_TYPE =
+      new TypeReference<>() {};
+
+  private final JobChunkRepository jobChunkRepository;
+  private final BatchSizeAdvisor batchSizeAdvisor;
+  private final ObjectMapper objectMapper;
+  private final double minDurationSeconds;
+  private final double minChunkSeconds;
+  private final double overlapSeconds;
+
+  /** 구간 상태를 모은 작업 단위 결과 (COMPLETED 면 이어 붙인 자막, FAILED 면 실패 구간 포함) */
+  public record ChunkedOutcome(
+      Job job,
+      JobStatus status,
+      int progress,
+      List<TranscriptSegment> transcript,
+      JobChunk failedChunk,
+      double gpuSeconds) {}
+
+  public ChunkedTranscriptionService(
+      JobChunkRepository jobChunkRepository,
+      BatchSizeAdvisor batchSizeAdvisor,
+      ObjectMapper objectMapper,
+      @Value("${overlang.job.chunking.min-duration-seconds}") double minDurationSeconds,
+      @Value("${overlang.job.chunking.min-chunk-seconds}") double minChunkSeconds,
+      @Value("${overlang.job.chunking.overlap-seconds}") double overlapSeconds) {
+    this.jobChunkRepository = jobChunkRepository;
+    this.batchSizeAdvisor = batchSizeAdvisor;
+    this.objectMapper = objectMapper;
+    this.minDurationSeconds = minDurationSeconds;
+    this.minChunkSeconds = minChunkSeconds;
+    this.overlapSeconds = overlapSeconds;
+  }
+
+  /** 나눠 처리할 만큼 긴지 (짧은 영상은 구간 나누기 비용이 더 큼) */
+  public boolean shouldSplit(double durationSeconds, int workers) {
+    return durationSeconds >= minDurationSeconds && chunkCount(durationSeconds, workers) >= 2;
+  }
+
+  /** 구간 경계 앞뒤로 overlap/2 씩 겹치도록 나눠 PENDING 구간으로 저장 */
+  public List<JobChunk> split(Job job, double durationSeconds, int workers) {
+    int count = chunkCount(durationSeconds, workers);
+    double core = durationSeconds / count;
+    double half = overlapSeconds / 2.0;
+
+    List<JobChunk> chunks = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      double start = Math.max(0.0, i * core - half);
+      double end = Math.min(durationSeconds, (i + 1) * core + half);
+      chunks.add(new JobChunk(job, i, start, end));
+    }
+    log.info(
+        "Job split into chunks: jobId={}, chunks={}, durationSeconds={}",
+        job.getId(),
+        count,
+        durationSeconds);
+    return jobChunkRepository.saveAll(chunks);
+  }
+
+  /** AI 서버에 전달된 실행 중 구간 (구간 ID -> AI 작업 ID, 선점 후 전달 중인 구간 제외) */
+  @Transactional(readOnly = true)
+  public Map<Long, String> submittedChunks() {
+    Map<Long, String> chunks = new LinkedHashMap<>();
+    for (JobChunk chunk : jobChunkRepository.findAllWithJobByStatus(JobStatus.RUNNING)) {
+      if (chunk.getAiTaskId() != null) {
+        chunks.put(chunk.getId(), chunk.getAiTaskId());
+      }
+    }
+    return chunks;
+  }
+
+  /** 한 구간의 워커 상태 반영 후 구간이 속한 작업 ID 반환 (조회하는 사이 바뀐 구간은 빈 값) */
+  public Optional<Long> apply(Long chunkId, String aiTaskId, TaskStatus status) {
+    Optional<JobChunk> chunk =
+        jobChunkRepository
+            .findById(chunkId)
+            .filter(c -> c.getStatus() == JobStatus.RUNNING)
+            .filter(c -> aiTaskId.equals(c.getAiTaskId()));
+    if (chunk.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      apply(chunk.get(), status);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("구간 결과를 저장할 수 없습니다. chunkId=" + chunkId, e);
+    }
+    return Optional.of(chunk.get().getJob().getId());
+  }
+
+  /** 작업의 구간 상태를 모은 결과 (다른 구간 실패로 이미 끝난 작업은 남은 구간만 정리하므로 빈 값) */
+  public Optional<ChunkedOutcome> aggregate(Long jobId) {
+    List<JobChunk> chunks = jobChunkRepository.findByJobIdOrderByChunkIndexAsc(jobId);
+    if (chunks.isEmpty() || chunks.get(0).getJob().getStatus() != JobStatus.RUNNING) {
+      return Optional.empty();
+    }
+    return Optional.of(aggregate(chunks.get(0).getJob(), chunks));
+  }
+
+  private void apply(JobChunk chunk, TaskStatus status) throws JsonProcessingException {
+    if (status == null || status.status() == null) {
+      return;
+    }
+    switch (status.status()) {
+      case "PROCESSING" ->
+          chunk.updateProgress(status.progress() == null ? 0 : status.progress().intValue());
+      case "SUCCESS" -> {
+        chunk.addWorkerSeconds(status.workerSeconds());
+        chunk.markCompleted(
+            objectMapper.writeValueAsString(status.result() == null ? List.of() : status.result()));
+        batchSizeAdvisor.recordSuccess(
+            chunk.getJob(), chunk.lengthSeconds(), status.workerClass(), chunk.getBatchSize());
+      }
+      case "FAILURE" -> {
+        chunk.addWorkerSeconds(status.workerSeconds());
+        fail(chunk, status);
+      }
+      default -> {
+        // PENDING: 워커가 아직 가져가지 않음
+      }
+    }
+  }
+
+  // GPU OOM 구간은 더 작은 batch_size 로 다시 대기열에 넣고, 최소 크기에서도 나면 작업 실패
+  private void fail(JobChunk chunk, TaskStatus status) {
+    if (AiServiceClient.GPU_OOM.equals(status.errorCode())
+        && batchSizeAdvisor.recordOom(
+            chunk.getJob(), chunk.lengthSeconds(), status.workerClass(), chunk.getBatchSize())) {
+      log.info(
+          "Chunk requeued after GPU OOM: chunkId={}, batchSize={}",
+          chunk.getId(),
+          chunk.getBatchSize());
+      chunk.requeue();
+      return;
+    }
+    chunk.markFailed(status.errorCode(), status.errorMessage());
+  }
+
+  private ChunkedOutcome aggregate(Job job, List<JobChunk> chunks) {
+    double gpuSeconds = chunks.stream().mapToDouble(JobChunk::gpuSeconds).sum();
+
+    Optional<JobChunk> failed =
+        chunks.stream().filter(c -> c.getStatus() == JobStatus.FAILED).findFirst();
+    if (failed.isPresent()) {
+      // 아직 전달되지 않은 구간은 취소, 실행 중인 구간은 워커 슬롯 계산을 위해 끝날 때까지 둠
+      chunks.stream()
+          .filter(c -> c.getStatus() == JobStatus.PENDING)
+          .forEach(c -> c.markFailed(null, "다른 구간이 실패해 취소되었습니다."));
+      return new ChunkedOutcome(job, JobStatus.FAILED, 0, List.of(), failed.get(), gpuSeconds);
+    }
+
+    if (chunks.stream().allMatch(c -> c.getStatus() == JobStatus.COMPLETED)) {
+      List<TranscriptStitcher.ChunkTranscript> transcripts = new ArrayList<>(chunks.size());
+      for (JobChunk chunk : chunks) {
+        transcripts.add(
+            new TranscriptStitcher.ChunkTranscript(
+                chunk.getStartTime(), chunk.getEndTime(), readResult(chunk)));
+        chunk.clearResult();
+      }
+      return new ChunkedOutcome(
+          job, JobStatus.COMPLETED, 100, TranscriptStitcher.stitch(transcripts), null, gpuSeconds);
+    }
+
+    // 구간 길이로 가중 평균한 진행률
+    double total = chunks.stream().mapToDouble(JobChunk::lengthSeconds).sum();
+    double done = chunks.stream().mapToDouble(c -> c.getProgress() * c.lengthSeconds()).sum();
+    int progress = total <= 0 ? 0 : (int) (done / total);
+    return new ChunkedOutcome(job, JobStatus.RUNNING, progress, List.of(), null, gpuSeconds);
+  }
+
+  private List<TranscriptSegment> readResult(JobChunk chunk) {
+    try {
+      return objectMapper.readValue(chunk.getResult(), TRANSCRIPT_TYPE);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("구간 결과를 읽을 수 없습니다. chunkId=" + chunk.getId(), e);
+    }
+  }
+
+  private int chunkCount(double durationSeconds, int workers) {
+    return (int) Math.min(workers, Math.floor(durationSeconds / minChunkSeconds));
+  }
+}
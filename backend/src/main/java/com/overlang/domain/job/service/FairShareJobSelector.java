@@ -0,0 +1,100 @@
+package com.overlang.domain.job.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 간 공정 분배 기준으로 다음에 GPU 로 보낼 작업을 고른다.
+ *
+ * <p>회원마다 최근 GPU 사용량(예상 GPU 초)을 지수 감쇠로 누적하고, 후보 작업의 점수를 "회원 최근 사용량 + 작업 예상 비용 - 대기 시간 보정" 으로
+ * 계산해 가장 낮은 작업을 고른다. 작업을 많이 넣은 회원일수록 사용량이 커져 뒤로 밀리고, 짧은 작업은 비용 가중치를 낮춰 먼저 처리한다. 대기 시간
+ * 보정으로 오래 기다린 작업이 무한히 밀리지 않는다.
+ */
+@Component
+public class FairShareJobSelector {
+
+  // 사용량이 이 값보다 작아지면 기록을 지움 (메모리 정리)
+  private static final double NEGLIGIBLE_USAGE = 1.0;
+
+  private final double decayPerMilli;
+  private final double agingPerSecond;
+  private final double latencySensitiveWeight;
+
+  // select/charge 는 디스패처 스레드 하나에서 호출되지만 지표 조회를 위해 동기화
+  private final Map<Long, Usage> usages = new HashMap<>();
+
+  public record Candidate(
+      Long jobId,
+      Long memberId,
+      double estimatedGpuSeconds,
+      boolean latencySensitive,
+      long enqueuedAtMillis) {}
+
+  private static final class Usage {
+    private double gpuSeconds;
+    private long updatedAtMillis;
+  }
+
+  public FairShareJobSelector(
+      @Value("${overlang.job.fair-share.usage-half-life-minutes:30}") double halfLifeMinutes,
+      @Value("${overlang.job.fair-share.aging-per-second:0.5}") double agingPerSecond,
+      @Value("${overlang.job.fair-share.latency-sensitive-weight:0.25}")
+          double latencySensitiveWeight) {
+    this.decayPerMilli = Math.log(2) / (halfLifeMinutes * 60_000);
+    this.agingPerSecond = agingPerSecond;
+    this.latencySensitiveWeight = latencySensitiveWeight;
+  }
+
+  public synchronized Optional<Candidate> select(Collection<Candidate> candidates, long nowMillis) {
+    Comparator<Candidate> order =
+        Comparator.<Candidate>comparingDouble(c -> score(c, nowMillis))
+            .thenComparingLong(Candidate::enqueuedAtMillis)
+            .thenComparing(Candidate::jobId);
+    return candidates.stream().min(order);
+  }
+
+  /** 디스패치 시 예상 비용만큼 회원 사용량 증가 */
+  public synchronized void charge(Long memberId, double gpuSeconds, long nowMillis) {
+    Usage usage = usages.computeIfAbsent(memberId, id -> new Usage());
+    usage.gpuSeconds = decayed(usage, nowMillis) + gpuSeconds;
+    usage.updatedAtMillis = nowMillis;
+  }
+
+  /** 완료 후 실제 사용 시간으로 보정 (예상보다 짧으면 돌려받음) */
+  public void settle(Long memberId, double estimatedGpuSeconds, double actualGpuSeconds, long now) {
+    charge(memberId, actualGpuSeconds - estimatedGpuSeconds, now);
+  }
+
+  public synchronized double usageOf(Long memberId, long nowMillis) {
+    Usage usage = usages.get(memberId);
+    return usage == null ? 0.0 : decayed(usage, nowMillis);
+  }
+
+  public synchronized void evictNegligible(long nowMillis) {
+    Iterator<Usage> it = usages.values().iterator();
+    while (it.hasNext()) {
+      if (decayed(it.next(), nowMillis) < NEGLIGIBLE_USAGE) {
+        it.remove();
+      }
+    }
+  }
+
+  private double score(Candidate candidate, long nowMillis) {
+    double weight = candidate.latencySensitive() ? latencySensitiveWeight : 1.0;
+    double waitedSeconds = Math.max(0, nowMillis - candidate.enqueuedAtMillis()) / 1000.0;
+    return usageOf(candidate.memberId(), nowMillis)
+        + candidate.estimatedGpuSeconds() * weight
+        - waitedSeconds * agingPerSecond;
+  }
+
+  private double decayed(Usage usage, long nowMillis) {
+    long elapsed = Math.max(0, nowMillis - usage.updatedAtMillis);
+    return Math.max(0.0, usage.gpuSeconds * Math.exp(-decayPerMilli * elapsed));
+  }
+}
@@ -0,0 +1,194 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobCheckpoint;
+import com.overlang.domain.job.repository.JobCheckpointRepository;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.WordTimelineBlobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 단계별 체크포인트 기록과 재시도 계획.
+ *
+ * <p>체크포인트는 단계 결과 행의 개수와 SHA-256 을 저장한다. 재시도 시 원본 작업의 행을 다시 해시해 일치하는 단계만 재사용하고, 처음으로
+ * 불일치하거나 없는 단계부터 다시 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class JobCheckpointService {
+
+  private final JobCheckpointRepository jobCheckpointRepository;
+  private final JobLanguageRepository jobLanguageRepository;
+  private final SegmentRepository segmentRepository;
+  private final WordTimelineBlobRepository wordTimelineBlobRepository;
+  private final LearningContentRepository learningContentRepository;
+  private final MeterRegistry meterRegistry;
+
+  public record RetryPlan(
+      CurrentStage resumeStage, Set<CurrentStage> reusedStages, double savedGpuSeconds) {}
+
+  private record Digest(int rowCount, String checksum) {}
+
+  /** 단계 결과가 모두 저장된 직후 호출 */
+  public void record(Job job, CurrentStage stage, double gpuSeconds) {
+    if (!JobPipeline.isCheckpointStage(stage)) {
+      return;
+    }
+    Digest digest = digest(job.getId(), stage);
+    jobCheckpointRepository
+        .findByJobIdAndStage(job.getId(), stage)
+        .ifPresentOrElse(
+            checkpoint -> checkpoint.update(digest.rowCount(), digest.checksum(), gpuSeconds),
+            () ->
+                jobCheckpointRepository.save(
+                    new JobCheckpoint(
+                        job, stage, digest.rowCount(), digest.checksum(), gpuSeconds)));
+  }
+
+  /** 원본 작업의 유효한 체크포인트로 재시작 단계 계산 */
+  @Transactional(readOnly = true)
+  public RetryPlan plan(Job original) {
+    Map<CurrentStage, JobCheckpoint> checkpoints =
+        jobCheckpointRepository.findByJobId(original.getId()).stream()
+            .collect(Collectors.toMap(JobCheckpoint::getStage, Function.identity()));
+
+    // 원본 작업이 실행하지 않은 단계(한 언어 작업의 번역)는 체크포인트가 없으므로 빼고 계산
+    List<CurrentStage> stages =
+        JobPipeline.stagesOf(
+            original.pipelineType(), jobLanguageRepository.existsByJobId(original.getId()));
+    CurrentStage resumeStage = stages.get(0);
+    Set<CurrentStage> reused = EnumSet.noneOf(CurrentStage.class);
+    double saved = 0.0;
+
+    for (int i = 0; i < stages.size(); i++) {
+      CurrentStage stage = stages.get(i);
+      if (!JobPipeline.isCheckpointStage(stage)) {
+        continue; // 중간 산출물 단계는 다음 체크포인트가 유효하면 함께 건너뜀
+      }
+      JobCheckpoint checkpoint = checkpoints.get(stage);
+      if (checkpoint == null || !verify(original.getId(), checkpoint)) {
+        break;
+      }
+      reused.add(stage);
+      saved += checkpoint.getGpuSeconds();
+      resumeStage = CurrentStage.FINALIZING;
+      for (int j = i + 1; j < stages.size(); j++) {
+        if (!JobPipeline.isCoveredBy(stages.get(j), stage)) {
+          resumeStage = stages.get(j);
+          break;
+        }
+      }
+    }
+    return new RetryPlan(resumeStage, reused, saved);
+  }
+
+  /** 재사용 가능한 결과를 재시도 작업으로 복사하고 재시작 단계 설정 */
+  public RetryPlan prepareRetry(Job retryJob, Job original) {
+    RetryPlan plan = plan(original);
+    Set<CurrentStage> reused = plan.reusedStages();
+    boolean withTranslation = reused.contains(CurrentStage.TRANSLATION);
+
+    if (reused.contains(CurrentStage.STT_TRANSCRIPTION)) {
+      segmentRepository.copyToJob(original.getId(), retryJob.getId(), withTranslation);
+      segmentRepository.copyWordsToJob(original.getId(), retryJob.getId());
+      wordTimelineBlobRepository.copyToJob(original.getId(), retryJob.getId());
+    }
+    if (reused.contains(CurrentStage.LLM_ANALYSIS)) {
+      learningContentRepository.copyToJob(original.getId(), retryJob.getId());
+    }
+    // 복사본에도 체크포인트를 남겨 재시도의 재시도도 이어서 진행 가능 (GPU 시간은 원본 기준 유지)
+    for (JobCheckpoint checkpoint : jobCheckpointRepository.findByJobId(original.getId())) {
+      if (reused.contains(checkpoint.getStage())) {
+        jobCheckpointRepository.save(
+            new JobCheckpoint(
+                retryJob,
+                checkpoint.getStage(),
+                checkpoint.getRowCount(),
+                checkpoint.getChecksum(),
+                checkpoint.getGpuSeconds()));
+      }
+    }
+
+    retryJob.resumeFrom(original, plan.resumeStage(), plan.savedGpuSeconds());
+    meterRegistry.counter("overlang.job.retry.saved.gpu.seconds").increment(plan.savedGpuSeconds());
+    log.info(
+        "Retry prepared: jobId={}, retryOf={}, resumeStage={}, savedGpuSeconds={}",
+        retryJob.getId(),
+        original.getId(),
+        plan.resumeStage(),
+        plan.savedGpuSeconds());
+    return plan;
+  }
+
+  private boolean verify(Long jobId, JobCheckpoint checkpoint) {
+    Digest current = digest(jobId, checkpoint.getStage());
+    boolean valid =
+        current.rowCount() == checkpoint.getRowCount()
+            && current.checksum().equals(checkpoint.getChecksum());
+    if (!valid) {
+      log.warn("Checkpoint mismatch: jobId={}, stage={}", jobId, checkpoint.getStage());
+    }
+    return valid;
+  }
+
+  // 단계 결과 행을 정해진 순서로 직렬화해 해시
+  private Digest digest(Long jobId, CurrentStage stage) {
+    List<String> rows =
+        switch (stage) {
+          case STT_TRANSCRIPTION ->
+              segmentRepository.findByJobIdOrderBySeqAsc(jobId).stream()
+                  .map(s -> row(s.getSeq(), s.getStartTime(), s.getEndTime(), s.getText()))
+                  .toList();
+          case TRANSLATION ->
+              segmentRepository.findByJobIdOrderBySeqAsc(jobId).stream()
+                  .map(s -> row(s.getSeq(), s.getTranslatedText()))
+                  .toList();
+          case LLM_ANALYSIS ->
+              learningContentRepository.findByJobIdAndLanguageIsNullOrderByIdAsc(jobId).stream()
+                  .map(l -> row(l.getContentType(), l.getTitle(), l.getContent()))
+                  .toList();
+          default -> List.of();
+        };
+    return new Digest(rows.size(), sha256(rows));
+  }
+
+  private String row(Object... values) {
+    StringBuilder sb = new StringBuilder();
+    for (Object value : values) {
+      sb.append(value).append('|');
+    }
+    return sb.toString();
+  }
+
+  private String sha256(List<String> rows) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String row : rows) {
+        digest.update(row.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
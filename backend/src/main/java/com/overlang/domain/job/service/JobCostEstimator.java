@@ -0,0 +1,38 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.entity.JobType;
+import org.springframework.stereotype.Component;
+
+// 작업 유형과 영상 길이로 예상 GPU 사용 시간(초)을 추정
+@Component
+public class JobCostEstimator {
+
+  // 영상 길이를 모를 때 가정하는 길이 (10분)
+  static final double DEFAULT_MEDIA_SECONDS = 600.0;
+
+  // 모델 로드, 파일 준비 등 길이와 무관한 고정 비용
+  private static final double FIXED_OVERHEAD_SECONDS = 5.0;
+
+  public double estimateGpuSeconds(JobType jobType, Double mediaDurationSeconds) {
+    double duration =
+        (mediaDurationSeconds == null || mediaDurationSeconds <= 0)
+            ? DEFAULT_MEDIA_SECONDS
+            : mediaDurationSeconds;
+    return FIXED_OVERHEAD_SECONDS + duration * realtimeFactor(jobType);
+  }
+
+  // 영상 1초당 GPU 처리 시간 (실측 기반 근사치)
+  private double realtimeFactor(JobType jobType) {
+    return switch (jobType) {
+      case FULL_ANALYSIS, RETRY -> 0.5;
+      case OCR_ONLY -> 0.3;
+      case STT_ONLY -> 0.15;
+      case TRANSLATION_ONLY -> 0.02;
+    };
+  }
+
+  /** 지연 시간이 중요한 짧은 작업인지 */
+  public boolean isLatencySensitive(JobType jobType) {
+    return jobType == JobType.STT_ONLY || jobType == JobType.TRANSLATION_ONLY;
+  }
+}
@@ -0,0 +1,535 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.file.storage.StorageService;
+import com.overlang.domain.job.client.AiServiceClient;
+import com.overlang.domain.job.client.AiServiceClient.TaskStatus;
+import com.overlang.domain.job.client.AiServiceClient.TranscriptSegment;
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobChunk;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobChunkRepository;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.ProjectStatus;
+import com.overlang.domain.segment.service.SegmentService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 디스패처의 DB 상태 전이 (선점, AI 작업 ID 기록, 되돌리기, 결과 반영).
+ *
+ * <p>AI 서버 호출은 {@link JobDispatcher} 가 트랜잭션 밖에서 하고, 여기서는 짧은 트랜잭션으로 상태만 바꾼다. 대기 작업은 {@code for
+ * update skip locked} 로 선점해 RUNNING 으로 바꾼 뒤 커밋하므로 여러 인스턴스가 같은 작업을 두 번 보내지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class JobDispatchService {
+
+  // 선점 후 이 시간 안에 AI 작업 ID 가 기록되지 않으면 (인스턴스 종료 등) 다시 대기열로
+  // 처리기가 없는 작업 종류 (STT 단계가 없는 OCR_ONLY, TRANSLATION_ONLY)
+  public static final String UNSUPPORTED_JOB_TYPE = "JOB_001";
+
+  private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(10);
+
+  /** 선점한 작업(또는 구간)을 AI 서버에 보내는 데 필요한 값 (트랜잭션 밖에서 엔티티 없이 씀) */
+  public record Submission(
+      Long jobId,
+      Long chunkId,
+      String mediaPath,
+      Map<String, Object> options,
+      ModelAffinityPolicy.AffinityKey key) {}
+
+  private final JobRepository jobRepository;
+  private final JobChunkRepository jobChunkRepository;
+  private final JobLanguageRepository jobLanguageRepository;
+  private final AiServiceClient aiServiceClient;
+  private final FairShareJobSelector fairShareJobSelector;
+  private final ModelAffinityPolicy modelAffinityPolicy;
+  private final BatchSizeAdvisor batchSizeAdvisor;
+  private final JobCostEstimator jobCostEstimator;
+  private final JobCheckpointService jobCheckpointService;
+  private final ChunkedTranscriptionService chunkedTranscriptionService;
+  private final SegmentService segmentService;
+  private final StorageService storageService;
+  private final JobProgressCoalescer jobProgressCoalescer;
+  private final int maxRunningJobs;
+  private final String defaultModel;
+  private final boolean llmAnalysisEnabled;
+
+  public JobDispatchService(
+      JobRepository jobRepository,
+      JobChunkRepository jobChunkRepository,
+      JobLanguageRepository jobLanguageRepository,
+      AiServiceClient aiServiceClient,
+      FairShareJobSelector fairShareJobSelector,
+      ModelAffinityPolicy modelAffinityPolicy,
+      BatchSizeAdvisor batchSizeAdvisor,
+      JobCostEstimator jobCostEstimator,
+      JobCheckpointService jobCheckpointService,
+      ChunkedTranscriptionService chunkedTranscriptionService,
+      SegmentService segmentService,
+      StorageService storageService,
+      JobProgressCoalescer jobProgressCoalescer,
+      @Value("${overlang.job.dispatch.max-running}") int maxRunningJobs,
+      @Value("${overlang.ai.default-model}") String defaultModel,
+      @Value("${overlang.llm.enabled}") boolean llmAnalysisEnabled) {
+    this.jobRepository = jobRepository;
+    this.jobChunkRepository = jobChunkRepository;
+    this.jobLanguageRepository = jobLanguageRepository;
+    this.aiServiceClient = aiServiceClient;
+    this.fairShareJobSelector = fairShareJobSelector;
+    this.modelAffinityPolicy = modelAffinityPolicy;
+    this.batchSizeAdvisor = batchSizeAdvisor;
+    this.jobCostEstimator = jobCostEstimator;
+    this.jobCheckpointService = jobCheckpointService;
+    this.chunkedTranscriptionService = chunkedTranscriptionService;
+    this.segmentService = segmentService;
+    this.storageService = storageService;
+    this.jobProgressCoalescer = jobProgressCoalescer;
+    this.maxRunningJobs = maxRunningJobs;
+    this.defaultModel = defaultModel;
+    this.llmAnalysisEnabled = llmAnalysisEnabled;
+  }
+
+  /** 빈 워커 슬롯만큼 대기 구간/작업을 선점해 RUNNING 으로 바꾸고, AI 서버에 보낼 목록 반환 */
+  public List<Submission> claim() {
+    releaseStaleClaims();
+    int freeSlots = maxRunningJobs - runningTasks();
+    if (freeSlots <= 0) {
+      return List.of();
+    }
+    // 이미 나눠진 작업의 남은 구간을 새 작업보다 먼저 전달
+    List<Submission> submissions =
+        new ArrayList<>(claimChunks(jobChunkRepository.lockPending(freeSlots), freeSlots));
+    freeSlots -= submissions.size();
+    if (freeSlots <= 0) {
+      return submissions;
+    }
+
+    Map<Long, Job> jobsById = new HashMap<>();
+    List<FairShareJobSelector.Candidate> candidates = new ArrayList<>();
+    for (Job job : jobRepository.lockPending()) {
+      if (skipGpuStages(job)) {
+        continue;
+      }
+      if (!JobPipeline.stagesOf(job.pipelineType()).contains(CurrentStage.STT_TRANSCRIPTION)) {
+        // 워커 작업은 음성 인식 하나뿐이라 보내면 STT 를 통째로 돌리고 완료 처리됨
+        rejectUnsupported(job);
+        continue;
+      }
+      jobsById.put(job.getId(), job);
+      candidates.add(toCandidate(job));
+    }
+
+    long now = System.currentTimeMillis();
+    while (freeSlots > 0 && !candidates.isEmpty()) {
+      List<FairShareJobSelector.Candidate> preferred =
+          modelAffinityPolicy.narrow(
+              candidates,
+              c -> affinityKey(jobsById.get(c.jobId())),
+              FairShareJobSelector.Candidate::enqueuedAtMillis,
+              now);
+      Optional<FairShareJobSelector.Candidate> selected =
+          fairShareJobSelector.select(preferred, now);
+      if (selected.isEmpty()) {
+        break;
+      }
+      FairShareJobSelector.Candidate candidate = selected.get();
+      candidates.remove(candidate);
+      fairShareJobSelector.charge(candidate.memberId(), candidate.estimatedGpuSeconds(), now);
+
+      Job job = jobsById.get(candidate.jobId());
+      List<JobChunk> chunks = splitIntoChunks(job);
+      if (!chunks.isEmpty()) {
+        List<Submission> claimed = claimChunks(chunks, freeSlots);
+        submissions.addAll(claimed);
+        freeSlots -= claimed.size();
+        continue;
+      }
+      ModelAffinityPolicy.AffinityKey key = affinityKey(job);
+      job.markDispatched(key.batchSize());
+      modelAffinityPolicy.onDispatched(job.getId(), key, now);
+      batchSizeAdvisor.onDispatched(job, durationOf(job), key.batchSize());
+      submissions.add(
+          new Submission(job.getId(), null, mediaPath(job.getProject()), options(key), key));
+      freeSlots--;
+      log.info(
+          "Job claimed: jobId={}, memberId={}, model={}, batchSize={}, estimatedGpuSeconds={}",
+          job.getId(),
+          candidate.memberId(),
+          key.model(),
+          key.batchSize(),
+          candidate.estimatedGpuSeconds());
+    }
+    fairShareJobSelector.evictNegligible(now);
+    return submissions;
+  }
+
+  /** AI 서버가 받은 작업의 ID 기록 (이후 상태 동기화 대상) */
+  public void recordSubmitted(Submission submission, String aiTaskId) {
+    if (submission.chunkId() != null) {
+      jobChunkRepository
+          .findById(submission.chunkId())
+          .filter(c -> c.getStatus() == JobStatus.RUNNING)
+          .ifPresent(c -> c.assignAiTask(aiTaskId));
+      return;
+    }
+    jobRepository
+        .findById(submission.jobId())
+        .filter(j -> j.getStatus() == JobStatus.RUNNING)
+        .ifPresent(j -> j.assignAiTask(aiTaskId));
+  }
+
+  /** AI 서버에 보내지 못한 작업(또는 구간)을 대기열로 되돌려 다음 주기에 다시 보냄 */
+  public void release(Submission submission) {
+    if (submission.chunkId() != null) {
+      jobChunkRepository.findById(submission.chunkId()).ifPresent(this::release);
+      return;
+    }
+    jobRepository
+        .findById(submission.jobId())
+        .ifPresent(
+            job -> {
+              // 선점 때 부과한 예상 사용량 환불
+              settleUsage(job, 0.0);
+              release(job);
+            });
+  }
+
+  // 선점한 인스턴스가 AI 작업 ID 를 기록하지 못하고 멈춘 작업/구간 (AI 서버가 받았는지 알 수 없어 다시 보냄)
+  private void releaseStaleClaims() {
+    Instant before = Instant.now().minus(CLAIM_TIMEOUT);
+    for (Job job :
+        jobRepository.findStaleClaims(JobStatus.RUNNING, CurrentStage.AUDIO_EXTRACTION, before)) {
+      log.warn("Stale job claim released: jobId={}", job.getId());
+      release(job);
+    }
+    for (JobChunk chunk : jobChunkRepository.findStaleClaims(JobStatus.RUNNING, before)) {
+      log.warn("Stale chunk claim released: chunkId={}", chunk.getId());
+      release(chunk);
+    }
+  }
+
+  private void release(Job job) {
+    modelAffinityPolicy.forget(job.getId());
+    if (job.getBatchSize() != null) {
+      batchSizeAdvisor.onReleased(job, durationOf(job), job.getBatchSize());
+    }
+    job.requeue();
+  }
+
+  private void release(JobChunk chunk) {
+    modelAffinityPolicy.forget(chunk.getJob().getId());
+    if (chunk.getBatchSize() != null) {
+      batchSizeAdvisor.onReleased(chunk.getJob(), chunk.lengthSeconds(), chunk.getBatchSize());
+    }
+    chunk.requeue();
+  }
+
+  // 워커에 전달됐거나 선점 후 전달 중인 작업 + 구간 수 (각각 GPU 슬롯 하나씩 차지)
+  private int runningTasks() {
+    return (int)
+        (jobRepository.countOccupyingWorkers(JobStatus.RUNNING, CurrentStage.AUDIO_EXTRACTION)
+            + jobChunkRepository.countByStatus(JobStatus.RUNNING));
+  }
+
+  // 긴 영상은 워커 수만큼 구간으로 나눠 병렬 처리 (작업 자체에는 AI 작업 ID 가 없음)
+  private List<JobChunk> splitIntoChunks(Job job) {
+    if (maxRunningJobs < 2
+        || !JobPipeline.stagesOf(job.pipelineType()).contains(CurrentStage.STT_TRANSCRIPTION)) {
+      return List.of();
+    }
+    try {
+      // 업로드 시 읽은 길이가 있으면 AI 서버 probe 생략 (길이를 모르는 이전 업로드만 probe)
+      Double known = job.getProject().getDurationSeconds();
+      double duration =
+          known != null ? known : aiServiceClient.probeDuration(mediaPath(job.getProject()));
+      if (!chunkedTranscriptionService.shouldSplit(duration, maxRunningJobs)) {
+        return List.of();
+      }
+      List<JobChunk> chunks = chunkedTranscriptionService.split(job, duration, maxRunningJobs);
+      job.markDispatched(null);
+      return chunks;
+    } catch (Exception e) {
+      // 길이를 모르면 나누지 않고 한 번에 처리
+      log.warn("Media probe failed: jobId={}, reason={}", job.getId(), e.getMessage());
+      return List.of();
+    }
+  }
+
+  private List<Submission> claimChunks(List<JobChunk> chunks, int freeSlots) {
+    List<Submission> submissions = new ArrayList<>();
+    for (JobChunk chunk : chunks) {
+      if (submissions.size() >= freeSlots) {
+        break;
+      }
+      Job job = chunk.getJob();
+      ModelAffinityPolicy.AffinityKey key = affinityKey(job, chunk.lengthSeconds());
+      Map<String, Object> options = options(key);
+      options.put("start_time", chunk.getStartTime());
+      options.put("end_time", chunk.getEndTime());
+      chunk.markDispatched(key.batchSize());
+      modelAffinityPolicy.onDispatched(job.getId(), key, System.currentTimeMillis());
+      batchSizeAdvisor.onDispatched(job, chunk.lengthSeconds(), key.batchSize());
+      submissions.add(
+          new Submission(job.getId(), chunk.getId(), mediaPath(job.getProject()), options, key));
+    }
+    return submissions;
+  }
+
+  // 체크포인트로 GPU 단계가 모두 끝난 재시도 작업은 워커를 거치지 않음
+  private boolean skipGpuStages(Job job) {
+    CurrentStage resumeStage = job.getResumeStage();
+    if (resumeStage == null || JobPipeline.isGpuStage(resumeStage)) {
+      return false;
+    }
+    boolean fanOut = isFanOut(job);
+    if (!fanOut && resumeStage == CurrentStage.TRANSLATION) {
+      // 번역은 여러 언어 작업만 따로 처리하므로 한 언어 재시도는 다음 단계부터 (원본만 여러 언어였던 경우)
+      resumeStage = CurrentStage.LLM_ANALYSIS;
+    }
+    boolean nothingLeft =
+        !fanOut
+            && (resumeStage == CurrentStage.MERGING_RESULTS
+                || resumeStage == CurrentStage.FINALIZING
+                || (resumeStage == CurrentStage.LLM_ANALYSIS && !llmAnalysisEnabled));
+    jobProgressCoalescer.discard(job.getId());
+    if (nothingLeft) {
+      job.markCompleted();
+      job.getProject().updateStatus(ProjectStatus.COMPLETED);
+    } else {
+      // 번역/LLM 분석 등 백엔드 단계는 해당 단계 처리기가 이어서 진행 (여러 언어 작업은 언어별로)
+      job.markRunning(fanOut ? CurrentStage.TRANSLATION : resumeStage, 0);
+    }
+    log.info("Job resumed without GPU: jobId={}, resumeStage={}", job.getId(), resumeStage);
+    return true;
+  }
+
+  /** AI 서버에 전달된 실행 중 작업 (작업 ID -> AI 작업 ID) */
+  @Transactional(readOnly = true)
+  public Map<Long, String> submittedTasks() {
+    Map<Long, String> tasks = new LinkedHashMap<>();
+    for (Job job : jobRepository.findAllWithProjectByStatus(JobStatus.RUNNING)) {
+      if (job.getAiTaskId() != null) {
+        tasks.put(job.getId(), job.getAiTaskId());
+      }
+    }
+    return tasks;
+  }
+
+  /** 한 작업의 워커 상태 반영 (조회하는 사이 다시 대기열로 갔거나 끝난 작업은 무시) */
+  public void apply(Long jobId, String aiTaskId, TaskStatus status) {
+    jobRepository
+        .findById(jobId)
+        .filter(job -> job.getStatus() == JobStatus.RUNNING)
+        .filter(job -> aiTaskId.equals(job.getAiTaskId()))
+        .ifPresent(job -> apply(job, status));
+  }
+
+  /** 한 작업의 구간 상태를 모아 반영 */
+  public void applyChunks(Long jobId) {
+    chunkedTranscriptionService.aggregate(jobId).ifPresent(this::apply);
+  }
+
+  private void apply(ChunkedTranscriptionService.ChunkedOutcome outcome) {
+    Job job = outcome.job();
+    switch (outcome.status()) {
+      case COMPLETED -> complete(job, outcome.transcript(), outcome.gpuSeconds());
+      case FAILED ->
+          fail(
+              job,
+              outcome.failedChunk().getErrorCode(),
+              outcome.failedChunk().getErrorMessage(),
+              outcome.gpuSeconds());
+      default ->
+          jobProgressCoalescer.report(job.getId(), stageOf(outcome.progress()), outcome.progress());
+    }
+  }
+
+  // 진행률은 모아서, 완료/실패만 엔티티로 즉시 반영
+  private void apply(Job job, TaskStatus status) {
+    if (status == null || status.status() == null) {
+      return;
+    }
+    switch (status.status()) {
+      case "PROCESSING" -> {
+        int progress = status.progress() == null ? 0 : status.progress().intValue();
+        jobProgressCoalescer.report(job.getId(), stageOf(progress), progress);
+        if (progress >= 20) {
+          modelAffinityPolicy.onModelReady(job.getId(), elapsed(job));
+        }
+      }
+      case "SUCCESS" -> {
+        batchSizeAdvisor.recordSuccess(
+            job, durationOf(job), status.workerClass(), job.getBatchSize());
+        complete(
+            job, status.result() == null ? List.of() : status.result(), gpuSeconds(job, status));
+      }
+      case "FAILURE" -> {
+        if (AiServiceClient.GPU_OOM.equals(status.errorCode())
+            && batchSizeAdvisor.recordOom(
+                job, durationOf(job), status.workerClass(), job.getBatchSize())) {
+          requeue(job, gpuSeconds(job, status));
+        } else {
+          fail(job, status.errorCode(), status.errorMessage(), gpuSeconds(job, status));
+        }
+      }
+      default -> {
+        // PENDING: 워커가 아직 가져가지 않음
+      }
+    }
+  }
+
+  // STT 결과 저장 후 체크포인트 기록 (재시도 시 오디오 추출/STT 생략)
+  private void complete(Job job, List<TranscriptSegment> transcript, double gpuSeconds) {
+    jobProgressCoalescer.discard(job.getId());
+    segmentService.saveTranscript(job, transcript);
+    jobCheckpointService.record(job, CurrentStage.STT_TRANSCRIPTION, gpuSeconds);
+    settleUsage(job, gpuSeconds);
+    modelAffinityPolicy.forget(job.getId());
+
+    if (isFanOut(job)) {
+      // 언어별 번역/학습 콘텐츠 생성은 LanguageFanOutRunner 가 동시에 처리
+      job.handOff(CurrentStage.TRANSLATION, 90);
+      return;
+    }
+    if (llmAnalysisEnabled
+        && JobPipeline.stagesOf(job.pipelineType()).contains(CurrentStage.LLM_ANALYSIS)) {
+      // 학습 콘텐츠 생성은 LearningAnalysisRunner 가 이어서 처리
+      job.handOff(CurrentStage.LLM_ANALYSIS, 90);
+      return;
+    }
+    job.markCompleted();
+    job.getProject().updateStatus(ProjectStatus.COMPLETED);
+  }
+
+  // 여러 언어 작업 (STT 결과 하나로 언어마다 번역/분석)
+  private boolean isFanOut(Job job) {
+    return llmAnalysisEnabled && jobLanguageRepository.existsByJobId(job.getId());
+  }
+
+  private void rejectUnsupported(Job job) {
+    jobProgressCoalescer.discard(job.getId());
+    job.markFailed(UNSUPPORTED_JOB_TYPE, "지원하지 않는 작업 종류입니다: " + job.pipelineType());
+    job.getProject().updateStatus(ProjectStatus.FAILED);
+    log.warn("Job rejected: jobId={}, pipelineType={}", job.getId(), job.pipelineType());
+  }
+
+  private void fail(Job job, String errorCode, String errorMessage, double gpuSeconds) {
+    jobProgressCoalescer.discard(job.getId());
+    job.markFailed(errorCode, errorMessage);
+    job.getProject().updateStatus(ProjectStatus.FAILED);
+    settleUsage(job, gpuSeconds);
+    modelAffinityPolicy.forget(job.getId());
+  }
+
+  // GPU OOM 작업은 실패 대신 대기열로 되돌려 더 작은 batch_size 로 다시 디스패치
+  private void requeue(Job job, double gpuSeconds) {
+    jobProgressCoalescer.discard(job.getId());
+    settleUsage(job, gpuSeconds);
+    modelAffinityPolicy.forget(job.getId());
+    log.info(
+        "Job requeued after GPU OOM: jobId={}, batchSize={}", job.getId(), job.getBatchSize());
+    job.requeue();
+  }
+
+  // 워커는 모델 준비 후 20%, 인식 완료 후 90% 를 보고함
+  private CurrentStage stageOf(int progress) {
+    if (progress >= 90) {
+      return CurrentStage.MERGING_RESULTS;
+    }
+    if (progress >= 20) {
+      return CurrentStage.STT_TRANSCRIPTION;
+    }
+    return CurrentStage.AUDIO_EXTRACTION;
+  }
+
+  // 예상치로 부과한 사용량을 실제 GPU 처리 시간으로 보정 (구간 처리는 구간별 시간의 합)
+  private void settleUsage(Job job, double gpuSeconds) {
+    if (job.getDispatchedAt() == null) {
+      return;
+    }
+    fairShareJobSelector.settle(
+        job.getProject().getMember().getId(),
+        estimate(job),
+        gpuSeconds,
+        System.currentTimeMillis());
+  }
+
+  // 워커가 잰 처리 시간 (워커 대기열에서 기다린 시간 제외), 보고하지 않는 이전 워커는 디스패치부터 잰 시간
+  private double gpuSeconds(Job job, TaskStatus status) {
+    if (status.workerSeconds() != null) {
+      return status.workerSeconds();
+    }
+    return elapsed(job).toMillis() / 1000.0;
+  }
+
+  private Duration elapsed(Job job) {
+    if (job.getDispatchedAt() == null) {
+      return Duration.ZERO;
+    }
+    return Duration.between(job.getDispatchedAt(), Instant.now());
+  }
+
+  private FairShareJobSelector.Candidate toCandidate(Job job) {
+    return new FairShareJobSelector.Candidate(
+        job.getId(),
+        job.getProject().getMember().getId(),
+        estimate(job),
+        jobCostEstimator.isLatencySensitive(job.getJobType()),
+        job.getCreatedAt().toEpochMilli());
+  }
+
+  // 재시도 작업은 체크포인트로 절약한 만큼 비용이 줄어듦
+  private double estimate(Job job) {
+    double estimate =
+        jobCostEstimator.estimateGpuSeconds(
+            job.pipelineType(), job.getProject().getDurationSeconds());
+    double saved = job.getSavedGpuSeconds() == null ? 0.0 : job.getSavedGpuSeconds();
+    return Math.max(0.0, estimate - saved);
+  }
+
+  // 워커는 로컬 경로를 받으므로 저장소별 워커 기준 경로로 변환
+  private String mediaPath(Project project) {
+    return storageService.workerPath(project.getFileKey());
+  }
+
+  // 업로드 시 읽은 영상 길이 (batch_size 학습 구간), 모르면 null
+  private Double durationOf(Job job) {
+    return job.getProject().getDurationSeconds();
+  }
+
+  private ModelAffinityPolicy.AffinityKey affinityKey(Job job) {
+    return affinityKey(job, durationOf(job));
+  }
+
+  // 워커 모델 교체 여부를 가르는 설정 묶음 (batch_size 는 OOM 이력으로 학습한 값)
+  private ModelAffinityPolicy.AffinityKey affinityKey(Job job, Double durationSeconds) {
+    String model = job.getSttModel() == null ? defaultModel : job.getSttModel();
+    return new ModelAffinityPolicy.AffinityKey(
+        model, job.getSourceLanguage(), batchSizeAdvisor.select(job, durationSeconds));
+  }
+
+  private Map<String, Object> options(ModelAffinityPolicy.AffinityKey key) {
+    Map<String, Object> options = new LinkedHashMap<>();
+    options.put("model", key.model());
+    options.put("batch_size", key.batchSize());
+    if (key.language() != null) {
+      options.put("language", key.language());
+    }
+    return options;
+  }
+}
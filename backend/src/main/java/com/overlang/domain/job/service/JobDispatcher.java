@@ -0,0 +1,127 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.client.AiServiceClient;
+import com.overlang.domain.job.client.AiServiceClient.TaskStatus;
+import com.overlang.global.tracing.JobTracing;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// PENDING 작업을 모델 친화 그룹 안에서 공정 분배 순서로 AI 서버에 전달하고, 실행 중인 작업 상태를 동기화
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobDispatcher {
+
+  private final AiServiceClient aiServiceClient;
+  private final JobDispatchService jobDispatchService;
+  private final ChunkedTranscriptionService chunkedTranscriptionService;
+  private final JobTracing jobTracing;
+
+  // 선점(짧은 트랜잭션) -> AI 서버 전달(트랜잭션 밖) -> AI 작업 ID 기록 순서라 느린 AI 서버가 DB 연결/락을 잡지 않음
+  @Scheduled(fixedDelayString = "${overlang.job.dispatch.interval-ms:2000}")
+  public void dispatchPending() {
+    List<JobDispatchService.Submission> submissions;
+    try {
+      submissions = jobDispatchService.claim();
+    } catch (ObjectOptimisticLockingFailureException e) {
+      // 선점 중 다른 요청이 같은 작업을 바꿈, 이번 선점은 모두 롤백되고 다음 주기에 다시 선점
+      log.info("Job claim conflicted, retrying next tick: reason={}", e.getMessage());
+      return;
+    }
+    for (int i = 0; i < submissions.size(); i++) {
+      JobDispatchService.Submission submission = submissions.get(i);
+      String aiTaskId;
+      try {
+        aiTaskId =
+            jobTracing.observe(
+                "overlang.job.dispatch",
+                submission.jobId(),
+                () -> aiServiceClient.submit(submission.mediaPath(), submission.options()));
+      } catch (Exception e) {
+        // AI 서버 장애 시 남은 선점을 되돌려 다음 주기에 재시도
+        log.warn(
+            "Job dispatch failed: jobId={}, chunkId={}, reason={}",
+            submission.jobId(),
+            submission.chunkId(),
+            e.getMessage());
+        submissions.subList(i, submissions.size()).forEach(this::release);
+        return;
+      }
+      try {
+        jobDispatchService.recordSubmitted(submission, aiTaskId);
+        log.info(
+            "Job dispatched: jobId={}, chunkId={}, aiTaskId={}",
+            submission.jobId(),
+            submission.chunkId(),
+            aiTaskId);
+      } catch (Exception e) {
+        // AI 서버는 이미 받았으므로 되돌리지 않음 (선점 시간이 지나면 다시 보냄)
+        log.warn(
+            "Dispatched task id not recorded: jobId={}, aiTaskId={}, reason={}",
+            submission.jobId(),
+            aiTaskId,
+            e.getMessage());
+      }
+    }
+  }
+
+  private void release(JobDispatchService.Submission submission) {
+    try {
+      jobDispatchService.release(submission);
+    } catch (Exception e) {
+      log.warn("Job claim release failed: jobId={}, reason={}", submission.jobId(), e.getMessage());
+    }
+  }
+
+  // 작업/구간마다 AI 서버 조회(트랜잭션 밖) 후 각자의 짧은 트랜잭션으로 반영
+  @Scheduled(fixedDelayString = "${overlang.job.sync.interval-ms:3000}")
+  public void syncRunning() {
+    for (Map.Entry<Long, String> task : jobDispatchService.submittedTasks().entrySet()) {
+      Long jobId = task.getKey();
+      sync(
+          jobId,
+          () ->
+              jobTracing.observe(
+                  "overlang.job.sync",
+                  jobId,
+                  () -> {
+                    TaskStatus status = aiServiceClient.getStatus(task.getValue());
+                    jobDispatchService.apply(jobId, task.getValue(), status);
+                  }));
+    }
+
+    Set<Long> touched = new LinkedHashSet<>();
+    for (Map.Entry<Long, String> chunk : chunkedTranscriptionService.submittedChunks().entrySet()) {
+      try {
+        TaskStatus status = aiServiceClient.getStatus(chunk.getValue());
+        chunkedTranscriptionService
+            .apply(chunk.getKey(), chunk.getValue(), status)
+            .ifPresent(touched::add);
+      } catch (Exception e) {
+        log.warn(
+            "Chunk status sync failed: chunkId={}, reason={}", chunk.getKey(), e.getMessage());
+      }
+    }
+    for (Long jobId : touched) {
+      sync(jobId, () -> jobDispatchService.applyChunks(jobId));
+    }
+  }
+
+  // 같은 작업을 다른 요청(재시도, 삭제 등)이 먼저 바꿨으면 이 작업만 건너뛰고 다음 주기에 다시 반영
+  private void sync(Long jobId, Runnable action) {
+    try {
+      action.run();
+    } catch (ObjectOptimisticLockingFailureException e) {
+      log.info("Job status sync conflicted, retrying next tick: jobId={}", jobId);
+    } catch (Exception e) {
+      log.warn("Job status sync failed: jobId={}, reason={}", jobId, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.JobType;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// 작업 유형별 단계 순서
+public final class JobPipeline {
+
+  // 결과가 DB 행으로 남아 체크포인트를 만들 수 있는 단계
+  private static final Set<CurrentStage> CHECKPOINT_STAGES =
+      EnumSet.of(
+          CurrentStage.STT_TRANSCRIPTION, CurrentStage.TRANSLATION, CurrentStage.LLM_ANALYSIS);
+
+  // 워커가 STT 작업 하나에서 함께 처리해 STT 체크포인트에 포함되는 단계
+  private static final Set<CurrentStage> STT_TASK_STAGES =
+      EnumSet.of(
+          CurrentStage.AUDIO_EXTRACTION,
+          CurrentStage.STT_TRANSCRIPTION,
+          CurrentStage.WHISPER_ALIGNMENT);
+
+  // 처리기가 없는 단계 (OCR 결과는 보관본 복원으로만 생김), 재시작 단계로 고르지 않음
+  private static final Set<CurrentStage> UNSCHEDULED_STAGES =
+      EnumSet.of(CurrentStage.OCR_FRAME_EXTRACTION, CurrentStage.OCR_TEXT_DETECTION);
+
+  // AI 워커(GPU)가 처리하는 단계
+  private static final Set<CurrentStage> GPU_STAGES =
+      EnumSet.of(
+          CurrentStage.AUDIO_EXTRACTION,
+          CurrentStage.STT_TRANSCRIPTION,
+          CurrentStage.WHISPER_ALIGNMENT,
+          CurrentStage.OCR_FRAME_EXTRACTION,
+          CurrentStage.OCR_TEXT_DETECTION);
+
+  private JobPipeline() {}
+
+  /** RETRY 는 원본 작업 유형의 단계를 따름 */
+  public static List<CurrentStage> stagesOf(JobType jobType) {
+    return switch (jobType) {
+      case FULL_ANALYSIS, RETRY ->
+          List.of(
+              CurrentStage.AUDIO_EXTRACTION,
+              CurrentStage.STT_TRANSCRIPTION,
+              CurrentStage.WHISPER_ALIGNMENT,
+              CurrentStage.OCR_FRAME_EXTRACTION,
+              CurrentStage.OCR_TEXT_DETECTION,
+              CurrentStage.TRANSLATION,
+              CurrentStage.LLM_ANALYSIS,
+              CurrentStage.MERGING_RESULTS,
+              CurrentStage.FINALIZING);
+      case STT_ONLY ->
+          List.of(
+              CurrentStage.AUDIO_EXTRACTION,
+              CurrentStage.STT_TRANSCRIPTION,
+              CurrentStage.WHISPER_ALIGNMENT,
+              CurrentStage.FINALIZING);
+      case OCR_ONLY ->
+          List.of(
+              CurrentStage.OCR_FRAME_EXTRACTION,
+              CurrentStage.OCR_TEXT_DETECTION,
+              CurrentStage.FINALIZING);
+      case TRANSLATION_ONLY -> List.of(CurrentStage.TRANSLATION, CurrentStage.FINALIZING);
+    };
+  }
+
+  /**
+   * 실제로 실행되는 단계. STT 결과를 받는 작업의 번역은 여러 언어 작업(LanguageFanOutRunner)에서만 따로 실행되고, 한 언어 작업은 STT
+   * 다음 바로 LLM 분석으로 넘어간다.
+   */
+  public static List<CurrentStage> stagesOf(JobType jobType, boolean fanOut) {
+    List<CurrentStage> stages = stagesOf(jobType);
+    if (fanOut || !stages.contains(CurrentStage.STT_TRANSCRIPTION)) {
+      return stages;
+    }
+    return stages.stream().filter(stage -> stage != CurrentStage.TRANSLATION).toList();
+  }
+
+  public static boolean isCheckpointStage(CurrentStage stage) {
+    return CHECKPOINT_STAGES.contains(stage);
+  }
+
+  public static boolean isGpuStage(CurrentStage stage) {
+    return GPU_STAGES.contains(stage);
+  }
+
+  /** 체크포인트 단계를 재사용할 때 다시 실행할 필요가 없는 단계인지 (같은 워커 작업에 포함되었거나 처리기가 없음) */
+  public static boolean isCoveredBy(CurrentStage stage, CurrentStage checkpointStage) {
+    if (UNSCHEDULED_STAGES.contains(stage)) {
+      return true;
+    }
+    return checkpointStage == CurrentStage.STT_TRANSCRIPTION && STT_TASK_STAGES.contains(stage);
+  }
+}
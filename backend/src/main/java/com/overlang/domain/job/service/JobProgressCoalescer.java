@@ -0,0 +1,114 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 실행 중 작업의 진행률 write-behind.
+ *
+ * <p>워커 진행률 보고는 작업별 최신 (단계, 진행률)만 메모리에 남기고, 바뀐 작업만 짧은 주기로 한 번의 JDBC 배치 UPDATE 로 반영한다. 조회는
+ * {@link #pending} 으로 아직 반영되지 않은 값을 덮어 보여준다.
+ *
+ * <p>UPDATE 는 RUNNING 상태이고 진행률이 줄지 않는 행에만 적용되어 늦게 도착한 보고가 완료/실패를 덮어쓰지 않는다. 상태 전이는
+ * 엔티티로 즉시 반영하고({@code @Version} 낙관적 락) 그때 {@link #discard} 로 대기 중인 값을 버린다. 이 UPDATE 는 version 을
+ * 올리지 않아 같은 시점에 엔티티로 처리 중인 상태 전이를 실패시키지 않는다.
+ */
+@Component
+public class JobProgressCoalescer {
+
+  private static final String UPDATE_PROGRESS =
+      """
+      update jobs set current_stage = ?, progress = ?, updated_at = ?
+      where id = ? and status = 'RUNNING' and progress <= ?
+        and (current_stage <> ? or progress <> ?)
+      """;
+
+  public record Progress(CurrentStage stage, int progress) {}
+
+  private final Map<Long, Progress> pending = new ConcurrentHashMap<>();
+  // 마지막으로 반영한 값 (같은 값 보고는 대기열에 넣지 않음)
+  private final Map<Long, Progress> written = new ConcurrentHashMap<>();
+  private final JdbcTemplate jdbcTemplate;
+  private final Counter reported;
+  private final Counter coalesced;
+  private final Counter updated;
+
+  public JobProgressCoalescer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.reported = meterRegistry.counter("overlang.job.progress.updates", "result", "reported");
+    this.coalesced = meterRegistry.counter("overlang.job.progress.updates", "result", "coalesced");
+    this.updated = meterRegistry.counter("overlang.job.progress.updates", "result", "written");
+  }
+
+  public void report(Long jobId, CurrentStage stage, int progress) {
+    reported.increment();
+    Progress next = new Progress(stage, progress);
+    if (next.equals(written.get(jobId)) || pending.put(jobId, next) != null) {
+      coalesced.increment();
+    }
+  }
+
+  /** 아직 DB 에 반영되지 않은 최신 진행률 */
+  public Optional<Progress> pending(Long jobId) {
+    return Optional.ofNullable(pending.get(jobId));
+  }
+
+  /** 상태 전이(완료, 실패, 단계 넘김)를 엔티티로 반영할 때 호출 */
+  public void discard(Long jobId) {
+    pending.remove(jobId);
+    written.remove(jobId);
+  }
+
+  @Scheduled(fixedDelayString = "${overlang.job.progress.flush-interval-ms:1000}")
+  @Transactional
+  public void flush() {
+    List<Object[]> batch = new ArrayList<>();
+    List<Map.Entry<Long, Progress>> flushed = new ArrayList<>();
+    Timestamp now = Timestamp.from(Instant.now());
+    for (Map.Entry<Long, Progress> entry : pending.entrySet()) {
+      Progress progress = entry.getValue();
+      // 꺼내는 사이 새 보고가 들어왔으면 다음 주기에 반영
+      if (!pending.remove(entry.getKey(), progress)) {
+        continue;
+      }
+      String stage = progress.stage().name();
+      batch.add(
+          new Object[] {
+            stage,
+            progress.progress(),
+            now,
+            entry.getKey(),
+            progress.progress(),
+            stage,
+            progress.progress()
+          });
+      flushed.add(Map.entry(entry.getKey(), progress));
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    int[] counts = jdbcTemplate.batchUpdate(UPDATE_PROGRESS, batch);
+    for (int i = 0; i < counts.length; i++) {
+      Map.Entry<Long, Progress> entry = flushed.get(i);
+      if (counts[i] > 0) {
+        written.put(entry.getKey(), entry.getValue());
+        updated.increment();
+      } else {
+        // 종료됐거나 삭제된 작업
+        written.remove(entry.getKey());
+      }
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.api.dto.job.JobCreateRequest;
+import com.overlang.api.dto.job.JobLanguageResponse;
+import com.overlang.api.dto.job.JobResponse;
+import com.overlang.domain.archive.service.JobArchiveService;
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobLanguage;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.ProjectStatus;
+import com.overlang.domain.project.repository.ProjectRepository;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class JobService {
+
+  private final JobRepository jobRepository;
+  private final JobLanguageRepository jobLanguageRepository;
+  private final ProjectRepository projectRepository;
+  private final JobCheckpointService jobCheckpointService;
+  private final JobArchiveService jobArchiveService;
+  private final JobProgressCoalescer jobProgressCoalescer;
+  private final boolean llmEnabled;
+
+  public JobService(
+      JobRepository jobRepository,
+      JobLanguageRepository jobLanguageRepository,
+      ProjectRepository projectRepository,
+      JobCheckpointService jobCheckpointService,
+      JobArchiveService jobArchiveService,
+      JobProgressCoalescer jobProgressCoalescer,
+      @Value("${overlang.llm.enabled}") boolean llmEnabled) {
+    this.jobRepository = jobRepository;
+    this.jobLanguageRepository = jobLanguageRepository;
+    this.projectRepository = projectRepository;
+    this.jobCheckpointService = jobCheckpointService;
+    this.jobArchiveService = jobArchiveService;
+    this.jobProgressCoalescer = jobProgressCoalescer;
+    this.llmEnabled = llmEnabled;
+  }
+
+  // PENDING 으로 저장만 하고, 실제 GPU 전달 순서는 JobDispatcher 가 결정
+  public JobResponse createJob(Long memberId, Long projectId, JobCreateRequest request) {
+    Project project =
+        projectRepository
+            .findByIdAndMemberId(projectId, memberId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다."));
+
+    if (project.getFileKey() == null || project.getFileKey().isBlank()) {
+      throw new IllegalArgumentException("업로드된 영상이 없는 프로젝트입니다.");
+    }
+    validateTracks(project, request.jobType());
+
+    Job job =
+        jobRepository.save(
+            new Job(
+                project,
+                request.jobType(),
+                request.sourceLanguage(),
+                request.targetLanguage(),
+                request.translationProvider(),
+                request.useUserApiKey(),
+                request.sttModel()));
+
+    if (request.jobType() == JobType.RETRY) {
+      jobCheckpointService.prepareRetry(job, findRetryTarget(memberId, project, request));
+    }
+    fanOut(job, request);
+    project.updateStatus(ProjectStatus.PROCESSING);
+
+    return toResponse(job);
+  }
+
+  // 추가 언어가 있으면 대상 언어마다 진행 상황 행을 만들어 STT 이후 언어별로 번역/분석 (LanguageFanOutRunner)
+  private void fanOut(Job job, JobCreateRequest request) {
+    if (request.additionalTargetLanguages() == null) {
+      return;
+    }
+    Set<String> languages = new LinkedHashSet<>();
+    languages.add(job.getTargetLanguage());
+    request.additionalTargetLanguages().forEach(language -> languages.add(language.strip()));
+    if (languages.size() == 1) {
+      return;
+    }
+    if (!JobPipeline.stagesOf(job.pipelineType()).contains(CurrentStage.TRANSLATION)) {
+      throw new IllegalArgumentException("번역 단계가 없는 작업 유형은 여러 언어로 번역할 수 없습니다.");
+    }
+    if (!llmEnabled) {
+      throw new IllegalArgumentException("여러 언어 번역을 사용할 수 없는 서버입니다.");
+    }
+    jobLanguageRepository.saveAll(
+        languages.stream().map(language -> new JobLanguage(job, language)).toList());
+  }
+
+  /**
+   * 결과 조회 언어 확인: 생략하거나 작업의 targetLanguage 면 null (segments.translated_text, 언어 없는 학습 콘텐츠), 여러 언어
+   * 작업의 추가 언어면 그 언어.
+   */
+  @Transactional(readOnly = true)
+  public String resultLanguage(Job job, String language) {
+    if (language == null || language.isBlank()) {
+      return null;
+    }
+    String requested = language.strip();
+    if (requested.equals(job.getTargetLanguage())) {
+      return null;
+    }
+    if (!jobLanguageRepository.existsByJobIdAndLanguage(job.getId(), requested)) {
+      throw new IllegalArgumentException("해당 언어로 번역된 결과가 없습니다.");
+    }
+    return requested;
+  }
+
+  // 업로드 시 읽은 트랙 정보로 GPU 에 보내기 전에 거절 (모르는 경우는 통과)
+  private void validateTracks(Project project, JobType jobType) {
+    List<CurrentStage> stages = JobPipeline.stagesOf(jobType);
+    if (!stages.contains(CurrentStage.STT_TRANSCRIPTION)) {
+      // OCR/번역만 하는 작업은 아직 처리기가 없음 (워커에 보내면 음성 인식을 통째로 실행)
+      throw new IllegalArgumentException("아직 지원하지 않는 작업 종류입니다: " + jobType);
+    }
+    if (Boolean.FALSE.equals(project.getHasAudio())
+        && stages.contains(CurrentStage.STT_TRANSCRIPTION)) {
+      throw new IllegalArgumentException("오디오 트랙이 없는 영상은 음성 인식을 할 수 없습니다.");
+    }
+    if (Boolean.FALSE.equals(project.getHasVideo())
+        && stages.contains(CurrentStage.OCR_TEXT_DETECTION)) {
+      throw new IllegalArgumentException("비디오 트랙이 없는 영상은 화면 텍스트 인식을 할 수 없습니다.");
+    }
+  }
+
+  @Transactional(readOnly = true)
+  public JobResponse getJob(Long memberId, Long jobId) {
+    Job job =
+        jobRepository
+            .findByIdAndMemberId(jobId, memberId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+    return toResponse(job);
+  }
+
+  private Job findRetryTarget(Long memberId, Project project, JobCreateRequest request) {
+    if (request.retryOfJobId() == null) {
+      throw new IllegalArgumentException("RETRY 작업에는 retryOfJobId가 필요합니다.");
+    }
+    Job original =
+        jobRepository
+            .findByIdAndMemberId(request.retryOfJobId(), memberId)
+            .orElseThrow(() -> new IllegalArgumentException("재시도할 작업을 찾을 수 없습니다."));
+
+    if (!original.getProject().getId().equals(project.getId())) {
+      throw new IllegalArgumentException("다른 프로젝트의 작업은 재시도할 수 없습니다.");
+    }
+    if (original.getStatus() != JobStatus.FAILED) {
+      throw new IllegalArgumentException("실패한 작업만 재시도할 수 있습니다.");
+    }
+    // 보관된 결과는 체크포인트 검증/복사 전에 행으로 복원
+    jobArchiveService.restore(original.getId());
+    return original;
+  }
+
+  // 실행 중이면 아직 DB 에 반영되지 않은 최신 진행률을 보여줌
+  private JobResponse toResponse(Job job) {
+    CurrentStage stage = job.getCurrentStage();
+    int progress = job.getProgress();
+    if (job.getStatus() == JobStatus.RUNNING) {
+      Optional<JobProgressCoalescer.Progress> pending = jobProgressCoalescer.pending(job.getId());
+      if (pending.isPresent()) {
+        stage = pending.get().stage();
+        progress = pending.get().progress();
+      }
+    }
+    return new JobResponse(
+        job.getId(),
+        job.getProject().getId(),
+        job.getJobType(),
+        job.getStatus(),
+        stage,
+        progress,
+        job.getErrorCode(),
+        job.getErrorMessage(),
+        job.getCreatedAt(),
+        jobLanguageRepository.findByJobIdOrderByIdAsc(job.getId()).stream()
+            .map(
+                l ->
+                    new JobLanguageResponse(
+                        l.getLanguage(),
+                        l.getStatus(),
+                        l.getCurrentStage(),
+                        l.getProgress(),
+                        l.getErrorCode(),
+                        l.getErrorMessage()))
+            .toList());
+  }
+}
@@ -0,0 +1,98 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.job.service.LanguageFanOutService.Claimed;
+import com.overlang.domain.job.service.LanguageFanOutService.FanOutInput;
+import com.overlang.domain.learning.service.LearningContentGenerator;
+import com.overlang.domain.segment.service.SegmentTranslator;
+import com.overlang.global.config.SchedulingConfig;
+import com.overlang.global.tracing.JobTracing;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// STT 가 끝나 TRANSLATION 단계에 도달한 여러 언어 작업을 언어별로 동시에 번역/분석
+// (LLM 동시 요청 수는 LearningContentGenerator 의 provider 한도를 함께 씀)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "overlang.llm.enabled", havingValue = "true")
+public class LanguageFanOutRunner {
+
+  private final JobRepository jobRepository;
+  private final LanguageFanOutService languageFanOutService;
+  private final SegmentTranslator segmentTranslator;
+  private final LearningContentGenerator learningContentGenerator;
+  private final JobTracing jobTracing;
+
+  @Scheduled(
+      fixedDelayString = "${overlang.translation.fan-out.interval-ms}",
+      scheduler = SchedulingConfig.LLM_SCHEDULER)
+  public void runPending() {
+    for (Long jobId :
+        jobRepository.findIdsAwaitingBackendStage(JobStatus.RUNNING, CurrentStage.TRANSLATION)) {
+      try {
+        jobTracing.observe("overlang.job.fan-out", jobId, () -> runJob(jobId));
+      } catch (Exception e) {
+        log.warn("Language fan-out failed: jobId={}, reason={}", jobId, e.getMessage());
+      }
+    }
+  }
+
+  private void runJob(Long jobId) {
+    List<Claimed> claimed = languageFanOutService.claim(jobId);
+    if (!claimed.isEmpty()) {
+      run(jobId, claimed, languageFanOutService.load(jobId));
+    }
+    languageFanOutService.finish(jobId);
+  }
+
+  // 언어마다 가상 스레드 하나, 모든 언어가 끝날 때까지 기다림 (close)
+  // 언어별 번역/분석 span 이 작업 span 아래에 묶이도록 추적 컨텍스트를 가상 스레드로 넘김
+  private void run(Long jobId, List<Claimed> claimed, FanOutInput input) {
+    try (ExecutorService executor =
+        ContextExecutorService.wrap(
+            Executors.newVirtualThreadPerTaskExecutor(),
+            ContextSnapshotFactory.builder().build())) {
+      for (Claimed language : claimed) {
+        executor.submit(() -> runLanguage(jobId, language, input));
+      }
+    }
+  }
+
+  private void runLanguage(Long jobId, Claimed language, FanOutInput input) {
+    try {
+      Map<Integer, String> translations =
+          segmentTranslator.translate(input.lines(), input.sourceLanguage(), language.language());
+      languageFanOutService.saveTranslations(jobId, language, translations, input.withAnalysis());
+      if (input.withAnalysis()) {
+        LearningContentGenerator.Result result =
+            learningContentGenerator.generate(
+                input.analysisLines(), input.sourceLanguage(), language.language());
+        languageFanOutService.saveContents(jobId, language, result.contents());
+      }
+      log.info(
+          "Language completed: jobId={}, language={}, segments={}",
+          jobId,
+          language.language(),
+          translations.size());
+    } catch (Exception e) {
+      log.warn(
+          "Language failed: jobId={}, language={}, reason={}",
+          jobId,
+          language.language(),
+          e.getMessage());
+      languageFanOutService.fail(language, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobLanguage;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.learning.service.LearningAnalysisService;
+import com.overlang.domain.learning.service.LearningContentGenerator.GeneratedContent;
+import com.overlang.domain.learning.service.TranscriptWindows;
+import com.overlang.domain.project.entity.ProjectStatus;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.entity.SegmentTranslation;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.SegmentTranslationRepository;
+import com.overlang.domain.segment.service.SegmentTranslator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 여러 언어 작업의 언어별 TRANSLATION / LLM_ANALYSIS 입력 조회와 결과 반영 (LLM 호출은 LanguageFanOutRunner)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LanguageFanOutService {
+
+  public static final String TRANSLATION_ERROR_CODE = "TRANSLATION_001";
+
+  // 처리하던 인스턴스가 죽으면 이 시간 동안 갱신되지 않은 언어를 다시 가져감
+  private static final Duration LEASE = Duration.ofMinutes(30);
+
+  private final JobRepository jobRepository;
+  private final JobLanguageRepository jobLanguageRepository;
+  private final SegmentRepository segmentRepository;
+  private final SegmentTranslationRepository segmentTranslationRepository;
+  private final LearningAnalysisService learningAnalysisService;
+  private final JobCheckpointService jobCheckpointService;
+
+  public record Claimed(Long id, String language, boolean primary) {}
+
+  /**
+   * 언어와 상관없는 단계(STT) 결과, 모든 언어가 같은 입력을 씀
+   *
+   * @param lines 번역할 자막 (모든 줄이 target)
+   * @param analysisLines 학습 콘텐츠 윈도우를 나눌 자막
+   * @param withAnalysis 작업 유형에 LLM_ANALYSIS 단계가 있는지
+   */
+  public record FanOutInput(
+      List<SegmentTranslator.Line> lines,
+      List<TranscriptWindows.Line> analysisLines,
+      String sourceLanguage,
+      boolean withAnalysis) {}
+
+  /** 아직 처리하지 않은 언어를 RUNNING 으로 바꿔 가져감 */
+  public List<Claimed> claim(Long jobId) {
+    List<JobLanguage> claimable =
+        jobLanguageRepository.lockClaimable(jobId, Instant.now().minus(LEASE));
+    claimable.forEach(language -> language.markRunning(CurrentStage.TRANSLATION, 0));
+    return claimable.stream()
+        .map(l -> new Claimed(l.getId(), l.getLanguage(), l.isPrimary()))
+        .toList();
+  }
+
+  @Transactional(readOnly = true)
+  public FanOutInput load(Long jobId) {
+    Job job = findJob(jobId);
+    List<Segment> segments = segmentRepository.findByJobIdOrderBySeqAsc(jobId);
+    List<SegmentTranslator.Line> lines = new ArrayList<>(segments.size());
+    List<TranscriptWindows.Line> analysisLines = new ArrayList<>(segments.size());
+    for (Segment segment : segments) {
+      lines.add(new SegmentTranslator.Line(segment.getSeq(), segment.getText(), null, true));
+      analysisLines.add(
+          new TranscriptWindows.Line(
+              segment.getSeq(), segment.getStartTime(), segment.getEndTime(), segment.getText()));
+    }
+    boolean withAnalysis =
+        JobPipeline.stagesOf(job.pipelineType()).contains(CurrentStage.LLM_ANALYSIS);
+    return new FanOutInput(lines, analysisLines, job.getSourceLanguage(), withAnalysis);
+  }
+
+  /** 번역 저장 후 LLM_ANALYSIS 로 넘어감 (분석 단계가 없으면 언어 완료) */
+  public void saveTranslations(
+      Long jobId, Claimed claimed, Map<Integer, String> translations, boolean withAnalysis) {
+    Job job = findJob(jobId);
+    if (claimed.primary()) {
+      segmentRepository
+          .findByJobIdOrderBySeqAsc(jobId)
+          .forEach(segment -> segment.applyTranslation(translations.get(segment.getSeq())));
+      // LLM 번역은 GPU 를 쓰지 않으므로 체크포인트의 GPU 시간은 0
+      jobCheckpointService.record(job, CurrentStage.TRANSLATION, 0.0);
+    } else {
+      segmentTranslationRepository.deleteByJobIdAndLanguage(jobId, claimed.language());
+      segmentTranslationRepository.saveAll(
+          translations.entrySet().stream()
+              .map(t -> new SegmentTranslation(job, claimed.language(), t.getKey(), t.getValue()))
+              .toList());
+    }
+    JobLanguage language = findLanguage(claimed);
+    if (withAnalysis) {
+      language.markRunning(CurrentStage.LLM_ANALYSIS, 50);
+    } else {
+      language.markCompleted();
+    }
+  }
+
+  public void saveContents(Long jobId, Claimed claimed, List<GeneratedContent> contents) {
+    Job job = findJob(jobId);
+    learningAnalysisService.replaceContents(
+        job, claimed.primary() ? null : claimed.language(), contents);
+    if (claimed.primary()) {
+      jobCheckpointService.record(job, CurrentStage.LLM_ANALYSIS, 0.0);
+    }
+    findLanguage(claimed).markCompleted();
+  }
+
+  /** 한 언어의 실패는 다른 언어에 영향을 주지 않음 */
+  public void fail(Claimed claimed, String errorMessage) {
+    findLanguage(claimed).markFailed(TRANSLATION_ERROR_CODE, errorMessage);
+  }
+
+  /** 모든 언어가 끝났으면 작업 완료 (하나라도 완료되면 COMPLETED, 모두 실패하면 FAILED) */
+  public void finish(Long jobId) {
+    Job job = findJob(jobId);
+    if (job.getStatus() != JobStatus.RUNNING) {
+      return;
+    }
+    List<JobLanguage> languages = jobLanguageRepository.findByJobIdOrderByIdAsc(jobId);
+    if (languages.isEmpty()) {
+      // 언어 행이 모두 지워진 작업 (정상 경로에서는 없음), 끝나지 않는 RUNNING 으로 두지 않음
+      job.markFailed(TRANSLATION_ERROR_CODE, "번역할 언어가 없습니다.");
+      job.getProject().updateStatus(ProjectStatus.FAILED);
+      return;
+    }
+    long finished = languages.stream().filter(JobLanguage::isFinished).count();
+    if (finished < languages.size()) {
+      // GPU 단계까지 90%, 나머지 10% 를 끝난 언어 비율로 채움
+      job.markRunning(CurrentStage.TRANSLATION, 90 + (int) (10 * finished / languages.size()));
+      return;
+    }
+    List<JobLanguage> failed =
+        languages.stream().filter(l -> l.getStatus() == JobStatus.FAILED).toList();
+    if (failed.size() == languages.size()) {
+      job.markFailed(TRANSLATION_ERROR_CODE, failed.get(0).getErrorMessage());
+      job.getProject().updateStatus(ProjectStatus.FAILED);
+    } else {
+      job.markCompleted();
+      job.getProject().updateStatus(ProjectStatus.COMPLETED);
+    }
+    log.info(
+        "Fan-out job finished: jobId={}, languages={}, failed={}",
+        jobId,
+        languages.size(),
+        failed.size());
+  }
+
+  private JobLanguage findLanguage(Claimed claimed) {
+    return jobLanguageRepository
+        .findById(claimed.id())
+        .orElseThrow(() -> new IllegalArgumentException("해당 번역 언어를 찾을 수 없습니다."));
+  }
+
+  private Job findJob(Long jobId) {
+    return jobRepository
+        .findById(jobId)
+        .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+  }
+}
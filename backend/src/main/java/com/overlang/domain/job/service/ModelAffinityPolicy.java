@@ -0,0 +1,127 @@
+package com.overlang.domain.job.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워커에 이미 올라가 있는 Whisper 모델과 같은 설정의 작업을 먼저 보내 모델 교체를 줄인다.
+ *
+ * <p>워커는 요청 모델이 현재 모델과 다르면 전체 모델을 내리고 다시 올리므로(수십 초), 최근 디스패치한 설정을 워커 슬롯 수만큼 기억해 "올라가 있는 모델" 로
+ * 본다. 후보는 (모델, 언어, 배치 크기) 가 완전히 같은 그룹 → 모델만 같은 그룹 → 전체 순으로 좁히고, 좁힌 그룹 안에서는 공정 분배로 고른다. 다른
+ * 모델 작업이 max-wait 이상 기다리면 교체를 감수하고 먼저 처리해 굶주림을 막는다.
+ */
+@Component
+public class ModelAffinityPolicy {
+
+  private static final Duration SWAP_WINDOW = Duration.ofHours(1);
+
+  private final int workerSlots;
+  private final long maxAffinityWaitMillis;
+
+  // 최근 디스패치한 설정 (워커 슬롯 수만큼), 가장 최근이 앞
+  private final Deque<AffinityKey> loaded = new ArrayDeque<>();
+  // 최근 1시간 모델 교체 시각
+  private final Deque<Long> swapTimes = new ArrayDeque<>();
+  // 디스패치 후 모델 준비 완료 보고 전까지 교체 여부 기억
+  private final Map<Long, Boolean> awaitingModelReady = new ConcurrentHashMap<>();
+
+  private final MeterRegistry meterRegistry;
+
+  public record AffinityKey(String model, String language, int batchSize) {}
+
+  public ModelAffinityPolicy(
+      MeterRegistry meterRegistry,
+      @Value("${overlang.job.dispatch.max-running}") int workerSlots,
+      @Value("${overlang.job.affinity.max-wait-seconds}") long maxAffinityWaitSeconds) {
+    this.meterRegistry = meterRegistry;
+    this.workerSlots = Math.max(1, workerSlots);
+    this.maxAffinityWaitMillis = maxAffinityWaitSeconds * 1000;
+    Gauge.builder("overlang.job.model.swaps.last.hour", this, p -> p.swapsInLastHour())
+        .register(meterRegistry);
+  }
+
+  /** 공정 분배 선택 전에 후보를 모델 친화 그룹으로 좁힘 */
+  public synchronized <T> List<T> narrow(
+      Collection<T> candidates,
+      Function<T, AffinityKey> keyOf,
+      Function<T, Long> enqueuedAtMillisOf,
+      long nowMillis) {
+
+    // 오래 기다린 작업이 있으면 모델과 상관없이 그 작업들부터
+    List<T> starving =
+        candidates.stream()
+            .filter(c -> nowMillis - enqueuedAtMillisOf.apply(c) >= maxAffinityWaitMillis)
+            .toList();
+    if (!starving.isEmpty()) {
+      return starving;
+    }
+
+    List<T> exact = candidates.stream().filter(c -> loaded.contains(keyOf.apply(c))).toList();
+    if (!exact.isEmpty()) {
+      return exact;
+    }
+    List<T> sameModel =
+        candidates.stream().filter(c -> isModelLoaded(keyOf.apply(c).model())).toList();
+    if (!sameModel.isEmpty()) {
+      return sameModel;
+    }
+    return List.copyOf(candidates);
+  }
+
+  /** 디스패치 직후 호출, 모델 교체가 일어나는지 기록 */
+  public synchronized void onDispatched(Long jobId, AffinityKey key, long nowMillis) {
+    boolean swap = !loaded.isEmpty() && !isModelLoaded(key.model());
+    if (swap) {
+      swapTimes.addLast(nowMillis);
+      meterRegistry.counter("overlang.job.model.swaps", "model", key.model()).increment();
+    }
+    awaitingModelReady.put(jobId, swap);
+
+    loaded.remove(key);
+    loaded.addFirst(key);
+    while (loaded.size() > workerSlots) {
+      loaded.removeLast();
+    }
+  }
+
+  /** 워커가 모델 준비를 마쳤다고 보고한 시점 (디스패치부터의 지연을 교체 여부별로 기록) */
+  public void onModelReady(Long jobId, Duration sinceDispatch) {
+    Boolean swap = awaitingModelReady.remove(jobId);
+    if (swap == null) {
+      return;
+    }
+    Timer.builder("overlang.job.model.ready.delay")
+        .tag("swap", String.valueOf(swap))
+        .register(meterRegistry)
+        .record(sinceDispatch);
+  }
+
+  /** 완료/실패로 모델 준비 보고 없이 끝난 작업 정리 */
+  public void forget(Long jobId) {
+    awaitingModelReady.remove(jobId);
+  }
+
+  public synchronized int swapsInLastHour() {
+    long threshold = System.currentTimeMillis() - SWAP_WINDOW.toMillis();
+    while (!swapTimes.isEmpty() && swapTimes.peekFirst() < threshold) {
+      swapTimes.pollFirst();
+    }
+    return swapTimes.size();
+  }
+
+  private boolean isModelLoaded(String model) {
+    return loaded.stream().anyMatch(k -> Objects.equals(k.model(), model));
+  }
+}
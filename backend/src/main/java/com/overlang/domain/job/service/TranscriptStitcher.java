@@ -0,0 +1,129 @@
+package com.overlang.domain.job.service;
+
+import com.overlang.domain.job.client.AiServiceClient.TranscriptSegment;
+import com.overlang.domain.job.client.AiServiceClient.TranscriptWord;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 겹치게 나눠 처리한 구간별 STT 결과를 하나의 자막으로 이어 붙인다.
+ *
+ * <p>인접 구간의 겹침 중앙을 경계로 단어 중심이 경계 앞이면 앞 구간, 뒤면 뒤 구간의 결과를 쓴다. 양쪽 인식 시각이 조금씩 달라 경계에 걸친 단어가 두 번
+ * 남으면, 앞 구간 마지막 단어와 글자가 같고 시간이 겹치는 뒤 구간 단어를 버린다. 단어 타임스탬프가 없는 세그먼트(정렬 끔)는 세그먼트 중심으로 판단한다.
+ */
+public final class TranscriptStitcher {
+
+  // 경계 중복 확인에 쓰는 앞 구간 마지막 단어 수
+  private static final int BOUNDARY_WORDS = 3;
+
+  private TranscriptStitcher() {}
+
+  /** 구간 하나의 워커 결과 (startTime/endTime 은 겹침을 포함한 구간) */
+  public record ChunkTranscript(
+      double startTime, double endTime, List<TranscriptSegment> segments) {}
+
+  public static List<TranscriptSegment> stitch(List<ChunkTranscript> chunks) {
+    List<ChunkTranscript> ordered =
+        chunks.stream().sorted(Comparator.comparingDouble(ChunkTranscript::startTime)).toList();
+
+    List<TranscriptSegment> stitched = new ArrayList<>();
+    List<TranscriptWord> boundary = List.of();
+    for (int i = 0; i < ordered.size(); i++) {
+      double lo = i == 0 ? Double.NEGATIVE_INFINITY : cut(ordered.get(i - 1), ordered.get(i));
+      double hi =
+          i == ordered.size() - 1
+              ? Double.POSITIVE_INFINITY
+              : cut(ordered.get(i), ordered.get(i + 1));
+
+      List<TranscriptWord> kept = new ArrayList<>();
+      for (TranscriptSegment segment : ordered.get(i).segments()) {
+        TranscriptSegment trimmed = trim(segment, lo, hi, boundary);
+        if (trimmed != null) {
+          stitched.add(trimmed);
+          kept.addAll(wordsOf(trimmed));
+        }
+      }
+      boundary = kept.subList(Math.max(0, kept.size() - BOUNDARY_WORDS), kept.size());
+    }
+    stitched.sort(Comparator.comparingDouble(TranscriptSegment::startTime));
+    return reconcile(stitched);
+  }
+
+  // 두 구간 겹침의 중앙
+  private static double cut(ChunkTranscript before, ChunkTranscript after) {
+    return (before.endTime() + after.startTime()) / 2.0;
+  }
+
+  // 경계 [lo, hi) 밖의 단어를 잘라낸 세그먼트, 남는 단어가 없으면 null
+  private static TranscriptSegment trim(
+      TranscriptSegment segment, double lo, double hi, List<TranscriptWord> boundary) {
+    List<TranscriptWord> words = wordsOf(segment);
+    if (words.isEmpty()) {
+      double center = (segment.startTime() + segment.endTime()) / 2.0;
+      return center >= lo && center < hi ? segment : null;
+    }
+
+    List<TranscriptWord> kept =
+        words.stream().filter(w -> isWithin(w, lo, hi) && !isDuplicate(w, boundary)).toList();
+    if (kept.isEmpty()) {
+      return null;
+    }
+    if (kept.size() == words.size()) {
+      return segment;
+    }
+    // 띄어쓰기가 없는 언어(일본어/중국어)는 단어를 그대로 붙임
+    String delimiter = segment.text() != null && segment.text().contains(" ") ? " " : "";
+    return new TranscriptSegment(
+        kept.get(0).startTime(),
+        kept.get(kept.size() - 1).endTime(),
+        kept.stream().map(w -> w.word().strip()).collect(Collectors.joining(delimiter)),
+        kept);
+  }
+
+  private static boolean isWithin(TranscriptWord word, double lo, double hi) {
+    double center = (word.startTime() + word.endTime()) / 2.0;
+    return center >= lo && center < hi;
+  }
+
+  private static boolean isDuplicate(TranscriptWord word, List<TranscriptWord> boundary) {
+    for (TranscriptWord previous : boundary) {
+      boolean overlaps =
+          word.startTime() < previous.endTime() && previous.startTime() < word.endTime();
+      if (overlaps && normalize(word.word()).equals(normalize(previous.word()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // 경계에서 앞뒤 타임스탬프가 역전되지 않도록 보정
+  private static List<TranscriptSegment> reconcile(List<TranscriptSegment> segments) {
+    List<TranscriptSegment> result = new ArrayList<>(segments.size());
+    double segmentEnd = Double.NEGATIVE_INFINITY;
+    double wordEnd = Double.NEGATIVE_INFINITY;
+    for (TranscriptSegment segment : segments) {
+      List<TranscriptWord> words = new ArrayList<>();
+      for (TranscriptWord word : wordsOf(segment)) {
+        double start = Math.max(word.startTime(), wordEnd);
+        double end = Math.max(word.endTime(), start);
+        words.add(new TranscriptWord(start, end, word.word()));
+        wordEnd = end;
+      }
+      double start = Math.min(Math.max(segment.startTime(), segmentEnd), segment.endTime());
+      result.add(new TranscriptSegment(start, segment.endTime(), segment.text(), words));
+      segmentEnd = Math.max(segmentEnd, segment.endTime());
+    }
+    return result;
+  }
+
+  private static List<TranscriptWord> wordsOf(TranscriptSegment segment) {
+    return segment.words() == null ? List.of() : segment.words();
+  }
+
+  private static String normalize(String word) {
+    return word.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", "");
+  }
+}
@@ -0,0 +1,11 @@
+package com.overlang.domain.learning.client;
+
+// 학습 콘텐츠 생성에 쓰는 LLM 호출 (테스트/로컬에서는 스텁으로 대체)
+public interface LlmClient {
+
+  /** 모델 이름 (응답 캐시 키에 포함) */
+  String model();
+
+  /** JSON 객체 하나를 응답으로 받는 채팅 완성 호출 */
+  String complete(String systemPrompt, String userPrompt);
+}
@@ -0,0 +1,99 @@
+package com.overlang.domain.learning.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClient;
+
+// OpenAI 호환 Chat Completions API 클라이언트 (base-url 을 로컬 스텁 서버로 바꿔 테스트 가능)
+@Slf4j
+@Component
+public class OpenAiLlmClient implements LlmClient {
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final RestClient restClient;
+  private final String model;
+
+  public record Message(String role, String content) {}
+
+  public record ChatRequest(
+      String model,
+      List<Message> messages,
+      double temperature,
+      @JsonProperty("response_format") Map<String, String> responseFormat) {}
+
+  public record ChatResponse(List<Choice> choices) {}
+
+  public record Choice(Message message) {}
+
+  public OpenAiLlmClient(
+      RestClient.Builder restClientBuilder,
+      @Value("${overlang.llm.base-url}") String baseUrl,
+      @Value("${overlang.llm.api-key}") String apiKey,
+      @Value("${overlang.llm.model}") String model) {
+    this.restClient =
+        restClientBuilder
+            .baseUrl(baseUrl)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+            .build();
+    this.model = model;
+  }
+
+  @Override
+  public String model() {
+    return model;
+  }
+
+  @Override
+  public String complete(String systemPrompt, String userPrompt) {
+    ChatRequest request =
+        new ChatRequest(
+            model,
+            List.of(new Message("system", systemPrompt), new Message("user", userPrompt)),
+            0.2,
+            Map.of("type", "json_object"));
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        ChatResponse response =
+            restClient
+                .post()
+                .uri("/v1/chat/completions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(ChatResponse.class);
+
+        if (response == null || response.choices() == null || response.choices().isEmpty()) {
+          throw new IllegalStateException("LLM 응답이 비어 있습니다.");
+        }
+        return response.choices().get(0).message().content();
+      } catch (HttpStatusCodeException e) {
+        // 요청 한도 초과/일시 장애만 재시도
+        boolean retryable =
+            e.getStatusCode().value() == 429 || e.getStatusCode().is5xxServerError();
+        if (!retryable || attempt >= MAX_ATTEMPTS) {
+          throw e;
+        }
+        log.warn("LLM call retry: attempt={}, status={}", attempt, e.getStatusCode());
+        sleep(1000L << attempt);
+      }
+    }
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("LLM 호출 대기 중 중단되었습니다.", e);
+    }
+  }
+}
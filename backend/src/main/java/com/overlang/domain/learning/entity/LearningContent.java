@@ -35,6 +35,9 @@ public class LearningContent extends BaseTimeEntity {
   @Column(name = "end_time")
   private Double endTime;
 
+  @Column(length = 20) // 여러 언어 작업의 추가 언어, null 이면 작업의 targetLanguage
+  private String language;
+
   public LearningContent(
       Job job,
       LearningContentType contentType,
@@ -42,11 +45,23 @@ public class LearningContent extends BaseTimeEntity {
       String content,
       Double startTime,
       Double endTime) {
+    this(job, contentType, title, content, startTime, endTime, null);
+  }
+
+  public LearningContent(
+      Job job,
+      LearningContentType contentType,
+      String title,
+      String content,
+      Double startTime,
+      Double endTime,
+      String language) {
     this.job = job;
     this.contentType = contentType;
     this.title = title;
     this.content = content;
     this.startTime = startTime;
     this.endTime = endTime;
+    this.language = language;
   }
 }
@@ -0,0 +1,28 @@
+package com.overlang.domain.learning.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 학습 콘텐츠 생성 윈도우별 LLM 응답 캐시 (프롬프트/모델/자막 내용 해시 기준)
+@Entity
+@Table(name = "llm_window_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LlmWindowCache extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+  private String contentHash;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String response;
+
+  public LlmWindowCache(String contentHash, String response) {
+    this.contentHash = contentHash;
+    this.response = response;
+  }
+}
@@ -0,0 +1,59 @@
+package com.overlang.domain.learning.repository;
+
+import com.overlang.domain.learning.entity.LearningContent;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface LearningContentRepository extends JpaRepository<LearningContent, Long> {
+
+  // 작업의 targetLanguage 학습 콘텐츠 (여러 언어 작업의 추가 언어 행 제외)
+  List<LearningContent> findByJobIdAndLanguageIsNullOrderByIdAsc(Long jobId);
+
+  // 여러 언어 작업의 추가 언어 학습 콘텐츠
+  List<LearningContent> findByJobIdAndLanguageOrderByIdAsc(Long jobId, String language);
+
+  boolean existsByJobIdAndLanguageIsNull(Long jobId);
+
+  boolean existsByJobIdAndLanguage(Long jobId, String language);
+
+  @Modifying
+  @Query("delete from LearningContent l where l.job.id = :jobId and l.language is null")
+  int deleteByJobId(@Param("jobId") Long jobId);
+
+  @Modifying
+  @Query("delete from LearningContent l where l.job.id = :jobId and l.language = :language")
+  int deleteByJobIdAndLanguage(@Param("jobId") Long jobId, @Param("language") String language);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "learning_contents"))
+  @Query(
+      value =
+          """
+          insert into learning_contents
+            (job_id, content_type, title, content, start_time, end_time, language,
+             created_at, updated_at)
+          select :targetJobId, content_type, title, content, start_time, end_time, language,
+                 now(), now()
+          from learning_contents where job_id = :sourceJobId and language is null
+          """,
+      nativeQuery = true)
+  int copyToJob(@Param("sourceJobId") Long sourceJobId, @Param("targetJobId") Long targetJobId);
+
+  // 프로젝트 일괄 삭제
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "learning_contents"))
+  @Query(
+      value =
+          """
+          delete from learning_contents
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
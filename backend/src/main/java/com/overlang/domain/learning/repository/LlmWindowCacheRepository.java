@@ -0,0 +1,10 @@
+package com.overlang.domain.learning.repository;
+
+import com.overlang.domain.learning.entity.LlmWindowCache;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LlmWindowCacheRepository extends JpaRepository<LlmWindowCache, Long> {
+
+  Optional<LlmWindowCache> findByContentHash(String contentHash);
+}
@@ -0,0 +1,37 @@
+package com.overlang.domain.learning.service;
+
+import com.overlang.domain.learning.entity.LlmWindowCache;
+import com.overlang.domain.learning.repository.LlmWindowCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+// LLM 윈도우 응답을 DB 에 보관 (재시도/다른 작업에서도 같은 내용이면 재사용)
+@Component
+@RequiredArgsConstructor
+public class DbWindowCache implements LearningContentGenerator.WindowCache {
+
+  private final LlmWindowCacheRepository llmWindowCacheRepository;
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public Optional<String> get(String key) {
+    Optional<String> response =
+        llmWindowCacheRepository.findByContentHash(key).map(LlmWindowCache::getResponse);
+    meterRegistry
+        .counter("overlang.llm.window.cache", "result", response.isPresent() ? "hit" : "miss")
+        .increment();
+    return response;
+  }
+
+  @Override
+  public void put(String key, String response) {
+    try {
+      llmWindowCacheRepository.save(new LlmWindowCache(key, response));
+    } catch (DataIntegrityViolationException e) {
+      // 같은 윈도우를 동시에 만든 경우, 먼저 저장된 응답을 그대로 사용
+    }
+  }
+}
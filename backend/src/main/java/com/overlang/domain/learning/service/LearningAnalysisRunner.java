@@ -0,0 +1,60 @@
+package com.overlang.domain.learning.service;
+
+import com.overlang.domain.learning.service.LearningAnalysisService.AnalysisInput;
+import com.overlang.global.config.SchedulingConfig;
+import com.overlang.global.tracing.JobTracing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// STT 가 끝나 LLM_ANALYSIS 단계에 도달한 작업의 학습 콘텐츠 생성
+@Slf4j
+@Component
+public class LearningAnalysisRunner {
+
+  private final LearningAnalysisService learningAnalysisService;
+  private final LearningContentGenerator learningContentGenerator;
+  private final JobTracing jobTracing;
+  private final int batchSize;
+
+  public LearningAnalysisRunner(
+      LearningAnalysisService learningAnalysisService,
+      LearningContentGenerator learningContentGenerator,
+      JobTracing jobTracing,
+      @Value("${overlang.llm.runner.batch-size:5}") int batchSize) {
+    this.learningAnalysisService = learningAnalysisService;
+    this.learningContentGenerator = learningContentGenerator;
+    this.jobTracing = jobTracing;
+    this.batchSize = batchSize;
+  }
+
+  // 한 주기에 선점한 작업만 처리 (나머지는 다른 인스턴스나 다음 주기에)
+  @Scheduled(
+      fixedDelayString = "${overlang.llm.runner.interval-ms:5000}",
+      scheduler = SchedulingConfig.LLM_SCHEDULER)
+  public void runPending() {
+    for (Long jobId : learningAnalysisService.claim(batchSize)) {
+      try {
+        jobTracing.observe("overlang.job.llm-analysis", jobId, () -> analyze(jobId));
+      } catch (Exception e) {
+        log.warn("Learning analysis failed: jobId={}, reason={}", jobId, e.getMessage());
+        learningAnalysisService.fail(jobId, e.getMessage());
+      }
+    }
+  }
+
+  private void analyze(Long jobId) {
+    AnalysisInput input = learningAnalysisService.load(jobId);
+    LearningContentGenerator.Result result =
+        learningContentGenerator.generate(
+            input.lines(), input.sourceLanguage(), input.targetLanguage());
+    learningAnalysisService.complete(jobId, result.contents());
+    log.info(
+        "Learning contents generated: jobId={}, windows={}, cacheHits={}, contents={}",
+        jobId,
+        result.windows(),
+        result.cacheHits(),
+        result.contents().size());
+  }
+}
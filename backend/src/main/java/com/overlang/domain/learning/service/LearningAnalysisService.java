@@ -0,0 +1,170 @@
+package com.overlang.domain.learning.service;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.job.service.JobCheckpointService;
+import com.overlang.domain.learning.entity.LearningContent;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import com.overlang.domain.learning.service.LearningContentGenerator.GeneratedContent;
+import com.overlang.domain.learning.service.TranscriptWindows.Line;
+import com.overlang.domain.project.entity.ProjectStatus;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// LLM_ANALYSIS 단계의 입력 조회와 결과 반영 (LLM 호출은 트랜잭션 밖에서 수행)
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LearningAnalysisService {
+
+  public static final String LLM_ERROR_CODE = "LLM_001";
+  // 선점한 인스턴스가 이 시간 안에 끝내지 못하면(종료/멈춤) 다른 인스턴스가 다시 처리
+  private static final Duration CLAIM_LEASE = Duration.ofMinutes(30);
+
+  private final JobRepository jobRepository;
+  private final SegmentRepository segmentRepository;
+  private final LearningContentRepository learningContentRepository;
+  private final JobCheckpointService jobCheckpointService;
+
+  public record AnalysisInput(List<Line> lines, String sourceLanguage, String targetLanguage) {}
+
+  /** 자막 수정 구간 (초) */
+  public record TimeRange(double startTime, double endTime) {
+
+    public boolean overlaps(Double start, Double end) {
+      return start != null && end != null && start <= endTime && end >= startTime;
+    }
+  }
+
+  /** LLM_ANALYSIS 단계에 도달한 작업을 이 인스턴스가 처리하도록 선점 */
+  public List<Long> claim(int limit) {
+    List<Job> jobs =
+        jobRepository.lockAwaitingBackendStage(
+            CurrentStage.LLM_ANALYSIS.name(), Instant.now().minus(CLAIM_LEASE), limit);
+    jobs.forEach(Job::markClaimed);
+    return jobs.stream().map(Job::getId).toList();
+  }
+
+  @Transactional(readOnly = true)
+  public AnalysisInput load(Long jobId) {
+    Job job = findJob(jobId);
+    List<Line> lines =
+        segmentRepository.findByJobIdOrderBySeqAsc(jobId).stream()
+            .map(s -> new Line(s.getSeq(), s.getStartTime(), s.getEndTime(), s.getText()))
+            .toList();
+    return new AnalysisInput(lines, job.getSourceLanguage(), job.getTargetLanguage());
+  }
+
+  /** 기존 학습 콘텐츠를 새 결과로 교체하고 작업 완료 */
+  public void complete(Long jobId, List<GeneratedContent> contents) {
+    Job job = findJob(jobId);
+    if (job.getStatus() != JobStatus.RUNNING) {
+      return;
+    }
+    replaceContents(job, null, contents);
+    // LLM 호출은 GPU 를 쓰지 않으므로 체크포인트의 GPU 시간은 0
+    jobCheckpointService.record(job, CurrentStage.LLM_ANALYSIS, 0.0);
+    job.markCompleted();
+    job.getProject().updateStatus(ProjectStatus.COMPLETED);
+  }
+
+  /** 한 언어의 학습 콘텐츠 전체 교체 (language 가 null 이면 작업의 targetLanguage) */
+  public void replaceContents(Job job, String language, List<GeneratedContent> contents) {
+    if (language == null) {
+      learningContentRepository.deleteByJobId(job.getId());
+    } else {
+      learningContentRepository.deleteByJobIdAndLanguage(job.getId(), language);
+    }
+    learningContentRepository.saveAll(
+        contents.stream()
+            .map(
+                c ->
+                    new LearningContent(
+                        job,
+                        c.contentType(),
+                        c.title(),
+                        c.content(),
+                        c.startTime(),
+                        c.endTime(),
+                        language))
+            .toList());
+  }
+
+  /**
+   * 한 언어(language 가 null 이면 작업의 targetLanguage)의 학습 콘텐츠 중 수정 구간과 겹치는 행만 새 결과로 교체 (겹치지 않는
+   * 행은 그대로 둠). 새 결과 중 남아 있는 행과 같은 항목은 넣지 않는다.
+   *
+   * @return 새로 넣은 행 수
+   */
+  public int replaceOverlapping(
+      Long jobId, String language, List<TimeRange> edited, List<GeneratedContent> generated) {
+    Job job = findJob(jobId);
+    List<LearningContent> existing =
+        language == null
+            ? learningContentRepository.findByJobIdAndLanguageIsNullOrderByIdAsc(jobId)
+            : learningContentRepository.findByJobIdAndLanguageOrderByIdAsc(jobId, language);
+    List<LearningContent> overlapping =
+        existing.stream()
+            .filter(c -> overlapsAny(edited, c.getStartTime(), c.getEndTime()))
+            .toList();
+    Set<String> kept =
+        existing.stream()
+            .filter(c -> !overlapsAny(edited, c.getStartTime(), c.getEndTime()))
+            .map(
+                c ->
+                    LearningContentGenerator.dedupeKey(
+                        c.getContentType(), c.getTitle(), c.getContent()))
+            .collect(Collectors.toSet());
+
+    learningContentRepository.deleteAllInBatch(overlapping);
+    List<LearningContent> replacements =
+        generated.stream()
+            .filter(c -> overlapsAny(edited, c.startTime(), c.endTime()))
+            .filter(
+                c ->
+                    kept.add(
+                        LearningContentGenerator.dedupeKey(
+                            c.contentType(), c.title(), c.content())))
+            .map(
+                c ->
+                    new LearningContent(
+                        job,
+                        c.contentType(),
+                        c.title(),
+                        c.content(),
+                        c.startTime(),
+                        c.endTime(),
+                        language))
+            .toList();
+    learningContentRepository.saveAll(replacements);
+    return replacements.size();
+  }
+
+  public void fail(Long jobId, String errorMessage) {
+    Job job = findJob(jobId);
+    if (job.getStatus() != JobStatus.RUNNING) {
+      return;
+    }
+    job.markFailed(LLM_ERROR_CODE, errorMessage);
+    job.getProject().updateStatus(ProjectStatus.FAILED);
+  }
+
+  private static boolean overlapsAny(List<TimeRange> ranges, Double start, Double end) {
+    return ranges.stream().anyMatch(range -> range.overlaps(start, end));
+  }
+
+  private Job findJob(Long jobId) {
+    return jobRepository
+        .findById(jobId)
+        .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+  }
+}
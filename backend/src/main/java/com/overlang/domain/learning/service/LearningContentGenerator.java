@@ -0,0 +1,267 @@
+package com.overlang.domain.learning.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.overlang.domain.learning.client.LlmClient;
+import com.overlang.domain.learning.entity.LearningContentType;
+import com.overlang.domain.learning.service.TranscriptWindows.Line;
+import com.overlang.domain.learning.service.TranscriptWindows.Window;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자막을 토큰 예산 단위 윈도우로 나눠 LLM 으로 키워드/표현/요약을 만든다.
+ *
+ * <p>윈도우는 provider 한도(max-concurrency) 안에서 동시에 요청하고, 응답은 윈도우 내용 해시로 캐시해 재실행이나 자막 수정 시 바뀐 윈도우만 다시
+ * 요청한다. 겹치는 윈도우에서 나온 같은 키워드/표현은 가장 먼저 등장한 구간 하나로 합친다.
+ */
+@Component
+public class LearningContentGenerator {
+
+  // 프롬프트나 응답 형식을 바꾸면 올려서 기존 캐시를 무효화
+  private static final String PROMPT_VERSION = "v1";
+
+  private static final String SYSTEM_PROMPT =
+      """
+      You help language learners study a video transcript.
+      The user sends numbered transcript lines in %s.
+      Reply with one JSON object:
+      {"summary": string,
+       "keywords": [{"title": string, "content": string, "from": int, "to": int}],
+       "expressions": [{"title": string, "content": string, "from": int, "to": int}]}
+      "title" is the keyword or expression exactly as it appears in the transcript.
+      "content" explains its meaning and usage in %s.
+      "from"/"to" are the line numbers where it appears. Write the summary in %s.
+      """;
+
+  private final LlmClient llmClient;
+  private final WindowCache windowCache;
+  private final ObjectReader resultReader;
+  private final int windowTokens;
+  private final int overlapLines;
+  private final ExecutorService llmExecutor;
+
+  /** 윈도우 응답 캐시 (내용 해시 -> LLM 응답 JSON) */
+  public interface WindowCache {
+    Optional<String> get(String key);
+
+    void put(String key, String response);
+  }
+
+  public record GeneratedContent(
+      LearningContentType contentType,
+      String title,
+      String content,
+      double startTime,
+      double endTime) {}
+
+  public record Result(List<GeneratedContent> contents, int windows, int cacheHits) {}
+
+  record WindowResult(String summary, List<Item> keywords, List<Item> expressions) {}
+
+  record Item(String title, String content, Integer from, Integer to) {}
+
+  public LearningContentGenerator(
+      LlmClient llmClient,
+      WindowCache windowCache,
+      ObjectMapper objectMapper,
+      @Value("${overlang.llm.window-tokens}") int windowTokens,
+      @Value("${overlang.llm.window-overlap-lines}") int overlapLines,
+      @Value("${overlang.llm.max-concurrency}") int maxConcurrency) {
+    this.llmClient = llmClient;
+    this.windowCache = windowCache;
+    this.resultReader =
+        objectMapper
+            .readerFor(WindowResult.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.windowTokens = windowTokens;
+    this.overlapLines = overlapLines;
+    this.llmExecutor = Executors.newFixedThreadPool(maxConcurrency);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    llmExecutor.shutdownNow();
+  }
+
+  public Result generate(List<Line> lines, String sourceLanguage, String targetLanguage) {
+    return generate(lines, sourceLanguage, targetLanguage, window -> true);
+  }
+
+  /** 조건에 맞는 윈도우만 분석 (경계는 전체 자막 기준으로 나누므로 전체 생성과 같은 윈도우, 같은 캐시 키) */
+  public Result generate(
+      List<Line> lines,
+      String sourceLanguage,
+      String targetLanguage,
+      Predicate<Window> includeWindow) {
+    List<Window> windows =
+        TranscriptWindows.pack(lines, windowTokens, overlapLines).stream()
+            .filter(includeWindow)
+            .toList();
+    String targetLanguageName = languageName(targetLanguage);
+    String systemPrompt =
+        SYSTEM_PROMPT.formatted(
+            languageName(sourceLanguage), targetLanguageName, targetLanguageName);
+
+    AtomicInteger cacheHits = new AtomicInteger();
+    List<CompletableFuture<WindowResult>> futures = new ArrayList<>(windows.size());
+    for (Window window : windows) {
+      futures.add(
+          CompletableFuture.supplyAsync(
+              () -> analyze(window, systemPrompt, cacheHits), llmExecutor));
+    }
+
+    Map<String, GeneratedContent> merged = new LinkedHashMap<>();
+    try {
+      for (int i = 0; i < windows.size(); i++) {
+        merge(merged, windows.get(i), futures.get(i).join());
+      }
+    } catch (CompletionException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+
+    List<GeneratedContent> contents =
+        merged.values().stream()
+            .sorted(
+                Comparator.comparingDouble(GeneratedContent::startTime)
+                    .thenComparing(GeneratedContent::contentType))
+            .toList();
+    return new Result(contents, windows.size(), cacheHits.get());
+  }
+
+  private WindowResult analyze(Window window, String systemPrompt, AtomicInteger cacheHits) {
+    String userPrompt = userPrompt(window);
+    String key = sha256(PROMPT_VERSION, llmClient.model(), systemPrompt, userPrompt);
+
+    Optional<String> cached = windowCache.get(key);
+    if (cached.isPresent()) {
+      cacheHits.incrementAndGet();
+      return parse(cached.get());
+    }
+    String response = llmClient.complete(systemPrompt, userPrompt);
+    WindowResult result = parse(response); // 형식이 맞는 응답만 캐시
+    windowCache.put(key, response);
+    return result;
+  }
+
+  // 줄 번호는 윈도우 안에서 1부터 매겨, 같은 내용이면 위치와 상관없이 캐시를 재사용
+  private String userPrompt(Window window) {
+    StringBuilder sb = new StringBuilder();
+    List<Line> lines = window.lines();
+    for (int i = 0; i < lines.size(); i++) {
+      sb.append(i + 1).append(": ").append(lines.get(i).text().strip()).append('\n');
+    }
+    return sb.toString();
+  }
+
+  private void merge(Map<String, GeneratedContent> merged, Window window, WindowResult result) {
+    if (result.summary() != null && !result.summary().isBlank()) {
+      put(
+          merged,
+          new GeneratedContent(
+              LearningContentType.SUMMARY,
+              null,
+              result.summary().strip(),
+              window.startTime(),
+              window.endTime()));
+    }
+    addItems(merged, window, LearningContentType.KEYWORD, result.keywords());
+    addItems(merged, window, LearningContentType.EXPRESSION, result.expressions());
+  }
+
+  private void addItems(
+      Map<String, GeneratedContent> merged,
+      Window window,
+      LearningContentType type,
+      List<Item> items) {
+    if (items == null) {
+      return;
+    }
+    List<Line> lines = window.lines();
+    for (Item item : items) {
+      if (item.title() == null || item.title().isBlank() || item.content() == null) {
+        continue;
+      }
+      // 범위를 벗어난 줄 번호는 윈도우 경계로 보정
+      int from = clamp(item.from() == null ? 1 : item.from(), lines.size());
+      int to = Math.max(from, clamp(item.to() == null ? from : item.to(), lines.size()));
+      put(
+          merged,
+          new GeneratedContent(
+              type,
+              item.title().strip(),
+              item.content().strip(),
+              lines.get(from - 1).startTime(),
+              lines.get(to - 1).endTime()));
+    }
+  }
+
+  // 같은 항목은 먼저 등장한 구간을 남김
+  private void put(Map<String, GeneratedContent> merged, GeneratedContent content) {
+    String key = dedupeKey(content.contentType(), content.title(), content.content());
+    merged.merge(key, content, (a, b) -> a.startTime() <= b.startTime() ? a : b);
+  }
+
+  /** 같은 키워드/표현/요약인지 비교하는 키 (유형 + 대소문자/기호를 뺀 제목, 요약은 본문) */
+  public static String dedupeKey(LearningContentType type, String title, String content) {
+    String text = type == LearningContentType.SUMMARY ? content : title;
+    return type + ":" + normalize(text == null ? "" : text);
+  }
+
+  private WindowResult parse(String response) {
+    try {
+      return resultReader.readValue(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("LLM 응답 형식이 올바르지 않습니다.", e);
+    }
+  }
+
+  private int clamp(int lineNumber, int size) {
+    return Math.min(Math.max(lineNumber, 1), size);
+  }
+
+  private static String normalize(String text) {
+    return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", "");
+  }
+
+  private String languageName(String languageCode) {
+    if (languageCode == null || languageCode.isBlank()) {
+      return "the transcript's language";
+    }
+    return Locale.forLanguageTag(languageCode).getDisplayLanguage(Locale.ENGLISH);
+  }
+
+  private String sha256(String... parts) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String part : parts) {
+        digest.update(part.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
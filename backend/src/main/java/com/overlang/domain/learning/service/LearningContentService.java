@@ -0,0 +1,48 @@
+package com.overlang.domain.learning.service;
+
+import com.overlang.api.dto.learning.LearningContentResponse;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.job.service.JobService;
+import com.overlang.domain.learning.entity.LearningContent;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 작업의 학습 콘텐츠 조회 (여러 언어 작업은 언어별)
+@Service
+@RequiredArgsConstructor
+public class LearningContentService {
+
+  private final JobRepository jobRepository;
+  private final LearningContentRepository learningContentRepository;
+  private final JobService jobService;
+
+  /** language 를 생략하면 작업의 targetLanguage 학습 콘텐츠 */
+  public List<LearningContentResponse> findContents(Long memberId, Long jobId, String language) {
+    Job job =
+        jobRepository
+            .findByIdAndMemberId(jobId, memberId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+    // 학습 콘텐츠는 보관 대상이 아니라 복원 없이 조회
+    String extraLanguage = jobService.resultLanguage(job, language);
+    List<LearningContent> contents =
+        extraLanguage == null
+            ? learningContentRepository.findByJobIdAndLanguageIsNullOrderByIdAsc(jobId)
+            : learningContentRepository.findByJobIdAndLanguageOrderByIdAsc(jobId, extraLanguage);
+    String responseLanguage = extraLanguage == null ? job.getTargetLanguage() : extraLanguage;
+    return contents.stream().map(c -> toResponse(c, responseLanguage)).toList();
+  }
+
+  private static LearningContentResponse toResponse(LearningContent content, String language) {
+    return new LearningContentResponse(
+        content.getId(),
+        content.getContentType(),
+        content.getTitle(),
+        content.getContent(),
+        content.getStartTime(),
+        content.getEndTime(),
+        language);
+  }
+}
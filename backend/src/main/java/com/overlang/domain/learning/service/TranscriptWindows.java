@@ -0,0 +1,86 @@
+package com.overlang.domain.learning.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 자막 줄을 토큰 예산 안에서 윈도우로 묶는다.
+ *
+ * <p>예산을 꽉 채우는 방식은 한 줄만 고쳐도 뒤쪽 경계가 모두 밀려 캐시가 무용해지므로, 경계는 줄 내용 해시로 정한다(내용 기반 분할). 줄마다 토큰 수에
+ * 비례한 확률로 경계가 되어 윈도우는 평균 예산의 절반 크기가 되고, 예산을 넘으면 그 자리에서 강제로 자른다. 수정된 줄의 윈도우와 그 줄을 겹침으로 포함한
+ * 다음 윈도우만 바뀐다. 윈도우 경계에 걸친 표현을 놓치지 않도록 각 윈도우 앞에 이전 줄 몇 개를 겹쳐 넣는다(예산 밖). 토큰 수는 한중일 문자는 1글자당 1,
+ * 그 외는 4글자당 1 로 어림한다.
+ */
+public final class TranscriptWindows {
+
+  private static final int HASH_BUCKETS = 1024;
+
+  private TranscriptWindows() {}
+
+  public record Line(int seq, double startTime, double endTime, String text) {}
+
+  public record Window(List<Line> lines) {
+
+    public double startTime() {
+      return lines.get(0).startTime();
+    }
+
+    public double endTime() {
+      return lines.get(lines.size() - 1).endTime();
+    }
+  }
+
+  public static List<Window> pack(List<Line> lines, int tokenBudget, int overlapLines) {
+    List<Window> windows = new ArrayList<>();
+    int start = 0;
+    int tokens = 0;
+    for (int i = 0; i < lines.size(); i++) {
+      int lineTokens = estimateTokens(lines.get(i).text());
+      // 한 줄이 예산보다 커도 최소 한 줄은 포함
+      if (i > start && tokens + lineTokens > tokenBudget) {
+        windows.add(window(lines, start, i, overlapLines));
+        start = i;
+        tokens = 0;
+      }
+      tokens += lineTokens;
+      if (isBoundary(lines.get(i), lineTokens, tokenBudget)) {
+        windows.add(window(lines, start, i + 1, overlapLines));
+        start = i + 1;
+        tokens = 0;
+      }
+    }
+    if (start < lines.size()) {
+      windows.add(window(lines, start, lines.size(), overlapLines));
+    }
+    return windows;
+  }
+
+  private static Window window(List<Line> lines, int start, int end, int overlapLines) {
+    return new Window(List.copyOf(lines.subList(Math.max(0, start - overlapLines), end)));
+  }
+
+  // 토큰 수에 비례한 확률로 경계 (윈도우당 평균 예산의 절반)
+  private static boolean isBoundary(Line line, int lineTokens, int tokenBudget) {
+    int bucket = (line.text().strip().hashCode() * 0x9E3779B9) >>> 22;
+    return (long) bucket * tokenBudget < (long) HASH_BUCKETS * lineTokens * 2;
+  }
+
+  public static int estimateTokens(String text) {
+    int cjk = 0;
+    int other = 0;
+    for (int i = 0; i < text.length(); ) {
+      int codePoint = text.codePointAt(i);
+      Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+      if (script == Character.UnicodeScript.HANGUL
+          || script == Character.UnicodeScript.HAN
+          || script == Character.UnicodeScript.HIRAGANA
+          || script == Character.UnicodeScript.KATAKANA) {
+        cjk++;
+      } else {
+        other++;
+      }
+      i += Character.charCount(codePoint);
+    }
+    return cjk + (other + 3) / 4 + 1; // 줄 번호 등 줄마다 붙는 토큰 1개
+  }
+}
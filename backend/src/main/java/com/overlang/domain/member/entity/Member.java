@@ -1,13 +1,20 @@
 package com.overlang.domain.member.entity;
 
 import com.overlang.domain.common.BaseTimeEntity;
+import com.overlang.global.config.CacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = "members")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.MEMBER_REGION)
+@NaturalIdCache(region = CacheConfig.MEMBER_NATURAL_ID_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseTimeEntity {
@@ -22,6 +29,7 @@ public class Member extends BaseTimeEntity {
   @Column(nullable = false, length = 255)
   private String name;
 
+  @NaturalId // 인증마다 firebaseUid 로 조회 (natural-id 캐시 → 엔티티 캐시)
   @Column(name = "firebase_uid", unique = true, nullable = false, length = 255)
   private String firebaseUid;
 
@@ -0,0 +1,10 @@
+package com.overlang.domain.member.repository;
+
+import com.overlang.domain.member.entity.Member;
+import java.util.Optional;
+
+public interface MemberNaturalIdRepository {
+
+  // JPQL 조회는 2차 캐시를 거치지 않으므로 natural-id 로 조회
+  Optional<Member> findByFirebaseUid(String firebaseUid);
+}
@@ -0,0 +1,21 @@
+package com.overlang.domain.member.repository;
+
+import com.overlang.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+@RequiredArgsConstructor
+class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Optional<Member> findByFirebaseUid(String firebaseUid) {
+    return entityManager
+        .unwrap(Session.class)
+        .bySimpleNaturalId(Member.class)
+        .loadOptional(firebaseUid);
+  }
+}
@@ -1,11 +1,8 @@
 package com.overlang.domain.member.repository;
 
 import com.overlang.domain.member.entity.Member;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
-  Optional<Member> findByFirebaseUid(String firebaseUid);
-}
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberNaturalIdRepository {}
@@ -0,0 +1,32 @@
+package com.overlang.domain.ocr.repository;
+
+import com.overlang.domain.ocr.entity.OcrItem;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface OcrItemRepository extends JpaRepository<OcrItem, Long> {
+
+  List<OcrItem> findByJobIdOrderByIdAsc(Long jobId);
+
+  @Modifying
+  @Query("delete from OcrItem o where o.job.id = :jobId")
+  int deleteByJobId(@Param("jobId") Long jobId);
+
+  // 프로젝트 일괄 삭제
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ocr_items"))
+  @Query(
+      value =
+          """
+          delete from ocr_items
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
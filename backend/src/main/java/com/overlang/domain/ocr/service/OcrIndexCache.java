@@ -0,0 +1,103 @@
+package com.overlang.domain.ocr.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 작업별 OCR 시공간 색인 LRU 캐시 (인스턴스 로컬, 색인에 담긴 항목 수 합계로 크기 제한)
+@Slf4j
+@Component
+public class OcrIndexCache {
+
+  // 접근 순서 기준 LinkedHashMap (jobId -> 색인), 가장 오래 안 쓴 항목이 맨 앞
+  private final LinkedHashMap<Long, OcrSpatialIndex> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private final Map<Long, CompletableFuture<OcrSpatialIndex>> inFlight = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+  private final long maxItems;
+  private long currentItems;
+
+  public OcrIndexCache(
+      MeterRegistry meterRegistry, @Value("${overlang.ocr.index.max-items}") long maxItems) {
+    this.meterRegistry = meterRegistry;
+    this.maxItems = maxItems;
+    Gauge.builder("overlang.ocr.index.items", this, OcrIndexCache::currentItems)
+        .register(meterRegistry);
+  }
+
+  /** 캐시에 있으면 그대로, 없으면 builder 로 만들어 넣음. 같은 작업의 동시 생성은 하나로 합침 */
+  public OcrSpatialIndex get(Long jobId, Supplier<OcrSpatialIndex> builder) {
+    synchronized (entries) {
+      OcrSpatialIndex cached = entries.get(jobId);
+      if (cached != null) {
+        meterRegistry.counter("overlang.ocr.index.lookups", "result", "hit").increment();
+        return cached;
+      }
+    }
+    meterRegistry.counter("overlang.ocr.index.lookups", "result", "miss").increment();
+
+    CompletableFuture<OcrSpatialIndex> mine = new CompletableFuture<>();
+    CompletableFuture<OcrSpatialIndex> running = inFlight.putIfAbsent(jobId, mine);
+    if (running != null) {
+      return running.join();
+    }
+    try {
+      long started = System.nanoTime();
+      OcrSpatialIndex index = builder.get();
+      put(jobId, index);
+      mine.complete(index);
+      log.info(
+          "OCR index built: jobId={}, items={}, elapsedMs={}",
+          jobId,
+          index.size(),
+          (System.nanoTime() - started) / 1_000_000);
+      return index;
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(jobId, mine);
+    }
+  }
+
+  /** OCR 항목이 바뀐 작업 (보관/복원) */
+  public void evict(Long jobId) {
+    synchronized (entries) {
+      OcrSpatialIndex removed = entries.remove(jobId);
+      if (removed != null) {
+        currentItems -= removed.size();
+      }
+    }
+  }
+
+  public long currentItems() {
+    synchronized (entries) {
+      return currentItems;
+    }
+  }
+
+  private void put(Long jobId, OcrSpatialIndex index) {
+    // 한 작업이 한도보다 크면 캐시하지 않음 (매번 새로 만듦)
+    if (index.size() > maxItems) {
+      return;
+    }
+    synchronized (entries) {
+      OcrSpatialIndex previous = entries.put(jobId, index);
+      currentItems += index.size() - (previous == null ? 0 : previous.size());
+      Iterator<Map.Entry<Long, OcrSpatialIndex>> it = entries.entrySet().iterator();
+      while (currentItems > maxItems && it.hasNext()) {
+        Map.Entry<Long, OcrSpatialIndex> eldest = it.next();
+        it.remove();
+        currentItems -= eldest.getValue().size();
+        meterRegistry.counter("overlang.ocr.index.evictions").increment();
+      }
+    }
+  }
+}
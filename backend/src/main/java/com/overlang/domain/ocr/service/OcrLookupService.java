@@ -0,0 +1,103 @@
+package com.overlang.domain.ocr.service;
+
+import com.overlang.api.dto.ocr.OcrItemResponse;
+import com.overlang.domain.archive.service.JobArchiveService;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.ocr.entity.OcrItem;
+import com.overlang.domain.ocr.repository.OcrItemRepository;
+import com.overlang.domain.ocr.service.OcrSpatialIndex.Hit;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 화면 글자 조회 (탭한 위치 조회용 작업별 시공간 색인은 처음 조회할 때 만들어 캐시)
+@Service
+public class OcrLookupService {
+
+  private static final int MAX_LIMIT = 20;
+
+  private final JobRepository jobRepository;
+  private final OcrItemRepository ocrItemRepository;
+  private final JobArchiveService jobArchiveService;
+  private final OcrIndexCache ocrIndexCache;
+  private final double bucketSeconds;
+
+  public OcrLookupService(
+      JobRepository jobRepository,
+      OcrItemRepository ocrItemRepository,
+      JobArchiveService jobArchiveService,
+      OcrIndexCache ocrIndexCache,
+      @Value("${overlang.ocr.index.bucket-seconds}") double bucketSeconds) {
+    this.jobRepository = jobRepository;
+    this.ocrItemRepository = ocrItemRepository;
+    this.jobArchiveService = jobArchiveService;
+    this.ocrIndexCache = ocrIndexCache;
+    this.bucketSeconds = bucketSeconds;
+  }
+
+  /** time 초 화면에서 (x, y) 를 포함하는 OCR 항목, confidence 높은 순 */
+  public List<OcrItemResponse> lookup(
+      Long memberId, Long jobId, double time, double x, double y, int limit) {
+    Job job =
+        jobRepository
+            .findByIdAndMemberId(jobId, memberId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+    // 실행 중인 작업은 항목이 더 늘어날 수 있어 완료된 작업만 색인
+    if (job.getStatus() != JobStatus.COMPLETED) {
+      throw new IllegalArgumentException("완료된 작업만 화면 글자를 조회할 수 있습니다.");
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("limit 은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+    }
+    return ocrIndexCache.get(jobId, () -> load(jobId)).lookup(time, x, y, limit).stream()
+        .map(OcrLookupService::toResponse)
+        .toList();
+  }
+
+  /** 작업의 OCR 항목 전체 (id 순) */
+  public List<OcrItemResponse> findAll(Long memberId, Long jobId) {
+    jobRepository
+        .findByIdAndMemberId(jobId, memberId)
+        .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+    jobArchiveService.restore(jobId);
+    return ocrItemRepository.findByJobIdOrderByIdAsc(jobId).stream()
+        .map(OcrLookupService::toResponse)
+        .toList();
+  }
+
+  private OcrSpatialIndex load(Long jobId) {
+    // 보관된 결과면 행으로 되돌린 뒤 색인
+    jobArchiveService.restore(jobId);
+    return OcrSpatialIndex.build(ocrItemRepository.findByJobIdOrderByIdAsc(jobId), bucketSeconds);
+  }
+
+  private static OcrItemResponse toResponse(OcrItem item) {
+    return new OcrItemResponse(
+        item.getId(),
+        item.getStartTime(),
+        item.getEndTime(),
+        item.getX(),
+        item.getY(),
+        item.getW(),
+        item.getH(),
+        item.getConfidence(),
+        item.getOriginText(),
+        item.getTranslatedText());
+  }
+
+  private static OcrItemResponse toResponse(Hit hit) {
+    return new OcrItemResponse(
+        hit.id(),
+        hit.startTime(),
+        hit.endTime(),
+        hit.x(),
+        hit.y(),
+        hit.w(),
+        hit.h(),
+        hit.confidence(),
+        hit.originText(),
+        hit.translatedText());
+  }
+}
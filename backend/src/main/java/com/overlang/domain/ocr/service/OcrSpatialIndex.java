@@ -0,0 +1,357 @@
+package com.overlang.domain.ocr.service;
+
+import com.overlang.domain.ocr.entity.OcrItem;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 작업 하나의 OCR 항목 시공간 색인 (읽기 전용).
+ *
+ * <p>시간을 bucketSeconds 단위 구간으로 나누고, 구간마다 그 구간과 시간이 겹치는 항목의 박스로 STR(Sort-Tile-Recursive)
+ * 방식의 packed R-tree 를 만든다. 항목 좌표와 노드 박스는 모두 기본형 배열에 두고, 노드의 자식은 아래 레벨에서 FANOUT 개씩
+ * 연속된 구간이라 포인터가 없다. 조회는 time 이 속한 구간 하나의 트리만 내려간다.
+ */
+public final class OcrSpatialIndex {
+
+  static final int FANOUT = 16;
+
+  private final double bucketSeconds;
+
+  // 항목 i 의 값 (원본 순서, confidence 가 없으면 NaN)
+  private final long[] ids;
+  private final double[] startTimes;
+  private final double[] endTimes;
+  private final double[] minX;
+  private final double[] minY;
+  private final double[] maxX;
+  private final double[] maxY;
+  private final double[] confidences;
+  private final String[] originTexts;
+  private final String[] translatedTexts;
+
+  // 시간 구간별 트리 (항목이 없는 구간은 null)
+  private final Tree[] buckets;
+
+  /** 점을 포함하는 항목 */
+  public record Hit(
+      Long id,
+      double startTime,
+      double endTime,
+      double x,
+      double y,
+      double w,
+      double h,
+      Double confidence,
+      String originText,
+      String translatedText) {}
+
+  /**
+   * 구간 하나의 packed R-tree.
+   *
+   * <p>entries 는 STR 순서로 정렬된 항목 번호, levels[0] 은 entries 를 FANOUT 개씩 묶은 리프 노드 박스, 마지막 레벨은 루트 하나.
+   * 박스는 노드마다 [minX, minY, maxX, maxY] 4칸.
+   */
+  private record Tree(int[] entries, double[][] levels) {}
+
+  private OcrSpatialIndex(
+      double bucketSeconds,
+      long[] ids,
+      double[] startTimes,
+      double[] endTimes,
+      double[] minX,
+      double[] minY,
+      double[] maxX,
+      double[] maxY,
+      double[] confidences,
+      String[] originTexts,
+      String[] translatedTexts) {
+    this.bucketSeconds = bucketSeconds;
+    this.ids = ids;
+    this.startTimes = startTimes;
+    this.endTimes = endTimes;
+    this.minX = minX;
+    this.minY = minY;
+    this.maxX = maxX;
+    this.maxY = maxY;
+    this.confidences = confidences;
+    this.originTexts = originTexts;
+    this.translatedTexts = translatedTexts;
+    this.buckets = buildBuckets();
+  }
+
+  public static OcrSpatialIndex build(List<OcrItem> items, double bucketSeconds) {
+    if (!(bucketSeconds > 0)) {
+      throw new IllegalArgumentException("bucketSeconds must be positive");
+    }
+    int n = items.size();
+    long[] ids = new long[n];
+    double[] startTimes = new double[n];
+    double[] endTimes = new double[n];
+    double[] minX = new double[n];
+    double[] minY = new double[n];
+    double[] maxX = new double[n];
+    double[] maxY = new double[n];
+    double[] confidences = new double[n];
+    String[] originTexts = new String[n];
+    String[] translatedTexts = new String[n];
+    for (int i = 0; i < n; i++) {
+      OcrItem item = items.get(i);
+      ids[i] = item.getId() == null ? -1 : item.getId();
+      startTimes[i] = item.getStartTime();
+      endTimes[i] = Math.max(item.getStartTime(), item.getEndTime());
+      // 음수 폭/높이는 반대쪽으로 뻗은 박스로 봄
+      double x2 = item.getX() + item.getW();
+      double y2 = item.getY() + item.getH();
+      minX[i] = Math.min(item.getX(), x2);
+      minY[i] = Math.min(item.getY(), y2);
+      maxX[i] = Math.max(item.getX(), x2);
+      maxY[i] = Math.max(item.getY(), y2);
+      confidences[i] = item.getConfidence() == null ? Double.NaN : item.getConfidence();
+      originTexts[i] = item.getOriginText();
+      translatedTexts[i] = item.getTranslatedText();
+    }
+    return new OcrSpatialIndex(
+        bucketSeconds,
+        ids,
+        startTimes,
+        endTimes,
+        minX,
+        minY,
+        maxX,
+        maxY,
+        confidences,
+        originTexts,
+        translatedTexts);
+  }
+
+  public int size() {
+    return ids.length;
+  }
+
+  /** time 에 화면에 있고 (x, y) 를 박스 안에 포함하는 항목, confidence 높은 순 (없으면 맨 뒤) 최대 limit 개 */
+  public List<Hit> lookup(double time, double x, double y, int limit) {
+    int bucket = bucketOf(time);
+    if (limit <= 0 || bucket < 0 || bucket >= buckets.length || buckets[bucket] == null) {
+      return List.of();
+    }
+    Tree tree = buckets[bucket];
+    IntList found = new IntList();
+    int root = tree.levels().length - 1;
+    search(tree, root, 0, time, x, y, found);
+
+    int[] matches = found.toArray();
+    sortByConfidence(matches);
+    List<Hit> hits = new ArrayList<>(Math.min(limit, matches.length));
+    for (int i = 0; i < matches.length && i < limit; i++) {
+      hits.add(hit(matches[i]));
+    }
+    return hits;
+  }
+
+  private void search(
+      Tree tree, int level, int node, double time, double x, double y, IntList out) {
+    double[] boxes = tree.levels()[level];
+    int b = node * 4;
+    if (x < boxes[b] || y < boxes[b + 1] || x > boxes[b + 2] || y > boxes[b + 3]) {
+      return;
+    }
+    int from = node * FANOUT;
+    if (level == 0) {
+      int to = Math.min(from + FANOUT, tree.entries().length);
+      for (int e = from; e < to; e++) {
+        int item = tree.entries()[e];
+        if (startTimes[item] <= time
+            && time <= endTimes[item]
+            && minX[item] <= x
+            && x <= maxX[item]
+            && minY[item] <= y
+            && y <= maxY[item]) {
+          out.add(item);
+        }
+      }
+      return;
+    }
+    int to = Math.min(from + FANOUT, tree.levels()[level - 1].length / 4);
+    for (int child = from; child < to; child++) {
+      search(tree, level - 1, child, time, x, y, out);
+    }
+  }
+
+  private int bucketOf(double time) {
+    if (!(time >= 0)) {
+      return -1;
+    }
+    return (int) Math.min(Integer.MAX_VALUE, Math.floor(time / bucketSeconds));
+  }
+
+  // 겹치는 결과는 많아야 몇 개라 삽입 정렬
+  private void sortByConfidence(int[] items) {
+    for (int i = 1; i < items.length; i++) {
+      int item = items[i];
+      int j = i - 1;
+      while (j >= 0 && ranksBefore(item, items[j])) {
+        items[j + 1] = items[j];
+        j--;
+      }
+      items[j + 1] = item;
+    }
+  }
+
+  private boolean ranksBefore(int a, int b) {
+    double ca = confidences[a];
+    double cb = confidences[b];
+    if (Double.isNaN(cb)) {
+      return !Double.isNaN(ca);
+    }
+    return ca > cb;
+  }
+
+  private Hit hit(int item) {
+    return new Hit(
+        ids[item] < 0 ? null : ids[item],
+        startTimes[item],
+        endTimes[item],
+        minX[item],
+        minY[item],
+        maxX[item] - minX[item],
+        maxY[item] - minY[item],
+        Double.isNaN(confidences[item]) ? null : confidences[item],
+        originTexts[item],
+        translatedTexts[item]);
+  }
+
+  private Tree[] buildBuckets() {
+    int n = ids.length;
+    if (n == 0) {
+      return new Tree[0];
+    }
+    double maxEnd = 0;
+    for (int i = 0; i < n; i++) {
+      maxEnd = Math.max(maxEnd, endTimes[i]);
+    }
+    int bucketCount = bucketOf(maxEnd) + 1;
+
+    // 구간별 항목 수를 센 뒤 한 배열에 이어 담음 (CSR)
+    int[] counts = new int[bucketCount + 1];
+    for (int i = 0; i < n; i++) {
+      if (endTimes[i] < 0) {
+        continue;
+      }
+      for (int b = firstBucket(i); b <= bucketOf(endTimes[i]); b++) {
+        counts[b + 1]++;
+      }
+    }
+    for (int b = 0; b < bucketCount; b++) {
+      counts[b + 1] += counts[b];
+    }
+    int[] members = new int[counts[bucketCount]];
+    int[] cursor = Arrays.copyOf(counts, bucketCount);
+    for (int i = 0; i < n; i++) {
+      if (endTimes[i] < 0) {
+        continue;
+      }
+      for (int b = firstBucket(i); b <= bucketOf(endTimes[i]); b++) {
+        members[cursor[b]++] = i;
+      }
+    }
+
+    Tree[] trees = new Tree[bucketCount];
+    for (int b = 0; b < bucketCount; b++) {
+      if (counts[b + 1] > counts[b]) {
+        trees[b] = buildTree(Arrays.copyOfRange(members, counts[b], counts[b + 1]));
+      }
+    }
+    return trees;
+  }
+
+  private int firstBucket(int item) {
+    return Math.max(0, bucketOf(Math.max(0, startTimes[item])));
+  }
+
+  // STR: x 중심으로 정렬해 세로 띠로 나누고, 띠 안에서 y 중심으로 정렬한 뒤 FANOUT 개씩 리프로 묶음
+  private Tree buildTree(int[] entries) {
+    int n = entries.length;
+    int leafCount = (n + FANOUT - 1) / FANOUT;
+    int slices = (int) Math.ceil(Math.sqrt(leafCount));
+    int sliceSize = slices * FANOUT;
+
+    Integer[] order = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = entries[i];
+    }
+    Arrays.sort(order, Comparator.comparingDouble(i -> minX[i] + maxX[i]));
+    for (int from = 0; from < n; from += sliceSize) {
+      Arrays.sort(
+          order,
+          from,
+          Math.min(from + sliceSize, n),
+          Comparator.comparingDouble(i -> minY[i] + maxY[i]));
+    }
+    for (int i = 0; i < n; i++) {
+      entries[i] = order[i];
+    }
+
+    List<double[]> levels = new ArrayList<>();
+    double[] leaves = new double[leafCount * 4];
+    for (int node = 0; node < leafCount; node++) {
+      int b = node * 4;
+      leaves[b] = Double.POSITIVE_INFINITY;
+      leaves[b + 1] = Double.POSITIVE_INFINITY;
+      leaves[b + 2] = Double.NEGATIVE_INFINITY;
+      leaves[b + 3] = Double.NEGATIVE_INFINITY;
+      for (int e = node * FANOUT; e < Math.min((node + 1) * FANOUT, n); e++) {
+        int item = entries[e];
+        leaves[b] = Math.min(leaves[b], minX[item]);
+        leaves[b + 1] = Math.min(leaves[b + 1], minY[item]);
+        leaves[b + 2] = Math.max(leaves[b + 2], maxX[item]);
+        leaves[b + 3] = Math.max(leaves[b + 3], maxY[item]);
+      }
+    }
+    levels.add(leaves);
+
+    // 윗 레벨은 아래 레벨 노드를 순서대로 FANOUT 개씩 묶음 (루트 하나가 될 때까지)
+    double[] below = leaves;
+    while (below.length > 4) {
+      int childCount = below.length / 4;
+      int nodeCount = (childCount + FANOUT - 1) / FANOUT;
+      double[] level = new double[nodeCount * 4];
+      for (int node = 0; node < nodeCount; node++) {
+        int b = node * 4;
+        level[b] = Double.POSITIVE_INFINITY;
+        level[b + 1] = Double.POSITIVE_INFINITY;
+        level[b + 2] = Double.NEGATIVE_INFINITY;
+        level[b + 3] = Double.NEGATIVE_INFINITY;
+        int last = Math.min((node + 1) * FANOUT, childCount);
+        for (int child = node * FANOUT; child < last; child++) {
+          int c = child * 4;
+          level[b] = Math.min(level[b], below[c]);
+          level[b + 1] = Math.min(level[b + 1], below[c + 1]);
+          level[b + 2] = Math.max(level[b + 2], below[c + 2]);
+          level[b + 3] = Math.max(level[b + 3], below[c + 3]);
+        }
+      }
+      levels.add(level);
+      below = level;
+    }
+    return new Tree(entries, levels.toArray(double[][]::new));
+  }
+
+  // 조회 결과 수집용 (박싱 없는 int 목록)
+  private static final class IntList {
+    private int[] values = new int[8];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
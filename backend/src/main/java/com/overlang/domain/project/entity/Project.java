@@ -2,11 +2,15 @@ package com.overlang.domain.project.entity;
 
 import com.overlang.domain.common.BaseTimeEntity;
 import com.overlang.domain.member.entity.Member;
+import com.overlang.global.config.CacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "projects")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.PROJECT_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Project extends BaseTimeEntity {
@@ -29,7 +33,7 @@ public class Project extends BaseTimeEntity {
   @Column(name = "source_url", length = 1024) // 유튜브 URL
   private String sourceUrl;
 
-  @Column(name = "file_url", length = 1024) // S3 URL
+  @Column(name = "file_url", length = 1024) // 영상 URL (S3 URL 또는 스트리밍 API, 저장소가 정함)
   private String fileUrl;
 
   @Column(name = "file_key", length = 1024) // S3 내부 경로
@@ -39,6 +43,22 @@ public class Project extends BaseTimeEntity {
   @Column(nullable = false, length = 50)
   private ProjectStatus status;
 
+  // 업로드 시 컨테이너 헤더에서 읽은 값 (YOUTUBE 이거나 알 수 없는 형식이면 null)
+  @Column(name = "duration_seconds")
+  private Double durationSeconds;
+
+  @Column(name = "video_codec", length = 50)
+  private String videoCodec;
+
+  @Column(name = "audio_codec", length = 50)
+  private String audioCodec;
+
+  @Column(name = "has_video")
+  private Boolean hasVideo;
+
+  @Column(name = "has_audio")
+  private Boolean hasAudio;
+
   public Project(
       Member member,
       String title,
@@ -73,7 +93,6 @@ public class Project extends BaseTimeEntity {
   }
 
   private void validateUploadSource(String sourceUrl, String fileUrl, String fileKey) {
-    validateRequired(fileUrl, "UPLOAD source requires fileUrl."); // fileUrl 필수
     validateRequired(fileKey, "UPLOAD source requires fileKey."); // fileKey 필수
     validateBlank(sourceUrl, "UPLOAD source must not have sourceUrl."); // sourceUrl 있으면 안됨
   }
@@ -90,6 +109,23 @@ public class Project extends BaseTimeEntity {
     }
   }
 
+  public void applyMediaInfo(
+      Double durationSeconds,
+      String videoCodec,
+      String audioCodec,
+      Boolean hasVideo,
+      Boolean hasAudio) {
+    this.durationSeconds = durationSeconds;
+    this.videoCodec = videoCodec;
+    this.audioCodec = audioCodec;
+    this.hasVideo = hasVideo;
+    this.hasAudio = hasAudio;
+  } // 업로드 영상 메타데이터 반영
+
+  public void assignFileUrl(String fileUrl) {
+    this.fileUrl = fileUrl;
+  } // 저장소가 정한 영상 URL 반영
+
   public void updateStatus(ProjectStatus status) {
     this.status = status;
   } // 프로젝트 상태 변경
@@ -1,12 +1,40 @@
 package com.overlang.domain.project.repository;
 
 import com.overlang.domain.project.entity.Project;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
   List<Project> findByMemberIdOrderByCreatedAtDesc(Long memberId);
 
-  Optional<Project> findByIdAndMemberId(Long id, Long memberId);
+  // 파생 쿼리는 2차 캐시를 거치지 않으므로 ID 로 조회한 뒤 소유자 확인 (member 는 프록시 ID 만 사용)
+  default Optional<Project> findByIdAndMemberId(Long id, Long memberId) {
+    return findById(id).filter(project -> project.getMember().getId().equals(memberId));
+  }
+
+  // 요청한 ID 중 회원 소유인 것만 잠금 (삭제하는 동안 새 작업 생성이 끼어들지 않도록)
+  @Query(
+      value =
+          """
+          select id from projects
+          where member_id = :memberId and id in (:projectIds)
+          order by id
+          for update
+          """,
+      nativeQuery = true)
+  List<Long> lockOwnedIds(
+      @Param("memberId") Long memberId, @Param("projectIds") Collection<Long> projectIds);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+  @Query(value = "delete from projects where id in (:projectIds)", nativeQuery = true)
+  int deleteByIds(@Param("projectIds") List<Long> projectIds);
 }
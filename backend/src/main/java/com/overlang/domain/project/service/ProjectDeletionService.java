@@ -0,0 +1,108 @@
+package com.overlang.domain.project.service;
+
+import com.overlang.api.dto.project.ProjectDeleteResponse;
+import com.overlang.domain.archive.repository.JobArchiveRepository;
+import com.overlang.domain.file.repository.StorageDeletionRepository;
+import com.overlang.domain.file.repository.UploadedMediaRepository;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobCheckpointRepository;
+import com.overlang.domain.job.repository.JobChunkRepository;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import com.overlang.domain.ocr.repository.OcrItemRepository;
+import com.overlang.domain.project.repository.ProjectRepository;
+import com.overlang.domain.segment.repository.RetranslationRequestRepository;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.SegmentTranslationRepository;
+import com.overlang.domain.segment.repository.SegmentWordRepository;
+import com.overlang.domain.segment.repository.WordTimelineBlobRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 프로젝트 일괄 삭제: 하위 테이블을 FK 순서대로 집합 단위 DELETE 하고,
+// 저장소 파일은 같은 트랜잭션에서 storage_deletions 에 기록만 해 응답을 기다리게 하지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectDeletionService {
+
+  public static final int MAX_PROJECTS_PER_REQUEST = 100;
+
+  private final ProjectRepository projectRepository;
+  private final JobRepository jobRepository;
+  private final JobChunkRepository jobChunkRepository;
+  private final JobCheckpointRepository jobCheckpointRepository;
+  private final SegmentRepository segmentRepository;
+  private final SegmentWordRepository segmentWordRepository;
+  private final WordTimelineBlobRepository wordTimelineBlobRepository;
+  private final OcrItemRepository ocrItemRepository;
+  private final LearningContentRepository learningContentRepository;
+  private final UploadedMediaRepository uploadedMediaRepository;
+  private final StorageDeletionRepository storageDeletionRepository;
+  private final JobArchiveRepository jobArchiveRepository;
+  private final RetranslationRequestRepository retranslationRequestRepository;
+  private final JobLanguageRepository jobLanguageRepository;
+  private final SegmentTranslationRepository segmentTranslationRepository;
+
+  @Transactional
+  public ProjectDeleteResponse deleteProject(Long memberId, Long projectId) {
+    ProjectDeleteResponse response = deleteProjects(memberId, List.of(projectId));
+    if (response.deletedProjectIds().isEmpty()) {
+      throw new IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다.");
+    }
+    return response;
+  }
+
+  // 회원 소유가 아닌 ID 는 무시하고 삭제된 ID 만 응답
+  @Transactional
+  public ProjectDeleteResponse deleteProjects(Long memberId, List<Long> projectIds) {
+    if (projectIds.size() > MAX_PROJECTS_PER_REQUEST) {
+      throw new IllegalArgumentException(
+          "한 번에 삭제할 수 있는 프로젝트는 " + MAX_PROJECTS_PER_REQUEST + "개까지입니다.");
+    }
+    // 프로젝트 → 작업 순서로 잠가 확인과 삭제 사이에 디스패처가 작업을 가져가지 못하게 함
+    List<Long> ownedIds = projectRepository.lockOwnedIds(memberId, projectIds);
+    if (ownedIds.isEmpty()) {
+      return new ProjectDeleteResponse(List.of(), 0);
+    }
+    if (jobRepository.lockStatusesByProjectIds(ownedIds).contains(JobStatus.RUNNING.name())) {
+      throw new IllegalArgumentException("처리 중인 작업이 있는 프로젝트는 삭제할 수 없습니다.");
+    }
+
+    // 프로젝트 행을 지우기 전에 파일 키를 옮겨 둠
+    int queuedFiles =
+        storageDeletionRepository.enqueueProjectFiles(ownedIds)
+            + storageDeletionRepository.enqueueJobArchives(ownedIds);
+
+    int words = segmentWordRepository.deleteByProjectIds(ownedIds);
+    wordTimelineBlobRepository.deleteByProjectIds(ownedIds);
+    segmentTranslationRepository.deleteByProjectIds(ownedIds);
+    int segments = segmentRepository.deleteByProjectIds(ownedIds);
+    int ocrItems = ocrItemRepository.deleteByProjectIds(ownedIds);
+    learningContentRepository.deleteByProjectIds(ownedIds);
+    jobChunkRepository.deleteByProjectIds(ownedIds);
+    jobCheckpointRepository.deleteByProjectIds(ownedIds);
+    jobArchiveRepository.deleteByProjectIds(ownedIds);
+    retranslationRequestRepository.deleteByProjectIds(ownedIds);
+    jobLanguageRepository.deleteByProjectIds(ownedIds);
+    int jobs = jobRepository.deleteByProjectIds(ownedIds);
+    uploadedMediaRepository.deleteByProjectIds(ownedIds);
+    projectRepository.deleteByIds(ownedIds);
+
+    log.info(
+        "Projects deleted: memberId={}, projects={}, jobs={}, segments={}, words={}, ocrItems={},"
+            + " queuedFiles={}",
+        memberId,
+        ownedIds.size(),
+        jobs,
+        segments,
+        words,
+        ocrItems,
+        queuedFiles);
+    return new ProjectDeleteResponse(ownedIds, queuedFiles);
+  }
+}
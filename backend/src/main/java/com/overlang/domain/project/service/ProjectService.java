@@ -4,6 +4,9 @@ import com.overlang.api.dto.project.ProjectCreateRequest;
 import com.overlang.api.dto.project.ProjectCreateResponse;
 import com.overlang.api.dto.project.ProjectDetailResponse;
 import com.overlang.api.dto.project.ProjectResponse;
+import com.overlang.domain.file.entity.UploadedMedia;
+import com.overlang.domain.file.repository.UploadedMediaRepository;
+import com.overlang.domain.file.storage.StorageService;
 import com.overlang.domain.member.entity.Member;
 import com.overlang.domain.member.repository.MemberRepository;
 import com.overlang.domain.project.entity.Project;
@@ -20,6 +23,8 @@ public class ProjectService {
 
   private final ProjectRepository projectRepository;
   private final MemberRepository memberRepository;
+  private final UploadedMediaRepository uploadedMediaRepository;
+  private final StorageService storageService;
 
   public ProjectCreateResponse createProject(Long memberId, ProjectCreateRequest request) {
     Member member =
@@ -35,8 +40,27 @@ public class ProjectService {
             request.sourceUrl(),
             request.fileUrl(),
             request.fileKey());
+    if (request.fileKey() != null) {
+      // 다른 회원이 올린 파일 키로 프로젝트를 만들어 영상을 스트리밍하지 못하도록 업로드한 회원만 허용
+      UploadedMedia media =
+          uploadedMediaRepository
+              .findByFileKey(request.fileKey())
+              .filter(m -> memberId.equals(m.getMemberId()))
+              .orElseThrow(() -> new IllegalArgumentException("업로드한 영상을 찾을 수 없습니다."));
+      project.applyMediaInfo(
+          media.getDurationSeconds(),
+          media.getVideoCodec(),
+          media.getAudioCodec(),
+          media.getHasVideo(),
+          media.getHasAudio());
+    }
 
     Project savedProject = projectRepository.save(project);
+    if (savedProject.getFileKey() != null) {
+      // 영상 URL 은 클라이언트가 보낸 값 대신 프로젝트 ID 가 필요한 스트리밍 API
+      savedProject.assignFileUrl(
+          storageService.fileUrl(savedProject.getId(), savedProject.getFileKey()));
+    }
 
     return new ProjectCreateResponse(
         savedProject.getId(),
@@ -80,7 +104,21 @@ public class ProjectService {
         project.getSourceType(),
         project.getSourceUrl(),
         project.getFileUrl(),
+        project.getDurationSeconds(),
         project.getStatus(),
         project.getCreatedAt());
   }
+
+  @Transactional(readOnly = true)
+  public String getVideoFileKey(Long memberId, Long projectId) {
+    Project project =
+        projectRepository
+            .findByIdAndMemberId(projectId, memberId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다."));
+
+    if (project.getFileKey() == null || project.getFileKey().isBlank()) {
+      throw new IllegalArgumentException("업로드된 영상이 없는 프로젝트입니다.");
+    }
+    return project.getFileKey();
+  }
 }
@@ -0,0 +1,53 @@
+package com.overlang.domain.segment.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+// 자막을 수정한 작업의 재번역/학습 콘텐츠 갱신 대기 (작업당 한 행, 수정할 때마다 requested_at 갱신)
+@Entity
+@Table(
+    name = "retranslation_requests",
+    indexes =
+        @Index(name = "idx_retranslation_requests_next_attempt", columnList = "next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RetranslationRequest extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "job_id", nullable = false, unique = true)
+  private Long jobId;
+
+  @Column(name = "requested_at", nullable = false)
+  private Instant requestedAt; // 마지막 수정 시각 (처리 중 다시 수정되면 처리 후에도 남김)
+
+  @Column(nullable = false)
+  private Integer attempts;
+
+  @Column(name = "next_attempt_at")
+  private Instant nextAttemptAt; // null 이면 재시도 포기
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  // 러너가 처리하는 동안 다른 인스턴스가 가져가지 않도록 다음 시도 시각을 미룸
+  public void claim(Instant leaseUntil) {
+    this.attempts++;
+    this.nextAttemptAt = leaseUntil;
+  }
+
+  public void fail(String error, Instant retryAt) {
+    this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    this.nextAttemptAt = retryAt;
+  }
+
+  // 처리 중 다시 수정되어 남겨 둔 요청은 바로 다시 처리
+  public void release(Instant now) {
+    this.attempts = 0;
+    this.nextAttemptAt = now;
+  }
+}
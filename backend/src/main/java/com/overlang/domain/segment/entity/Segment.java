@@ -4,6 +4,7 @@ import com.overlang.domain.common.BaseTimeEntity;
 import com.overlang.domain.job.entity.Job; // Job 연결
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "segments")
@@ -37,6 +38,11 @@ public class Segment extends BaseTimeEntity {
   @Column(name = "language_code", length = 20)
   private String languageCode;
 
+  // 자막을 수정해 번역이 원문과 맞지 않음 (재번역 전까지 이전 번역을 그대로 보여줌)
+  @ColumnDefault("false")
+  @Column(name = "translation_stale", nullable = false)
+  private Boolean translationStale;
+
   public Segment(
       Job job,
       Double startTime,
@@ -52,5 +58,25 @@ public class Segment extends BaseTimeEntity {
     this.text = text;
     this.translatedText = translatedText;
     this.languageCode = languageCode;
+    this.translationStale = false;
+  }
+
+  // 자막 수정 (재번역 대상으로 표시)
+  public void editText(String text) {
+    this.text = text;
+    this.translationStale = true;
+  }
+
+  // 보관했던 결과 복원 시 재번역 대기 상태 유지
+  public void markTranslationStale() {
+    this.translationStale = true;
+  }
+
+  // 재번역 결과 반영 (번역 대상 언어가 없는 작업은 번역 없이 표시만 해제)
+  public void applyTranslation(String translatedText) {
+    if (translatedText != null) {
+      this.translatedText = translatedText;
+    }
+    this.translationStale = false;
   }
 }
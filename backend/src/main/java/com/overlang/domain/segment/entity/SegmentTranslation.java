@@ -0,0 +1,45 @@
+package com.overlang.domain.segment.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import com.overlang.domain.job.entity.Job;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 여러 언어 작업의 추가 언어 자막 번역 (작업의 targetLanguage 번역은 segments.translated_text)
+@Entity
+@Table(
+    name = "segment_translations",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "language", "seq"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SegmentTranslation extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "job_id", nullable = false)
+  private Job job;
+
+  @Column(nullable = false, length = 20)
+  private String language;
+
+  @Column(nullable = false)
+  private Integer seq; // segments.seq
+
+  @Column(name = "translated_text", columnDefinition = "TEXT")
+  private String translatedText;
+
+  public SegmentTranslation(Job job, String language, Integer seq, String translatedText) {
+    this.job = job;
+    this.language = language;
+    this.seq = seq;
+    this.translatedText = translatedText;
+  }
+
+  // 원문을 수정한 줄의 재번역 결과
+  public void applyTranslation(String translatedText) {
+    this.translatedText = translatedText;
+  }
+}
@@ -13,10 +13,17 @@ public class SegmentWord {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  // segments 가 job_id 해시 파티션이라 FK 는 (segment_id, job_id) 복합키로 마이그레이션(V1)에서 생성
   @ManyToOne(fetch = FetchType.LAZY, optional = false)
-  @JoinColumn(name = "segment_id", nullable = false)
+  @JoinColumn(
+      name = "segment_id",
+      nullable = false,
+      foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
   private Segment segment;
 
+  @Column(name = "job_id", nullable = false)
+  private Long jobId; // 파티션 키 (segment.job 과 같은 값)
+
   @Column(nullable = false)
   private Integer seq;
 
@@ -31,6 +38,7 @@ public class SegmentWord {
 
   public SegmentWord(Segment segment, Integer seq, Double startTime, Double endTime, String word) {
     this.segment = segment;
+    this.jobId = segment.getJob().getId();
     this.seq = seq;
     this.startTime = startTime;
     this.endTime = endTime;
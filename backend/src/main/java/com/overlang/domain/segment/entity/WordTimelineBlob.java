@@ -0,0 +1,35 @@
+package com.overlang.domain.segment.entity;
+
+import com.overlang.domain.common.BaseTimeEntity;
+import com.overlang.domain.job.entity.Job;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 작업 하나의 단어 타임스탬프 전체를 열 단위로 압축해 저장 (segment_words 대신 사용하는 저장 방식)
+@Entity
+@Table(name = "word_timelines")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WordTimelineBlob extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @OneToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "job_id", nullable = false, unique = true)
+  private Job job;
+
+  @Column(name = "word_count", nullable = false)
+  private Integer wordCount;
+
+  // WordTimelineCodec 형식
+  @Column(nullable = false, columnDefinition = "bytea")
+  private byte[] data;
+
+  public WordTimelineBlob(Job job, Integer wordCount, byte[] data) {
+    this.job = job;
+    this.wordCount = wordCount;
+    this.data = data;
+  }
+}
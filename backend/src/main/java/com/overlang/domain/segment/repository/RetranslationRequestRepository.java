@@ -0,0 +1,63 @@
+package com.overlang.domain.segment.repository;
+
+import com.overlang.domain.segment.entity.RetranslationRequest;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface RetranslationRequestRepository extends JpaRepository<RetranslationRequest, Long> {
+
+  // 이미 대기 중이면 수정 시각만 갱신하고 바로 처리 대상으로
+  @Modifying
+  @QueryHints(
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "retranslation_requests"))
+  @Query(
+      value =
+          """
+          insert into retranslation_requests
+            (job_id, requested_at, attempts, next_attempt_at, created_at, updated_at)
+          values (:jobId, :now, 0, :now, now(), now())
+          on conflict (job_id) do update
+          set requested_at = :now, attempts = 0, next_attempt_at = :now, last_error = null,
+              updated_at = now()
+          """,
+      nativeQuery = true)
+  int enqueue(@Param("jobId") Long jobId, @Param("now") Instant now);
+
+  // 여러 인스턴스가 같은 요청을 가져가지 않도록 잠긴 행은 건너뜀
+  @Query(
+      value =
+          """
+          select * from retranslation_requests
+          where next_attempt_at <= :now
+          order by next_attempt_at
+          limit :limit
+          for update skip locked
+          """,
+      nativeQuery = true)
+  List<RetranslationRequest> lockDue(@Param("now") Instant now, @Param("limit") int limit);
+
+  // 처리 중 다시 수정되지 않았을 때만 삭제
+  @Modifying
+  @Query("delete from RetranslationRequest r where r.id = :id and r.requestedAt = :requestedAt")
+  int deleteIfUnchanged(@Param("id") Long id, @Param("requestedAt") Instant requestedAt);
+
+  // 프로젝트 일괄 삭제
+  @Modifying
+  @QueryHints(
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "retranslation_requests"))
+  @Query(
+      value =
+          """
+          delete from retranslation_requests
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
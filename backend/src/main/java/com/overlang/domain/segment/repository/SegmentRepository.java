@@ -0,0 +1,72 @@
+package com.overlang.domain.segment.repository;
+
+import com.overlang.domain.segment.entity.Segment;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface SegmentRepository extends JpaRepository<Segment, Long> {
+
+  List<Segment> findByJobIdOrderBySeqAsc(Long jobId);
+
+  List<Segment> findByJobIdAndSeqIn(Long jobId, Collection<Integer> seqs);
+
+  // 단어 타임스탬프 행을 먼저 지워야 함
+  @Modifying
+  @Query("delete from Segment s where s.job.id = :jobId")
+  int deleteByJobId(@Param("jobId") Long jobId);
+
+  // 재시도 작업으로 이전 작업의 자막 구간을 복사 (번역 결과는 선택적으로 포함)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "segments"))
+  @Query(
+      value =
+          """
+          insert into segments
+            (job_id, start_time, end_time, seq, text, translated_text, language_code,
+             created_at, updated_at)
+          select :targetJobId, start_time, end_time, seq, text,
+                 case when :withTranslation then translated_text end, language_code, now(), now()
+          from segments where job_id = :sourceJobId
+          """,
+      nativeQuery = true)
+  int copyToJob(
+      @Param("sourceJobId") Long sourceJobId,
+      @Param("targetJobId") Long targetJobId,
+      @Param("withTranslation") boolean withTranslation);
+
+  // 구간 복사 후 seq 로 새 구간을 찾아 단어 타임스탬프 복사
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "segment_words"))
+  @Query(
+      value =
+          """
+          insert into segment_words (segment_id, job_id, seq, start_time, end_time, word)
+          select ns.id, ns.job_id, w.seq, w.start_time, w.end_time, w.word
+          from segment_words w
+          join segments os on os.id = w.segment_id
+          join segments ns on ns.job_id = :targetJobId and ns.seq = os.seq
+          where os.job_id = :sourceJobId and w.job_id = :sourceJobId
+          """,
+      nativeQuery = true)
+  int copyWordsToJob(
+      @Param("sourceJobId") Long sourceJobId, @Param("targetJobId") Long targetJobId);
+
+  // 프로젝트 일괄 삭제 (단어 타임스탬프 삭제 후)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "segments"))
+  @Query(
+      value =
+          """
+          delete from segments
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
@@ -0,0 +1,37 @@
+package com.overlang.domain.segment.repository;
+
+import com.overlang.domain.segment.entity.SegmentTranslation;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface SegmentTranslationRepository extends JpaRepository<SegmentTranslation, Long> {
+
+  List<SegmentTranslation> findByJobIdAndLanguageOrderBySeqAsc(Long jobId, String language);
+
+  // 재번역한 줄의 추가 언어 번역
+  List<SegmentTranslation> findByJobIdAndLanguageAndSeqIn(
+      Long jobId, String language, Collection<Integer> seqs);
+
+  @Modifying
+  @Query("delete from SegmentTranslation t where t.job.id = :jobId and t.language = :language")
+  int deleteByJobIdAndLanguage(@Param("jobId") Long jobId, @Param("language") String language);
+
+  // 프로젝트 일괄 삭제
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "segment_translations"))
+  @Query(
+      value =
+          """
+          delete from segment_translations
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
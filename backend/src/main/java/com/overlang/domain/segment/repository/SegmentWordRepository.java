@@ -0,0 +1,43 @@
+package com.overlang.domain.segment.repository;
+
+import com.overlang.domain.segment.entity.SegmentWord;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface SegmentWordRepository extends JpaRepository<SegmentWord, Long> {
+
+  @Query(
+      """
+      select w from SegmentWord w join fetch w.segment s
+      where w.jobId = :jobId and s.job.id = :jobId
+        and w.startTime < :toTime and w.endTime >= :fromTime
+      order by s.seq, w.seq
+      """)
+  List<SegmentWord> findByJobIdBetween(
+      @Param("jobId") Long jobId,
+      @Param("fromTime") Double fromTime,
+      @Param("toTime") Double toTime);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "segment_words"))
+  @Query(value = "delete from segment_words where job_id = :jobId", nativeQuery = true)
+  int deleteByJobId(@Param("jobId") Long jobId);
+
+  // 프로젝트 일괄 삭제 (구간보다 먼저)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "segment_words"))
+  @Query(
+      value =
+          """
+          delete from segment_words
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
@@ -0,0 +1,47 @@
+package com.overlang.domain.segment.repository;
+
+import com.overlang.domain.segment.entity.WordTimelineBlob;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface WordTimelineBlobRepository extends JpaRepository<WordTimelineBlob, Long> {
+
+  Optional<WordTimelineBlob> findByJobId(Long jobId);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_timelines"))
+  @Query(value = "delete from word_timelines where job_id = :jobId", nativeQuery = true)
+  int deleteByJobId(@Param("jobId") Long jobId);
+
+  // 재시도 작업으로 이전 작업의 단어 타임라인 복사 (세그먼트 seq 기준이라 그대로 사용 가능)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_timelines"))
+  @Query(
+      value =
+          """
+          insert into word_timelines (job_id, word_count, data, created_at, updated_at)
+          select :targetJobId, word_count, data, now(), now()
+          from word_timelines where job_id = :sourceJobId
+          """,
+      nativeQuery = true)
+  int copyToJob(@Param("sourceJobId") Long sourceJobId, @Param("targetJobId") Long targetJobId);
+
+  // 프로젝트 일괄 삭제
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_timelines"))
+  @Query(
+      value =
+          """
+          delete from word_timelines
+          where job_id in (select id from jobs where project_id in (:projectIds))
+          """,
+      nativeQuery = true)
+  int deleteByProjectIds(@Param("projectIds") List<Long> projectIds);
+}
@@ -0,0 +1,103 @@
+package com.overlang.domain.segment.service;
+
+import com.overlang.domain.learning.service.LearningAnalysisService.TimeRange;
+import com.overlang.domain.learning.service.LearningContentGenerator;
+import com.overlang.domain.learning.service.LearningContentGenerator.GeneratedContent;
+import com.overlang.domain.learning.service.TranscriptWindows.Window;
+import com.overlang.domain.segment.service.RetranslationService.Claimed;
+import com.overlang.domain.segment.service.RetranslationService.LanguageResult;
+import com.overlang.domain.segment.service.RetranslationService.RetranslationInput;
+import com.overlang.global.config.SchedulingConfig;
+import com.overlang.global.tracing.JobTracing;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 자막을 수정한 작업의 바뀐 줄만 재번역하고, 수정 구간과 겹치는 윈도우의 학습 콘텐츠만 다시 생성
+// (여러 언어 작업은 완료된 추가 언어마다 같은 방식으로)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "overlang.llm.enabled", havingValue = "true")
+public class RetranslationRunner {
+
+  private final RetranslationService retranslationService;
+  private final SegmentTranslator segmentTranslator;
+  private final LearningContentGenerator learningContentGenerator;
+  private final JobTracing jobTracing;
+  private final int batchSize;
+
+  public RetranslationRunner(
+      RetranslationService retranslationService,
+      SegmentTranslator segmentTranslator,
+      LearningContentGenerator learningContentGenerator,
+      JobTracing jobTracing,
+      @Value("${overlang.translation.batch-size}") int batchSize) {
+    this.retranslationService = retranslationService;
+    this.segmentTranslator = segmentTranslator;
+    this.learningContentGenerator = learningContentGenerator;
+    this.jobTracing = jobTracing;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(
+      fixedDelayString = "${overlang.translation.interval-ms}",
+      scheduler = SchedulingConfig.LLM_SCHEDULER)
+  public void runPending() {
+    for (Claimed claimed : retranslationService.claimDue(batchSize)) {
+      try {
+        jobTracing.observe("overlang.job.retranslation", claimed.jobId(), () -> run(claimed));
+      } catch (Exception e) {
+        log.warn("Retranslation failed: jobId={}, reason={}", claimed.jobId(), e.getMessage());
+        retranslationService.fail(claimed, e.getMessage());
+      }
+    }
+  }
+
+  private void run(Claimed claimed) {
+    Optional<RetranslationInput> loaded = retranslationService.load(claimed.jobId());
+    if (loaded.isEmpty()) {
+      retranslationService.finish(claimed);
+      return;
+    }
+    RetranslationInput input = loaded.get();
+    Map<Integer, String> translations =
+        input.targetLanguage() == null
+            ? Map.of()
+            : segmentTranslator.translate(
+                input.lines(), input.sourceLanguage(), input.targetLanguage());
+    List<GeneratedContent> contents =
+        input.hasLearningContents() ? generate(input, input.targetLanguage()) : List.of();
+    List<LanguageResult> extraResults =
+        input.extraLanguages().stream()
+            .map(
+                extra ->
+                    new LanguageResult(
+                        extra.language(),
+                        segmentTranslator.translate(
+                            extra.lines(), input.sourceLanguage(), extra.language()),
+                        extra.hasLearningContents()
+                            ? generate(input, extra.language())
+                            : List.of()))
+            .toList();
+    retranslationService.complete(claimed, input, translations, contents, extraResults);
+  }
+
+  private List<GeneratedContent> generate(RetranslationInput input, String targetLanguage) {
+    return learningContentGenerator
+        .generate(
+            input.analysisLines(),
+            input.sourceLanguage(),
+            targetLanguage,
+            window -> overlapsEdit(window, input.edited()))
+        .contents();
+  }
+
+  private static boolean overlapsEdit(Window window, List<TimeRange> edited) {
+    return edited.stream().anyMatch(range -> range.overlaps(window.startTime(), window.endTime()));
+  }
+}
@@ -0,0 +1,290 @@
+package com.overlang.domain.segment.service;
+
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobLanguage;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import com.overlang.domain.learning.service.LearningAnalysisService;
+import com.overlang.domain.learning.service.LearningAnalysisService.TimeRange;
+import com.overlang.domain.learning.service.LearningContentGenerator.GeneratedContent;
+import com.overlang.domain.learning.service.TranscriptWindows;
+import com.overlang.domain.segment.entity.RetranslationRequest;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.entity.SegmentTranslation;
+import com.overlang.domain.segment.repository.RetranslationRequestRepository;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.SegmentTranslationRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// retranslation_requests 가져가기, 입력 조회, 결과 반영 (LLM 호출은 트랜잭션 밖 RetranslationRunner 에서)
+// 여러 언어 작업은 완료된 추가 언어의 번역과 학습 콘텐츠도 같은 줄, 같은 구간만 다시 만듦
+@Slf4j
+@Service
+@Transactional
+public class RetranslationService {
+
+  // 가져간 뒤 결과를 반영하지 못하고 죽으면 이 시간 뒤 다시 시도
+  private static final Duration LEASE = Duration.ofMinutes(10);
+  private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+  private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+  private final RetranslationRequestRepository retranslationRequestRepository;
+  private final JobRepository jobRepository;
+  private final JobLanguageRepository jobLanguageRepository;
+  private final SegmentRepository segmentRepository;
+  private final SegmentTranslationRepository segmentTranslationRepository;
+  private final LearningContentRepository learningContentRepository;
+  private final LearningAnalysisService learningAnalysisService;
+  private final int maxAttempts;
+
+  public record Claimed(Long id, Long jobId, Instant requestedAt) {}
+
+  /**
+   * 재번역 입력 (조회 시점의 수정된 줄 원문을 함께 보관해, 처리 중 다시 수정된 줄은 반영하지 않음)
+   *
+   * @param lines 번역 문맥을 위한 작업 전체 자막 (수정된 줄은 target)
+   * @param analysisLines 학습 콘텐츠 윈도우를 나눌 작업 전체 자막
+   * @param edited 수정된 줄의 시간 범위
+   * @param extraLanguages 여러 언어 작업의 완료된 추가 언어 (targetLanguage 제외)
+   */
+  public record RetranslationInput(
+      List<SegmentTranslator.Line> lines,
+      List<TranscriptWindows.Line> analysisLines,
+      List<TimeRange> edited,
+      Map<Integer, String> editedTexts,
+      String sourceLanguage,
+      String targetLanguage,
+      boolean hasLearningContents,
+      List<ExtraLanguage> extraLanguages) {}
+
+  /** 추가 언어 하나의 재번역 입력 (lines 의 기존 번역은 segment_translations) */
+  public record ExtraLanguage(
+      String language, List<SegmentTranslator.Line> lines, boolean hasLearningContents) {}
+
+  /** 추가 언어 하나의 재번역 결과 */
+  public record LanguageResult(
+      String language, Map<Integer, String> translations, List<GeneratedContent> contents) {}
+
+  public RetranslationService(
+      RetranslationRequestRepository retranslationRequestRepository,
+      JobRepository jobRepository,
+      JobLanguageRepository jobLanguageRepository,
+      SegmentRepository segmentRepository,
+      SegmentTranslationRepository segmentTranslationRepository,
+      LearningContentRepository learningContentRepository,
+      LearningAnalysisService learningAnalysisService,
+      @Value("${overlang.translation.max-attempts}") int maxAttempts) {
+    this.retranslationRequestRepository = retranslationRequestRepository;
+    this.jobRepository = jobRepository;
+    this.jobLanguageRepository = jobLanguageRepository;
+    this.segmentRepository = segmentRepository;
+    this.segmentTranslationRepository = segmentTranslationRepository;
+    this.learningContentRepository = learningContentRepository;
+    this.learningAnalysisService = learningAnalysisService;
+    this.maxAttempts = maxAttempts;
+  }
+
+  public List<Claimed> claimDue(int limit) {
+    Instant now = Instant.now();
+    List<RetranslationRequest> due = retranslationRequestRepository.lockDue(now, limit);
+    due.forEach(request -> request.claim(now.plus(LEASE)));
+    return due.stream()
+        .map(request -> new Claimed(request.getId(), request.getJobId(), request.getRequestedAt()))
+        .toList();
+  }
+
+  /** 수정된 줄이 없거나 작업이 없어졌으면 empty */
+  @Transactional(readOnly = true)
+  public Optional<RetranslationInput> load(Long jobId) {
+    Job job = jobRepository.findById(jobId).orElse(null);
+    if (job == null) {
+      return Optional.empty();
+    }
+    List<Segment> segments = segmentRepository.findByJobIdOrderBySeqAsc(jobId);
+    List<SegmentTranslator.Line> lines = new ArrayList<>(segments.size());
+    List<TranscriptWindows.Line> analysisLines = new ArrayList<>(segments.size());
+    List<TimeRange> edited = new ArrayList<>();
+    Map<Integer, String> editedTexts = new HashMap<>();
+    for (Segment segment : segments) {
+      boolean stale = segment.getTranslationStale();
+      lines.add(
+          new SegmentTranslator.Line(
+              segment.getSeq(), segment.getText(), segment.getTranslatedText(), stale));
+      analysisLines.add(
+          new TranscriptWindows.Line(
+              segment.getSeq(), segment.getStartTime(), segment.getEndTime(), segment.getText()));
+      if (stale) {
+        edited.add(new TimeRange(segment.getStartTime(), segment.getEndTime()));
+        editedTexts.put(segment.getSeq(), segment.getText());
+      }
+    }
+    if (edited.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new RetranslationInput(
+            lines,
+            analysisLines,
+            edited,
+            editedTexts,
+            job.getSourceLanguage(),
+            job.getTargetLanguage(),
+            learningContentRepository.existsByJobIdAndLanguageIsNull(jobId),
+            extraLanguages(job, segments)));
+  }
+
+  // 완료된 추가 언어만 (처리 중인 언어는 수정된 원문으로 번역 중이거나 곧 다시 번역함)
+  private List<ExtraLanguage> extraLanguages(Job job, List<Segment> segments) {
+    List<ExtraLanguage> extras = new ArrayList<>();
+    for (JobLanguage language : jobLanguageRepository.findByJobIdOrderByIdAsc(job.getId())) {
+      if (language.isPrimary() || language.getStatus() != JobStatus.COMPLETED) {
+        continue;
+      }
+      Map<Integer, String> translated =
+          segmentTranslationRepository
+              .findByJobIdAndLanguageOrderBySeqAsc(job.getId(), language.getLanguage())
+              .stream()
+              .filter(t -> t.getTranslatedText() != null)
+              .collect(
+                  Collectors.toMap(
+                      SegmentTranslation::getSeq, SegmentTranslation::getTranslatedText));
+      List<SegmentTranslator.Line> lines =
+          segments.stream()
+              .map(
+                  s ->
+                      new SegmentTranslator.Line(
+                          s.getSeq(),
+                          s.getText(),
+                          translated.get(s.getSeq()),
+                          s.getTranslationStale()))
+              .toList();
+      extras.add(
+          new ExtraLanguage(
+              language.getLanguage(),
+              lines,
+              learningContentRepository.existsByJobIdAndLanguage(
+                  job.getId(), language.getLanguage())));
+    }
+    return extras;
+  }
+
+  /** 번역과 겹치는 학습 콘텐츠 반영, 처리 중 다시 수정되었으면 요청을 남겨 바로 다시 처리 */
+  public void complete(
+      Claimed claimed,
+      RetranslationInput input,
+      Map<Integer, String> translations,
+      List<GeneratedContent> contents,
+      List<LanguageResult> extraResults) {
+    Set<Integer> applied = new HashSet<>();
+    for (Segment segment :
+        segmentRepository.findByJobIdAndSeqIn(claimed.jobId(), input.editedTexts().keySet())) {
+      if (segment.getTranslationStale()
+          && segment.getText().equals(input.editedTexts().get(segment.getSeq()))) {
+        segment.applyTranslation(translations.get(segment.getSeq()));
+        applied.add(segment.getSeq());
+      }
+    }
+    int replacedContents =
+        input.hasLearningContents()
+            ? learningAnalysisService.replaceOverlapping(
+                claimed.jobId(), null, input.edited(), contents)
+            : 0;
+    for (LanguageResult result : extraResults) {
+      applyExtraTranslations(claimed.jobId(), result, applied);
+      if (hasLearningContents(input, result.language())) {
+        replacedContents +=
+            learningAnalysisService.replaceOverlapping(
+                claimed.jobId(), result.language(), input.edited(), result.contents());
+      }
+    }
+    finish(claimed);
+    log.info(
+        "Edited segments retranslated: jobId={}, segments={}, languages={}, learningContents={}",
+        claimed.jobId(),
+        applied.size(),
+        1 + extraResults.size(),
+        replacedContents);
+  }
+
+  // 기본 언어에 반영한 줄만 (처리 중 다시 수정된 줄은 다음 요청에서 모든 언어를 함께 다시 번역)
+  private void applyExtraTranslations(Long jobId, LanguageResult result, Set<Integer> applied) {
+    if (applied.isEmpty()) {
+      return;
+    }
+    Map<Integer, SegmentTranslation> existing =
+        segmentTranslationRepository
+            .findByJobIdAndLanguageAndSeqIn(jobId, result.language(), applied)
+            .stream()
+            .collect(Collectors.toMap(SegmentTranslation::getSeq, Function.identity()));
+    Job job = jobRepository.getReferenceById(jobId);
+    List<SegmentTranslation> created = new ArrayList<>();
+    for (Integer seq : applied) {
+      String text = result.translations().get(seq);
+      SegmentTranslation translation = existing.get(seq);
+      if (text == null) {
+        continue;
+      }
+      if (translation != null) {
+        translation.applyTranslation(text);
+      } else {
+        created.add(new SegmentTranslation(job, result.language(), seq, text));
+      }
+    }
+    segmentTranslationRepository.saveAll(created);
+  }
+
+  private static boolean hasLearningContents(RetranslationInput input, String language) {
+    return input.extraLanguages().stream()
+        .anyMatch(extra -> extra.language().equals(language) && extra.hasLearningContents());
+  }
+
+  /** 처리할 것이 없는 요청 정리 */
+  public void finish(Claimed claimed) {
+    if (retranslationRequestRepository.deleteIfUnchanged(claimed.id(), claimed.requestedAt())
+        == 0) {
+      retranslationRequestRepository
+          .findById(claimed.id())
+          .ifPresent(request -> request.release(Instant.now()));
+    }
+  }
+
+  public void fail(Claimed claimed, String error) {
+    RetranslationRequest request =
+        retranslationRequestRepository.findById(claimed.id()).orElse(null);
+    if (request == null) {
+      return;
+    }
+    if (request.getAttempts() >= maxAttempts) {
+      log.error(
+          "Retranslation gave up: jobId={}, attempts={}, reason={}",
+          request.getJobId(),
+          request.getAttempts(),
+          error);
+      request.fail(error, null);
+    } else {
+      request.fail(error, Instant.now().plus(backoff(request.getAttempts())));
+    }
+  }
+
+  // 30초, 1분, 2분 ... 최대 1시간
+  private Duration backoff(int attempts) {
+    Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+  }
+}
@@ -0,0 +1,83 @@
+package com.overlang.domain.segment.service;
+
+import com.overlang.api.dto.segment.SegmentEditRequest;
+import com.overlang.api.dto.segment.SegmentEditRequest.SegmentEdit;
+import com.overlang.api.dto.segment.SegmentEditResponse;
+import com.overlang.domain.archive.service.JobArchiveService;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.repository.RetranslationRequestRepository;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 자막 원문 수정 (바뀐 구간만 재번역 대상으로 표시하고, 번역/학습 콘텐츠 갱신은 RetranslationRunner 가 처리)
+@Service
+@Transactional
+public class SegmentEditService {
+
+  private final JobRepository jobRepository;
+  private final SegmentRepository segmentRepository;
+  private final RetranslationRequestRepository retranslationRequestRepository;
+  private final JobArchiveService jobArchiveService;
+  private final boolean llmEnabled;
+
+  public SegmentEditService(
+      JobRepository jobRepository,
+      SegmentRepository segmentRepository,
+      RetranslationRequestRepository retranslationRequestRepository,
+      JobArchiveService jobArchiveService,
+      @Value("${overlang.llm.enabled}") boolean llmEnabled) {
+    this.jobRepository = jobRepository;
+    this.segmentRepository = segmentRepository;
+    this.retranslationRequestRepository = retranslationRequestRepository;
+    this.jobArchiveService = jobArchiveService;
+    this.llmEnabled = llmEnabled;
+  }
+
+  public SegmentEditResponse edit(Long memberId, Long jobId, SegmentEditRequest request) {
+    Job job =
+        jobRepository
+            .findByIdAndMemberId(jobId, memberId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+    if (job.getStatus() != JobStatus.COMPLETED) {
+      throw new IllegalArgumentException("완료된 작업의 자막만 수정할 수 있습니다.");
+    }
+
+    Map<Integer, String> edits = new HashMap<>();
+    for (SegmentEdit edit : request.edits()) {
+      if (edits.put(edit.seq(), edit.text().strip()) != null) {
+        throw new IllegalArgumentException("같은 자막 구간을 중복해서 수정할 수 없습니다.");
+      }
+    }
+
+    // 보관된 결과면 행으로 되돌린 뒤 수정
+    jobArchiveService.restore(jobId);
+    List<Segment> segments = segmentRepository.findByJobIdAndSeqIn(jobId, edits.keySet());
+    if (segments.size() != edits.size()) {
+      throw new IllegalArgumentException("존재하지 않는 자막 구간입니다.");
+    }
+
+    int edited = 0;
+    for (Segment segment : segments) {
+      String text = edits.get(segment.getSeq());
+      if (!text.equals(segment.getText())) {
+        segment.editText(text);
+        edited++;
+      }
+    }
+    // LLM 이 꺼져 있으면 RetranslationRunner 가 없으므로 예약하지 않음 (바뀐 구간은 translationStale 로 남음)
+    boolean queued = edited > 0 && llmEnabled;
+    if (queued) {
+      retranslationRequestRepository.enqueue(jobId, Instant.now());
+    }
+    return new SegmentEditResponse(edited, queued);
+  }
+}
@@ -0,0 +1,136 @@
+package com.overlang.domain.segment.service;
+
+import com.overlang.domain.job.client.AiServiceClient.TranscriptSegment;
+import com.overlang.domain.job.client.AiServiceClient.TranscriptWord;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.entity.SegmentWord;
+import com.overlang.domain.segment.entity.WordTimelineBlob;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.SegmentWordRepository;
+import com.overlang.domain.segment.repository.WordTimelineBlobRepository;
+import com.overlang.domain.segment.service.WordTimelineCodec.TimelineWord;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class SegmentService {
+
+  private final SegmentRepository segmentRepository;
+  private final SegmentWordRepository segmentWordRepository;
+  private final WordTimelineBlobRepository wordTimelineBlobRepository;
+  private final WordStorage wordStorage;
+
+  /** 단어 타임스탬프 저장 방식 (ROWS: segment_words 한 단어 한 행, COLUMNAR: 작업당 압축 blob 하나) */
+  public enum WordStorage {
+    ROWS,
+    COLUMNAR
+  }
+
+  public SegmentService(
+      SegmentRepository segmentRepository,
+      SegmentWordRepository segmentWordRepository,
+      WordTimelineBlobRepository wordTimelineBlobRepository,
+      @Value("${overlang.segment.word-storage}") WordStorage wordStorage) {
+    this.segmentRepository = segmentRepository;
+    this.segmentWordRepository = segmentWordRepository;
+    this.wordTimelineBlobRepository = wordTimelineBlobRepository;
+    this.wordStorage = wordStorage;
+  }
+
+  /**
+   * STT 결과를 seq 순서대로 저장 (구간별로 나눠 처리한 결과도 작업 전체 기준으로 1부터 매김).
+   *
+   * <p>이미 저장된 결과(재시도 때 복사한 구간, 늦게 다시 도착한 완료 보고)는 지우고 새 결과로 바꾼다.
+   */
+  public int saveTranscript(Job job, List<TranscriptSegment> transcript) {
+    segmentWordRepository.deleteByJobId(job.getId());
+    wordTimelineBlobRepository.deleteByJobId(job.getId());
+    segmentRepository.deleteByJobId(job.getId());
+
+    List<Segment> segments = new ArrayList<>(transcript.size());
+    List<SegmentWord> words = new ArrayList<>();
+    List<TimelineWord> timeline = new ArrayList<>();
+    int seq = 1;
+    for (TranscriptSegment item : transcript) {
+      Segment segment =
+          new Segment(
+              job,
+              item.startTime(),
+              item.endTime(),
+              seq,
+              item.text(),
+              null,
+              job.getSourceLanguage());
+      segments.add(segment);
+
+      if (item.words() != null) {
+        int wordSeq = 1;
+        for (TranscriptWord word : item.words()) {
+          String text = word.word().strip();
+          if (wordStorage == WordStorage.COLUMNAR) {
+            timeline.add(
+                new TimelineWord(seq, toMillis(word.startTime()), toMillis(word.endTime()), text));
+          } else {
+            words.add(new SegmentWord(segment, wordSeq++, word.startTime(), word.endTime(), text));
+          }
+        }
+      }
+      seq++;
+    }
+    segmentRepository.saveAll(segments);
+    if (wordStorage == WordStorage.COLUMNAR) {
+      wordTimelineBlobRepository.save(
+          new WordTimelineBlob(job, timeline.size(), WordTimelineCodec.encode(timeline)));
+    } else {
+      segmentWordRepository.saveAll(words);
+    }
+    return segments.size();
+  }
+
+  /** [fromSeconds, toSeconds) 구간과 겹치는 단어 (저장 방식과 상관없이 같은 결과) */
+  @Transactional(readOnly = true)
+  public List<TimelineWord> findWords(Long jobId, double fromSeconds, double toSeconds) {
+    long fromMs = toMillis(fromSeconds);
+    long toMs = toMillis(toSeconds);
+    return wordTimelineBlobRepository
+        .findByJobId(jobId)
+        .map(blob -> WordTimelineCodec.read(blob.getData()).between(fromMs, toMs))
+        .orElseGet(
+            () ->
+                segmentWordRepository.findByJobIdBetween(jobId, fromSeconds, toSeconds).stream()
+                    .map(this::toTimelineWord)
+                    .toList());
+  }
+
+  /** segment_words 행을 작업당 압축 blob 으로 바꾸고 행 삭제 (결과 보관 시, 이미 blob 이 있으면 행만 삭제) */
+  public int compactWords(Job job) {
+    if (wordTimelineBlobRepository.findByJobId(job.getId()).isEmpty()) {
+      List<TimelineWord> timeline =
+          segmentWordRepository.findByJobIdBetween(job.getId(), 0.0, Double.MAX_VALUE).stream()
+              .map(this::toTimelineWord)
+              .toList();
+      if (!timeline.isEmpty()) {
+        wordTimelineBlobRepository.save(
+            new WordTimelineBlob(job, timeline.size(), WordTimelineCodec.encode(timeline)));
+      }
+    }
+    return segmentWordRepository.deleteByJobId(job.getId());
+  }
+
+  private TimelineWord toTimelineWord(SegmentWord word) {
+    return new TimelineWord(
+        word.getSegment().getSeq(),
+        toMillis(word.getStartTime()),
+        toMillis(word.getEndTime()),
+        word.getWord());
+  }
+
+  private long toMillis(Double seconds) {
+    return seconds == null ? 0L : Math.round(seconds * 1000);
+  }
+}
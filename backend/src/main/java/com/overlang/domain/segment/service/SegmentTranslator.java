@@ -0,0 +1,152 @@
+package com.overlang.domain.segment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.overlang.domain.learning.client.LlmClient;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수정된 자막 줄만 LLM 으로 다시 번역한다.
+ *
+ * <p>수정된 줄을 가까운 것끼리 묶고, 묶음 앞뒤로 몇 줄을 문맥으로 붙여(원문과 기존 번역) 요청하므로 요청 크기는 영상 길이가 아니라 수정한 줄 수에 비례한다.
+ */
+@Component
+public class SegmentTranslator {
+
+  private static final String SYSTEM_PROMPT =
+      """
+      You translate video subtitle lines from %s to %s.
+      The user sends numbered lines. Lines marked [context] are only for reference and
+      may include their current translation after "=>". Translate only the lines marked
+      [translate], one natural subtitle translation per line, consistent with the context.
+      Reply with one JSON object: {"translations": [{"line": int, "text": string}]}
+      """;
+
+  private final LlmClient llmClient;
+  private final ObjectReader resultReader;
+  private final int contextLines;
+  private final int maxLinesPerRequest;
+
+  /** 번역할 작업의 자막 줄 (seq 순서) */
+  public record Line(int seq, String text, String translatedText, boolean target) {}
+
+  record TranslationResult(List<TranslatedLine> translations) {}
+
+  record TranslatedLine(Integer line, String text) {}
+
+  public SegmentTranslator(
+      LlmClient llmClient,
+      ObjectMapper objectMapper,
+      @Value("${overlang.translation.context-lines}") int contextLines,
+      @Value("${overlang.translation.max-lines-per-request}") int maxLinesPerRequest) {
+    this.llmClient = llmClient;
+    this.resultReader =
+        objectMapper
+            .readerFor(TranslationResult.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.contextLines = contextLines;
+    this.maxLinesPerRequest = maxLinesPerRequest;
+  }
+
+  /** target 인 줄의 번역 (seq → 번역문), 하나라도 빠지면 예외 */
+  public Map<Integer, String> translate(
+      List<Line> lines, String sourceLanguage, String targetLanguage) {
+    String systemPrompt =
+        SYSTEM_PROMPT.formatted(languageName(sourceLanguage), languageName(targetLanguage));
+    Map<Integer, String> translations = new HashMap<>();
+    for (int[] group : groups(lines)) {
+      translations.putAll(request(lines, group[0], group[1], systemPrompt));
+    }
+    return translations;
+  }
+
+  // 수정된 줄 사이 간격이 문맥 두 배 이하면 한 요청으로 묶음 ([첫 target, 마지막 target] 인덱스)
+  List<int[]> groups(List<Line> lines) {
+    List<int[]> groups = new ArrayList<>();
+    int start = -1;
+    int end = -1;
+    int targets = 0;
+    for (int i = 0; i < lines.size(); i++) {
+      if (!lines.get(i).target()) {
+        continue;
+      }
+      if (start >= 0 && (i - end > contextLines * 2 + 1 || targets >= maxLinesPerRequest)) {
+        groups.add(new int[] {start, end});
+        start = -1;
+      }
+      if (start < 0) {
+        start = i;
+        targets = 0;
+      }
+      end = i;
+      targets++;
+    }
+    if (start >= 0) {
+      groups.add(new int[] {start, end});
+    }
+    return groups;
+  }
+
+  private Map<Integer, String> request(
+      List<Line> lines, int firstTarget, int lastTarget, String systemPrompt) {
+    int from = Math.max(0, firstTarget - contextLines);
+    int to = Math.min(lines.size() - 1, lastTarget + contextLines);
+
+    StringBuilder userPrompt = new StringBuilder();
+    Map<Integer, Integer> seqByLineNumber = new HashMap<>();
+    for (int i = from; i <= to; i++) {
+      Line line = lines.get(i);
+      int lineNumber = i - from + 1;
+      if (line.target()) {
+        seqByLineNumber.put(lineNumber, line.seq());
+        userPrompt.append("[translate] ").append(lineNumber).append(": ");
+        userPrompt.append(line.text().strip()).append('\n');
+      } else {
+        userPrompt.append("[context] ").append(lineNumber).append(": ");
+        userPrompt.append(line.text().strip());
+        if (line.translatedText() != null && !line.translatedText().isBlank()) {
+          userPrompt.append(" => ").append(line.translatedText().strip());
+        }
+        userPrompt.append('\n');
+      }
+    }
+
+    TranslationResult result = parse(llmClient.complete(systemPrompt, userPrompt.toString()));
+    Map<Integer, String> translations = new HashMap<>();
+    if (result.translations() != null) {
+      for (TranslatedLine translated : result.translations()) {
+        Integer seq = translated.line() == null ? null : seqByLineNumber.get(translated.line());
+        if (seq != null && translated.text() != null && !translated.text().isBlank()) {
+          translations.put(seq, translated.text().strip());
+        }
+      }
+    }
+    if (translations.size() != seqByLineNumber.size()) {
+      throw new IllegalStateException("LLM 응답에 번역되지 않은 줄이 있습니다.");
+    }
+    return translations;
+  }
+
+  private TranslationResult parse(String response) {
+    try {
+      return resultReader.readValue(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("LLM 번역 응답 형식이 올바르지 않습니다.", e);
+    }
+  }
+
+  private String languageName(String languageCode) {
+    if (languageCode == null || languageCode.isBlank()) {
+      return "the transcript's language";
+    }
+    return Locale.forLanguageTag(languageCode).getDisplayLanguage(Locale.ENGLISH);
+  }
+}
@@ -0,0 +1,81 @@
+package com.overlang.domain.segment.service;
+
+import com.overlang.api.dto.segment.SegmentResponse;
+import com.overlang.api.dto.segment.WordResponse;
+import com.overlang.domain.archive.service.JobArchiveService;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.job.service.JobService;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.entity.SegmentTranslation;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.SegmentTranslationRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 작업의 자막 전체 조회 (여러 언어 작업은 언어별 번역)와 구간별 단어 타임스탬프 조회
+@Service
+@RequiredArgsConstructor
+public class TranscriptService {
+
+  private final JobRepository jobRepository;
+  private final SegmentRepository segmentRepository;
+  private final SegmentTranslationRepository segmentTranslationRepository;
+  private final JobService jobService;
+  private final JobArchiveService jobArchiveService;
+  private final SegmentService segmentService;
+
+  /** language 를 생략하면 작업의 targetLanguage 번역 */
+  public List<SegmentResponse> findSegments(Long memberId, Long jobId, String language) {
+    Job job =
+        jobRepository
+            .findByIdAndMemberId(jobId, memberId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+    String extraLanguage = jobService.resultLanguage(job, language);
+    // 보관된 결과면 행으로 되돌린 뒤 조회
+    jobArchiveService.restore(jobId);
+    List<Segment> segments = segmentRepository.findByJobIdOrderBySeqAsc(jobId);
+    if (extraLanguage == null) {
+      return segments.stream().map(s -> toResponse(s, s.getTranslatedText())).toList();
+    }
+    Map<Integer, String> translations = new HashMap<>();
+    for (SegmentTranslation translation :
+        segmentTranslationRepository.findByJobIdAndLanguageOrderBySeqAsc(jobId, extraLanguage)) {
+      translations.put(translation.getSeq(), translation.getTranslatedText());
+    }
+    return segments.stream().map(s -> toResponse(s, translations.get(s.getSeq()))).toList();
+  }
+
+  /** [fromSeconds, toSeconds) 구간의 단어 타임스탬프 (보관된 작업도 단어 blob 은 남아 있어 복원하지 않음) */
+  public List<WordResponse> findWords(
+      Long memberId, Long jobId, double fromSeconds, double toSeconds) {
+    if (fromSeconds < 0 || toSeconds <= fromSeconds) {
+      throw new IllegalArgumentException("조회 구간이 올바르지 않습니다.");
+    }
+    jobRepository
+        .findByIdAndMemberId(jobId, memberId)
+        .orElseThrow(() -> new IllegalArgumentException("해당 작업을 찾을 수 없습니다."));
+    return segmentService.findWords(jobId, fromSeconds, toSeconds).stream()
+        .map(
+            w ->
+                new WordResponse(
+                    w.segmentSeq(), w.startMs() / 1000.0, w.endMs() / 1000.0, w.word()))
+        .toList();
+  }
+
+  // 원문이 수정되면 어느 언어의 번역이든 원문과 맞지 않으므로 구간의 stale 표시를 그대로 씀
+  private static SegmentResponse toResponse(Segment segment, String translatedText) {
+    return new SegmentResponse(
+        segment.getId(),
+        segment.getSeq(),
+        segment.getStartTime(),
+        segment.getEndTime(),
+        segment.getText(),
+        translatedText,
+        segment.getLanguageCode(),
+        Boolean.TRUE.equals(segment.getTranslationStale()));
+  }
+}
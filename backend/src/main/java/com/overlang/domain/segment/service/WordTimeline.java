@@ -0,0 +1,72 @@
+package com.overlang.domain.segment.service;
+
+import com.overlang.domain.segment.service.WordTimelineCodec.TimelineWord;
+import java.util.ArrayList;
+import java.util.List;
+
+/** {@link WordTimelineCodec} blob 의 읽기 전용 뷰, 시간 범위에 걸친 블록만 풀어 단어를 돌려준다. */
+public final class WordTimeline {
+
+  private final byte[] data;
+  private final int wordCount;
+  private final String[] dictionary;
+  private final long[] minStarts;
+  private final long[] maxEnds;
+  private final int[] offsets;
+  private final int[] lengths;
+
+  WordTimeline(
+      byte[] data,
+      int wordCount,
+      String[] dictionary,
+      long[] minStarts,
+      long[] maxEnds,
+      int[] offsets,
+      int[] lengths) {
+    this.data = data;
+    this.wordCount = wordCount;
+    this.dictionary = dictionary;
+    this.minStarts = minStarts;
+    this.maxEnds = maxEnds;
+    this.offsets = offsets;
+    this.lengths = lengths;
+  }
+
+  public int size() {
+    return wordCount;
+  }
+
+  public int blockCount() {
+    return offsets.length;
+  }
+
+  public List<TimelineWord> all() {
+    return between(Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /** [fromMs, toMs) 구간과 겹치는 단어를 저장 순서대로 반환 */
+  public List<TimelineWord> between(long fromMs, long toMs) {
+    List<TimelineWord> words = new ArrayList<>();
+    for (int b = 0; b < offsets.length; b++) {
+      if (maxEnds[b] < fromMs || minStarts[b] >= toMs) {
+        continue;
+      }
+      for (TimelineWord word :
+          WordTimelineCodec.decodeBlock(
+              data, offsets[b], lengths[b], dictionary, WordTimelineCodec.BLOCK_SIZE)) {
+        if (overlaps(word, fromMs, toMs)) {
+          words.add(word);
+        }
+      }
+    }
+    return words;
+  }
+
+  // 길이 0 인 단어는 시작 시각이 구간 안에 있으면 포함
+  private boolean overlaps(TimelineWord word, long fromMs, long toMs) {
+    if (word.startMs() >= toMs) {
+      return false;
+    }
+    return word.endMs() > fromMs || (word.endMs() == word.startMs() && word.startMs() >= fromMs);
+  }
+}
@@ -0,0 +1,222 @@
+package com.overlang.domain.segment.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 작업 하나의 단어 타임라인을 열(column) 단위로 압축한 blob 으로 변환한다.
+ *
+ * <p>단어는 BLOCK_SIZE 개씩 블록으로 나눠 각 블록을 따로 Deflate 한다. 블록 안에서는 세그먼트 seq 와 시작 시각(ms)을 이전 단어와의 차이로, 끝
+ * 시각은 길이로, 단어는 사전 번호로 저장해 대부분 1~2 바이트 varint 가 된다. 헤더의 블록 색인(최소 시작/최대 끝 시각)으로 시간 범위에 걸친 블록만 풀어
+ * 읽는다.
+ *
+ * <pre>
+ * "OLWT" | version(1) | wordCount | blockCount
+ * | dictionaryLength | deflate(dictionarySize, (utf8Length, utf8)*)
+ * | (minStartMs, maxEndMs, blockLength)* | deflate(block)*
+ * block = (segmentSeqDelta, zigzag(startDelta), duration, wordId)*
+ * </pre>
+ */
+public final class WordTimelineCodec {
+
+  static final byte[] MAGIC = {'O', 'L', 'W', 'T'};
+  static final byte VERSION = 1;
+  static final int BLOCK_SIZE = 512;
+
+  private WordTimelineCodec() {}
+
+  /** 세그먼트 seq 와 ms 단위 시각을 가진 단어 */
+  public record TimelineWord(int segmentSeq, long startMs, long endMs, String word) {}
+
+  public static byte[] encode(List<TimelineWord> words) {
+    Map<String, Integer> dictionary = new HashMap<>();
+    List<String> entries = new ArrayList<>();
+    for (TimelineWord word : words) {
+      dictionary.computeIfAbsent(
+          word.word(),
+          w -> {
+            entries.add(w);
+            return entries.size() - 1;
+          });
+    }
+
+    ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+    writeVarint(dictionaryBytes, entries.size());
+    for (String entry : entries) {
+      byte[] utf8 = entry.getBytes(StandardCharsets.UTF_8);
+      writeVarint(dictionaryBytes, utf8.length);
+      dictionaryBytes.writeBytes(utf8);
+    }
+    byte[] dictionaryBlob = deflate(dictionaryBytes.toByteArray());
+
+    int blockCount = (words.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    ByteArrayOutputStream index = new ByteArrayOutputStream();
+    ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+    for (int b = 0; b < blockCount; b++) {
+      List<TimelineWord> block =
+          words.subList(b * BLOCK_SIZE, Math.min(words.size(), (b + 1) * BLOCK_SIZE));
+      long minStart = Long.MAX_VALUE;
+      long maxEnd = Long.MIN_VALUE;
+      ByteArrayOutputStream columns = new ByteArrayOutputStream();
+      int previousSeq = 0;
+      long previousStart = 0;
+      for (TimelineWord word : block) {
+        writeVarint(columns, word.segmentSeq() - previousSeq);
+        writeVarint(columns, zigzag(word.startMs() - previousStart));
+        writeVarint(columns, Math.max(0, word.endMs() - word.startMs()));
+        writeVarint(columns, dictionary.get(word.word()));
+        previousSeq = word.segmentSeq();
+        previousStart = word.startMs();
+        minStart = Math.min(minStart, word.startMs());
+        maxEnd = Math.max(maxEnd, Math.max(word.startMs(), word.endMs()));
+      }
+      byte[] compressed = deflate(columns.toByteArray());
+      writeVarint(index, minStart);
+      writeVarint(index, maxEnd);
+      writeVarint(index, compressed.length);
+      blocks.writeBytes(compressed);
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes(MAGIC);
+    out.write(VERSION);
+    writeVarint(out, words.size());
+    writeVarint(out, blockCount);
+    writeVarint(out, dictionaryBlob.length);
+    out.writeBytes(dictionaryBlob);
+    out.writeBytes(index.toByteArray());
+    out.writeBytes(blocks.toByteArray());
+    return out.toByteArray();
+  }
+
+  /** 헤더와 사전만 읽고, 블록은 조회할 때 필요한 것만 풂 */
+  public static WordTimeline read(byte[] data) {
+    ByteBuffer buffer = ByteBuffer.wrap(data);
+    for (byte b : MAGIC) {
+      if (buffer.get() != b) {
+        throw new IllegalArgumentException("단어 타임라인 형식이 아닙니다.");
+      }
+    }
+    byte version = buffer.get();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("지원하지 않는 단어 타임라인 버전입니다: " + version);
+    }
+    int wordCount = (int) readVarint(buffer);
+    int blockCount = (int) readVarint(buffer);
+
+    byte[] dictionaryBlob = new byte[(int) readVarint(buffer)];
+    buffer.get(dictionaryBlob);
+    ByteBuffer dictionaryBytes = ByteBuffer.wrap(inflate(dictionaryBlob));
+    String[] dictionary = new String[(int) readVarint(dictionaryBytes)];
+    for (int i = 0; i < dictionary.length; i++) {
+      byte[] utf8 = new byte[(int) readVarint(dictionaryBytes)];
+      dictionaryBytes.get(utf8);
+      dictionary[i] = new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    long[] minStarts = new long[blockCount];
+    long[] maxEnds = new long[blockCount];
+    int[] lengths = new int[blockCount];
+    for (int b = 0; b < blockCount; b++) {
+      minStarts[b] = readVarint(buffer);
+      maxEnds[b] = readVarint(buffer);
+      lengths[b] = (int) readVarint(buffer);
+    }
+    int[] offsets = new int[blockCount];
+    int offset = buffer.position();
+    for (int b = 0; b < blockCount; b++) {
+      offsets[b] = offset;
+      offset += lengths[b];
+    }
+    return new WordTimeline(data, wordCount, dictionary, minStarts, maxEnds, offsets, lengths);
+  }
+
+  static List<TimelineWord> decodeBlock(
+      byte[] data, int offset, int length, String[] dictionary, int expectedWords) {
+    byte[] compressed = new byte[length];
+    System.arraycopy(data, offset, compressed, 0, length);
+    ByteBuffer columns = ByteBuffer.wrap(inflate(compressed));
+    List<TimelineWord> words = new ArrayList<>(expectedWords);
+    int seq = 0;
+    long start = 0;
+    while (columns.hasRemaining()) {
+      seq += (int) readVarint(columns);
+      start += unzigzag(readVarint(columns));
+      long end = start + readVarint(columns);
+      words.add(new TimelineWord(seq, start, end, dictionary[(int) readVarint(columns)]));
+    }
+    return words;
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarint(ByteBuffer in) {
+    long value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+
+  private static byte[] deflate(byte[] raw) {
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    try {
+      deflater.setInput(raw);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+      byte[] chunk = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(chunk, 0, deflater.deflate(chunk));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] compressed) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+      byte[] chunk = new byte[8192];
+      while (!inflater.finished()) {
+        int n = inflater.inflate(chunk);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("단어 타임라인 블록이 손상되었습니다.");
+        }
+        out.write(chunk, 0, n);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("단어 타임라인 블록이 손상되었습니다.", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
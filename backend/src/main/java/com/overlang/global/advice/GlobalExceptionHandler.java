@@ -1,7 +1,10 @@
 package com.overlang.global.advice;
 
 import com.overlang.global.auth.UnauthorizedException;
+import com.overlang.global.idempotency.IdempotencyConflictException;
+import com.overlang.global.ratelimit.TooManyRequestsException;
 import com.overlang.global.response.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -17,6 +20,21 @@ public class GlobalExceptionHandler {
         .body(ApiResponse.error("AUTH_001", e.getMessage()));
   }
 
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException e) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+        .body(ApiResponse.error("COMMON_429", e.getMessage()));
+  }
+
+  @ExceptionHandler(IdempotencyConflictException.class)
+  public ResponseEntity<ApiResponse<Void>> handleIdempotencyConflict(
+      IdempotencyConflictException e) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+        .body(ApiResponse.error("COMMON_409", e.getMessage()));
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException e) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -0,0 +1,124 @@
+package com.overlang.global.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Firebase ID 토큰(RS256 JWT) 의 서명과 클레임을 로컬에서 검증.
+ *
+ * <p>Firebase 문서의 검증 항목: alg=RS256, kid 가 공개키 목록에 있음, exp 는 미래, iat/auth_time 은 과거, aud 는
+ * 프로젝트 ID, iss 는 https://securetoken.google.com/{프로젝트 ID}, sub(uid) 는 비어 있지 않은 128자 이하 문자열.
+ */
+public class FirebaseJwtVerifier {
+
+  private static final String ISSUER_PREFIX = "https://securetoken.google.com/";
+  private static final int MAX_UID_LENGTH = 128;
+
+  private final FirebaseSigningKeys signingKeys;
+  private final ObjectMapper objectMapper;
+  private final Duration clockSkew;
+
+  public FirebaseJwtVerifier(
+      FirebaseSigningKeys signingKeys, ObjectMapper objectMapper, Duration clockSkew) {
+    this.signingKeys = signingKeys;
+    this.objectMapper = objectMapper;
+    this.clockSkew = clockSkew;
+  }
+
+  public FirebaseUserInfo verify(String idToken, String projectId, Instant now) {
+    String[] parts = idToken == null ? new String[0] : idToken.split("\\.", -1);
+    if (parts.length != 3) {
+      throw invalid("malformed token");
+    }
+    JsonNode header = decode(parts[0]);
+    JsonNode claims = decode(parts[1]);
+
+    if (!"RS256".equals(header.path("alg").asText())) {
+      throw invalid("unexpected algorithm");
+    }
+    String keyId = header.path("kid").asText(null);
+    if (keyId == null) {
+      throw invalid("missing kid");
+    }
+    PublicKey key = signingKeys.find(keyId);
+    if (key == null) {
+      key = signingKeys.findAfterRefresh(keyId);
+    }
+    if (key == null) {
+      throw invalid("unknown kid");
+    }
+    if (!signatureMatches(key, parts)) {
+      // 같은 kid 의 키가 바뀌었을 수 있으므로 갱신만 요청하고 이번 요청은 거절
+      signingKeys.forceRefresh();
+      throw invalid("bad signature");
+    }
+
+    validateClaims(claims, projectId, now);
+    return new FirebaseUserInfo(
+        claims.path("sub").asText(),
+        claims.path("email").asText(null),
+        claims.path("name").asText(null));
+  }
+
+  private void validateClaims(JsonNode claims, String projectId, Instant now) {
+    long nowSeconds = now.getEpochSecond();
+    long skew = clockSkew.toSeconds();
+    JsonNode expiresAt = claims.path("exp");
+    if (!expiresAt.canConvertToLong() || expiresAt.asLong() + skew <= nowSeconds) {
+      throw invalid("expired");
+    }
+    JsonNode issuedAt = claims.path("iat");
+    if (!issuedAt.canConvertToLong() || issuedAt.asLong() - skew > nowSeconds) {
+      throw invalid("issued in the future");
+    }
+    JsonNode authTime = claims.path("auth_time");
+    if (!authTime.canConvertToLong() || authTime.asLong() - skew > nowSeconds) {
+      throw invalid("invalid auth_time");
+    }
+    if (!projectId.equals(claims.path("aud").asText())) {
+      throw invalid("unexpected audience");
+    }
+    if (!(ISSUER_PREFIX + projectId).equals(claims.path("iss").asText())) {
+      throw invalid("unexpected issuer");
+    }
+    String subject = claims.path("sub").asText("");
+    if (subject.isEmpty() || subject.length() > MAX_UID_LENGTH) {
+      throw invalid("invalid subject");
+    }
+  }
+
+  private static boolean signatureMatches(PublicKey key, String[] parts) {
+    try {
+      Signature signature = Signature.getInstance("SHA256withRSA");
+      signature.initVerify(key);
+      signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+      return signature.verify(Base64.getUrlDecoder().decode(parts[2]));
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private JsonNode decode(String part) {
+    try {
+      JsonNode node = objectMapper.readTree(Base64.getUrlDecoder().decode(part));
+      if (node == null || !node.isObject()) {
+        throw invalid("malformed token");
+      }
+      return node;
+    } catch (IOException | IllegalArgumentException e) {
+      throw invalid("malformed token");
+    }
+  }
+
+  private static UnauthorizedException invalid(String reason) {
+    return new UnauthorizedException("Invalid or expired Firebase ID token: " + reason);
+  }
+}
@@ -0,0 +1,14 @@
+package com.overlang.global.auth;
+
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Map;
+
+// Firebase ID 토큰 서명 공개키 조회 (kid → 공개키, 응답의 Cache-Control 만료 시각)
+@FunctionalInterface
+public interface FirebaseKeySource {
+
+  KeySet fetch();
+
+  record KeySet(Map<String, PublicKey> keys, Instant expiresAt) {}
+}
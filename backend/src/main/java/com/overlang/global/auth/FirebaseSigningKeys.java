@@ -0,0 +1,128 @@
+package com.overlang.global.auth;
+
+import com.overlang.global.auth.FirebaseKeySource.KeySet;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Firebase ID 토큰 서명 공개키 보관.
+ *
+ * <p>기동 시 미리 받아 두고, 만료(Cache-Control max-age) 전에 백그라운드에서 갱신하므로 평소에는 요청 스레드가 키 조회를 기다리지 않는다. 갱신은
+ * 동시에 하나만 실행되고(single-flight), 갱신에 실패하면 기존 키를 계속 쓴다. 요청이 기다리는 경우는 기동 직후 첫 조회 전과, 모르는 kid 가 와서 키
+ * 교체 직후일 수 있을 때뿐이다.
+ */
+@Slf4j
+public class FirebaseSigningKeys {
+
+  private final FirebaseKeySource keySource;
+  private final Duration refreshAhead;
+  private final Duration minForcedInterval;
+  private final Duration waitTimeout;
+  private final AtomicReference<CompletableFuture<KeySet>> inFlight = new AtomicReference<>();
+  private volatile KeySet current;
+  private volatile Instant lastForcedRefresh = Instant.EPOCH;
+
+  public FirebaseSigningKeys(
+      FirebaseKeySource keySource,
+      Duration refreshAhead,
+      Duration minForcedInterval,
+      Duration waitTimeout) {
+    this.keySource = keySource;
+    this.refreshAhead = refreshAhead;
+    this.minForcedInterval = minForcedInterval;
+    this.waitTimeout = waitTimeout;
+  }
+
+  /** 만료가 가까우면(또는 아직 키가 없으면) 백그라운드 갱신 시작 (기동 시와 주기 실행) */
+  @Scheduled(fixedDelayString = "${firebase.keys.check-interval-ms}")
+  public void refreshIfExpiring() {
+    KeySet keys = current;
+    if (keys == null || Instant.now().isAfter(keys.expiresAt().minus(refreshAhead))) {
+      refresh();
+    }
+  }
+
+  /** kid 에 해당하는 공개키 (없으면 null, 키를 한 번도 받지 못했을 때만 첫 조회를 기다림) */
+  public PublicKey find(String keyId) {
+    KeySet keys = current;
+    if (keys == null) {
+      keys = await(refresh());
+    }
+    return keys == null ? null : keys.keys().get(keyId);
+  }
+
+  /** 모르는 kid: 키 교체 직후일 수 있으므로 갱신을 한 번 기다린 뒤 다시 찾음 */
+  public PublicKey findAfterRefresh(String keyId) {
+    CompletableFuture<KeySet> refreshing = forceRefresh();
+    KeySet keys = refreshing == null ? current : await(refreshing);
+    return keys == null ? null : keys.keys().get(keyId);
+  }
+
+  /**
+   * 서명 검증 실패 후 갱신 요청 (기다리지 않음). 잘못된 토큰이 반복돼도 키 서버를 두드리지 않도록 최소 간격 안에서는 무시.
+   *
+   * @return 시작되었거나 진행 중인 갱신, 최소 간격 안이면 null
+   */
+  public CompletableFuture<KeySet> forceRefresh() {
+    Instant now = Instant.now();
+    CompletableFuture<KeySet> running = inFlight.get();
+    if (running != null) {
+      return running;
+    }
+    if (now.isBefore(lastForcedRefresh.plus(minForcedInterval))) {
+      return null;
+    }
+    lastForcedRefresh = now;
+    return refresh();
+  }
+
+  private CompletableFuture<KeySet> refresh() {
+    while (true) {
+      CompletableFuture<KeySet> running = inFlight.get();
+      if (running != null) {
+        return running;
+      }
+      CompletableFuture<KeySet> next = new CompletableFuture<>();
+      if (inFlight.compareAndSet(null, next)) {
+        Thread.ofVirtual().name("firebase-keys-refresh").start(() -> load(next));
+        return next;
+      }
+    }
+  }
+
+  private void load(CompletableFuture<KeySet> result) {
+    try {
+      KeySet keys = keySource.fetch();
+      current = keys;
+      log.info(
+          "Firebase signing keys refreshed: kids={}, expiresAt={}",
+          keys.keys().keySet(),
+          keys.expiresAt());
+      inFlight.compareAndSet(result, null);
+      result.complete(keys);
+    } catch (RuntimeException e) {
+      log.warn("Firebase signing keys refresh failed: {}", e.getMessage());
+      inFlight.compareAndSet(result, null);
+      result.complete(current);
+    }
+  }
+
+  private KeySet await(CompletableFuture<KeySet> refreshing) {
+    try {
+      return refreshing.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return current;
+    } catch (ExecutionException | TimeoutException e) {
+      return current;
+    }
+  }
+}
@@ -1,30 +1,52 @@
 package com.overlang.global.auth;
 
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
+import com.overlang.global.config.FirebaseConfig;
+import io.micrometer.observation.annotation.Observed;
+import java.time.Instant;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class FirebaseTokenVerifier {
 
-  // 토큰 유효성 검사, 사용자 정보 추출
-  public FirebaseUserInfo verify(String idToken) {
-    try {
-      FirebaseToken decoded = FirebaseAuth.getInstance().verifyIdToken(idToken);
-
-      String uid = decoded.getUid();
-      String email = decoded.getEmail();
-      String name = decoded.getName();
+  private final FirebaseJwtVerifier firebaseJwtVerifier;
+  private final FirebaseConfig firebaseConfig;
+  private volatile String projectId;
 
-      log.info("Firebase verify success: uid={}, email={}, name={}", uid, email, name);
-      return new FirebaseUserInfo(uid, email, name);
+  public FirebaseTokenVerifier(
+      FirebaseJwtVerifier firebaseJwtVerifier,
+      FirebaseConfig firebaseConfig,
+      @Value("${firebase.project-id:}") String projectId) {
+    this.firebaseJwtVerifier = firebaseJwtVerifier;
+    this.firebaseConfig = firebaseConfig;
+    this.projectId = projectId == null || projectId.isBlank() ? null : projectId;
+  }
 
-    } catch (FirebaseAuthException e) {
+  // 토큰 유효성 검사, 사용자 정보 추출 (공개키는 백그라운드에서 갱신되므로 외부 호출 없이 검증)
+  @Observed(name = "overlang.auth.verify", contextualName = "firebase-token-verify")
+  public FirebaseUserInfo verify(String idToken) {
+    try {
+      FirebaseUserInfo userInfo = firebaseJwtVerifier.verify(idToken, projectId(), Instant.now());
+      log.debug("Firebase verify success: uid={}", userInfo.firebaseUid());
+      return userInfo;
+    } catch (UnauthorizedException e) {
       log.warn("Firebase verify failed: {}", e.getMessage());
       throw new UnauthorizedException("Invalid or expired Firebase ID token");
     }
   }
+
+  // 설정값이 없으면 서비스 계정 파일의 project_id
+  private String projectId() {
+    String resolved = projectId;
+    if (resolved == null) {
+      resolved = firebaseConfig.projectId();
+      if (resolved == null) {
+        throw new IllegalStateException("Firebase 프로젝트 ID 를 알 수 없습니다.");
+      }
+      projectId = resolved;
+    }
+    return resolved;
+  }
 }
@@ -0,0 +1,76 @@
+package com.overlang.global.auth;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+// securetoken 서비스 계정의 X.509 인증서 목록 (kid → PEM) 을 받아 공개키로 변환
+@Component
+public class GoogleCertificateKeySource implements FirebaseKeySource {
+
+  private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+  private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+  private final RestClient restClient;
+  private final String certificatesUrl;
+
+  public GoogleCertificateKeySource(
+      RestClient.Builder restClientBuilder,
+      @Value("${firebase.keys.certificates-url}") String certificatesUrl) {
+    this.restClient = restClientBuilder.build();
+    this.certificatesUrl = certificatesUrl;
+  }
+
+  @Override
+  public KeySet fetch() {
+    ResponseEntity<Map<String, String>> response =
+        restClient
+            .get()
+            .uri(certificatesUrl)
+            .retrieve()
+            .toEntity(new ParameterizedTypeReference<Map<String, String>>() {});
+    Map<String, String> certificates = response.getBody();
+    if (certificates == null || certificates.isEmpty()) {
+      throw new IllegalStateException("Firebase 공개키 응답이 비어 있습니다.");
+    }
+
+    Map<String, PublicKey> keys = new HashMap<>();
+    try {
+      CertificateFactory factory = CertificateFactory.getInstance("X.509");
+      for (Map.Entry<String, String> entry : certificates.entrySet()) {
+        byte[] pem = entry.getValue().getBytes(StandardCharsets.US_ASCII);
+        keys.put(
+            entry.getKey(),
+            factory.generateCertificate(new ByteArrayInputStream(pem)).getPublicKey());
+      }
+    } catch (CertificateException e) {
+      throw new IllegalStateException("Firebase 공개키 인증서를 읽을 수 없습니다.", e);
+    }
+    return new KeySet(Map.copyOf(keys), Instant.now().plus(maxAge(response.getHeaders())));
+  }
+
+  private static Duration maxAge(HttpHeaders headers) {
+    String cacheControl = headers.getCacheControl();
+    if (cacheControl != null) {
+      Matcher matcher = MAX_AGE.matcher(cacheControl);
+      if (matcher.find()) {
+        return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+      }
+    }
+    return DEFAULT_MAX_AGE;
+  }
+}
@@ -0,0 +1,123 @@
+package com.overlang.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine, 인스턴스 로컬).
+ *
+ * <p>영역은 여기서 크기와 TTL 을 정해 미리 만들고, 정의되지 않은 영역은 기동 시 실패시킨다 (missing_cache_strategy=fail).
+ * 엔티티 변경은 READ_WRITE 전략으로 커밋 시 캐시에 반영되고, native 변경 쿼리는 native.spaces 힌트의 테이블 영역만 비운다. 여러 인스턴스
+ * 사이에는 무효화가 전파되지 않으므로 TTL 이 다른 인스턴스에서 바뀐 값을 볼 수 있는 최대 시간이다.
+ * 캐시 관리자는 애플리케이션 컨텍스트마다 따로 만든다.
+ */
+@Configuration
+public class CacheConfig {
+
+  public static final String MEMBER_REGION = "member";
+  public static final String MEMBER_NATURAL_ID_REGION = "member-natural-id";
+  public static final String PROJECT_REGION = "project";
+
+  private static final List<String> REGIONS =
+      List.of(MEMBER_REGION, MEMBER_NATURAL_ID_REGION, PROJECT_REGION);
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(
+      @Value("${overlang.cache.member.max-entries}") long memberMaxEntries,
+      @Value("${overlang.cache.member.ttl-minutes}") long memberTtlMinutes,
+      @Value("${overlang.cache.project.max-entries}") long projectMaxEntries,
+      @Value("${overlang.cache.project.ttl-minutes}") long projectTtlMinutes) {
+    // 기본 URI 의 관리자는 JVM 에서 하나라 컨텍스트가 여럿 뜨면(테스트) 영역 생성이 겹치고, 먼저 닫힌 컨텍스트가 함께 닫음
+    CacheManager cacheManager =
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(
+                URI.create("overlang:hibernate-cache/" + UUID.randomUUID()),
+                CacheConfig.class.getClassLoader());
+    cacheManager.createCache(MEMBER_REGION, region(memberMaxEntries, memberTtlMinutes));
+    cacheManager.createCache(
+        MEMBER_NATURAL_ID_REGION, region(memberMaxEntries, memberTtlMinutes));
+    cacheManager.createCache(PROJECT_REGION, region(projectMaxEntries, projectTtlMinutes));
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer hibernateCacheCustomizer(
+      CacheManager hibernateCacheManager) {
+    return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+  }
+
+  // 영역별 적중/실패/저장 수와 적중률 (hibernate.generate_statistics 필요)
+  @EventListener(ApplicationReadyEvent.class)
+  public void bindCacheMetrics(ApplicationReadyEvent event) {
+    MeterRegistry registry = event.getApplicationContext().getBean(MeterRegistry.class);
+    Statistics statistics =
+        event
+            .getApplicationContext()
+            .getBean(EntityManagerFactory.class)
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    for (String region : REGIONS) {
+      counter(registry, statistics, region, "hit", CacheRegionStatistics::getHitCount);
+      counter(registry, statistics, region, "miss", CacheRegionStatistics::getMissCount);
+      FunctionCounter.builder(
+              "overlang.cache.puts",
+              statistics,
+              s -> s.getCacheRegionStatistics(region).getPutCount())
+          .tag("region", region)
+          .register(registry);
+      Gauge.builder("overlang.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+          .tag("region", region)
+          .register(registry);
+    }
+  }
+
+  private static CaffeineConfiguration<Object, Object> region(long maxEntries, long ttlMinutes) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(maxEntries));
+    configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofMinutes(ttlMinutes).toNanos()));
+    return configuration;
+  }
+
+  private static void counter(
+      MeterRegistry registry,
+      Statistics statistics,
+      String region,
+      String result,
+      ToDoubleFunction<CacheRegionStatistics> count) {
+    FunctionCounter.builder(
+            "overlang.cache.requests",
+            statistics,
+            s -> count.applyAsDouble(s.getCacheRegionStatistics(region)))
+        .tag("region", region)
+        .tag("result", result)
+        .register(registry);
+  }
+
+  private static double hitRatio(Statistics statistics, String region) {
+    CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+    long total = stats.getHitCount() + stats.getMissCount();
+    return total == 0 ? 0 : (double) stats.getHitCount() / total;
+  }
+}
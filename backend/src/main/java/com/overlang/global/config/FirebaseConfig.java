@@ -1,28 +1,99 @@
 package com.overlang.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.ServiceAccountCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import com.overlang.global.auth.FirebaseJwtVerifier;
+import com.overlang.global.auth.FirebaseKeySource;
+import com.overlang.global.auth.FirebaseSigningKeys;
 import jakarta.annotation.PostConstruct;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 
 // firebase 인증 사용을 위한 서버 초기화 설정
+// 서비스 계정 파일 읽기와 자격 증명 파싱은 별도 스레드에서 진행해 기동을 막지 않고, 프로젝트 ID 가 처음 필요할 때 완료를 기다림
+// ID 토큰은 Admin SDK 대신 미리 받아 둔 공개키로 로컬 검증 (FirebaseJwtVerifier)
 @Slf4j
 @Configuration
 public class FirebaseConfig {
 
+  private static final long READY_TIMEOUT_SECONDS = 10;
+
   @Value("${firebase.service-account-path:}")
   private String keyPath;
 
+  private final CompletableFuture<Void> ready = new CompletableFuture<>();
+  private volatile String projectId;
+
+  @Bean(initMethod = "refreshIfExpiring")
+  public FirebaseSigningKeys firebaseSigningKeys(
+      FirebaseKeySource firebaseKeySource,
+      @Value("${firebase.keys.refresh-ahead-seconds}") long refreshAheadSeconds,
+      @Value("${firebase.keys.min-forced-refresh-seconds}") long minForcedRefreshSeconds,
+      @Value("${firebase.keys.wait-timeout-ms}") long waitTimeoutMs) {
+    return new FirebaseSigningKeys(
+        firebaseKeySource,
+        Duration.ofSeconds(refreshAheadSeconds),
+        Duration.ofSeconds(minForcedRefreshSeconds),
+        Duration.ofMillis(waitTimeoutMs));
+  }
+
+  @Bean
+  public FirebaseJwtVerifier firebaseJwtVerifier(
+      FirebaseSigningKeys firebaseSigningKeys,
+      ObjectMapper objectMapper,
+      @Value("${firebase.clock-skew-seconds}") long clockSkewSeconds) {
+    return new FirebaseJwtVerifier(
+        firebaseSigningKeys, objectMapper, Duration.ofSeconds(clockSkewSeconds));
+  }
+
   @PostConstruct
   public void init() {
+    Thread.ofVirtual()
+        .name("firebase-init")
+        .start(
+            () -> {
+              try {
+                initialize();
+              } finally {
+                ready.complete(null);
+              }
+            });
+  }
+
+  /** 백그라운드 초기화가 끝날 때까지 대기 (실패해도 대기만 끝나고, 이후 사용 시 FirebaseApp 에서 예외) */
+  public void awaitReady() {
+    try {
+      ready.get(READY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Firebase 초기화 대기 중 중단되었습니다.", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IllegalStateException("Firebase 초기화가 끝나지 않았습니다.", e);
+    }
+  }
+
+  /** 서비스 계정의 프로젝트 ID (토큰 aud/iss 검증용, 초기화 실패 시 null) */
+  public String projectId() {
+    awaitReady();
+    return projectId;
+  }
+
+  private void initialize() {
     if (keyPath == null || keyPath.isBlank()) {
       log.warn("Firebase disabled: FIREBASE_SERVICE_ACCOUNT_PATH is empty");
       return;
@@ -35,8 +106,11 @@ public class FirebaseConfig {
 
     try (InputStream in = getServiceAccountStream(keyPath)) {
 
-      FirebaseOptions options =
-          FirebaseOptions.builder().setCredentials(GoogleCredentials.fromStream(in)).build();
+      GoogleCredentials credentials = GoogleCredentials.fromStream(in);
+      if (credentials instanceof ServiceAccountCredentials serviceAccount) {
+        projectId = serviceAccount.getProjectId();
+      }
+      FirebaseOptions options = FirebaseOptions.builder().setCredentials(credentials).build();
 
       FirebaseApp.initializeApp(options);
       log.info("Firebase Admin initialized successfully (path: {})", keyPath);
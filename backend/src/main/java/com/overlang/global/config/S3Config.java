@@ -3,25 +3,22 @@ package com.overlang.global.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 
+// S3 SDK 클래스 로딩과 HTTP 클라이언트 생성은 첫 사용 시점으로 미룸 (주입 지점도 @Lazy 프록시)
 @Configuration
 public class S3Config {
 
-  @Value("${cloud.aws.credentials.access-key}")
-  private String accessKey;
-
-  @Value("${cloud.aws.credentials.secret-key}")
-  private String secretKey;
-
-  @Value("${cloud.aws.region.static}")
-  private String region;
-
   @Bean
-  public S3Client s3Client() {
+  @Lazy
+  public S3Client s3Client(
+      @Value("${cloud.aws.credentials.access-key}") String accessKey,
+      @Value("${cloud.aws.credentials.secret-key}") String secretKey,
+      @Value("${cloud.aws.region.static}") String region) {
     AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
 
     return S3Client.builder()
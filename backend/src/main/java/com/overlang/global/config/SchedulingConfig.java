@@ -0,0 +1,31 @@
+package com.overlang.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// LLM 호출이 긴 처리기(학습 콘텐츠, 재번역, 여러 언어)는 전용 스케줄러에서 실행해
+// 디스패치/상태 동기화/진행률 반영 같은 짧은 주기 작업이 그 뒤에 밀리지 않게 함
+@Configuration
+public class SchedulingConfig {
+
+  /** @Scheduled(scheduler = LLM_SCHEDULER) 로 지정 */
+  public static final String LLM_SCHEDULER = "llmTaskScheduler";
+
+  // TaskScheduler 빈을 직접 만들면 Boot 자동 구성 스케줄러가 빠지므로 같은 설정(spring.task.scheduling.*)으로
+  // 기본 스케줄러도 만듦 (@Scheduled 는 이름이 taskScheduler 인 빈을 기본으로 씀)
+  @Bean(name = "taskScheduler")
+  public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+    return builder.build();
+  }
+
+  // 크기가 처리기 수보다 작아도 LLM 처리기끼리만 순서를 기다림
+  @Bean(name = LLM_SCHEDULER)
+  public ThreadPoolTaskScheduler llmTaskScheduler(
+      ThreadPoolTaskSchedulerBuilder builder,
+      @Value("${overlang.llm.scheduler.pool-size}") int poolSize) {
+    return builder.poolSize(poolSize).threadNamePrefix("overlang-llm-").build();
+  }
+}
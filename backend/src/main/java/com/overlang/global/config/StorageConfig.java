@@ -0,0 +1,46 @@
+package com.overlang.global.config;
+
+import com.overlang.domain.file.storage.LocalFileStorageService;
+import com.overlang.domain.file.storage.S3StorageService;
+import com.overlang.domain.file.storage.SharedVolumeStorageService;
+import com.overlang.domain.file.storage.StorageService;
+import com.overlang.domain.file.storage.StorageType;
+import java.io.IOException;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import software.amazon.awssdk.services.s3.S3Client;
+
+// 저장소 구현 선택 (조건부 빈 대신 실행 시점 분기라 AOT 빌드에서도 STORAGE_TYPE 으로 바꿀 수 있음)
+@Slf4j
+@Configuration
+public class StorageConfig {
+
+  @Bean
+  public StorageService storageService(
+      @Value("${overlang.storage.type}") StorageType type,
+      @Value("${overlang.ai.media-root}") String workerMediaRoot,
+      @Lazy S3Client s3Client,
+      Environment environment)
+      throws IOException {
+    log.info("Storage backend: {}", type);
+    return switch (type) {
+      case S3 ->
+          new S3StorageService(
+              s3Client,
+              environment.getRequiredProperty("cloud.aws.s3.bucket"),
+              workerMediaRoot);
+      case LOCAL ->
+          new LocalFileStorageService(
+              Path.of(environment.getRequiredProperty("overlang.storage.local.root")));
+      case SHARED_VOLUME ->
+          new SharedVolumeStorageService(
+              Path.of(environment.getRequiredProperty("overlang.storage.shared-volume.root")),
+              workerMediaRoot);
+    };
+  }
+}
@@ -1,6 +1,9 @@
 package com.overlang.global.config;
 
 import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.idempotency.IdempotencyInterceptor;
+import com.overlang.global.ratelimit.AdmissionInterceptor;
+import com.overlang.global.tracing.JobTraceInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -12,6 +15,9 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
   private final AuthInterceptor authInterceptor;
+  private final IdempotencyInterceptor idempotencyInterceptor;
+  private final AdmissionInterceptor admissionInterceptor;
+  private final JobTraceInterceptor jobTraceInterceptor;
 
   @Override
   public void addCorsMappings(CorsRegistry registry) {
@@ -26,10 +32,17 @@ public class WebConfig implements WebMvcConfigurer {
 
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
+    // 인증 실패로 끝나는 요청에도 작업 ID 가 남도록 가장 먼저 등록
+    registry.addInterceptor(jobTraceInterceptor).addPathPatterns("/api/v1/**");
     registry
         .addInterceptor(authInterceptor)
         .addPathPatterns("/api/v1/**")
         .excludePathPatterns(
             "/api/v1/auth/firebase", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**");
+
+    // 인증된 회원 ID 가 필요하므로 인증 인터셉터 다음에 등록
+    // 멱등 지문은 업로드 본문을 다 읽어야 하므로 요청 제한을 먼저 확인 (재전송은 토큰을 돌려받음)
+    registry.addInterceptor(admissionInterceptor).addPathPatterns("/api/v1/**");
+    registry.addInterceptor(idempotencyInterceptor).addPathPatterns("/api/v1/**");
   }
 }
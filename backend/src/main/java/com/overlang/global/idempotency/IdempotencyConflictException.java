@@ -0,0 +1,16 @@
+package com.overlang.global.idempotency;
+
+// 같은 키의 요청이 대기 시간 안에 끝나지 않음 (클라이언트는 잠시 후 같은 키로 재시도)
+public class IdempotencyConflictException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public IdempotencyConflictException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -0,0 +1,123 @@
+package com.overlang.global.idempotency;
+
+import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.idempotency.IdempotencyService.Claim;
+import com.overlang.global.idempotency.IdempotencyService.Result;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// @Idempotent 핸들러에서 Idempotency-Key 가 있으면 처리 권한을 얻거나 저장된 응답을 그대로 돌려줌
+// (AuthInterceptor, AdmissionInterceptor 이후 실행. 재전송이 쓴 토큰은 AdmissionInterceptor 가 돌려줌)
+@Component
+@RequiredArgsConstructor
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  static final String CLAIM_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".CLAIM";
+  private static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyService idempotencyService;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+      throws IOException, ServletException {
+
+    if (!(handler instanceof HandlerMethod handlerMethod)
+        || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+      return true;
+    }
+    String key = request.getHeader(HEADER);
+    if (key == null) {
+      return true;
+    }
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new IllegalArgumentException("Idempotency-Key 는 1~255자여야 합니다.");
+    }
+
+    Long memberId = (Long) request.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+    Result result = idempotencyService.begin(memberId, key, fingerprint(request));
+    if (result.replay() != null) {
+      response.setStatus(result.replay().status());
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+      response.setHeader(REPLAYED_HEADER, "true");
+      response.getWriter().write(result.replay().body());
+      return false;
+    }
+    request.setAttribute(CLAIM_ATTRIBUTE, result.claim());
+    return true;
+  }
+
+  // 성공 응답이 저장되지 않은 채 끝난 요청 (예외, 에러 응답) 은 기록을 지워 재시도가 다시 처리되게 함
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (request.getAttribute(CLAIM_ATTRIBUTE) instanceof Claim claim) {
+      idempotencyService.abandon(claim);
+    }
+  }
+
+  // 메서드, 경로, 쿼리와 본문 (multipart 는 파트별 이름, 크기, 내용 해시) 의 SHA-256
+  private String fingerprint(HttpServletRequest request) throws IOException, ServletException {
+    MessageDigest digest = sha256();
+    update(digest, request.getMethod());
+    update(digest, request.getRequestURI());
+    update(digest, request.getQueryString());
+    if (isMultipart(request)) {
+      // boundary 는 재전송마다 바뀌므로 본문 대신 파트 단위로 비교 (같은 길이의 다른 파일도 구분).
+      // 요청 제한을 통과한 요청만 여기까지 오므로 초과 요청은 본문을 받지 않고 429 로 끝남
+      for (Part part : request.getParts()) {
+        update(digest, part.getName());
+        update(digest, String.valueOf(part.getSize()));
+        update(digest, contentDigest(part));
+      }
+    } else if (request.getAttribute(CachedBodyFilter.BODY_ATTRIBUTE) instanceof byte[] body) {
+      digest.update(body);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static String contentDigest(Part part) throws IOException {
+    MessageDigest digest = sha256();
+    try (InputStream in = new DigestInputStream(part.getInputStream(), digest)) {
+      in.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean isMultipart(HttpServletRequest request) {
+    String contentType = request.getContentType();
+    return contentType != null && contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    if (value != null) {
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+    digest.update((byte) 0);
+  }
+}
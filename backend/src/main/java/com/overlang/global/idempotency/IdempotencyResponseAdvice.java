@@ -0,0 +1,69 @@
+package com.overlang.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.global.idempotency.IdempotencyService.Claim;
+import com.overlang.global.idempotency.IdempotencyService.StoredResponse;
+import com.overlang.global.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// @Idempotent 핸들러의 성공 응답을 직렬화해 저장 (에러 응답은 저장하지 않고 재시도 허용)
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  private final IdempotencyService idempotencyService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return returnType.hasMethodAnnotation(Idempotent.class);
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+
+    if (!(body instanceof ApiResponse<?> apiResponse)
+        || apiResponse.getStatus() != ApiResponse.Status.SUCCESS
+        || !(request instanceof ServletServerHttpRequest servletRequest)
+        || !(response instanceof ServletServerHttpResponse servletResponse)) {
+      return body;
+    }
+    HttpServletRequest httpRequest = servletRequest.getServletRequest();
+    Object claimAttribute = httpRequest.getAttribute(IdempotencyInterceptor.CLAIM_ATTRIBUTE);
+    if (!(claimAttribute instanceof Claim claim)) {
+      return body;
+    }
+
+    HttpServletResponse httpResponse = servletResponse.getServletResponse();
+    try {
+      String json = objectMapper.writeValueAsString(body);
+      idempotencyService.complete(claim, new StoredResponse(httpResponse.getStatus(), json));
+      httpRequest.removeAttribute(IdempotencyInterceptor.CLAIM_ATTRIBUTE);
+    } catch (JsonProcessingException e) {
+      // 저장하지 못하면 afterCompletion 에서 기록을 지워 재시도가 다시 처리됨
+      log.warn("Idempotent response not stored: key={}", claim.key(), e);
+    }
+    return body;
+  }
+}
@@ -0,0 +1,240 @@
+package com.overlang.global.idempotency;
+
+import com.overlang.domain.idempotency.entity.IdempotencyRecord;
+import com.overlang.domain.idempotency.entity.IdempotencyStatus;
+import com.overlang.domain.idempotency.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 Idempotency-Key 처리 (프로세스 메모리 + idempotency_keys 테이블 2단).
+ *
+ * <p>처음 온 요청만 처리하고, 같은 키로 동시에 들어온 요청은 같은 인스턴스면 메모리의 future 로, 다른 인스턴스면 DB 를 짧게 폴링하며 기다린 뒤
+ * 저장된 응답을 받는다. 처리에 실패하면 기록을 지워 다음 재시도가 다시 처리한다. 같은 키에 다른 요청(지문 불일치)은 거절한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+  private final IdempotencyRecordRepository idempotencyRecordRepository;
+  private final MeterRegistry meterRegistry;
+  private final Map<Scope, LocalEntry> localEntries = new ConcurrentHashMap<>();
+  private final Duration ttl;
+  private final Duration inFlightTimeout;
+  private final Duration waitTimeout;
+  private final Duration localTtl;
+  private final int localMaxEntries;
+
+  record Scope(Long memberId, String key) {}
+
+  /** 저장된 응답 (상태 코드와 직렬화된 ApiResponse) */
+  public record StoredResponse(int status, String body) {}
+
+  /** 처리 권한을 얻은 요청 */
+  public record Claim(Long recordId, Long memberId, String key) {}
+
+  /** begin 결과: claim 이 있으면 처리, 없으면 replay 를 그대로 응답 */
+  public record Result(Claim claim, StoredResponse replay) {}
+
+  // 메모리 tier: 처리 중이면 response 가 null 이고 waiters 가 future 를 기다림
+  private static final class LocalEntry {
+    final String fingerprint;
+    final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+    volatile Instant expiresAt;
+
+    LocalEntry(String fingerprint, Instant expiresAt) {
+      this.fingerprint = fingerprint;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  public IdempotencyService(
+      IdempotencyRecordRepository idempotencyRecordRepository,
+      MeterRegistry meterRegistry,
+      @Value("${overlang.idempotency.ttl-hours}") long ttlHours,
+      @Value("${overlang.idempotency.in-flight-timeout-seconds}") long inFlightTimeoutSeconds,
+      @Value("${overlang.idempotency.wait-timeout-seconds}") long waitTimeoutSeconds,
+      @Value("${overlang.idempotency.local.ttl-minutes}") long localTtlMinutes,
+      @Value("${overlang.idempotency.local.max-entries}") int localMaxEntries) {
+    this.idempotencyRecordRepository = idempotencyRecordRepository;
+    this.meterRegistry = meterRegistry;
+    this.ttl = Duration.ofHours(ttlHours);
+    this.inFlightTimeout = Duration.ofSeconds(inFlightTimeoutSeconds);
+    this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+    this.localTtl = Duration.ofMinutes(localTtlMinutes);
+    this.localMaxEntries = localMaxEntries;
+    Gauge.builder("overlang.idempotency.local.entries", localEntries, Map::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 처리 권한을 얻으면 Claim, 이미 처리된 요청이면 저장된 응답을 돌려줌.
+   *
+   * @throws IllegalArgumentException 같은 키로 다른 요청을 보냄
+   * @throws IdempotencyConflictException 같은 키의 요청이 대기 시간 안에 끝나지 않음
+   */
+  public Result begin(Long memberId, String key, String fingerprint) {
+    Scope scope = new Scope(memberId, key);
+    long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+    while (true) {
+      Instant now = Instant.now();
+      LocalEntry mine = new LocalEntry(fingerprint, now.plus(inFlightTimeout));
+      LocalEntry local = localEntries.putIfAbsent(scope, mine);
+      if (local != null && local.expiresAt.isBefore(now)) {
+        localEntries.remove(scope, local);
+        continue;
+      }
+
+      if (local != null) {
+        // 같은 인스턴스에서 처리 중이거나 처리된 요청
+        checkFingerprint(local.fingerprint, fingerprint);
+        StoredResponse stored = await(local.result, deadline);
+        if (stored != null) {
+          count("replayed");
+          return new Result(null, stored);
+        }
+        continue; // 앞 요청이 실패해 기록이 지워짐, 다시 처리 권한 시도
+      }
+
+      // 메모리에서는 처음, DB 에서 처리 권한 시도
+      idempotencyRecordRepository.deleteExpired(memberId, key, now);
+      if (idempotencyRecordRepository.tryInsert(memberId, key, fingerprint, mine.expiresAt) == 1) {
+        IdempotencyRecord record =
+            idempotencyRecordRepository
+                .findByMemberIdAndIdempotencyKey(memberId, key)
+                .orElseThrow();
+        count("executed");
+        return new Result(new Claim(record.getId(), memberId, key), null);
+      }
+
+      // 다른 인스턴스가 먼저 처리 중이거나 처리함
+      localEntries.remove(scope, mine);
+      mine.result.complete(null);
+      Optional<IdempotencyRecord> existing =
+          idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(memberId, key);
+      if (existing.isEmpty()) {
+        continue;
+      }
+      IdempotencyRecord record = existing.get();
+      checkFingerprint(record.getFingerprint(), fingerprint);
+      if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+        StoredResponse stored =
+            new StoredResponse(record.getResponseStatus(), record.getResponseBody());
+        cacheLocally(scope, record.getFingerprint(), stored);
+        count("replayed");
+        return new Result(null, stored);
+      }
+      sleepUntilNextPoll(deadline);
+    }
+  }
+
+  public void complete(Claim claim, StoredResponse response) {
+    idempotencyRecordRepository.complete(
+        claim.recordId(),
+        IdempotencyStatus.COMPLETED,
+        response.status(),
+        response.body(),
+        Instant.now().plus(ttl));
+    LocalEntry local = localEntries.get(new Scope(claim.memberId(), claim.key()));
+    if (local != null) {
+      local.expiresAt = Instant.now().plus(localTtl);
+      local.result.complete(response);
+    }
+  }
+
+  /** 처리 실패 (응답을 저장하지 않고 대기 중인 요청이 다시 처리 권한을 얻게 함) */
+  public void abandon(Claim claim) {
+    idempotencyRecordRepository.deleteByIdAndStatus(claim.recordId(), IdempotencyStatus.IN_FLIGHT);
+    LocalEntry local = localEntries.remove(new Scope(claim.memberId(), claim.key()));
+    if (local != null) {
+      local.result.complete(null);
+    }
+    count("abandoned");
+  }
+
+  // 만료된 메모리 항목과 DB 행 정리, 메모리는 오래된 완료 항목부터 비움
+  @Scheduled(fixedDelayString = "${overlang.idempotency.sweep-interval-ms:60000}")
+  public void sweep() {
+    Instant now = Instant.now();
+    localEntries.entrySet().removeIf(e -> e.getValue().expiresAt.isBefore(now));
+    int overflow = localEntries.size() - localMaxEntries;
+    if (overflow > 0) {
+      localEntries.entrySet().stream()
+          .filter(e -> e.getValue().result.isDone())
+          .sorted(Comparator.comparing(e -> e.getValue().expiresAt))
+          .limit(overflow)
+          .map(Map.Entry::getKey)
+          .toList()
+          .forEach(localEntries::remove);
+    }
+    int deleted = idempotencyRecordRepository.deleteAllExpired(now);
+    if (deleted > 0) {
+      log.debug("Expired idempotency keys deleted: count={}", deleted);
+    }
+  }
+
+  private void cacheLocally(Scope scope, String fingerprint, StoredResponse stored) {
+    LocalEntry entry = new LocalEntry(fingerprint, Instant.now().plus(localTtl));
+    entry.result.complete(stored);
+    localEntries.putIfAbsent(scope, entry);
+  }
+
+  private void checkFingerprint(String stored, String requested) {
+    if (!stored.equals(requested)) {
+      count("mismatch");
+      throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+    }
+  }
+
+  private StoredResponse await(CompletableFuture<StoredResponse> result, long deadline) {
+    try {
+      return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw conflict();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw conflict();
+    } catch (ExecutionException e) {
+      return null;
+    }
+  }
+
+  private void sleepUntilNextPoll(long deadline) {
+    if (System.nanoTime() + POLL_INTERVAL.toNanos() > deadline) {
+      throw conflict();
+    }
+    try {
+      Thread.sleep(POLL_INTERVAL);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw conflict();
+    }
+  }
+
+  private IdempotencyConflictException conflict() {
+    count("conflict");
+    return new IdempotencyConflictException(
+        "같은 Idempotency-Key 의 요청이 아직 처리 중입니다.", Math.max(1, waitTimeout.toSeconds() / 2));
+  }
+
+  private void count(String result) {
+    meterRegistry.counter("overlang.idempotency.requests", "result", result).increment();
+  }
+}
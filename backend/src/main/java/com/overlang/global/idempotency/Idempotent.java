@@ -0,0 +1,11 @@
+package com.overlang.global.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Idempotency-Key 헤더가 있으면 같은 키의 재요청에 저장된 응답을 돌려줄 컨트롤러 메서드에 표시
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {}
@@ -0,0 +1,7 @@
+package com.overlang.global.ratelimit;
+
+// 요청 제한 단위 (엔드포인트 분류)
+public enum AdmissionClass {
+  UPLOAD, // 영상 업로드
+  JOB_CREATION // 프로젝트/분석 작업 생성
+}
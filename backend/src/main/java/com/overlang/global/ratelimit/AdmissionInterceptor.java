@@ -0,0 +1,51 @@
+package com.overlang.global.ratelimit;
+
+import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.idempotency.IdempotencyInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// @RateLimited 가 붙은 핸들러에 회원별 요청 제한 적용
+// (AuthInterceptor 이후, 초과 요청이 본문을 읽기 전에 429 로 끝나도록 IdempotencyInterceptor 이전에 실행)
+@Component
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+  private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".PERMIT";
+
+  private final AdmissionLimiter admissionLimiter;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+    if (rateLimited == null) {
+      return true;
+    }
+
+    Long memberId = (Long) request.getAttribute(AuthInterceptor.AUTH_MEMBER_ID);
+    AdmissionLimiter.Permit permit = admissionLimiter.acquire(memberId, rateLimited.value());
+    request.setAttribute(PERMIT_ATTRIBUTE, permit);
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdmissionLimiter.Permit permit) {
+      // 저장된 응답을 돌려준 재전송은 요청 제한을 소모하지 않음
+      if ("true".equals(response.getHeader(IdempotencyInterceptor.REPLAYED_HEADER))) {
+        permit.refund();
+      }
+      permit.release();
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.overlang.global.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 요청 제한 (토큰 버킷 + 동시 실행 수).
+ *
+ * <p>엔드포인트 분류마다 ConcurrentHashMap 을 따로 두어 분류 간 경합이 없고, 맵 내부는 bin 단위로 나뉘어 있어 서로 다른 회원끼리는 거의
+ * 충돌하지 않는다. 유휴 상태는 주기적으로 정리하므로 메모리는 활동 중인 회원 수에 비례한다.
+ */
+@Component
+public class AdmissionLimiter {
+
+  private final Map<AdmissionClass, Policy> policies = new EnumMap<>(AdmissionClass.class);
+  private final Map<AdmissionClass, ConcurrentHashMap<Long, AdmissionState>> states =
+      new EnumMap<>(AdmissionClass.class);
+  private final MeterRegistry meterRegistry;
+
+  record Policy(long intervalNanos, long burstToleranceNanos, int maxConcurrent) {
+
+    // 0 이하면 나눗셈 오류나 모든 요청 거절이 되므로 기동 시 실패
+    static Policy of(String name, int ratePerMinute, int burst, int maxConcurrent) {
+      if (ratePerMinute < 1 || burst < 1 || maxConcurrent < 1) {
+        throw new IllegalArgumentException(
+            "overlang.admission."
+                + name
+                + " 의 rate-per-minute, burst, max-concurrent 는 1 이상이어야 합니다.");
+      }
+      long interval = TimeUnit.MINUTES.toNanos(1) / ratePerMinute;
+      return new Policy(interval, interval * (burst - 1), maxConcurrent);
+    }
+  }
+
+  public AdmissionLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${overlang.admission.upload.rate-per-minute}") int uploadRate,
+      @Value("${overlang.admission.upload.burst}") int uploadBurst,
+      @Value("${overlang.admission.upload.max-concurrent}") int uploadConcurrent,
+      @Value("${overlang.admission.job-creation.rate-per-minute}") int jobRate,
+      @Value("${overlang.admission.job-creation.burst}") int jobBurst,
+      @Value("${overlang.admission.job-creation.max-concurrent}") int jobConcurrent) {
+    this.meterRegistry = meterRegistry;
+    policies.put(
+        AdmissionClass.UPLOAD, Policy.of("upload", uploadRate, uploadBurst, uploadConcurrent));
+    policies.put(
+        AdmissionClass.JOB_CREATION, Policy.of("job-creation", jobRate, jobBurst, jobConcurrent));
+
+    for (AdmissionClass admissionClass : AdmissionClass.values()) {
+      ConcurrentHashMap<Long, AdmissionState> map = new ConcurrentHashMap<>();
+      states.put(admissionClass, map);
+      Gauge.builder("overlang.admission.active.members", map, Map::size)
+          .tag("class", admissionClass.name())
+          .register(meterRegistry);
+    }
+  }
+
+  public interface Permit {
+    void release();
+
+    /** 실제 처리 없이 끝난 요청 (저장된 응답 재전송) 의 토큰을 돌려줌, release 전에 호출 */
+    void refund();
+  }
+
+  // permit 을 가진 상태는 정리되지 않으므로 맵에 있는 상태 객체에 반납
+  private record StatePermit(AdmissionState state, long intervalNanos) implements Permit {
+
+    @Override
+    public void release() {
+      state.releasePermit();
+    }
+
+    @Override
+    public void refund() {
+      state.refund(intervalNanos);
+    }
+  }
+
+  /** 허용되면 permit 반환 (요청 종료 시 release), 초과 시 TooManyRequestsException */
+  public Permit acquire(Long memberId, AdmissionClass admissionClass) {
+    Policy policy = policies.get(admissionClass);
+    long now = System.nanoTime();
+    ConcurrentHashMap<Long, AdmissionState> map = states.get(admissionClass);
+    AdmissionState state;
+    while (true) {
+      state = map.computeIfAbsent(memberId, id -> new AdmissionState(now));
+      if (state.tryAcquirePermit(policy.maxConcurrent())) {
+        break;
+      }
+      if (!state.isRetired()) {
+        reject(admissionClass, "concurrency");
+        throw new TooManyRequestsException("동시에 처리 중인 요청이 너무 많습니다.", 1);
+      }
+      // 정리 작업이 빼는 중인 상태를 받음, 빠진 뒤 새 상태로 다시 시도
+      Thread.onSpinWait();
+    }
+
+    long waitNanos = state.tryConsume(now, policy.intervalNanos(), policy.burstToleranceNanos());
+    if (waitNanos > 0) {
+      state.releasePermit();
+      reject(admissionClass, "rate");
+      long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+      throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+    }
+    return new StatePermit(state, policy.intervalNanos());
+  }
+
+  // 버킷이 가득 차고 실행 중인 요청이 없는 회원은 제거 (다시 오면 새로 생성해도 결과가 같음)
+  // 먼저 정리 표시를 해 두므로 computeIfAbsent 로 받은 상태가 빠진 뒤 permit 을 주는 일이 없음
+  @Scheduled(fixedDelayString = "${overlang.admission.sweep-interval-ms:60000}")
+  public void sweepIdle() {
+    long now = System.nanoTime();
+    for (ConcurrentHashMap<Long, AdmissionState> map : states.values()) {
+      map.forEach(
+          (memberId, state) -> {
+            if (state.tryRetire(now)) {
+              map.remove(memberId, state);
+            }
+          });
+    }
+  }
+
+  private void reject(AdmissionClass admissionClass, String reason) {
+    meterRegistry
+        .counter("overlang.admission.rejected", "class", admissionClass.name(), "reason", reason)
+        .increment();
+  }
+}
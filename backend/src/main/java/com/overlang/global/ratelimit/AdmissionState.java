@@ -0,0 +1,81 @@
+package com.overlang.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 x 엔드포인트 분류 하나의 제한 상태. 락 없이 CAS 로만 갱신한다.
+ *
+ * <p>토큰 버킷은 GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 토큰이 허용되는 이론적 시각(TAT)" 하나만
+ * 저장한다. 버스트 크기만큼 TAT 가 현재 시각보다 앞서 나갈 수 있다.
+ */
+class AdmissionState {
+
+  // 정리 작업이 맵에서 빼기로 한 상태 (permit 획득 불가, 요청은 새 상태 객체로 다시 시도)
+  private static final int RETIRED = -1;
+
+  private final AtomicLong theoreticalArrivalNanos;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  AdmissionState(long nowNanos) {
+    this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+  }
+
+  /** 동시 실행 permit 획득. 실패(한도 초과 또는 정리됨) 시 false */
+  boolean tryAcquirePermit(int maxConcurrent) {
+    while (true) {
+      int current = inFlight.get();
+      if (current == RETIRED || current >= maxConcurrent) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  void releasePermit() {
+    inFlight.decrementAndGet();
+  }
+
+  /** 토큰 하나 소비. 성공 시 0, 실패 시 다시 시도할 수 있을 때까지 남은 나노초 */
+  long tryConsume(long nowNanos, long intervalNanos, long burstToleranceNanos) {
+    while (true) {
+      long tat = theoreticalArrivalNanos.get();
+      long base = Math.max(tat, nowNanos);
+      long wait = base - nowNanos - burstToleranceNanos;
+      if (wait > 0) {
+        return wait;
+      }
+      if (theoreticalArrivalNanos.compareAndSet(tat, base + intervalNanos)) {
+        return 0;
+      }
+    }
+  }
+
+  /** 쓴 토큰 하나를 돌려줌. permit 을 가진 동안에만 호출하므로 정리 작업과 겹치지 않음 */
+  void refund(long intervalNanos) {
+    theoreticalArrivalNanos.addAndGet(-intervalNanos);
+  }
+
+  boolean isRetired() {
+    return inFlight.get() == RETIRED;
+  }
+
+  /**
+   * 버킷이 가득 차 있고 실행 중인 요청도 없으면 정리 표시 (이후 permit 을 줄 수 없어 맵에서 빼도 동작이 같음).
+   *
+   * <p>토큰은 permit 을 가진 요청만 쓰므로, 표시한 뒤 다시 확인한 TAT 는 더 바뀌지 않는다.
+   */
+  boolean tryRetire(long nowNanos) {
+    if (theoreticalArrivalNanos.get() > nowNanos || !inFlight.compareAndSet(0, RETIRED)) {
+      return false;
+    }
+    // 첫 확인과 표시 사이에 토큰을 쓰고 끝난 요청이 있었으면 되돌림
+    if (theoreticalArrivalNanos.get() > nowNanos) {
+      inFlight.set(0);
+      return false;
+    }
+    return true;
+  }
+}
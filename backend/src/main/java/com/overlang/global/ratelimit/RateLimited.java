@@ -0,0 +1,13 @@
+package com.overlang.global.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 회원별 요청 제한을 적용할 컨트롤러 메서드에 표시
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+  AdmissionClass value();
+}
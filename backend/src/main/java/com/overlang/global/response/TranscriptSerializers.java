@@ -0,0 +1,113 @@
+package com.overlang.global.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.overlang.api.dto.ocr.OcrItemResponse;
+import com.overlang.api.dto.segment.SegmentResponse;
+import java.io.IOException;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * 자막/OCR 목록처럼 항목이 수천 개인 응답 DTO 의 직렬화.
+ *
+ * <p>기본 BeanSerializer 는 항목마다 record 접근자를 리플렉션으로 호출하고 필드 이름을 매번 쓴다. 여기서는 접근자를 직접 호출하고 미리 인코딩한
+ * 필드 이름을 써서 JSON/CBOR/Smile 모두 같은 결과를 더 적은 CPU 로 만든다. 필드 이름과 null 출력은 기본 직렬화와 같다
+ * (TranscriptSerializersTest). DTO 에 필드를 추가하면 여기에도 추가해야 한다.
+ */
+@JsonComponent
+public class TranscriptSerializers {
+
+  private static final SerializedString ID = new SerializedString("id");
+  private static final SerializedString SEQ = new SerializedString("seq");
+  private static final SerializedString START_TIME = new SerializedString("startTime");
+  private static final SerializedString END_TIME = new SerializedString("endTime");
+  private static final SerializedString TEXT = new SerializedString("text");
+  private static final SerializedString TRANSLATED_TEXT = new SerializedString("translatedText");
+  private static final SerializedString LANGUAGE_CODE = new SerializedString("languageCode");
+  private static final SerializedString TRANSLATION_STALE =
+      new SerializedString("translationStale");
+  private static final SerializedString X = new SerializedString("x");
+  private static final SerializedString Y = new SerializedString("y");
+  private static final SerializedString W = new SerializedString("w");
+  private static final SerializedString H = new SerializedString("h");
+  private static final SerializedString CONFIDENCE = new SerializedString("confidence");
+  private static final SerializedString ORIGIN_TEXT = new SerializedString("originText");
+
+  public static class SegmentResponseSerializer extends StdSerializer<SegmentResponse> {
+
+    public SegmentResponseSerializer() {
+      super(SegmentResponse.class);
+    }
+
+    @Override
+    public void serialize(SegmentResponse value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(value, 8);
+      gen.writeFieldName(ID);
+      writeNumber(gen, value.id());
+      gen.writeFieldName(SEQ);
+      gen.writeNumber(value.seq());
+      gen.writeFieldName(START_TIME);
+      gen.writeNumber(value.startTime());
+      gen.writeFieldName(END_TIME);
+      gen.writeNumber(value.endTime());
+      gen.writeFieldName(TEXT);
+      gen.writeString(value.text());
+      gen.writeFieldName(TRANSLATED_TEXT);
+      gen.writeString(value.translatedText());
+      gen.writeFieldName(LANGUAGE_CODE);
+      gen.writeString(value.languageCode());
+      gen.writeFieldName(TRANSLATION_STALE);
+      gen.writeBoolean(value.translationStale());
+      gen.writeEndObject();
+    }
+  }
+
+  public static class OcrItemResponseSerializer extends StdSerializer<OcrItemResponse> {
+
+    public OcrItemResponseSerializer() {
+      super(OcrItemResponse.class);
+    }
+
+    @Override
+    public void serialize(OcrItemResponse value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(value, 10);
+      gen.writeFieldName(ID);
+      writeNumber(gen, value.id());
+      gen.writeFieldName(START_TIME);
+      gen.writeNumber(value.startTime());
+      gen.writeFieldName(END_TIME);
+      gen.writeNumber(value.endTime());
+      gen.writeFieldName(X);
+      gen.writeNumber(value.x());
+      gen.writeFieldName(Y);
+      gen.writeNumber(value.y());
+      gen.writeFieldName(W);
+      gen.writeNumber(value.w());
+      gen.writeFieldName(H);
+      gen.writeNumber(value.h());
+      gen.writeFieldName(CONFIDENCE);
+      if (value.confidence() == null) {
+        gen.writeNull();
+      } else {
+        gen.writeNumber(value.confidence());
+      }
+      gen.writeFieldName(ORIGIN_TEXT);
+      gen.writeString(value.originText());
+      gen.writeFieldName(TRANSLATED_TEXT);
+      gen.writeString(value.translatedText());
+      gen.writeEndObject();
+    }
+  }
+
+  private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+    if (value == null) {
+      gen.writeNull();
+    } else {
+      gen.writeNumber(value);
+    }
+  }
+}
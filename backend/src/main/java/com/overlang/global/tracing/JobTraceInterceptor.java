@@ -0,0 +1,39 @@
+package com.overlang.global.tracing;
+
+import io.micrometer.common.KeyValue;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 경로의 jobId / projectId 를 HTTP 요청 span 속성으로 남김 (작업 ID 로 요청 trace 검색)
+@Component
+public class JobTraceInterceptor implements HandlerInterceptor {
+
+  private static final String PROJECT_ID = "project.id";
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)
+        instanceof Map<?, ?> variables) {
+      ServerHttpObservationFilter.findObservationContext(request)
+          .ifPresent(
+              context -> {
+                tag(context, JobTracing.JOB_ID, variables.get("jobId"));
+                tag(context, PROJECT_ID, variables.get("projectId"));
+              });
+    }
+    return true;
+  }
+
+  private static void tag(ServerRequestObservationContext context, String key, Object value) {
+    if (value != null) {
+      context.addHighCardinalityKeyValue(KeyValue.of(key, value.toString()));
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.overlang.global.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 단위 span.
+ *
+ * <p>안에서 호출하는 AI 서버/LLM 요청, 쿼리 span 이 job.id 속성이 붙은 span 아래에 묶인다. job.id 는 high cardinality
+ * 값이라 span 에만 남고 지표 태그에는 들어가지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobTracing {
+
+  public static final String JOB_ID = "job.id";
+
+  private final ObservationRegistry observationRegistry;
+
+  public <T> T observe(String name, Long jobId, Supplier<T> action) {
+    return observation(name, jobId).observe(action);
+  }
+
+  public void observe(String name, Long jobId, Runnable action) {
+    observation(name, jobId).observe(action);
+  }
+
+  private Observation observation(String name, Long jobId) {
+    return Observation.createNotStarted(name, observationRegistry)
+        .highCardinalityKeyValue(JOB_ID, String.valueOf(jobId));
+  }
+}
@@ -0,0 +1,177 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 결과 테이블(segments, segment_words, ocr_items)을 job_id 해시 파티션 테이블로 옮김.
+ *
+ * <p>V1 으로 새로 만든 DB 와 이전 버전의 ResultTablePartitioner 가 이미 파티션으로 만든 DB 에서는 아무것도 하지 않는다.
+ * 파티셔닝 이전에 ddl-auto=update 가 만든 일반 테이블이 남아 있는 DB(baseline 으로 V1 을 건너뛴 경우)만 한 트랜잭션 안에서 옮긴다.
+ * 파티션 수는 overlang.partitioning.hash-partitions (Flyway placeholder result_hash_partitions).
+ */
+@Slf4j
+public class V2__PartitionResultTables extends BaseJavaMigration {
+
+  // 참조 순서 (segment_words -> segments)
+  private static final List<String> TABLES = List.of("segments", "segment_words", "ocr_items");
+
+  private static final List<String> CREATE_TABLES =
+      List.of(
+          """
+          create table segments (
+            id bigserial not null,
+            job_id bigint not null references jobs (id),
+            seq integer not null,
+            start_time double precision not null,
+            end_time double precision not null,
+            text text not null,
+            translated_text text,
+            language_code varchar(20),
+            translation_stale boolean default false not null,
+            created_at timestamp(6) with time zone,
+            updated_at timestamp(6) with time zone not null,
+            primary key (id, job_id)
+          ) partition by hash (job_id)
+          """,
+          """
+          create table segment_words (
+            id bigserial not null,
+            job_id bigint not null,
+            segment_id bigint not null,
+            seq integer not null,
+            start_time double precision not null,
+            end_time double precision not null,
+            word varchar(255) not null,
+            primary key (id, job_id),
+            foreign key (segment_id, job_id) references segments (id, job_id)
+          ) partition by hash (job_id)
+          """,
+          """
+          create table ocr_items (
+            id bigserial not null,
+            job_id bigint not null references jobs (id),
+            start_time double precision not null,
+            end_time double precision not null,
+            origin_text text not null,
+            translated_text text,
+            x double precision not null,
+            y double precision not null,
+            w double precision not null,
+            h double precision not null,
+            confidence double precision,
+            created_at timestamp(6) with time zone,
+            updated_at timestamp(6) with time zone not null,
+            primary key (id, job_id)
+          ) partition by hash (job_id)
+          """);
+
+  private static final List<String> CREATE_INDEXES =
+      List.of(
+          "create index idx_segments_job_seq on segments (job_id, seq)",
+          // segments 삭제 시 FK 검사와 구간 단위 조회
+          "create index idx_segment_words_job_segment on segment_words (job_id, segment_id)",
+          "create index idx_segment_words_job_start on segment_words (job_id, start_time)",
+          "create index idx_ocr_items_job on ocr_items (job_id)");
+
+  private static final List<String> COPY_LEGACY =
+      List.of(
+          """
+          insert into segments
+            (id, job_id, seq, start_time, end_time, text, translated_text, language_code,
+             created_at, updated_at)
+          select id, job_id, seq, start_time, end_time, text, translated_text, language_code,
+                 created_at, updated_at
+          from segments_legacy
+          """,
+          """
+          insert into segment_words (id, job_id, segment_id, seq, start_time, end_time, word)
+          select w.id, s.job_id, w.segment_id, w.seq, w.start_time, w.end_time, w.word
+          from segment_words_legacy w join segments s on s.id = w.segment_id
+          """,
+          """
+          insert into ocr_items
+            (id, job_id, start_time, end_time, origin_text, translated_text, x, y, w, h,
+             confidence, created_at, updated_at)
+          select id, job_id, start_time, end_time, origin_text, translated_text, x, y, w, h,
+                 confidence, created_at, updated_at
+          from ocr_items_legacy
+          """);
+
+  @Override
+  public void migrate(Context context) throws SQLException {
+    Connection connection = context.getConnection();
+    List<String> kinds = new ArrayList<>();
+    for (String table : TABLES) {
+      kinds.add(relationKind(connection, table));
+    }
+    if (kinds.stream().allMatch("p"::equals)) {
+      return;
+    }
+    if (!kinds.stream().allMatch("r"::equals)) {
+      // Hibernate 는 세 테이블을 함께 만들었으므로 섞여 있으면 수동 확인 필요
+      throw new IllegalStateException("결과 테이블 상태가 일치하지 않습니다: " + TABLES + " = " + kinds);
+    }
+    int partitions =
+        Integer.parseInt(
+            context.getConfiguration().getPlaceholders().get("result_hash_partitions"));
+    if (partitions < 1) {
+      throw new IllegalArgumentException("파티션 수는 1 이상이어야 합니다.");
+    }
+
+    long started = System.nanoTime();
+    try (Statement statement = connection.createStatement()) {
+      // 옮기는 동안 다른 인스턴스의 쓰기를 막음
+      for (String table : TABLES) {
+        statement.execute("lock table " + table + " in access exclusive mode");
+        statement.execute("alter table " + table + " rename to " + table + "_legacy");
+      }
+      for (String create : CREATE_TABLES) {
+        statement.execute(create);
+      }
+      for (String table : TABLES) {
+        for (int remainder = 0; remainder < partitions; remainder++) {
+          statement.execute(
+              "create table %s_p%d partition of %s for values with (modulus %d, remainder %d)"
+                  .formatted(table, remainder, table, partitions, remainder));
+        }
+      }
+      for (String index : CREATE_INDEXES) {
+        statement.execute(index);
+      }
+      for (String copy : COPY_LEGACY) {
+        statement.executeUpdate(copy);
+      }
+      for (String table : TABLES) {
+        statement.execute(
+            "select setval(pg_get_serial_sequence('%s', 'id'), %s, false)"
+                .formatted(table, "(select coalesce(max(id), 0) + 1 from " + table + ")"));
+      }
+      statement.execute("drop table segment_words_legacy, segments_legacy, ocr_items_legacy");
+    }
+    log.warn(
+        "Result tables migrated to hash partitions: partitions={}, elapsedMs={}",
+        partitions,
+        (System.nanoTime() - started) / 1_000_000);
+  }
+
+  // r: 일반 테이블, p: 파티션 테이블, null: 없음
+  private String relationKind(Connection connection, String table) throws SQLException {
+    try (PreparedStatement statement =
+        connection.prepareStatement(
+            "select relkind::text from pg_class where oid = to_regclass(?)")) {
+      statement.setString(1, table);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() ? resultSet.getString(1) : null;
+      }
+    }
+  }
+}
@@ -0,0 +1,286 @@
+-- 기준 스키마 (이전까지 ddl-auto=update 가 만든 테이블과 같은 구조)
+-- 기존 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+-- enum 컬럼은 값 목록 check 제약 없이 varchar (새 값을 추가할 때 마이그레이션이 필요 없도록)
+
+create table members (
+  id bigint generated by default as identity primary key,
+  email varchar(255) not null unique,
+  name varchar(255) not null,
+  firebase_uid varchar(255) not null unique,
+  profile_image_url varchar(1024),
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create table projects (
+  id bigint generated by default as identity primary key,
+  member_id bigint not null references members (id),
+  title varchar(255) not null,
+  source_type varchar(50) not null,
+  source_url varchar(1024),
+  file_url varchar(1024),
+  file_key varchar(1024),
+  status varchar(50) not null,
+  duration_seconds double precision,
+  video_codec varchar(50),
+  audio_codec varchar(50),
+  has_video boolean,
+  has_audio boolean,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create table jobs (
+  id bigint generated by default as identity primary key,
+  project_id bigint not null references projects (id),
+  job_type varchar(255) not null,
+  status varchar(255) not null,
+  progress integer not null,
+  current_stage varchar(255) not null,
+  source_language varchar(20),
+  target_language varchar(20) not null,
+  translation_provider varchar(50),
+  use_user_api_key boolean not null,
+  stt_model varchar(50),
+  error_code varchar(100),
+  error_message text,
+  ai_task_id varchar(100),
+  dispatched_at timestamp(6) with time zone,
+  retry_of_job_id bigint references jobs (id),
+  resume_stage varchar(50),
+  saved_gpu_seconds double precision,
+  version bigint default 0 not null,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create table job_chunks (
+  id bigint generated by default as identity primary key,
+  job_id bigint not null references jobs (id),
+  chunk_index integer not null,
+  start_time double precision not null,
+  end_time double precision not null,
+  status varchar(50) not null,
+  progress integer not null,
+  ai_task_id varchar(100),
+  dispatched_at timestamp(6) with time zone,
+  finished_at timestamp(6) with time zone,
+  result text,
+  error_code varchar(100),
+  error_message text,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null,
+  unique (job_id, chunk_index)
+);
+
+create table job_checkpoints (
+  id bigint generated by default as identity primary key,
+  job_id bigint not null references jobs (id),
+  stage varchar(50) not null,
+  row_count integer not null,
+  checksum varchar(64) not null,
+  gpu_seconds double precision not null,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null,
+  unique (job_id, stage)
+);
+
+create table job_languages (
+  id bigint generated by default as identity primary key,
+  job_id bigint not null references jobs (id),
+  language varchar(20) not null,
+  status varchar(50) not null,
+  current_stage varchar(50) not null,
+  progress integer not null,
+  error_code varchar(100),
+  error_message text,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null,
+  unique (job_id, language)
+);
+
+create table user_api_keys (
+  id bigint generated by default as identity primary key,
+  member_id bigint not null references members (id),
+  provider varchar(50) not null,
+  encrypted_key text not null,
+  is_active boolean not null,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create table storage_deletions (
+  id bigint generated by default as identity primary key,
+  file_key varchar(1024) not null,
+  attempts integer not null,
+  next_attempt_at timestamp(6) with time zone,
+  last_error varchar(500),
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create index idx_storage_deletions_next_attempt on storage_deletions (next_attempt_at);
+
+create table uploaded_media (
+  id bigint generated by default as identity primary key,
+  file_key varchar(1024) not null unique,
+  container varchar(20) not null,
+  duration_seconds double precision,
+  video_codec varchar(50),
+  audio_codec varchar(50),
+  has_video boolean,
+  has_audio boolean,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create table idempotency_keys (
+  id bigint generated by default as identity primary key,
+  member_id bigint not null,
+  idempotency_key varchar(255) not null,
+  fingerprint varchar(64) not null,
+  status varchar(20) not null,
+  response_status integer,
+  response_body text,
+  expires_at timestamp(6) with time zone not null,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null,
+  unique (member_id, idempotency_key)
+);
+
+create index idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
+
+create table retranslation_requests (
+  id bigint generated by default as identity primary key,
+  job_id bigint not null unique,
+  requested_at timestamp(6) with time zone not null,
+  attempts integer not null,
+  next_attempt_at timestamp(6) with time zone,
+  last_error varchar(500),
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create index idx_retranslation_requests_next_attempt
+  on retranslation_requests (next_attempt_at);
+
+create table word_timelines (
+  id bigint generated by default as identity primary key,
+  job_id bigint not null unique references jobs (id),
+  word_count integer not null,
+  data bytea not null,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create table segment_translations (
+  id bigint generated by default as identity primary key,
+  job_id bigint not null references jobs (id),
+  language varchar(20) not null,
+  seq integer not null,
+  translated_text text,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null,
+  unique (job_id, language, seq)
+);
+
+create table job_archives (
+  id bigint generated by default as identity primary key,
+  job_id bigint not null unique references jobs (id),
+  file_key varchar(1024) not null,
+  segment_count integer not null,
+  ocr_item_count integer not null,
+  byte_size bigint not null,
+  archived_at timestamp(6) with time zone not null,
+  restored_at timestamp(6) with time zone,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create table learning_contents (
+  id bigint generated by default as identity primary key,
+  job_id bigint not null references jobs (id),
+  content_type varchar(50) not null,
+  title varchar(255),
+  content text not null,
+  start_time double precision,
+  end_time double precision,
+  language varchar(20),
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+create table llm_window_cache (
+  id bigint generated by default as identity primary key,
+  content_hash varchar(64) not null unique,
+  response text not null,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null
+);
+
+-- 결과 테이블: job_id 해시 파티션 (PK 에 파티션 키가 들어가야 해서 (id, job_id))
+-- segment_words 는 job_id 를 함께 저장해 (segment_id, job_id) 로 segments 를 참조
+create table segments (
+  id bigserial not null,
+  job_id bigint not null references jobs (id),
+  seq integer not null,
+  start_time double precision not null,
+  end_time double precision not null,
+  text text not null,
+  translated_text text,
+  language_code varchar(20),
+  translation_stale boolean default false not null,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null,
+  primary key (id, job_id)
+) partition by hash (job_id);
+
+create table segment_words (
+  id bigserial not null,
+  job_id bigint not null,
+  segment_id bigint not null,
+  seq integer not null,
+  start_time double precision not null,
+  end_time double precision not null,
+  word varchar(255) not null,
+  primary key (id, job_id),
+  foreign key (segment_id, job_id) references segments (id, job_id)
+) partition by hash (job_id);
+
+create table ocr_items (
+  id bigserial not null,
+  job_id bigint not null references jobs (id),
+  start_time double precision not null,
+  end_time double precision not null,
+  origin_text text not null,
+  translated_text text,
+  x double precision not null,
+  y double precision not null,
+  w double precision not null,
+  h double precision not null,
+  confidence double precision,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null,
+  primary key (id, job_id)
+) partition by hash (job_id);
+
+-- 파티션 수는 overlang.partitioning.hash-partitions (처음 만들 때만 적용)
+do $$
+declare
+  result_table text;
+begin
+  foreach result_table in array array['segments', 'segment_words', 'ocr_items'] loop
+    for remainder in 0..${result_hash_partitions} - 1 loop
+      execute format(
+        'create table %I partition of %I for values with (modulus %s, remainder %s)',
+        result_table || '_p' || remainder, result_table, ${result_hash_partitions}, remainder);
+    end loop;
+  end loop;
+end
+$$;
+
+create index idx_segments_job_seq on segments (job_id, seq);
+-- segments 삭제 시 FK 검사와 구간 단위 조회
+create index idx_segment_words_job_segment on segment_words (job_id, segment_id);
+create index idx_segment_words_job_start on segment_words (job_id, start_time);
+create index idx_ocr_items_job on ocr_items (job_id);
@@ -0,0 +1,27 @@
+-- ddl-auto=update 로 만든 DB 에는 Hibernate 가 테이블 생성 시점의 enum 값으로 check 제약을 붙여 두었고
+-- 이후 추가된 값(예: CurrentStage.TRANSLATION)은 update 가 반영하지 않아 저장이 실패함
+-- 허용 값은 엔티티의 enum 이 관리하므로 제약은 제거 (V1 으로 만든 DB 에는 없음)
+alter table projects
+  drop constraint if exists projects_source_type_check,
+  drop constraint if exists projects_status_check;
+
+alter table jobs
+  drop constraint if exists jobs_job_type_check,
+  drop constraint if exists jobs_status_check,
+  drop constraint if exists jobs_current_stage_check,
+  drop constraint if exists jobs_translation_provider_check,
+  drop constraint if exists jobs_resume_stage_check;
+
+alter table job_chunks drop constraint if exists job_chunks_status_check;
+
+alter table job_checkpoints drop constraint if exists job_checkpoints_stage_check;
+
+alter table job_languages
+  drop constraint if exists job_languages_status_check,
+  drop constraint if exists job_languages_current_stage_check;
+
+alter table user_api_keys drop constraint if exists user_api_keys_provider_check;
+
+alter table idempotency_keys drop constraint if exists idempotency_keys_status_check;
+
+alter table learning_contents drop constraint if exists learning_contents_content_type_check;
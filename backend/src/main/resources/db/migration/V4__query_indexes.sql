@@ -0,0 +1,44 @@
+-- 저장소 쿼리의 실제 조회 경로에 맞춘 인덱스 (QueryPlanTest 가 seq scan 여부를 확인)
+-- 기존 DB 에 이미 같은 이름이 있을 수 있어 if not exists
+
+-- 프로젝트별 작업 조회/일괄 삭제, 보관 후보 검사 (updated_at 까지 인덱스만으로 확인)
+create index if not exists idx_jobs_project_status on jobs (project_id, status)
+  include (updated_at);
+
+-- 디스패처/동기화가 주기적으로 읽는 대기/실행 중 작업
+-- 완료/실패 작업이 대부분이라 부분 인덱스로 작게 유지하고, 실행 중 작업 수는 ai_task_id 까지 인덱스만으로 셈
+create index if not exists idx_jobs_active on jobs (status, current_stage, id) include (ai_task_id)
+  where status in ('PENDING', 'RUNNING');
+
+-- 원본 작업 삭제 시 재시도 작업 FK 검사
+create index if not exists idx_jobs_retry_of on jobs (retry_of_job_id)
+  where retry_of_job_id is not null;
+
+-- 회원별 프로젝트 목록 (최신순)
+create index if not exists idx_projects_member_created on projects (member_id, created_at desc);
+
+-- 같은 저장소 파일을 쓰는 다른 프로젝트 확인 (유튜브 프로젝트는 file_key 가 없음)
+create index if not exists idx_projects_file_key on projects (file_key)
+  where file_key is not null;
+
+-- 보관 후보: 오래 수정되지 않은 프로젝트
+create index if not exists idx_projects_updated on projects (updated_at);
+
+-- 구간 디스패치/동기화 대상 구간
+create index if not exists idx_job_chunks_active on job_chunks (status, id)
+  where status in ('PENDING', 'RUNNING');
+
+-- 작업별 학습 콘텐츠 (기본 언어는 language is null, 추가 언어는 language 로 조회)
+create index if not exists idx_learning_contents_job on learning_contents (job_id, language, id);
+
+create index if not exists idx_user_api_keys_member on user_api_keys (member_id);
+
+-- 재생 구간의 단어 타임스탬프: 엔티티 컬럼을 모두 포함해 테이블을 읽지 않음
+create index if not exists idx_segment_words_job_start_covering
+  on segment_words (job_id, start_time) include (end_time, segment_id, seq, word, id);
+drop index if exists idx_segment_words_job_start;
+
+-- OCR 항목 시간 구간 조회 (job_id 만 쓰는 조회도 이 인덱스로 충분)
+create index if not exists idx_ocr_items_job_start on ocr_items (job_id, start_time)
+  include (end_time);
+drop index if exists idx_ocr_items_job;
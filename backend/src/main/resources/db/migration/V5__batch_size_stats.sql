@@ -0,0 +1,17 @@
+-- GPU OOM 이력으로 batch_size 학습 (BatchSizeAdvisor)
+alter table jobs add column batch_size integer;
+alter table job_chunks add column batch_size integer;
+
+-- (모델, 워커 등급, 영상 길이 구간)별로 끝까지 처리된 가장 큰 값과 OOM 이 난 가장 작은 값
+create table batch_size_stats (
+  id bigint generated by default as identity primary key,
+  model varchar(50) not null,
+  worker_class varchar(100) not null,
+  duration_bucket integer not null,
+  largest_success integer not null,
+  smallest_oom integer,
+  oom_at timestamp(6) with time zone,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone not null,
+  unique (model, worker_class, duration_bucket)
+);
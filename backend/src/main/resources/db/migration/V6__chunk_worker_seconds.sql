@@ -0,0 +1,2 @@
+-- 구간별 워커 처리 시간 (공정 분배 사용량 정산, 대기열에서 기다린 시간 제외)
+alter table job_chunks add column worker_seconds double precision;
@@ -0,0 +1,2 @@
+-- 워커 없이 백엔드에서 처리하는 단계(LLM 분석)를 가져간 시점 (여러 인스턴스가 같은 작업을 동시에 처리하지 않도록)
+alter table jobs add column claimed_at timestamp(6) with time zone;
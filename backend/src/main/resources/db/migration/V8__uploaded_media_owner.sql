@@ -0,0 +1,2 @@
+-- 업로드한 회원 (프로젝트 생성 시 다른 회원의 파일 키를 거부), 기존 업로드는 소유자를 알 수 없어 null
+alter table uploaded_media add column member_id bigint;
@@ -0,0 +1,155 @@
+package com.overlang.domain.archive.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.domain.archive.entity.JobArchive;
+import com.overlang.domain.archive.repository.JobArchiveRepository;
+import com.overlang.domain.archive.service.JobArchiveService.StoredArchive;
+import com.overlang.domain.archive.service.JobResultArchive.ArchivedSegment;
+import com.overlang.domain.file.service.StorageDeletionService;
+import com.overlang.domain.file.storage.StorageService;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.ocr.entity.OcrItem;
+import com.overlang.domain.ocr.repository.OcrItemRepository;
+import com.overlang.domain.ocr.service.OcrIndexCache;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.service.SegmentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 보관 파일로 내보낸 결과를 복원했을 때 구간/OCR 값과 재번역 대기 표시가 그대로인지 확인 (저장소는 메모리)
+class JobArchiveServiceTest {
+
+  private final JobArchiveRepository jobArchiveRepository = mock(JobArchiveRepository.class);
+  private final JobRepository jobRepository = mock(JobRepository.class);
+  private final SegmentRepository segmentRepository = mock(SegmentRepository.class);
+  private final OcrItemRepository ocrItemRepository = mock(OcrItemRepository.class);
+  private final StorageService storageService = mock(StorageService.class);
+  private final Map<String, byte[]> stored = new HashMap<>();
+
+  private JobArchiveService service;
+  private Job job;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Member member = new Member("a@overlang.com", "a", "uid");
+    Project project =
+        new Project(member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4");
+    job = new Job(project, JobType.FULL_ANALYSIS, "en", "ko", null, false, null);
+    ReflectionTestUtils.setField(job, "id", 1L);
+    when(jobRepository.getReferenceById(1L)).thenReturn(job);
+
+    doAnswer(
+            invocation -> {
+              Path source = invocation.getArgument(1);
+              stored.put(invocation.getArgument(0), Files.readAllBytes(source));
+              return null;
+            })
+        .when(storageService)
+        .store(anyString(), any(), anyString());
+    doAnswer(
+            invocation -> {
+              Path target = invocation.getArgument(1);
+              Files.write(target, stored.get(invocation.<String>getArgument(0)));
+              return null;
+            })
+        .when(storageService)
+        .download(anyString(), any());
+
+    service =
+        new JobArchiveService(
+            jobArchiveRepository,
+            jobRepository,
+            segmentRepository,
+            ocrItemRepository,
+            mock(OcrIndexCache.class),
+            mock(SegmentService.class),
+            storageService,
+            mock(StorageDeletionService.class),
+            new ObjectMapper(),
+            new SimpleMeterRegistry(),
+            90);
+  }
+
+  @Test
+  void restoresArchivedSegmentsAndOcrItems() throws Exception {
+    Segment edited = new Segment(job, 0.0, 2.0, 1, "hello there", "안녕", "en");
+    edited.editText("hello there");
+    Segment translated = new Segment(job, 2.0, 4.0, 2, "bye", "잘 가", "en");
+    OcrItem ocrItem = new OcrItem(job, 1.0, 3.0, "EXIT", "출구", 0.1, 0.2, 0.3, 0.4, 0.9);
+    when(segmentRepository.findByJobIdOrderBySeqAsc(1L)).thenReturn(List.of(edited, translated));
+    when(ocrItemRepository.findByJobIdOrderByIdAsc(1L)).thenReturn(List.of(ocrItem));
+
+    JobResultArchive payload = service.export(1L);
+    StoredArchive archived = service.store(payload);
+    archive(archived);
+    service.restore(1L);
+
+    List<Segment> segments = savedSegments();
+    assertThat(segments)
+        .extracting(
+            Segment::getSeq,
+            Segment::getText,
+            Segment::getTranslatedText,
+            Segment::getTranslationStale)
+        .containsExactly(
+            tuple(1, "hello there", "안녕", true),
+            tuple(2, "bye", "잘 가", false));
+    ArgumentCaptor<List<OcrItem>> ocrItems = ArgumentCaptor.forClass(List.class);
+    verify(ocrItemRepository).saveAll(ocrItems.capture());
+    assertThat(ocrItems.getValue())
+        .singleElement()
+        .usingRecursiveComparison()
+        .comparingOnlyFields("startTime", "endTime", "originText", "translatedText", "confidence")
+        .isEqualTo(ocrItem);
+  }
+
+  @Test
+  void segmentsArchivedBeforeStaleFlagRestoreAsTranslated() throws Exception {
+    ArchivedSegment legacy = new ArchivedSegment(1, 0.0, 2.0, "hello", "안녕", "en", null);
+    StoredArchive archived =
+        service.store(new JobResultArchive(1, 1L, List.of(legacy), List.of()));
+    archive(archived);
+
+    service.restore(1L);
+
+    assertThat(savedSegments())
+        .singleElement()
+        .extracting(Segment::getTranslationStale)
+        .isEqualTo(false);
+  }
+
+  private void archive(StoredArchive archived) {
+    JobArchive archive = new JobArchive(job, archived.fileKey(), 0, 0, archived.byteSize());
+    when(jobArchiveRepository.lockArchivedByJobId(1L)).thenReturn(Optional.of(archive));
+  }
+
+  private List<Segment> savedSegments() {
+    ArgumentCaptor<List<Segment>> segments = ArgumentCaptor.forClass(List.class);
+    verify(segmentRepository).saveAll(segments.capture());
+    return segments.getValue();
+  }
+}
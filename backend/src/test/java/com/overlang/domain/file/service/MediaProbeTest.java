@@ -0,0 +1,154 @@
+package com.overlang.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.overlang.domain.file.service.MediaProbe.Container;
+import com.overlang.domain.file.service.MediaProbe.MediaInfo;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+// 합성한 최소 MP4/Matroska 헤더로 길이, 트랙, 코덱 추출과 본문 skip 확인
+class MediaProbeTest {
+
+  @Test
+  void readsMoovAtEndOfMp4WithoutReadingMdat() throws IOException {
+    int mdatBody = 8 * 1024 * 1024;
+    byte[] moov = box("moov", mvhd(1000, 754_500), trak("vide", "avc1"), trak("soun", "mp4a"));
+    ByteArrayOutputStream file = new ByteArrayOutputStream();
+    file.writeBytes(box("ftyp", "isom".getBytes(StandardCharsets.ISO_8859_1)));
+    file.writeBytes(box("mdat", new byte[mdatBody]));
+    file.writeBytes(moov);
+
+    CountingStream in = new CountingStream(new ByteArrayInputStream(file.toByteArray()));
+    MediaInfo info = MediaProbe.probe(in);
+
+    assertThat(info.container()).isEqualTo(Container.MP4);
+    assertThat(info.durationSeconds()).isEqualTo(754.5);
+    assertThat(info.videoCodec()).isEqualTo("avc1");
+    assertThat(info.audioCodec()).isEqualTo("mp4a");
+    // mdat 본문은 read 가 아니라 skip 으로 넘어감
+    assertThat(in.bytesRead).isLessThan(64 * 1024);
+  }
+
+  @Test
+  void readsMatroskaInfoAndTracks() throws IOException {
+    byte[] info =
+        element(
+            0x1549A966,
+            element(0x2AD7B1, new byte[] {0x0F, 0x42, 0x40}), // 1ms 단위
+            element(0x4489, ByteBuffer.allocate(8).putDouble(90_000.0).array()));
+    byte[] tracks =
+        element(
+            0x1654AE6B,
+            element(0xAE, element(0x83, new byte[] {2}), element(0x86, ascii("A_OPUS"))));
+    byte[] cluster = element(0x1F43B675, new byte[1024]);
+    byte[] segment = element(0x18538067, info, tracks, cluster);
+
+    ByteArrayOutputStream file = new ByteArrayOutputStream();
+    file.writeBytes(element(0x1A45DFA3, element(0x4282, ascii("webm"))));
+    file.writeBytes(segment);
+
+    MediaInfo result = MediaProbe.probe(new ByteArrayInputStream(file.toByteArray()));
+
+    assertThat(result.container()).isEqualTo(Container.MATROSKA);
+    assertThat(result.durationSeconds()).isEqualTo(90.0);
+    assertThat(result.hasAudio()).isTrue();
+    assertThat(result.hasVideo()).isFalse();
+    assertThat(result.audioCodec()).isEqualTo("A_OPUS");
+  }
+
+  @Test
+  void rejectsTruncatedMp4() {
+    byte[] file = box("ftyp", ascii("isom"));
+    byte[] truncated = new byte[file.length + 8];
+    System.arraycopy(file, 0, truncated, 0, file.length);
+    ByteBuffer.wrap(truncated, file.length, 8).putInt(1_000_000).put(ascii("mdat"));
+
+    assertThatThrownBy(() -> MediaProbe.probe(new ByteArrayInputStream(truncated)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static byte[] mvhd(int timescale, int duration) {
+    ByteBuffer body = ByteBuffer.allocate(100);
+    body.putInt(0); // version 0, flags
+    body.putInt(0).putInt(0); // creation, modification
+    body.putInt(timescale).putInt(duration);
+    return box("mvhd", body.array());
+  }
+
+  private static byte[] trak(String handler, String codec) {
+    ByteBuffer hdlr = ByteBuffer.allocate(24);
+    hdlr.putInt(0).putInt(0).put(ascii(handler));
+    ByteBuffer stsd = ByteBuffer.allocate(24);
+    stsd.putInt(0).putInt(1).putInt(16).put(ascii(codec));
+    byte[] stbl = box("stbl", box("stsd", stsd.array()));
+    return box("trak", box("mdia", box("hdlr", hdlr.array()), box("minf", stbl)));
+  }
+
+  private static byte[] box(String type, byte[]... children) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    for (byte[] child : children) {
+      body.writeBytes(child);
+    }
+    return ByteBuffer.allocate(8 + body.size())
+        .putInt(8 + body.size())
+        .put(ascii(type))
+        .put(body.toByteArray())
+        .array();
+  }
+
+  // ID 는 그대로, 크기는 8바이트 vint
+  private static byte[] element(int id, byte[]... children) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    for (byte[] child : children) {
+      body.writeBytes(child);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] idBytes = ByteBuffer.allocate(4).putInt(id).array();
+    int skip = 0;
+    while (idBytes[skip] == 0) {
+      skip++;
+    }
+    out.write(idBytes, skip, 4 - skip);
+    out.writeBytes(ByteBuffer.allocate(8).putLong(0x0100_0000_0000_0000L | body.size()).array());
+    out.writeBytes(body.toByteArray());
+    return out.toByteArray();
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private static class CountingStream extends FilterInputStream {
+    long bytesRead;
+
+    CountingStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        bytesRead++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int n = super.read(buffer, offset, length);
+      if (n > 0) {
+        bytesRead += n;
+      }
+      return n;
+    }
+  }
+}
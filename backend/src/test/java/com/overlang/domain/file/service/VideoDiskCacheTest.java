@@ -0,0 +1,125 @@
+package com.overlang.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+// 용량을 넘으면 가장 오래 안 쓴 영상부터 지우고, 재시작 후에도 남은 파일을 다시 쓰는지 확인
+// (같은 영상 채우기는 하나로 합치고, 끝난 채우기는 자리를 남기지 않음)
+class VideoDiskCacheTest {
+
+  @TempDir Path dir;
+
+  private VideoDiskCache cache;
+
+  @AfterEach
+  void tearDown() {
+    if (cache != null) {
+      cache.shutdown();
+    }
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedWhenFull() throws Exception {
+    cache = new VideoDiskCache(dir.toString(), DataSize.ofBytes(10));
+    fill("uploads/videos/a.mp4", 4);
+    fill("uploads/videos/b.mp4", 4);
+
+    // a 를 다시 재생해 b 가 가장 오래 안 쓴 항목이 됨
+    assertThat(cache.get("uploads/videos/a.mp4")).isPresent();
+    fill("uploads/videos/c.mp4", 4);
+
+    assertThat(cache.get("uploads/videos/a.mp4")).isPresent();
+    assertThat(cache.get("uploads/videos/b.mp4")).isEmpty();
+    assertThat(cache.get("uploads/videos/c.mp4")).isPresent();
+    assertThat(cache.currentBytes()).isEqualTo(8);
+    try (Stream<Path> files = Files.list(dir)) {
+      assertThat(files.count()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void skipsOversizedAndAlreadyCachedFiles() throws Exception {
+    cache = new VideoDiskCache(dir.toString(), DataSize.ofBytes(10));
+    AtomicInteger downloads = new AtomicInteger();
+
+    cache.fillAsync("uploads/videos/big.mp4", 11, target -> downloads.incrementAndGet());
+    fill("uploads/videos/a.mp4", 4);
+    cache.fillAsync("uploads/videos/a.mp4", 4, target -> downloads.incrementAndGet());
+
+    assertThat(downloads).hasValue(0);
+    assertThat(cache.sizeOf("uploads/videos/big.mp4")).isEqualTo(-1);
+  }
+
+  @Test
+  void concurrentFillsAreMergedAndFailedFillCanBeRetried() throws Exception {
+    cache = new VideoDiskCache(dir.toString(), DataSize.ofBytes(10));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger downloads = new AtomicInteger();
+
+    cache.fillAsync(
+        "uploads/videos/a.mp4",
+        4,
+        target -> {
+          downloads.incrementAndGet();
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          throw new IOException("download failed");
+        });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    cache.fillAsync("uploads/videos/a.mp4", 4, target -> downloads.incrementAndGet());
+    assertThat(downloads).hasValue(1);
+
+    // 실패한 채우기가 끝나면 다음 요청이 다시 채움
+    release.countDown();
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (cache.sizeOf("uploads/videos/a.mp4") < 0 && System.nanoTime() < deadline) {
+      cache.fillAsync("uploads/videos/a.mp4", 4, target -> write(target, 4));
+      Thread.sleep(10);
+    }
+    assertThat(cache.sizeOf("uploads/videos/a.mp4")).isEqualTo(4);
+  }
+
+  @Test
+  void reloadsCachedFilesAfterRestart() throws Exception {
+    cache = new VideoDiskCache(dir.toString(), DataSize.ofBytes(10));
+    fill("uploads/videos/a.mp4", 4);
+    cache.shutdown();
+    Files.writeString(dir.resolve("leftover.part"), "partial");
+
+    cache = new VideoDiskCache(dir.toString(), DataSize.ofBytes(10));
+
+    assertThat(cache.sizeOf("uploads/videos/a.mp4")).isEqualTo(4);
+    assertThat(dir.resolve("leftover.part")).doesNotExist();
+  }
+
+  // 백그라운드 채우기가 끝날 때까지 대기
+  private void fill(String key, int size) throws InterruptedException {
+    cache.fillAsync(key, size, target -> write(target, size));
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (cache.sizeOf(key) < 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(cache.sizeOf(key)).isEqualTo(size);
+  }
+
+  private static void write(Path target, int size) throws IOException {
+    Files.write(target, new byte[size]);
+  }
+}
@@ -0,0 +1,49 @@
+package com.overlang.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.overlang.domain.file.service.VideoStreamService.ByteRange;
+import org.junit.jupiter.api.Test;
+
+// 플레이어가 보내는 Range 헤더 형태별 응답 구간과 416 대상 확인
+class VideoStreamServiceTest {
+
+  private static final long TOTAL = 1000;
+
+  @Test
+  void noHeaderServesWholeFile() {
+    assertThat(VideoStreamService.resolveRange(null, TOTAL))
+        .isEqualTo(new ByteRange(0, 999, false));
+    // 빈 헤더도 범위 요청이 아님
+    assertThat(VideoStreamService.resolveRange("", TOTAL)).isEqualTo(new ByteRange(0, 999, false));
+  }
+
+  @Test
+  void resolvesBoundedOpenAndSuffixRanges() {
+    assertThat(VideoStreamService.resolveRange("bytes=100-199", TOTAL))
+        .isEqualTo(new ByteRange(100, 199, true));
+    assertThat(VideoStreamService.resolveRange("bytes=900-", TOTAL))
+        .isEqualTo(new ByteRange(900, 999, true));
+    assertThat(VideoStreamService.resolveRange("bytes=-100", TOTAL))
+        .isEqualTo(new ByteRange(900, 999, true));
+    // 끝이 파일보다 길면 파일 끝까지
+    assertThat(VideoStreamService.resolveRange("bytes=990-5000", TOTAL).length()).isEqualTo(10);
+  }
+
+  @Test
+  void onlyFirstOfMultipleRangesIsServed() {
+    assertThat(VideoStreamService.resolveRange("bytes=0-9, 20-29", TOTAL))
+        .isEqualTo(new ByteRange(0, 9, true));
+  }
+
+  @Test
+  void unsatisfiableOrMalformedRangeIsRejected() {
+    assertThatThrownBy(() -> VideoStreamService.resolveRange("bytes=1000-", TOTAL))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> VideoStreamService.resolveRange("items=0-9", TOTAL))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> VideoStreamService.resolveRange("bytes=20-10", TOTAL))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
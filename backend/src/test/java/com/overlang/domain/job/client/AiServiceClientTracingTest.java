@@ -0,0 +1,69 @@
+package com.overlang.domain.job.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.overlang.global.tracing.JobTracing;
+import io.micrometer.tracing.Tracer;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.observation.web.client.HttpClientObservationsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.opentelemetry.OpenTelemetryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.MicrometerTracingAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.OpenTelemetryTracingAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+// 작업 span 안에서 보낸 AI 서버 요청에 같은 trace 의 traceparent 헤더가 붙는지 확인 (Worker 가 이어 받는 값)
+@RestClientTest(
+    components = {AiServiceClient.class, JobTracing.class},
+    properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureObservability(metrics = false)
+@ImportAutoConfiguration({
+  ObservationAutoConfiguration.class,
+  OpenTelemetryAutoConfiguration.class,
+  OpenTelemetryTracingAutoConfiguration.class,
+  MicrometerTracingAutoConfiguration.class,
+  HttpClientObservationsAutoConfiguration.class
+})
+class AiServiceClientTracingTest {
+
+  @Autowired private AiServiceClient aiServiceClient;
+  @Autowired private JobTracing jobTracing;
+  @Autowired private Tracer tracer;
+  @Autowired private MockRestServiceServer server;
+
+  @Test
+  void analyzeRequestCarriesTraceparentOfJobSpan() {
+    String traceId =
+        jobTracing.observe(
+            "job.dispatch",
+            1L,
+            () -> {
+              String current = tracer.currentSpan().context().traceId();
+              server
+                  .expect(requestTo(endsWith("/api/v1/analyze")))
+                  .andExpect(
+                      header("traceparent", matchesPattern("00-" + current + "-[0-9a-f]{16}-01")))
+                  .andRespond(
+                      withSuccess(
+                          "{\"jobId\":\"task-1\",\"status\":\"PENDING\",\"message\":\"ok\"}",
+                          MediaType.APPLICATION_JSON));
+
+              assertThat(aiServiceClient.submit("/app/media/a.mp4", Map.of())).isEqualTo("task-1");
+              return current;
+            });
+
+    server.verify();
+    assertThat(traceId).hasSize(32);
+  }
+}
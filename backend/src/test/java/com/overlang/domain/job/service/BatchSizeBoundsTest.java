@@ -0,0 +1,77 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+// GPU 가 버티는 최대 batch_size 를 정해 두고, 결과대로 범위를 좁혔을 때 OOM 횟수와 수렴 값 확인
+class BatchSizeBoundsTest {
+
+  private static final BatchSizeBounds.Limits LIMITS =
+      new BatchSizeBounds.Limits(16, 1, 64, Duration.ofHours(24));
+
+  @Test
+  void convergesUpwardToLargestSizeWithoutOom() {
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    int capacity = 40;
+    BatchSizeBounds bounds = BatchSizeBounds.EMPTY;
+    int ooms = 0;
+    for (int i = 0; i < 20; i++) {
+      int size = bounds.next(LIMITS, now);
+      if (size > capacity) {
+        ooms++;
+        bounds = bounds.failedWithOom(size, LIMITS, now);
+      } else {
+        bounds = bounds.succeeded(size, LIMITS, now);
+      }
+    }
+
+    assertThat(bounds.next(LIMITS, now)).isEqualTo(capacity);
+    assertThat(bounds.safe(LIMITS, now)).isEqualTo(capacity);
+    // 이분 탐색이라 OOM 은 log2(max-size) 번 안쪽
+    assertThat(ooms).isLessThanOrEqualTo(6);
+  }
+
+  @Test
+  void halvesAfterOomUntilFirstSuccess() {
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    BatchSizeBounds bounds = BatchSizeBounds.EMPTY;
+
+    assertThat(bounds.next(LIMITS, now)).isEqualTo(16);
+    bounds = bounds.failedWithOom(16, LIMITS, now);
+    assertThat(bounds.next(LIMITS, now)).isEqualTo(8);
+    bounds = bounds.failedWithOom(8, LIMITS, now);
+    assertThat(bounds.next(LIMITS, now)).isEqualTo(4);
+
+    // 성공하면 성공 값과 OOM 값 사이를 시도
+    bounds = bounds.succeeded(4, LIMITS, now);
+    assertThat(bounds.safe(LIMITS, now)).isEqualTo(4);
+    assertThat(bounds.next(LIMITS, now)).isEqualTo(6);
+  }
+
+  @Test
+  void oomOnConfirmedSizeRestartsSearchBelowIt() {
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    BatchSizeBounds bounds =
+        BatchSizeBounds.EMPTY.succeeded(32, LIMITS, now).failedWithOom(33, LIMITS, now);
+    assertThat(bounds.next(LIMITS, now)).isEqualTo(32);
+
+    // 같은 GPU 에 다른 작업이 올라와 확인된 값에서도 OOM
+    bounds = bounds.failedWithOom(32, LIMITS, now);
+    assertThat(bounds.largestSuccess()).isZero();
+    assertThat(bounds.next(LIMITS, now)).isEqualTo(16);
+  }
+
+  @Test
+  void forgetsOomAfterTtl() {
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    BatchSizeBounds bounds =
+        BatchSizeBounds.EMPTY.succeeded(24, LIMITS, now).failedWithOom(25, LIMITS, now);
+    assertThat(bounds.next(LIMITS, now)).isEqualTo(24);
+
+    Instant later = now.plus(Duration.ofHours(25));
+    assertThat(bounds.next(LIMITS, later)).isEqualTo(44);
+  }
+}
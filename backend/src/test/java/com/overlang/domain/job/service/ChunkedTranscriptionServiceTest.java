@@ -0,0 +1,104 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.domain.job.client.AiServiceClient;
+import com.overlang.domain.job.client.AiServiceClient.TaskStatus;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobChunk;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.BatchSizeStatRepository;
+import com.overlang.domain.job.repository.JobChunkRepository;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.SourceType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// GPU OOM 구간은 작업을 실패시키지 않고 다시 대기열로 가고, 최소 batch_size 에서도 나면 작업이 실패하는지 확인
+class ChunkedTranscriptionServiceTest {
+
+  private final JobChunkRepository jobChunkRepository = mock(JobChunkRepository.class);
+  private final BatchSizeStatRepository batchSizeStatRepository =
+      mock(BatchSizeStatRepository.class);
+
+  private ChunkedTranscriptionService service;
+  private Job job;
+
+  @BeforeEach
+  void setUp() {
+    BatchSizeAdvisor advisor =
+        new BatchSizeAdvisor(
+            batchSizeStatRepository, new SimpleMeterRegistry(), "large-v3", 16, 1, 64, 24);
+    service =
+        new ChunkedTranscriptionService(
+            jobChunkRepository, advisor, new ObjectMapper(), 1800, 600, 10);
+    Member member = new Member("a@overlang.com", "a", "uid");
+    Project project =
+        new Project(member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4");
+    job = new Job(project, JobType.FULL_ANALYSIS, "en", "ko", null, false, null);
+    ReflectionTestUtils.setField(job, "id", 1L);
+    job.markDispatched(null);
+  }
+
+  @Test
+  void gpuOomRequeuesChunkWithoutFailingJob() {
+    JobChunk oom = submitted(10L, 0, 16);
+    JobChunk other = submitted(11L, 1, 16);
+    when(jobChunkRepository.findByJobIdOrderByChunkIndexAsc(1L)).thenReturn(List.of(oom, other));
+
+    assertThat(service.apply(10L, "task-10", oom())).contains(1L);
+
+    assertThat(oom.getStatus()).isEqualTo(JobStatus.PENDING);
+    assertThat(oom.getAiTaskId()).isNull();
+    // 처리한 시간은 다시 처리해도 사용량에 남음
+    assertThat(oom.getWorkerSeconds()).isEqualTo(12.0);
+    // 10분 구간 -> 길이 구간 16
+    verify(batchSizeStatRepository)
+        .upsert(eq("large-v3"), eq("A100 40GB"), eq(16), eq(0), eq(16), any());
+    assertThat(service.aggregate(1L).orElseThrow().status()).isEqualTo(JobStatus.RUNNING);
+  }
+
+  @Test
+  void gpuOomAtMinimumBatchSizeFailsJob() {
+    JobChunk oom = submitted(10L, 0, 1);
+    JobChunk pending = new JobChunk(job, 1, 595.0, 1200.0);
+    when(jobChunkRepository.findByJobIdOrderByChunkIndexAsc(1L))
+        .thenReturn(List.of(oom, pending));
+
+    service.apply(10L, "task-10", oom());
+
+    assertThat(oom.getStatus()).isEqualTo(JobStatus.FAILED);
+    assertThat(oom.getErrorCode()).isEqualTo(AiServiceClient.GPU_OOM);
+    ChunkedTranscriptionService.ChunkedOutcome outcome = service.aggregate(1L).orElseThrow();
+    assertThat(outcome.status()).isEqualTo(JobStatus.FAILED);
+    assertThat(outcome.failedChunk()).isSameAs(oom);
+    // 아직 보내지 않은 구간은 취소
+    assertThat(pending.getStatus()).isEqualTo(JobStatus.FAILED);
+  }
+
+  private JobChunk submitted(Long id, int index, int batchSize) {
+    JobChunk chunk = new JobChunk(job, index, index * 600.0, (index + 1) * 600.0);
+    ReflectionTestUtils.setField(chunk, "id", id);
+    chunk.markDispatched(batchSize);
+    chunk.assignAiTask("task-" + id);
+    when(jobChunkRepository.findById(id)).thenReturn(Optional.of(chunk));
+    return chunk;
+  }
+
+  private static TaskStatus oom() {
+    return new TaskStatus(
+        "task", "FAILURE", null, null, AiServiceClient.GPU_OOM, "oom", "A100 40GB", 12.0);
+  }
+}
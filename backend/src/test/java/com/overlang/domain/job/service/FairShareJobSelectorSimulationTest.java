@@ -0,0 +1,122 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.overlang.domain.job.entity.JobType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+// 혼합 부하에서 FIFO 와 공정 분배의 회원별 p95 대기 시간 비교 (시뮬레이션 벤치마크)
+class FairShareJobSelectorSimulationTest {
+
+  private static final int WORKERS = 4;
+  private static final long HEAVY_MEMBER = 1L;
+
+  private final JobCostEstimator estimator = new JobCostEstimator();
+
+  record Arrival(long jobId, long memberId, JobType type, double mediaSeconds, long atSecond) {}
+
+  @Test
+  void fairShareKeepsLightMembersWaitLowUnderHeavyBacklog() {
+    List<Arrival> workload = workload();
+
+    Map<Long, List<Long>> fifo = simulate(workload, false);
+    Map<Long, List<Long>> fair = simulate(workload, true);
+
+    for (Long member : fifo.keySet()) {
+      System.out.printf(
+          "member %d: jobs=%d, p95 wait FIFO=%ds, fair share=%ds%n",
+          member, fifo.get(member).size(), p95(fifo.get(member)), p95(fair.get(member)));
+    }
+    for (Long member : fifo.keySet()) {
+      if (member != HEAVY_MEMBER) {
+        assertThat(p95(fair.get(member))).isLessThan(p95(fifo.get(member)) / 4);
+      }
+    }
+    // 대량 제출 회원도 굶지 않고 모두 처리됨
+    assertThat(fair.get(HEAVY_MEMBER)).hasSize(50);
+  }
+
+  // 회원 1: 시작 시 10분 영상 FULL_ANALYSIS 50개
+  // 회원 2~6: 5분마다 짧은 STT_ONLY(3분 영상), 일반 FULL_ANALYSIS(10분 영상),
+  // 지연 민감 TRANSLATION_ONLY(10분 영상) 를 돌아가며 제출
+  private List<Arrival> workload() {
+    List<Arrival> arrivals = new ArrayList<>();
+    long jobId = 1;
+    for (int i = 0; i < 50; i++) {
+      arrivals.add(new Arrival(jobId++, HEAVY_MEMBER, JobType.FULL_ANALYSIS, 600, 0));
+    }
+    for (long member = 2; member <= 6; member++) {
+      for (long t = 30 * member; t < 3600; t += 300) {
+        Arrival arrival =
+            switch ((int) ((t / 300) % 3)) {
+              case 0 -> new Arrival(jobId++, member, JobType.STT_ONLY, 180, t);
+              case 1 -> new Arrival(jobId++, member, JobType.FULL_ANALYSIS, 600, t);
+              default -> new Arrival(jobId++, member, JobType.TRANSLATION_ONLY, 600, t);
+            };
+        arrivals.add(arrival);
+      }
+    }
+    arrivals.sort(Comparator.comparingLong(Arrival::atSecond));
+    return arrivals;
+  }
+
+  // 1초 단위 이산 시뮬레이션, 반환값은 회원별 대기 시간(초) 목록
+  private Map<Long, List<Long>> simulate(List<Arrival> workload, boolean fairShare) {
+    FairShareJobSelector selector = new FairShareJobSelector(30, 0.5, 0.25);
+    Map<Long, List<Long>> waits = new TreeMap<>();
+    List<Arrival> queue = new ArrayList<>();
+    PriorityQueue<Long> busyUntil = new PriorityQueue<>();
+    int next = 0;
+    int done = 0;
+
+    for (long t = 0; done < workload.size(); t++) {
+      while (!busyUntil.isEmpty() && busyUntil.peek() <= t) {
+        busyUntil.poll();
+      }
+      while (next < workload.size() && workload.get(next).atSecond() <= t) {
+        queue.add(workload.get(next++));
+      }
+
+      while (busyUntil.size() < WORKERS && !queue.isEmpty()) {
+        Arrival picked = fairShare ? pickFair(selector, queue, t) : queue.get(0);
+        queue.remove(picked);
+        double cost = estimator.estimateGpuSeconds(picked.type(), picked.mediaSeconds());
+        if (fairShare) {
+          selector.charge(picked.memberId(), cost, t * 1000);
+        }
+        busyUntil.add(t + (long) Math.ceil(cost));
+        waits.computeIfAbsent(picked.memberId(), m -> new ArrayList<>()).add(t - picked.atSecond());
+        done++;
+      }
+    }
+    return waits;
+  }
+
+  private Arrival pickFair(FairShareJobSelector selector, List<Arrival> queue, long t) {
+    List<FairShareJobSelector.Candidate> candidates =
+        queue.stream()
+            .map(
+                a ->
+                    new FairShareJobSelector.Candidate(
+                        a.jobId(),
+                        a.memberId(),
+                        estimator.estimateGpuSeconds(a.type(), a.mediaSeconds()),
+                        estimator.isLatencySensitive(a.type()),
+                        a.atSecond() * 1000))
+            .toList();
+    long jobId = selector.select(candidates, t * 1000).orElseThrow().jobId();
+    return queue.stream().filter(a -> a.jobId() == jobId).findFirst().orElseThrow();
+  }
+
+  private long p95(List<Long> values) {
+    List<Long> sorted = values.stream().sorted().toList();
+    int index = (int) Math.ceil(sorted.size() * 0.95) - 1;
+    return sorted.get(Math.max(0, index));
+  }
+}
@@ -0,0 +1,141 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobCheckpoint;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.JobCheckpointRepository;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.WordTimelineBlobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// STT 체크포인트가 유효하면 같은 워커 작업에 포함된 정렬 단계와 처리기가 없는 OCR 단계를 건너뛰고 재시작
+// (여러 언어 작업은 번역부터, 번역 단계가 따로 없는 한 언어 작업은 LLM 분석부터)
+class JobCheckpointServiceTest {
+
+  private final JobCheckpointRepository jobCheckpointRepository =
+      mock(JobCheckpointRepository.class);
+  private final JobLanguageRepository jobLanguageRepository = mock(JobLanguageRepository.class);
+  private final SegmentRepository segmentRepository = mock(SegmentRepository.class);
+  private final JobCheckpointService service =
+      new JobCheckpointService(
+          jobCheckpointRepository,
+          jobLanguageRepository,
+          segmentRepository,
+          mock(WordTimelineBlobRepository.class),
+          mock(LearningContentRepository.class),
+          new SimpleMeterRegistry());
+
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    Member member = new Member("a@overlang.com", "a", "uid");
+    project = new Project(member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4");
+  }
+
+  @Test
+  void resumesFromTranslationWhenSttCheckpointIsValid() {
+    Job original = job(1L, JobType.FULL_ANALYSIS);
+    when(jobLanguageRepository.existsByJobId(1L)).thenReturn(true);
+    recordSttCheckpoint(original, 120.0);
+
+    JobCheckpointService.RetryPlan plan = service.plan(original);
+
+    assertThat(plan.resumeStage()).isEqualTo(CurrentStage.TRANSLATION);
+    assertThat(plan.reusedStages()).containsExactly(CurrentStage.STT_TRANSCRIPTION);
+    assertThat(plan.savedGpuSeconds()).isEqualTo(120.0);
+    assertThat(JobPipeline.isGpuStage(plan.resumeStage())).isFalse();
+  }
+
+  @Test
+  void singleLanguageRetryResumesFromLlmAnalysisInsteadOfTranslation() {
+    Job original = job(1L, JobType.FULL_ANALYSIS);
+    recordSttCheckpoint(original, 120.0);
+
+    JobCheckpointService.RetryPlan plan = service.plan(original);
+
+    // 한 언어 작업은 번역 체크포인트를 남기지 않으므로 번역에서 멈추면 처리기 없이 RUNNING 에 남음
+    assertThat(plan.resumeStage()).isEqualTo(CurrentStage.LLM_ANALYSIS);
+    assertThat(plan.reusedStages()).containsExactly(CurrentStage.STT_TRANSCRIPTION);
+  }
+
+  @Test
+  void sttOnlyRetryWithValidCheckpointOnlyFinalizes() {
+    Job original = job(1L, JobType.STT_ONLY);
+    recordSttCheckpoint(original, 60.0);
+
+    assertThat(service.plan(original).resumeStage()).isEqualTo(CurrentStage.FINALIZING);
+  }
+
+  @Test
+  void restartsFromFirstStageWhenSegmentsChangedAfterCheckpoint() {
+    Job original = job(1L, JobType.FULL_ANALYSIS);
+    recordSttCheckpoint(original, 120.0);
+    when(segmentRepository.findByJobIdOrderBySeqAsc(1L))
+        .thenReturn(List.of(segment(original, 1, "edited")));
+
+    JobCheckpointService.RetryPlan plan = service.plan(original);
+
+    assertThat(plan.resumeStage()).isEqualTo(CurrentStage.AUDIO_EXTRACTION);
+    assertThat(plan.reusedStages()).isEmpty();
+    assertThat(plan.savedGpuSeconds()).isZero();
+  }
+
+  @Test
+  void prepareRetryCopiesTranscriptAndSetsResumeStage() {
+    Job original = job(1L, JobType.FULL_ANALYSIS);
+    recordSttCheckpoint(original, 120.0);
+    when(jobLanguageRepository.existsByJobId(1L)).thenReturn(true);
+    Job retry = job(2L, JobType.RETRY);
+
+    service.prepareRetry(retry, original);
+
+    verify(segmentRepository).copyToJob(eq(1L), eq(2L), anyBoolean());
+    verify(segmentRepository).copyWordsToJob(1L, 2L);
+    assertThat(retry.getResumeStage()).isEqualTo(CurrentStage.TRANSLATION);
+    assertThat(retry.getSavedGpuSeconds()).isEqualTo(120.0);
+  }
+
+  private void recordSttCheckpoint(Job original, double gpuSeconds) {
+    when(segmentRepository.findByJobIdOrderBySeqAsc(original.getId()))
+        .thenReturn(List.of(segment(original, 1, "hello"), segment(original, 2, "world")));
+    when(jobCheckpointRepository.findByJobIdAndStage(any(), any())).thenReturn(Optional.empty());
+    service.record(original, CurrentStage.STT_TRANSCRIPTION, gpuSeconds);
+
+    ArgumentCaptor<JobCheckpoint> saved = ArgumentCaptor.forClass(JobCheckpoint.class);
+    verify(jobCheckpointRepository).save(saved.capture());
+    when(jobCheckpointRepository.findByJobId(original.getId()))
+        .thenReturn(List.of(saved.getValue()));
+  }
+
+  private Job job(Long id, JobType type) {
+    Job job = new Job(project, type, "en", "ko", null, false, null);
+    ReflectionTestUtils.setField(job, "id", id);
+    return job;
+  }
+
+  private Segment segment(Job job, int seq, String text) {
+    return new Segment(job, seq * 2.0, seq * 2.0 + 1.5, seq, text, null, "en");
+  }
+}
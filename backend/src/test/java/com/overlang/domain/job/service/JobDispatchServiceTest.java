@@ -0,0 +1,161 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.overlang.domain.file.storage.StorageService;
+import com.overlang.domain.job.client.AiServiceClient;
+import com.overlang.domain.job.client.AiServiceClient.TaskStatus;
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.BatchSizeStatRepository;
+import com.overlang.domain.job.repository.JobChunkRepository;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.ProjectStatus;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.segment.service.SegmentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 선점과 워커 결과 반영 시 상태 전이 확인 (AI 서버와 DB 는 mock)
+class JobDispatchServiceTest {
+
+  private final JobRepository jobRepository = mock(JobRepository.class);
+  private final JobChunkRepository jobChunkRepository = mock(JobChunkRepository.class);
+  private final AiServiceClient aiServiceClient = mock(AiServiceClient.class);
+  private final SegmentService segmentService = mock(SegmentService.class);
+  private final JobCheckpointService jobCheckpointService = mock(JobCheckpointService.class);
+  private final BatchSizeStatRepository batchSizeStatRepository =
+      mock(BatchSizeStatRepository.class);
+
+  private JobDispatchService service;
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new JobDispatchService(
+            jobRepository,
+            jobChunkRepository,
+            mock(JobLanguageRepository.class),
+            aiServiceClient,
+            mock(FairShareJobSelector.class),
+            mock(ModelAffinityPolicy.class),
+            new BatchSizeAdvisor(
+                batchSizeStatRepository, new SimpleMeterRegistry(), "large-v3", 16, 1, 64, 24),
+            new JobCostEstimator(),
+            jobCheckpointService,
+            mock(ChunkedTranscriptionService.class),
+            segmentService,
+            mock(StorageService.class),
+            mock(JobProgressCoalescer.class),
+            4,
+            "large-v3",
+            true);
+    Member member = new Member("a@overlang.com", "a", "uid");
+    ReflectionTestUtils.setField(member, "id", 1L);
+    project = new Project(member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4");
+    when(jobChunkRepository.lockPending(anyInt())).thenReturn(List.of());
+  }
+
+  @Test
+  void retryWithValidSttCheckpointSkipsWorkerAndKeepsCopiedSegments() {
+    Job original = job(1L, JobType.FULL_ANALYSIS);
+    Job retry = job(2L, JobType.RETRY);
+    // 한 언어 작업의 JobCheckpointService.plan 결과: STT 재사용, LLM 분석부터
+    retry.resumeFrom(original, CurrentStage.LLM_ANALYSIS, 120.0);
+    when(jobRepository.lockPending()).thenReturn(List.of(retry));
+
+    List<JobDispatchService.Submission> submissions = service.claim();
+
+    assertThat(submissions).isEmpty();
+    assertThat(retry.getStatus()).isEqualTo(JobStatus.RUNNING);
+    assertThat(retry.getCurrentStage()).isEqualTo(CurrentStage.LLM_ANALYSIS);
+    assertThat(retry.getAiTaskId()).isNull();
+    // 워커로 보내지 않으므로 STT 결과 저장(복사한 구간 위에 다시 쓰기)도 없음
+    verifyNoInteractions(aiServiceClient, segmentService, jobCheckpointService);
+  }
+
+  @Test
+  void singleLanguageRetryFromTranslationMovesOnToLlmAnalysis() {
+    // 원본만 여러 언어였던 재시도: 번역 처리기(언어별)가 없으므로 다음 단계로
+    Job retry = job(2L, JobType.RETRY);
+    retry.resumeFrom(job(1L, JobType.FULL_ANALYSIS), CurrentStage.TRANSLATION, 120.0);
+    when(jobRepository.lockPending()).thenReturn(List.of(retry));
+
+    service.claim();
+
+    assertThat(retry.getStatus()).isEqualTo(JobStatus.RUNNING);
+    assertThat(retry.getCurrentStage()).isEqualTo(CurrentStage.LLM_ANALYSIS);
+  }
+
+  @Test
+  void jobWithoutSttStageIsRejectedInsteadOfSentToWhisper() {
+    Job translationOnly = job(5L, JobType.TRANSLATION_ONLY);
+    when(jobRepository.lockPending()).thenReturn(List.of(translationOnly));
+
+    List<JobDispatchService.Submission> submissions = service.claim();
+
+    assertThat(submissions).isEmpty();
+    assertThat(translationOnly.getStatus()).isEqualTo(JobStatus.FAILED);
+    assertThat(translationOnly.getErrorCode()).isEqualTo(JobDispatchService.UNSUPPORTED_JOB_TYPE);
+    assertThat(project.getStatus()).isEqualTo(ProjectStatus.FAILED);
+    verifyNoInteractions(aiServiceClient, segmentService);
+  }
+
+  @Test
+  void gpuOomRequeuesJobWithSmallerBatchSizeUntilMinimum() {
+    Job job = submitted(3L, 16);
+    service.apply(3L, "task-3", oom());
+
+    // 실패 대신 대기열로 (다음 디스패치에서 16 아래 값을 고름)
+    assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+    assertThat(job.getAiTaskId()).isNull();
+    assertThat(job.getErrorCode()).isNull();
+    assertThat(project.getStatus()).isNotEqualTo(ProjectStatus.FAILED);
+    verify(batchSizeStatRepository)
+        .upsert(eq("large-v3"), eq("A100 40GB"), eq(0), eq(0), eq(16), any());
+
+    // 최소 크기에서도 OOM 이면 작업 실패
+    Job smallest = submitted(4L, 1);
+    service.apply(4L, "task-4", oom());
+
+    assertThat(smallest.getStatus()).isEqualTo(JobStatus.FAILED);
+    assertThat(smallest.getErrorCode()).isEqualTo(AiServiceClient.GPU_OOM);
+    assertThat(project.getStatus()).isEqualTo(ProjectStatus.FAILED);
+  }
+
+  private Job submitted(Long id, int batchSize) {
+    Job job = job(id, JobType.FULL_ANALYSIS);
+    job.markDispatched(batchSize);
+    job.assignAiTask("task-" + id);
+    when(jobRepository.findById(id)).thenReturn(Optional.of(job));
+    return job;
+  }
+
+  private static TaskStatus oom() {
+    return new TaskStatus(
+        "task", "FAILURE", null, null, AiServiceClient.GPU_OOM, "oom", "A100 40GB", 12.0);
+  }
+
+  private Job job(Long id, JobType type) {
+    Job job = new Job(project, type, "en", "ko", null, false, null);
+    ReflectionTestUtils.setField(job, "id", id);
+    return job;
+  }
+}
@@ -0,0 +1,66 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 작업별 초당 여러 번 들어오는 진행률 보고가 주기당 한 번의 배치 UPDATE 로 줄어드는지 확인
+class JobProgressCoalescerTest {
+
+  @Test
+  void coalescesReportsIntoOneBatchPerFlush() {
+    RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+    JobProgressCoalescer coalescer = new JobProgressCoalescer(jdbc, new SimpleMeterRegistry());
+
+    // 작업 50개, 작업당 초당 10번 보고, 60초, 1초마다 반영
+    int jobs = 50;
+    int reports = 0;
+    for (int second = 0; second < 60; second++) {
+      for (int tick = 0; tick < 10; tick++) {
+        for (long jobId = 1; jobId <= jobs; jobId++) {
+          int progress = 20 + (second * 10 + tick) / 10;
+          coalescer.report(jobId, CurrentStage.STT_TRANSCRIPTION, progress);
+          reports++;
+        }
+      }
+      coalescer.flush();
+    }
+
+    // 한 작업의 진행률은 1초에 1 씩 바뀌므로 작업당 초당 최대 1행
+    assertThat(jdbc.batches).isEqualTo(60);
+    assertThat((long) jdbc.rows).isLessThan(reports / 9);
+  }
+
+  @Test
+  void discardDropsPendingProgress() {
+    RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+    JobProgressCoalescer coalescer = new JobProgressCoalescer(jdbc, new SimpleMeterRegistry());
+
+    coalescer.report(1L, CurrentStage.MERGING_RESULTS, 90);
+    assertThat(coalescer.pending(1L)).isPresent();
+    coalescer.discard(1L);
+    coalescer.flush();
+
+    assertThat(coalescer.pending(1L)).isEmpty();
+    assertThat(jdbc.batches).isEqualTo(0);
+  }
+
+  private static class RecordingJdbcTemplate extends JdbcTemplate {
+    int batches;
+    int rows;
+
+    @Override
+    public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+      batches++;
+      rows += batchArgs.size();
+      int[] counts = new int[batchArgs.size()];
+      Arrays.fill(counts, 1);
+      return counts;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.overlang.domain.job.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.job.service.LanguageFanOutService.Claimed;
+import com.overlang.domain.job.service.LanguageFanOutService.FanOutInput;
+import com.overlang.domain.learning.service.LearningContentGenerator;
+import com.overlang.domain.segment.service.SegmentTranslator;
+import com.overlang.global.tracing.JobTracing;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+// 한 언어의 LLM 실패가 다른 언어 결과 저장과 작업 완료 판정을 막지 않는지 확인
+class LanguageFanOutRunnerTest {
+
+  private final JobRepository jobRepository = mock(JobRepository.class);
+  private final LanguageFanOutService languageFanOutService = mock(LanguageFanOutService.class);
+  private final SegmentTranslator segmentTranslator = mock(SegmentTranslator.class);
+  private final LanguageFanOutRunner runner =
+      new LanguageFanOutRunner(
+          jobRepository,
+          languageFanOutService,
+          segmentTranslator,
+          mock(LearningContentGenerator.class),
+          new JobTracing(ObservationRegistry.NOOP));
+
+  @Test
+  void failedLanguageDoesNotBlockOthers() {
+    Claimed ko = new Claimed(10L, "ko", true);
+    Claimed ja = new Claimed(11L, "ja", false);
+    FanOutInput input =
+        new FanOutInput(
+            List.of(new SegmentTranslator.Line(1, "hello", null, true)), List.of(), "en", false);
+    when(jobRepository.findIdsAwaitingBackendStage(JobStatus.RUNNING, CurrentStage.TRANSLATION))
+        .thenReturn(List.of(1L));
+    when(languageFanOutService.claim(1L)).thenReturn(List.of(ko, ja));
+    when(languageFanOutService.load(1L)).thenReturn(input);
+    when(segmentTranslator.translate(any(), eq("en"), eq("ko"))).thenReturn(Map.of(1, "안녕"));
+    when(segmentTranslator.translate(any(), eq("en"), eq("ja")))
+        .thenThrow(new IllegalStateException("rate limited"));
+
+    runner.runPending();
+
+    verify(languageFanOutService).saveTranslations(eq(1L), eq(ko), eq(Map.of(1, "안녕")), eq(false));
+    verify(languageFanOutService, never()).saveTranslations(eq(1L), eq(ja), any(), anyBoolean());
+    verify(languageFanOutService).fail(ja, "rate limited");
+    verify(languageFanOutService).finish(1L);
+  }
+}
@@ -0,0 +1,153 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.domain.job.entity.CurrentStage;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobLanguage;
+import com.overlang.domain.job.entity.JobStatus;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.learning.service.LearningAnalysisService;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.ProjectStatus;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.SegmentTranslationRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 언어별 선점/결과 저장과, 일부 언어만 실패했을 때의 작업 완료 판정
+class LanguageFanOutServiceTest {
+
+  private final JobRepository jobRepository = mock(JobRepository.class);
+  private final JobLanguageRepository jobLanguageRepository = mock(JobLanguageRepository.class);
+  private final SegmentRepository segmentRepository = mock(SegmentRepository.class);
+  private final SegmentTranslationRepository segmentTranslationRepository =
+      mock(SegmentTranslationRepository.class);
+  private final JobCheckpointService jobCheckpointService = mock(JobCheckpointService.class);
+  private final LanguageFanOutService service =
+      new LanguageFanOutService(
+          jobRepository,
+          jobLanguageRepository,
+          segmentRepository,
+          segmentTranslationRepository,
+          mock(LearningAnalysisService.class),
+          jobCheckpointService);
+
+  private Job job;
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    Member member = new Member("a@overlang.com", "a", "uid");
+    project = new Project(member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4");
+    job = new Job(project, JobType.FULL_ANALYSIS, "en", "ko", null, false, null);
+    ReflectionTestUtils.setField(job, "id", 1L);
+    job.handOff(CurrentStage.TRANSLATION, 90);
+    when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+  }
+
+  @Test
+  void claimMarksLanguagesRunningAndFlagsPrimary() {
+    JobLanguage ko = language(10L, "ko");
+    JobLanguage ja = language(11L, "ja");
+    when(jobLanguageRepository.lockClaimable(any(), any())).thenReturn(List.of(ko, ja));
+
+    List<LanguageFanOutService.Claimed> claimed = service.claim(1L);
+
+    assertThat(claimed)
+        .containsExactly(
+            new LanguageFanOutService.Claimed(10L, "ko", true),
+            new LanguageFanOutService.Claimed(11L, "ja", false));
+    assertThat(ko.getStatus()).isEqualTo(JobStatus.RUNNING);
+    assertThat(ja.getStatus()).isEqualTo(JobStatus.RUNNING);
+  }
+
+  @Test
+  void extraLanguageTranslationsReplaceOnlyThatLanguage() {
+    JobLanguage ja = language(11L, "ja");
+    when(jobLanguageRepository.findById(11L)).thenReturn(Optional.of(ja));
+
+    service.saveTranslations(
+        1L, new LanguageFanOutService.Claimed(11L, "ja", false), Map.of(1, "こんにちは"), false);
+
+    verify(segmentTranslationRepository).deleteByJobIdAndLanguage(1L, "ja");
+    verify(segmentTranslationRepository).saveAll(anyList());
+    verify(segmentRepository, never()).findByJobIdOrderBySeqAsc(any());
+    verify(jobCheckpointService, never()).record(any(), any(), anyDouble());
+    assertThat(ja.getStatus()).isEqualTo(JobStatus.COMPLETED);
+  }
+
+  @Test
+  void partialFailureStillCompletesJob() {
+    JobLanguage ko = language(10L, "ko");
+    JobLanguage ja = language(11L, "ja");
+    ko.markCompleted();
+    ja.markFailed(LanguageFanOutService.TRANSLATION_ERROR_CODE, "rate limited");
+    when(jobLanguageRepository.findByJobIdOrderByIdAsc(1L)).thenReturn(List.of(ko, ja));
+
+    service.finish(1L);
+
+    assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(project.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
+  }
+
+  @Test
+  void allLanguagesFailedFailsJob() {
+    JobLanguage ko = language(10L, "ko");
+    JobLanguage ja = language(11L, "ja");
+    ko.markFailed(LanguageFanOutService.TRANSLATION_ERROR_CODE, "timeout");
+    ja.markFailed(LanguageFanOutService.TRANSLATION_ERROR_CODE, "rate limited");
+    when(jobLanguageRepository.findByJobIdOrderByIdAsc(1L)).thenReturn(List.of(ko, ja));
+
+    service.finish(1L);
+
+    assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+    assertThat(job.getErrorMessage()).isEqualTo("timeout");
+    assertThat(project.getStatus()).isEqualTo(ProjectStatus.FAILED);
+  }
+
+  @Test
+  void unfinishedLanguagesKeepJobRunningWithProgress() {
+    JobLanguage ko = language(10L, "ko");
+    JobLanguage ja = language(11L, "ja");
+    ko.markCompleted();
+    ja.markRunning(CurrentStage.TRANSLATION, 0);
+    when(jobLanguageRepository.findByJobIdOrderByIdAsc(1L)).thenReturn(List.of(ko, ja));
+
+    service.finish(1L);
+
+    assertThat(job.getStatus()).isEqualTo(JobStatus.RUNNING);
+    assertThat(job.getProgress()).isEqualTo(95);
+  }
+
+  @Test
+  void noLanguagesFailsJobInsteadOfThrowing() {
+    when(jobLanguageRepository.findByJobIdOrderByIdAsc(1L)).thenReturn(List.of());
+
+    service.finish(1L);
+
+    assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+    assertThat(job.getErrorMessage()).isEqualTo("번역할 언어가 없습니다.");
+  }
+
+  private JobLanguage language(Long id, String code) {
+    JobLanguage language = new JobLanguage(job, code);
+    ReflectionTestUtils.setField(language, "id", id);
+    return language;
+  }
+}
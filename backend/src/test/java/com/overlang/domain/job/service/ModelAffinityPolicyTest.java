@@ -0,0 +1,111 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.overlang.domain.job.service.ModelAffinityPolicy.AffinityKey;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// 올라가 있는 모델 기준으로 후보를 좁히는 순서, 오래 기다린 작업 우선, 교체/준비 지연 기록 확인
+class ModelAffinityPolicyTest {
+
+  private static final AffinityKey LARGE_EN = new AffinityKey("large-v3", "en", 16);
+  private static final AffinityKey LARGE_EN_SMALL_BATCH = new AffinityKey("large-v3", "en", 8);
+  private static final AffinityKey TURBO_KO = new AffinityKey("large-v3-turbo", "ko", 16);
+
+  private record Candidate(long jobId, AffinityKey key, long enqueuedAtMillis) {}
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ModelAffinityPolicy policy;
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    // 워커 슬롯 2, 5분 넘게 기다리면 모델과 상관없이 먼저
+    policy = new ModelAffinityPolicy(meterRegistry, 2, 300);
+    now = System.currentTimeMillis();
+  }
+
+  @Test
+  void prefersExactKeyThenSameModelThenAll() {
+    Candidate exact = new Candidate(1L, LARGE_EN, now);
+    Candidate sameModel = new Candidate(2L, LARGE_EN_SMALL_BATCH, now);
+    Candidate other = new Candidate(3L, TURBO_KO, now);
+    // 아무것도 올라가 있지 않으면 전체
+    assertThat(narrow(exact, sameModel, other)).containsExactly(exact, sameModel, other);
+
+    policy.onDispatched(10L, LARGE_EN, now);
+
+    assertThat(narrow(exact, sameModel, other)).containsExactly(exact);
+    assertThat(narrow(sameModel, other)).containsExactly(sameModel);
+    assertThat(narrow(other)).containsExactly(other);
+  }
+
+  @Test
+  void starvingCandidatesGoFirstRegardlessOfModel() {
+    policy.onDispatched(10L, LARGE_EN, now);
+    Candidate loaded = new Candidate(1L, LARGE_EN, now);
+    Candidate waited = new Candidate(2L, TURBO_KO, now - Duration.ofSeconds(299).toMillis());
+    Candidate starving = new Candidate(3L, TURBO_KO, now - Duration.ofSeconds(300).toMillis());
+
+    assertThat(narrow(loaded, waited)).containsExactly(loaded);
+    assertThat(narrow(loaded, waited, starving)).containsExactly(starving);
+  }
+
+  @Test
+  void remembersOnlyAsManyKeysAsWorkerSlots() {
+    policy.onDispatched(10L, LARGE_EN, now);
+    policy.onDispatched(11L, TURBO_KO, now);
+    policy.onDispatched(12L, new AffinityKey("medium", "ja", 16), now);
+
+    // 가장 오래된 large-v3 는 다른 모델로 밀려 내려간 것으로 봄
+    Candidate large = new Candidate(1L, LARGE_EN, now);
+    Candidate turbo = new Candidate(2L, TURBO_KO, now);
+    assertThat(narrow(large, turbo)).containsExactly(turbo);
+  }
+
+  @Test
+  void recordsSwapsAndModelReadyDelayBySwap() {
+    // 첫 디스패치는 교체가 아님
+    policy.onDispatched(10L, LARGE_EN, now);
+    policy.onDispatched(11L, LARGE_EN_SMALL_BATCH, now);
+    policy.onDispatched(12L, TURBO_KO, now);
+
+    assertThat(policy.swapsInLastHour()).isEqualTo(1);
+    assertThat(meterRegistry.counter("overlang.job.model.swaps", "model", "large-v3-turbo").count())
+        .isEqualTo(1.0);
+
+    policy.onModelReady(10L, Duration.ofSeconds(2));
+    policy.onModelReady(12L, Duration.ofSeconds(40));
+    // 같은 작업의 두 번째 보고는 무시
+    policy.onModelReady(12L, Duration.ofSeconds(50));
+
+    assertThat(readyDelay("false").count()).isEqualTo(1);
+    assertThat(readyDelay("true").count()).isEqualTo(1);
+    assertThat(readyDelay("true").totalTime(TimeUnit.SECONDS))
+        .isEqualTo(40.0);
+  }
+
+  @Test
+  void forgottenJobsRecordNoModelReadyDelay() {
+    policy.onDispatched(10L, LARGE_EN, now);
+    policy.forget(10L);
+
+    policy.onModelReady(10L, Duration.ofSeconds(2));
+
+    assertThat(meterRegistry.find("overlang.job.model.ready.delay").timer()).isNull();
+  }
+
+  private List<Candidate> narrow(Candidate... candidates) {
+    return policy.narrow(List.of(candidates), Candidate::key, Candidate::enqueuedAtMillis, now);
+  }
+
+  private Timer readyDelay(String swap) {
+    return meterRegistry.get("overlang.job.model.ready.delay").tag("swap", swap).timer();
+  }
+}
@@ -0,0 +1,79 @@
+package com.overlang.domain.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.overlang.domain.job.client.AiServiceClient.TranscriptSegment;
+import com.overlang.domain.job.client.AiServiceClient.TranscriptWord;
+import com.overlang.domain.job.service.TranscriptStitcher.ChunkTranscript;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// 겹치는 두 구간(0~65초, 55~120초, 경계 60초)의 결과 이어 붙이기
+class TranscriptStitcherTest {
+
+  @Test
+  void overlapWordsAreKeptOnceAroundCut() {
+    ChunkTranscript first =
+        new ChunkTranscript(
+            0,
+            65,
+            List.of(
+                segment(word(1.0, 1.5, "Hello"), word(1.6, 2.0, "there")),
+                segment(
+                    word(57.0, 57.5, "this"),
+                    word(57.6, 58.0, "is"),
+                    word(59.5, 60.2, "long"), // 경계 앞 (중심 59.85)
+                    word(60.4, 61.0, "lecture"),
+                    word(62.0, 62.5, "today"))));
+    ChunkTranscript second =
+        new ChunkTranscript(
+            55,
+            120,
+            List.of(
+                segment(
+                    word(57.1, 57.5, "this"),
+                    word(57.6, 58.1, "is"),
+                    word(59.7, 60.3, "long"), // 같은 단어가 경계 뒤로 인식됨 (중심 60.0)
+                    word(60.4, 61.1, "lecture"),
+                    word(62.0, 62.4, "today")),
+                segment(word(70.0, 70.5, "Next"), word(70.6, 71.0, "topic"))));
+
+    List<TranscriptSegment> stitched = TranscriptStitcher.stitch(List.of(first, second));
+
+    assertThat(stitched.stream().map(TranscriptSegment::text).toList())
+        .containsExactly("Hello there", "this is long", "lecture today", "Next topic");
+    assertThat(stitched.get(2).startTime()).isEqualTo(60.4);
+  }
+
+  @Test
+  void segmentsWithoutWordsUseSegmentCenter() {
+    ChunkTranscript first =
+        new ChunkTranscript(
+            0, 65, List.of(plain(50.0, 58.0, "before cut"), plain(58.0, 64.0, "dropped")));
+    ChunkTranscript second =
+        new ChunkTranscript(
+            55, 120, List.of(plain(55.0, 58.0, "dropped"), plain(57.8, 64.0, "after cut")));
+
+    List<TranscriptSegment> stitched = TranscriptStitcher.stitch(List.of(second, first));
+
+    assertThat(stitched.stream().map(TranscriptSegment::text).toList())
+        .containsExactly("before cut", "after cut");
+    // 경계에서 앞 세그먼트와 겹치지 않도록 보정
+    assertThat(stitched.get(1).startTime()).isEqualTo(58.0);
+  }
+
+  private TranscriptSegment segment(TranscriptWord... words) {
+    List<TranscriptWord> list = List.of(words);
+    String text = String.join(" ", list.stream().map(TranscriptWord::word).toList());
+    return new TranscriptSegment(
+        list.get(0).startTime(), list.get(list.size() - 1).endTime(), text, list);
+  }
+
+  private TranscriptSegment plain(double start, double end, String text) {
+    return new TranscriptSegment(start, end, text, List.of());
+  }
+
+  private TranscriptWord word(double start, double end, String word) {
+    return new TranscriptWord(start, end, word);
+  }
+}
@@ -0,0 +1,96 @@
+package com.overlang.domain.learning.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.job.service.JobCheckpointService;
+import com.overlang.domain.learning.entity.LearningContent;
+import com.overlang.domain.learning.entity.LearningContentType;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import com.overlang.domain.learning.service.LearningAnalysisService.TimeRange;
+import com.overlang.domain.learning.service.LearningContentGenerator.GeneratedContent;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 자막 수정 후 수정 구간과 겹치는 학습 콘텐츠만 교체되는지 확인
+class LearningAnalysisServiceTest {
+
+  private final JobRepository jobRepository = mock(JobRepository.class);
+  private final LearningContentRepository learningContentRepository =
+      mock(LearningContentRepository.class);
+  private final LearningAnalysisService service =
+      new LearningAnalysisService(
+          jobRepository,
+          mock(SegmentRepository.class),
+          learningContentRepository,
+          mock(JobCheckpointService.class));
+
+  private Job job;
+
+  @BeforeEach
+  void setUp() {
+    Member member = new Member("a@overlang.com", "a", "uid");
+    Project project =
+        new Project(member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4");
+    job = new Job(project, JobType.FULL_ANALYSIS, "en", "ko", null, false, null);
+    ReflectionTestUtils.setField(job, "id", 1L);
+    when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void replacesOnlyOverlappingContents() {
+    LearningContent edited = content("alpha", 0.0, 5.0);
+    LearningContent untouched = content("beta", 10.0, 15.0);
+    when(learningContentRepository.findByJobIdAndLanguageIsNullOrderByIdAsc(1L))
+        .thenReturn(List.of(edited, untouched));
+
+    int inserted =
+        service.replaceOverlapping(
+            1L,
+            null,
+            List.of(new TimeRange(3.0, 4.0)),
+            List.of(
+                generated("gamma", 2.0, 4.0),
+                // 남아 있는 행과 같은 항목은 다시 넣지 않음
+                generated("Beta", 3.0, 4.0),
+                // 수정 구간 밖 결과는 기존 행을 유지
+                generated("delta", 20.0, 25.0)));
+
+    assertThat(inserted).isEqualTo(1);
+    verify(learningContentRepository).deleteAllInBatch(List.of(edited));
+    ArgumentCaptor<List<LearningContent>> saved = ArgumentCaptor.forClass(List.class);
+    verify(learningContentRepository).saveAll(saved.capture());
+    assertThat(saved.getValue()).extracting(LearningContent::getTitle).containsExactly("gamma");
+  }
+
+  @Test
+  void touchingRangeBoundaryCountsAsOverlap() {
+    TimeRange range = new TimeRange(5.0, 6.0);
+
+    assertThat(range.overlaps(4.0, 5.0)).isTrue();
+    assertThat(range.overlaps(6.5, 7.0)).isFalse();
+    assertThat(range.overlaps(null, 7.0)).isFalse();
+  }
+
+  private LearningContent content(String title, double start, double end) {
+    return new LearningContent(job, LearningContentType.KEYWORD, title, "desc", start, end);
+  }
+
+  private static GeneratedContent generated(String title, double start, double end) {
+    return new GeneratedContent(LearningContentType.KEYWORD, title, "desc", start, end);
+  }
+}
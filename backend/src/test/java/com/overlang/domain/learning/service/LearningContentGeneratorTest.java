@@ -0,0 +1,130 @@
+package com.overlang.domain.learning.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.domain.learning.client.LlmClient;
+import com.overlang.domain.learning.entity.LearningContentType;
+import com.overlang.domain.learning.service.LearningContentGenerator.GeneratedContent;
+import com.overlang.domain.learning.service.TranscriptWindows.Line;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+// 로컬 스텁 LLM 으로 윈도우 분할, 동시 요청 한도, 캐시 재사용, 병합 확인
+class LearningContentGeneratorTest {
+
+  private static final int MAX_CONCURRENCY = 3;
+
+  private final StubLlmClient llm = new StubLlmClient();
+  private final InMemoryCache cache = new InMemoryCache();
+  private final LearningContentGenerator generator =
+      new LearningContentGenerator(llm, cache, new ObjectMapper(), 300, 2, MAX_CONCURRENCY);
+
+  @Test
+  void windowsRunWithinConcurrencyLimitAndMergeDuplicates() {
+    LearningContentGenerator.Result result = generator.generate(transcript(), "en", "ko");
+
+    assertThat(result.windows()).isGreaterThan(5);
+    assertThat(llm.calls.get()).isEqualTo(result.windows());
+    assertThat(llm.maxInFlight.get()).isLessThan(MAX_CONCURRENCY + 1);
+
+    // 여러 윈도우에서 나온 같은 표현은 하나로 합쳐지고 처음 등장한 줄 구간을 가짐
+    List<GeneratedContent> expressions =
+        result.contents().stream()
+            .filter(c -> c.contentType() == LearningContentType.EXPRESSION)
+            .toList();
+    assertThat(expressions).hasSize(1);
+    assertThat(expressions.get(0).startTime()).isEqualTo(40.0);
+  }
+
+  @Test
+  void rerunOnlyRegeneratesChangedWindows() {
+    List<Line> lines = transcript();
+    LearningContentGenerator.Result first = generator.generate(lines, "en", "ko");
+    int callsAfterFirst = llm.calls.get();
+
+    List<Line> edited = new ArrayList<>(lines);
+    Line line = edited.get(30);
+    edited.set(30, new Line(line.seq(), line.startTime(), line.endTime(), "edited line text"));
+    LearningContentGenerator.Result second = generator.generate(edited, "en", "ko");
+
+    int regenerated = llm.calls.get() - callsAfterFirst;
+    assertThat(regenerated).isGreaterThan(0);
+    assertThat(regenerated).isLessThan(3); // 수정된 줄이 들어 있는 윈도우(겹침 포함 최대 2개)만
+    assertThat(second.cacheHits()).isEqualTo(first.windows() - regenerated);
+  }
+
+  // 10초 간격 60줄, 5번째 줄(40초)과 40번째 줄(390초)에 표현 "break a leg" 등장
+  private List<Line> transcript() {
+    List<Line> lines = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      String text =
+          i == 4 || i == 39
+              ? "Good luck tonight, break a leg on stage with the whole band."
+              : "Line " + i + " talks about the lecture topic in some detail for learners.";
+      lines.add(new Line(i + 1, i * 10.0, i * 10.0 + 9.0, text));
+    }
+    return lines;
+  }
+
+  // 줄마다 요약을, "break a leg" 가 있는 줄에 표현을 돌려주는 스텁
+  static class StubLlmClient implements LlmClient {
+
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Override
+    public String model() {
+      return "stub";
+    }
+
+    @Override
+    public String complete(String systemPrompt, String userPrompt) {
+      calls.incrementAndGet();
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(20);
+        String[] lines = userPrompt.split("\n");
+        StringBuilder expressions = new StringBuilder();
+        for (String line : lines) {
+          if (line.contains("break a leg")) {
+            String number = line.substring(0, line.indexOf(':'));
+            expressions
+                .append("{\"title\":\"Break a leg\",\"content\":\"행운을 빌어\",\"from\":")
+                .append(number)
+                .append(",\"to\":")
+                .append(number)
+                .append('}');
+          }
+        }
+        return "{\"summary\":\"%d lines\",\"keywords\":[],\"expressions\":[%s]}"
+            .formatted(lines.length, expressions);
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    }
+  }
+
+  static class InMemoryCache implements LearningContentGenerator.WindowCache {
+
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<String> get(String key) {
+      return Optional.ofNullable(entries.get(key));
+    }
+
+    @Override
+    public void put(String key, String response) {
+      entries.put(key, response);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.overlang.domain.ocr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.overlang.domain.ocr.entity.OcrItem;
+import com.overlang.domain.ocr.service.OcrSpatialIndex.Hit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// 시간 구간별 R-tree 조회 결과를 전체 항목 선형 탐색과 비교
+class OcrSpatialIndexTest {
+
+  @Test
+  void returnsItemsContainingPointRankedByConfidence() {
+    List<OcrItem> items =
+        List.of(
+            item(10.0, 14.0, 100, 100, 200, 50, 0.6, "sign"),
+            item(11.0, 13.0, 150, 110, 40, 20, 0.95, "exit"),
+            item(10.0, 14.0, 120, 90, 100, 80, null, "unknown"),
+            item(20.0, 22.0, 100, 100, 200, 50, 0.99, "later"));
+    OcrSpatialIndex index = OcrSpatialIndex.build(items, 2.0);
+
+    List<Hit> hits = index.lookup(12.5, 160, 120, 10);
+
+    assertThat(hits.stream().map(Hit::originText).toList())
+        .containsExactly("exit", "sign", "unknown");
+    assertThat(index.lookup(12.5, 160, 120, 1)).extracting(Hit::originText).containsExactly("exit");
+    // 화면에서 사라진 뒤, 박스 밖
+    assertThat(index.lookup(14.5, 160, 120, 10)).isEmpty();
+    assertThat(index.lookup(12.5, 500, 120, 10)).isEmpty();
+  }
+
+  @Test
+  void itemsSpanningBucketBoundariesAreFoundInEveryBucket() {
+    OcrSpatialIndex index =
+        OcrSpatialIndex.build(List.of(item(1.5, 7.2, 0, 0, 10, 10, 0.8, "long")), 2.0);
+
+    for (double t : new double[] {1.5, 2.0, 3.9, 6.0, 7.2}) {
+      assertThat(index.lookup(t, 5, 5, 5)).extracting(Hit::originText).containsExactly("long");
+    }
+    assertThat(index.lookup(7.3, 5, 5, 5)).isEmpty();
+    assertThat(index.lookup(-1, 5, 5, 5)).isEmpty();
+  }
+
+  @Test
+  void matchesLinearScanOnManyItems() {
+    Random random = new Random(7);
+    List<OcrItem> items = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      double start = random.nextDouble() * 600;
+      items.add(
+          item(
+              start,
+              start + 0.5 + random.nextDouble() * 8,
+              random.nextDouble() * 1800,
+              random.nextDouble() * 1000,
+              20 + random.nextDouble() * 300,
+              10 + random.nextDouble() * 80,
+              random.nextDouble(),
+              "t" + i));
+    }
+    OcrSpatialIndex index = OcrSpatialIndex.build(items, 2.0);
+
+    for (int q = 0; q < 2_000; q++) {
+      double t = random.nextDouble() * 610;
+      double x = random.nextDouble() * 2000;
+      double y = random.nextDouble() * 1100;
+      List<String> expected =
+          items.stream()
+              .filter(
+                  o ->
+                      o.getStartTime() <= t
+                          && t <= o.getEndTime()
+                          && o.getX() <= x
+                          && x <= o.getX() + o.getW()
+                          && o.getY() <= y
+                          && y <= o.getY() + o.getH())
+              .sorted(Comparator.comparingDouble(OcrItem::getConfidence).reversed())
+              .map(OcrItem::getOriginText)
+              .toList();
+
+      assertThat(index.lookup(t, x, y, Integer.MAX_VALUE))
+          .extracting(Hit::originText)
+          .containsExactlyElementsOf(expected);
+    }
+  }
+
+  private static OcrItem item(
+      double start, double end, double x, double y, double w, double h, Double conf, String text) {
+    return new OcrItem(null, start, end, text, null, x, y, w, h, conf);
+  }
+}
@@ -0,0 +1,98 @@
+package com.overlang.domain.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.api.dto.project.ProjectDeleteResponse;
+import com.overlang.domain.archive.repository.JobArchiveRepository;
+import com.overlang.domain.file.repository.StorageDeletionRepository;
+import com.overlang.domain.file.repository.UploadedMediaRepository;
+import com.overlang.domain.job.repository.JobCheckpointRepository;
+import com.overlang.domain.job.repository.JobChunkRepository;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import com.overlang.domain.ocr.repository.OcrItemRepository;
+import com.overlang.domain.project.repository.ProjectRepository;
+import com.overlang.domain.segment.repository.RetranslationRequestRepository;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.SegmentTranslationRepository;
+import com.overlang.domain.segment.repository.SegmentWordRepository;
+import com.overlang.domain.segment.repository.WordTimelineBlobRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+// 처리 중인 작업 확인을 잠금 아래에서 하고, 처리 중이면 아무것도 지우지 않는지 확인
+class ProjectDeletionServiceTest {
+
+  private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+  private final JobRepository jobRepository = mock(JobRepository.class);
+  private final SegmentRepository segmentRepository = mock(SegmentRepository.class);
+  private final StorageDeletionRepository storageDeletionRepository =
+      mock(StorageDeletionRepository.class);
+  private final ProjectDeletionService service =
+      new ProjectDeletionService(
+          projectRepository,
+          jobRepository,
+          mock(JobChunkRepository.class),
+          mock(JobCheckpointRepository.class),
+          segmentRepository,
+          mock(SegmentWordRepository.class),
+          mock(WordTimelineBlobRepository.class),
+          mock(OcrItemRepository.class),
+          mock(LearningContentRepository.class),
+          mock(UploadedMediaRepository.class),
+          storageDeletionRepository,
+          mock(JobArchiveRepository.class),
+          mock(RetranslationRequestRepository.class),
+          mock(JobLanguageRepository.class),
+          mock(SegmentTranslationRepository.class));
+
+  @Test
+  void runningJobBlocksDeletion() {
+    when(projectRepository.lockOwnedIds(7L, List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+    when(jobRepository.lockStatusesByProjectIds(List.of(1L, 2L)))
+        .thenReturn(List.of("COMPLETED", "RUNNING"));
+
+    assertThatThrownBy(() -> service.deleteProjects(7L, List.of(1L, 2L)))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    verify(storageDeletionRepository, never()).enqueueProjectFiles(any());
+    verify(segmentRepository, never()).deleteByProjectIds(any());
+    verify(jobRepository, never()).deleteByProjectIds(any());
+    verify(projectRepository, never()).deleteByIds(any());
+  }
+
+  @Test
+  void locksProjectsThenJobsBeforeDeleting() {
+    when(projectRepository.lockOwnedIds(7L, List.of(1L, 3L))).thenReturn(List.of(1L));
+    when(jobRepository.lockStatusesByProjectIds(List.of(1L)))
+        .thenReturn(List.of("COMPLETED", "PENDING"));
+
+    ProjectDeleteResponse response = service.deleteProjects(7L, List.of(1L, 3L));
+
+    assertThat(response.deletedProjectIds()).containsExactly(1L);
+    InOrder order = inOrder(projectRepository, jobRepository);
+    order.verify(projectRepository).lockOwnedIds(7L, List.of(1L, 3L));
+    order.verify(jobRepository).lockStatusesByProjectIds(List.of(1L));
+    order.verify(jobRepository).deleteByProjectIds(List.of(1L));
+    order.verify(projectRepository).deleteByIds(List.of(1L));
+  }
+
+  @Test
+  void notOwnedProjectsLockNoJobs() {
+    when(projectRepository.lockOwnedIds(7L, List.of(9L))).thenReturn(List.of());
+
+    ProjectDeleteResponse response = service.deleteProjects(7L, List.of(9L));
+
+    assertThat(response.deletedProjectIds()).isEmpty();
+    verify(jobRepository, never()).lockStatusesByProjectIds(any());
+  }
+}
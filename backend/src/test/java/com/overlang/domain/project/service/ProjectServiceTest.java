@@ -0,0 +1,96 @@
+package com.overlang.domain.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.api.dto.project.ProjectCreateRequest;
+import com.overlang.api.dto.project.ProjectCreateResponse;
+import com.overlang.domain.file.entity.UploadedMedia;
+import com.overlang.domain.file.repository.UploadedMediaRepository;
+import com.overlang.domain.file.storage.S3StorageService;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.member.repository.MemberRepository;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.project.repository.ProjectRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+
+// 다른 회원이 올린 파일 키는 거부하고, S3 저장소여도 영상 URL 은 스트리밍 API 인지 확인
+class ProjectServiceTest {
+
+  private static final String FILE_KEY = "uploads/videos/a.mp4";
+
+  private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+  private final MemberRepository memberRepository = mock(MemberRepository.class);
+  private final UploadedMediaRepository uploadedMediaRepository =
+      mock(UploadedMediaRepository.class);
+  private final ProjectService service =
+      new ProjectService(
+          projectRepository,
+          memberRepository,
+          uploadedMediaRepository,
+          new S3StorageService(mock(S3Client.class), "bucket", "/media"));
+
+  @BeforeEach
+  void setUp() {
+    Member member = new Member("a@overlang.com", "a", "uid");
+    ReflectionTestUtils.setField(member, "id", 1L);
+    when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+    when(projectRepository.save(any()))
+        .thenAnswer(
+            invocation -> {
+              Project project = invocation.getArgument(0);
+              ReflectionTestUtils.setField(project, "id", 10L);
+              return project;
+            });
+  }
+
+  @Test
+  void ownUploadBecomesProjectWithStreamingUrl() {
+    when(uploadedMediaRepository.findByFileKey(FILE_KEY)).thenReturn(Optional.of(media(1L)));
+
+    ProjectCreateResponse response = service.createProject(1L, request());
+
+    assertThat(response.fileUrl()).isEqualTo("/api/v1/projects/10/video");
+  }
+
+  @Test
+  void uploadOfAnotherMemberIsRejected() {
+    when(uploadedMediaRepository.findByFileKey(FILE_KEY)).thenReturn(Optional.of(media(2L)));
+
+    assertThatThrownBy(() -> service.createProject(1L, request()))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(projectRepository, never()).save(any());
+  }
+
+  @Test
+  void unknownOrOwnerlessFileKeyIsRejected() {
+    when(uploadedMediaRepository.findByFileKey(FILE_KEY)).thenReturn(Optional.of(media(null)));
+
+    assertThatThrownBy(() -> service.createProject(1L, request()))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    when(uploadedMediaRepository.findByFileKey(FILE_KEY)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> service.createProject(1L, request()))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(projectRepository, never()).save(any());
+  }
+
+  private static ProjectCreateRequest request() {
+    return new ProjectCreateRequest("video", SourceType.UPLOAD, null, null, FILE_KEY);
+  }
+
+  private static UploadedMedia media(Long memberId) {
+    return new UploadedMedia(memberId, FILE_KEY, "MP4", 60.0, "h264", "aac", true, true);
+  }
+}
@@ -0,0 +1,145 @@
+package com.overlang.domain.segment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobLanguage;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.JobLanguageRepository;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.learning.entity.LearningContentType;
+import com.overlang.domain.learning.repository.LearningContentRepository;
+import com.overlang.domain.learning.service.LearningAnalysisService;
+import com.overlang.domain.learning.service.LearningContentGenerator.GeneratedContent;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.entity.SegmentTranslation;
+import com.overlang.domain.segment.repository.RetranslationRequestRepository;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import com.overlang.domain.segment.repository.SegmentTranslationRepository;
+import com.overlang.domain.segment.service.RetranslationService.Claimed;
+import com.overlang.domain.segment.service.RetranslationService.LanguageResult;
+import com.overlang.domain.segment.service.RetranslationService.RetranslationInput;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 여러 언어 작업의 자막을 고치면 완료된 추가 언어의 번역과 학습 콘텐츠도 같은 줄, 같은 구간만 다시 만드는지 확인
+class RetranslationServiceTest {
+
+  private final RetranslationRequestRepository retranslationRequestRepository =
+      mock(RetranslationRequestRepository.class);
+  private final JobRepository jobRepository = mock(JobRepository.class);
+  private final JobLanguageRepository jobLanguageRepository = mock(JobLanguageRepository.class);
+  private final SegmentRepository segmentRepository = mock(SegmentRepository.class);
+  private final SegmentTranslationRepository segmentTranslationRepository =
+      mock(SegmentTranslationRepository.class);
+  private final LearningContentRepository learningContentRepository =
+      mock(LearningContentRepository.class);
+  private final LearningAnalysisService learningAnalysisService =
+      mock(LearningAnalysisService.class);
+  private final RetranslationService service =
+      new RetranslationService(
+          retranslationRequestRepository,
+          jobRepository,
+          jobLanguageRepository,
+          segmentRepository,
+          segmentTranslationRepository,
+          learningContentRepository,
+          learningAnalysisService,
+          3);
+
+  private Job job;
+  private Segment edited;
+  private Segment untouched;
+
+  @BeforeEach
+  void setUp() {
+    Member member = new Member("a@overlang.com", "a", "uid");
+    Project project =
+        new Project(member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4");
+    job = new Job(project, JobType.FULL_ANALYSIS, "en", "ko", null, false, null);
+    ReflectionTestUtils.setField(job, "id", 1L);
+    untouched = new Segment(job, 0.0, 1.5, 1, "hello", "안녕", "en");
+    edited = new Segment(job, 2.0, 3.5, 2, "wrold", "세계", "en");
+    edited.editText("world");
+    when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+    when(jobRepository.getReferenceById(1L)).thenReturn(job);
+    when(segmentRepository.findByJobIdOrderBySeqAsc(1L)).thenReturn(List.of(untouched, edited));
+    when(segmentRepository.findByJobIdAndSeqIn(eq(1L), anyCollection()))
+        .thenReturn(List.of(edited));
+
+    JobLanguage primary = new JobLanguage(job, "ko");
+    primary.markCompleted();
+    JobLanguage japanese = new JobLanguage(job, "ja");
+    japanese.markCompleted();
+    JobLanguage running = new JobLanguage(job, "fr");
+    when(jobLanguageRepository.findByJobIdOrderByIdAsc(1L))
+        .thenReturn(List.of(primary, japanese, running));
+    when(segmentTranslationRepository.findByJobIdAndLanguageOrderBySeqAsc(1L, "ja"))
+        .thenReturn(List.of(new SegmentTranslation(job, "ja", 1, "こんにちは")));
+    when(learningContentRepository.existsByJobIdAndLanguageIsNull(1L)).thenReturn(true);
+    when(learningContentRepository.existsByJobIdAndLanguage(1L, "ja")).thenReturn(true);
+  }
+
+  @Test
+  void loadIncludesCompletedExtraLanguagesOnly() {
+    RetranslationInput input = service.load(1L).orElseThrow();
+
+    assertThat(input.extraLanguages()).hasSize(1);
+    RetranslationService.ExtraLanguage japanese = input.extraLanguages().get(0);
+    assertThat(japanese.language()).isEqualTo("ja");
+    assertThat(japanese.hasLearningContents()).isTrue();
+    // 기존 번역은 문맥으로, 수정된 줄만 target
+    assertThat(japanese.lines())
+        .containsExactly(
+            new SegmentTranslator.Line(1, "hello", "こんにちは", false),
+            new SegmentTranslator.Line(2, "world", null, true));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void completeUpdatesExtraLanguageTranslationsAndContents() {
+    RetranslationInput input = service.load(1L).orElseThrow();
+    SegmentTranslation stale = new SegmentTranslation(job, "ja", 2, "世界?");
+    when(segmentTranslationRepository.findByJobIdAndLanguageAndSeqIn(
+            eq(1L), eq("ja"), anyCollection()))
+        .thenReturn(List.of(stale));
+    when(retranslationRequestRepository.deleteIfUnchanged(any(), any())).thenReturn(1);
+    List<GeneratedContent> japaneseContents =
+        List.of(new GeneratedContent(LearningContentType.KEYWORD, "world", "世界", 2.0, 3.5));
+
+    service.complete(
+        new Claimed(10L, 1L, Instant.now()),
+        input,
+        Map.of(2, "세상"),
+        List.of(),
+        List.of(new LanguageResult("ja", Map.of(2, "世界"), japaneseContents)));
+
+    assertThat(edited.getTranslatedText()).isEqualTo("세상");
+    assertThat(edited.getTranslationStale()).isFalse();
+    assertThat(stale.getTranslatedText()).isEqualTo("世界");
+    ArgumentCaptor<List<SegmentTranslation>> created = ArgumentCaptor.forClass(List.class);
+    verify(segmentTranslationRepository).saveAll(created.capture());
+    assertThat(created.getValue()).isEmpty();
+    verify(learningAnalysisService).replaceOverlapping(1L, null, input.edited(), List.of());
+    verify(learningAnalysisService)
+        .replaceOverlapping(1L, "ja", input.edited(), japaneseContents);
+    verify(learningAnalysisService, never())
+        .replaceOverlapping(eq(1L), eq("fr"), any(), any());
+  }
+}
@@ -0,0 +1,92 @@
+package com.overlang.domain.segment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.api.dto.segment.SegmentEditRequest;
+import com.overlang.api.dto.segment.SegmentEditRequest.SegmentEdit;
+import com.overlang.api.dto.segment.SegmentEditResponse;
+import com.overlang.domain.archive.service.JobArchiveService;
+import com.overlang.domain.job.entity.Job;
+import com.overlang.domain.job.entity.JobType;
+import com.overlang.domain.job.repository.JobRepository;
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.segment.entity.Segment;
+import com.overlang.domain.segment.repository.RetranslationRequestRepository;
+import com.overlang.domain.segment.repository.SegmentRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 수정된 구간만 표시하고, LLM 이 꺼져 있으면 재번역을 예약하지 않는지 확인
+class SegmentEditServiceTest {
+
+  private final JobRepository jobRepository = mock(JobRepository.class);
+  private final SegmentRepository segmentRepository = mock(SegmentRepository.class);
+  private final RetranslationRequestRepository retranslationRequestRepository =
+      mock(RetranslationRequestRepository.class);
+
+  private Job job;
+  private Segment segment;
+
+  @BeforeEach
+  void setUp() {
+    Member member = new Member("a@overlang.com", "a", "uid");
+    Project project =
+        new Project(member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4");
+    job = new Job(project, JobType.FULL_ANALYSIS, "en", "ko", null, false, null);
+    ReflectionTestUtils.setField(job, "id", 1L);
+    job.markCompleted();
+    segment = new Segment(job, 0.0, 2.0, 1, "hello", "안녕", "en");
+    when(jobRepository.findByIdAndMemberId(1L, 7L)).thenReturn(Optional.of(job));
+    when(segmentRepository.findByJobIdAndSeqIn(eq(1L), any())).thenReturn(List.of(segment));
+  }
+
+  @Test
+  void changedTextIsQueuedForRetranslation() {
+    SegmentEditResponse response = service(true).edit(7L, 1L, request("hello there"));
+
+    assertThat(response).isEqualTo(new SegmentEditResponse(1, true));
+    assertThat(segment.getTranslationStale()).isTrue();
+    verify(retranslationRequestRepository).enqueue(eq(1L), any());
+  }
+
+  @Test
+  void llmDisabledEditsTextWithoutQueueing() {
+    SegmentEditResponse response = service(false).edit(7L, 1L, request("hello there"));
+
+    assertThat(response).isEqualTo(new SegmentEditResponse(1, false));
+    assertThat(segment.getText()).isEqualTo("hello there");
+    verify(retranslationRequestRepository, never()).enqueue(any(), any());
+  }
+
+  @Test
+  void unchangedTextIsNotQueued() {
+    SegmentEditResponse response = service(true).edit(7L, 1L, request(" hello "));
+
+    assertThat(response).isEqualTo(new SegmentEditResponse(0, false));
+    verify(retranslationRequestRepository, never()).enqueue(any(), any());
+  }
+
+  private SegmentEditService service(boolean llmEnabled) {
+    return new SegmentEditService(
+        jobRepository,
+        segmentRepository,
+        retranslationRequestRepository,
+        mock(JobArchiveService.class),
+        llmEnabled);
+  }
+
+  private static SegmentEditRequest request(String text) {
+    return new SegmentEditRequest(List.of(new SegmentEdit(1, text)));
+  }
+}
@@ -0,0 +1,101 @@
+package com.overlang.domain.segment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.domain.learning.client.LlmClient;
+import com.overlang.domain.segment.service.SegmentTranslator.Line;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+// 수정된 줄 묶기(문맥 간격, 요청당 줄 수)와 문맥 줄을 붙인 요청/응답 매핑 확인
+class SegmentTranslatorTest {
+
+  private final StubLlmClient llm = new StubLlmClient();
+  private final SegmentTranslator translator =
+      new SegmentTranslator(llm, new ObjectMapper(), 1, 3);
+
+  @Test
+  void nearbyTargetsShareOneGroup() {
+    List<Line> lines = lines(12, Set.of(0, 2, 7, 8, 9, 10));
+
+    List<int[]> groups = translator.groups(lines);
+
+    // 0, 2 는 문맥(앞뒤 1줄)이 겹쳐 한 묶음, 7~10 은 요청당 3줄을 넘어 나뉨
+    assertThat(groups).containsExactly(new int[] {0, 2}, new int[] {7, 9}, new int[] {10, 10});
+  }
+
+  @Test
+  void distantTargetsAreSplit() {
+    List<Line> lines = lines(10, Set.of(1, 5));
+
+    assertThat(translator.groups(lines)).containsExactly(new int[] {1, 1}, new int[] {5, 5});
+    assertThat(translator.groups(lines(5, Set.of()))).isEmpty();
+  }
+
+  @Test
+  void translatesOnlyTargetsWithContextLines() {
+    List<Line> lines = lines(6, Set.of(2));
+
+    Map<Integer, String> translations = translator.translate(lines, "en", "ko");
+
+    assertThat(translations).isEqualTo(Map.of(3, "translated 2"));
+    assertThat(llm.prompts).hasSize(1);
+    // 앞뒤 1줄만 문맥으로, 기존 번역과 함께 보냄
+    assertThat(llm.prompts.get(0))
+        .isEqualTo(
+            "[context] 1: line 2 => 번역 2\n"
+                + "[translate] 2: line 3\n"
+                + "[context] 3: line 4 => 번역 4\n");
+  }
+
+  @Test
+  void missingTranslationFails() {
+    llm.skipAnswers = true;
+
+    assertThatThrownBy(() -> translator.translate(lines(3, Set.of(1)), "en", "ko"))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static List<Line> lines(int count, Set<Integer> targets) {
+    List<Line> lines = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int seq = i + 1;
+      lines.add(new Line(seq, "line " + seq, "번역 " + seq, targets.contains(i)));
+    }
+    return lines;
+  }
+
+  // [translate] 줄 번호마다 "translated <번호>" 로 답하는 스텁
+  private static class StubLlmClient implements LlmClient {
+
+    private static final Pattern TARGET = Pattern.compile("\\[translate] (\\d+):");
+
+    private final List<String> prompts = new ArrayList<>();
+    private boolean skipAnswers;
+
+    @Override
+    public String model() {
+      return "stub";
+    }
+
+    @Override
+    public String complete(String systemPrompt, String userPrompt) {
+      prompts.add(userPrompt);
+      List<String> answers = new ArrayList<>();
+      Matcher matcher = TARGET.matcher(userPrompt);
+      while (!skipAnswers && matcher.find()) {
+        answers.add(
+            "{\"line\": %s, \"text\": \"translated %s\"}"
+                .formatted(matcher.group(1), matcher.group(1)));
+      }
+      return "{\"translations\": [" + String.join(",", answers) + "]}";
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.overlang.domain.segment.service;
+
+import com.overlang.domain.segment.service.WordTimelineCodec.TimelineWord;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 단어 타임라인 저장 방식별 크기와 구간 조회 시간 비교 (./gradlew wordTimelineBenchmark).
+ *
+ * <p>단어 수(인자, 기본 18000 = 2시간 분량)만큼 합성한 발화를 열 단위 blob 과 행 저장으로 두고, 1분 구간 조회와 전체 디코딩을 반복해 최솟값을
+ * 출력한다. 행 저장 조회는 메모리 필터라 DB I/O 가 없는 하한값이다.
+ */
+public class WordTimelineBenchmark {
+
+  private static final int RUNS = 30;
+
+  private static int sink;
+
+  public static void main(String[] args) {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 18_000;
+    List<TimelineWord> words = WordTimelineCodecTest.speech(count, 42);
+    byte[] blob = WordTimelineCodec.encode(words);
+    long rowBytes = words.stream().mapToLong(WordTimelineCodecTest::rowPerWordBytes).sum();
+
+    long from = words.get(words.size() / 2).startMs();
+    long to = from + 60_000;
+    long blobRangeNanos = bestOf(() -> WordTimelineCodec.read(blob).between(from, to).size());
+    long rowRangeNanos =
+        bestOf(
+            () ->
+                (int)
+                    words.stream().filter(w -> w.startMs() < to && w.endMs() > from).count());
+    long blobFullNanos = bestOf(() -> WordTimelineCodec.read(blob).all().size());
+
+    System.out.println("layout   | bytes     | bytes/word");
+    System.out.printf("rows     | %9d | %10.1f%n", rowBytes, (double) rowBytes / words.size());
+    System.out.printf(
+        "columnar | %9d | %10.1f%n", blob.length, (double) blob.length / words.size());
+    System.out.printf(
+        "1-minute range: columnar %d us (rows in-memory lower bound %d us), full decode %d us%n",
+        blobRangeNanos / 1_000, rowRangeNanos / 1_000, blobFullNanos / 1_000);
+  }
+
+  // RUNS 회 중 최솟값 (결과는 JIT 가 지우지 않도록 보관)
+  private static long bestOf(IntSupplier run) {
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < RUNS; i++) {
+      long started = System.nanoTime();
+      sink += run.getAsInt();
+      best = Math.min(best, System.nanoTime() - started);
+    }
+    return best;
+  }
+}
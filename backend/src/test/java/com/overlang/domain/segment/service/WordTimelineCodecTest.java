@@ -0,0 +1,87 @@
+package com.overlang.domain.segment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.overlang.domain.segment.service.WordTimelineCodec.TimelineWord;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// 열 단위 압축 blob 의 범위 조회 결과와 segment_words 행 저장 대비 크기 확인
+class WordTimelineCodecTest {
+
+  private static final String[] VOCABULARY = {
+    "the", "a", "to", "and", "of", "you", "I", "it", "is", "that", "in", "we", "so", "this",
+    "what", "know", "like", "just", "going", "really", "think", "people", "language", "video",
+    "learn", "right", "actually", "because", "something", "different", "pronunciation",
+    "영어", "공부", "그리고", "정말", "이거", "우리가", "있습니다", "합니다"
+  };
+
+  @Test
+  void rangeQueryMatchesFullScan() {
+    List<TimelineWord> words = speech(3_000, 7);
+    WordTimeline timeline = WordTimelineCodec.read(WordTimelineCodec.encode(words));
+
+    assertThat(timeline.size()).isEqualTo(words.size());
+    assertThat(timeline.all()).isEqualTo(words);
+
+    long from = words.get(1_200).startMs() + 5;
+    long to = from + 30_000;
+    List<TimelineWord> expected =
+        words.stream().filter(w -> w.startMs() < to && w.endMs() > from).toList();
+    assertThat(timeline.between(from, to)).isEqualTo(expected);
+    assertThat(timeline.between(to * 100, to * 100 + 1_000)).isEmpty();
+  }
+
+  @Test
+  void columnarBlobIsMuchSmallerThanRowPerWord() {
+    // 2시간 분량, 분당 약 150 단어
+    List<TimelineWord> words = speech(18_000, 42);
+    byte[] blob = WordTimelineCodec.encode(words);
+    long rowBytes = words.stream().mapToLong(WordTimelineCodecTest::rowPerWordBytes).sum();
+
+    assertThat((long) blob.length).isLessThan(rowBytes / 10);
+    // 1분 구간 조회 결과는 행 저장의 시간 범위 조회와 같음 (읽기 시간은 WordTimelineBenchmark)
+    long from = words.get(words.size() / 2).startMs();
+    long to = from + 60_000;
+    assertThat(WordTimelineCodec.read(blob).between(from, to))
+        .isEqualTo(words.stream().filter(w -> w.startMs() < to && w.endMs() > from).toList());
+  }
+
+  // PostgreSQL 행 크기 추정: 튜플 헤더 24 + 라인 포인터 4 + id/segment_id/seq/start/end 40
+  // + word varlena, 8 바이트 정렬 + PK/FK btree 인덱스 항목 각 16 + 라인 포인터 4
+  static long rowPerWordBytes(TimelineWord word) {
+    int varlena = 1 + word.word().getBytes(StandardCharsets.UTF_8).length;
+    long tuple = align8(24 + 40 + varlena) + 4;
+    long indexes = 2 * (16 + 4);
+    return tuple + indexes;
+  }
+
+  private static long align8(long size) {
+    return (size + 7) & ~7L;
+  }
+
+  // 단어 길이 120~600ms, 단어 사이 0~250ms, 세그먼트당 5~14 단어
+  static List<TimelineWord> speech(int count, long seed) {
+    Random random = new Random(seed);
+    List<TimelineWord> words = new ArrayList<>(count);
+    long cursor = 0;
+    int segmentSeq = 1;
+    int remainingInSegment = 5 + random.nextInt(10);
+    for (int i = 0; i < count; i++) {
+      long start = cursor + random.nextInt(250);
+      long end = start + 120 + random.nextInt(480);
+      String word = VOCABULARY[(int) Math.abs(random.nextGaussian() * 8) % VOCABULARY.length];
+      words.add(new TimelineWord(segmentSeq, start, end, word));
+      cursor = end;
+      if (--remainingInSegment == 0) {
+        segmentSeq++;
+        remainingInSegment = 5 + random.nextInt(10);
+        cursor += 400 + random.nextInt(1_000);
+      }
+    }
+    return words;
+  }
+}
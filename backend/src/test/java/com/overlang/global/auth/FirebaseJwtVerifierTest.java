@@ -0,0 +1,160 @@
+package com.overlang.global.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.global.auth.FirebaseKeySource.KeySet;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+// 로컬에서 만든 RSA 키와 토큰으로 서명/클레임 검증과 키 갱신(single-flight) 확인
+class FirebaseJwtVerifierTest {
+
+  private static final String PROJECT_ID = "overlang-test";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final KeyPair oldKey = generateKey();
+  private final KeyPair newKey = generateKey();
+
+  @Test
+  void verifiesTokenWithPrefetchedKeyWithoutFetchingAgain() {
+    AtomicInteger fetches = new AtomicInteger();
+    FirebaseJwtVerifier verifier = verifier(() -> countedKeySet(fetches, Map.of("k1", oldKey)));
+    Instant now = Instant.now();
+
+    for (int i = 0; i < 100; i++) {
+      FirebaseUserInfo userInfo =
+          verifier.verify(token(oldKey, "k1", claims("uid-1", now)), PROJECT_ID, now);
+      assertThat(userInfo.firebaseUid()).isEqualTo("uid-1");
+      assertThat(userInfo.email()).isEqualTo("uid-1@example.com");
+    }
+    assertThat((long) fetches.get()).isEqualTo(1);
+  }
+
+  @Test
+  void unknownKidTriggersOneRefreshForConcurrentRequests() {
+    AtomicInteger fetches = new AtomicInteger();
+    FirebaseJwtVerifier verifier =
+        verifier(
+            () ->
+                fetches.get() == 0
+                    ? countedKeySet(fetches, Map.of("k1", oldKey))
+                    : slowKeySet(fetches, Map.of("k1", oldKey, "k2", newKey)));
+    Instant now = Instant.now();
+    verifier.verify(token(oldKey, "k1", claims("uid-1", now)), PROJECT_ID, now);
+
+    // 키 교체 직후 새 kid 로 서명된 토큰이 동시에 들어옴
+    String rotated = token(newKey, "k2", claims("uid-2", now));
+    List<CompletableFuture<FirebaseUserInfo>> requests = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      requests.add(CompletableFuture.supplyAsync(() -> verifier.verify(rotated, PROJECT_ID, now)));
+    }
+    for (CompletableFuture<FirebaseUserInfo> request : requests) {
+      assertThat(request.join().firebaseUid()).isEqualTo("uid-2");
+    }
+    assertThat((long) fetches.get()).isEqualTo(2);
+  }
+
+  @Test
+  void rejectsBadSignatureExpiredTokenAndWrongAudience() {
+    FirebaseJwtVerifier verifier = verifier(() -> keySet(Map.of("k1", oldKey)));
+    Instant now = Instant.now();
+
+    String forged = token(newKey, "k1", claims("uid-1", now));
+    assertThatThrownBy(() -> verifier.verify(forged, PROJECT_ID, now))
+        .isInstanceOf(UnauthorizedException.class);
+
+    String expired = token(oldKey, "k1", claims("uid-1", now.minus(Duration.ofHours(2))));
+    assertThatThrownBy(() -> verifier.verify(expired, PROJECT_ID, now))
+        .isInstanceOf(UnauthorizedException.class);
+
+    String otherProject = token(oldKey, "k1", claims("uid-1", now));
+    assertThatThrownBy(() -> verifier.verify(otherProject, "other-project", now))
+        .isInstanceOf(UnauthorizedException.class);
+
+    assertThatThrownBy(() -> verifier.verify("not-a-jwt", PROJECT_ID, now))
+        .isInstanceOf(UnauthorizedException.class);
+  }
+
+  private static FirebaseJwtVerifier verifier(FirebaseKeySource source) {
+    FirebaseSigningKeys signingKeys =
+        new FirebaseSigningKeys(
+            source, Duration.ofMinutes(10), Duration.ofSeconds(60), Duration.ofSeconds(5));
+    signingKeys.refreshIfExpiring();
+    return new FirebaseJwtVerifier(signingKeys, OBJECT_MAPPER, Duration.ofSeconds(60));
+  }
+
+  private static KeySet countedKeySet(AtomicInteger fetches, Map<String, KeyPair> keys) {
+    fetches.incrementAndGet();
+    return keySet(keys);
+  }
+
+  // 갱신 중에 다른 요청이 도착하도록 조회를 늦춤
+  private static KeySet slowKeySet(AtomicInteger fetches, Map<String, KeyPair> keys) {
+    try {
+      Thread.sleep(200);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return countedKeySet(fetches, keys);
+  }
+
+  private static KeySet keySet(Map<String, KeyPair> keys) {
+    Map<String, PublicKey> publicKeys = new HashMap<>();
+    keys.forEach((kid, pair) -> publicKeys.put(kid, pair.getPublic()));
+    return new KeySet(publicKeys, Instant.now().plus(Duration.ofHours(6)));
+  }
+
+  private static Map<String, Object> claims(String uid, Instant issuedAt) {
+    long iat = issuedAt.getEpochSecond();
+    return Map.of(
+        "iss", "https://securetoken.google.com/" + PROJECT_ID,
+        "aud", PROJECT_ID,
+        "sub", uid,
+        "iat", iat,
+        "auth_time", iat,
+        "exp", iat + 3600,
+        "email", uid + "@example.com");
+  }
+
+  private static String token(KeyPair key, String kid, Map<String, Object> claims) {
+    try {
+      Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+      String header =
+          encoder.encodeToString(
+              OBJECT_MAPPER.writeValueAsBytes(Map.of("alg", "RS256", "kid", kid, "typ", "JWT")));
+      String payload = encoder.encodeToString(OBJECT_MAPPER.writeValueAsBytes(claims));
+      Signature signature = Signature.getInstance("SHA256withRSA");
+      signature.initSign(key.getPrivate());
+      signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+      return header + "." + payload + "." + encoder.encodeToString(signature.sign());
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static KeyPair generateKey() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(2048);
+      return generator.generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,413 @@
+package com.overlang.global.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overlang.global.config.CacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// 마이그레이션으로 만든 스키마에 운영과 비슷한 분포의 데이터를 넣고, 모든 저장소 메서드가 보내는 SQL 의 실행 계획에서
+// 큰 테이블(파티션 포함)을 seq scan 하는 쿼리가 없는지 확인 (Docker 가 없으면 건너뜀)
+// ddl-auto=validate 라 컨텍스트가 뜨면 마이그레이션 스키마와 엔티티가 맞는 것도 확인됨
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({CacheConfig.class, QueryPlanTest.CaptureConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+
+  // 이 행 수 이상인 테이블/파티션의 seq scan 은 실패
+  private static final long LARGE_TABLE_ROWS = 5_000;
+
+  // ID 인자 (작업 100 은 PENDING, SEED 의 분포 참고)
+  private static final long SEEDED_ID = 100L;
+
+  private static final List<Captured> CAPTURED = new CopyOnWriteArrayList<>();
+  private static volatile String currentMethod;
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  // 대부분의 작업은 끝난 상태, 결과 테이블이 가장 큼
+  private static final List<String> SEED =
+      List.of(
+          """
+          insert into members (email, name, firebase_uid, created_at, updated_at)
+          select 'member' || i || '@overlang.test', 'member' || i, 'uid-' || i, now(), now()
+          from generate_series(1, 2000) i
+          """,
+          """
+          insert into projects
+            (member_id, title, source_type, file_key, status, created_at, updated_at)
+          select i % 2000 + 1, 'project ' || i, 'UPLOAD',
+                 case when i % 2 = 0 then 'uploads/' || i end, 'COMPLETED',
+                 now() - (i % 30) * interval '1 day', now() - (i % 30) * interval '1 day'
+          from generate_series(1, 20000) i
+          """,
+          """
+          insert into jobs
+            (project_id, job_type, status, progress, current_stage, target_language,
+             use_user_api_key, created_at, updated_at)
+          select (i - 1) % 20000 + 1, 'FULL_ANALYSIS',
+                 case when i % 100 = 0 then 'PENDING' when i % 100 = 1 then 'RUNNING'
+                      when i % 100 < 4 then 'FAILED' else 'COMPLETED' end,
+                 100, case when i % 100 < 2 then 'QUEUED' else 'FINALIZING' end, 'ko', false,
+                 now(), now()
+          from generate_series(1, 40000) i
+          """,
+          """
+          insert into job_chunks
+            (job_id, chunk_index, start_time, end_time, status, progress, created_at, updated_at)
+          select i / 4 + 1, i % 4, (i % 4) * 300, (i % 4 + 1) * 300,
+                 case when i % 200 = 0 then 'PENDING' else 'COMPLETED' end, 100, now(), now()
+          from generate_series(0, 19999) i
+          """,
+          """
+          insert into job_checkpoints
+            (job_id, stage, row_count, checksum, gpu_seconds, created_at, updated_at)
+          select i, 'STT_TRANSCRIPTION', 10, repeat('0', 64), 1.0, now(), now()
+          from generate_series(1, 40000) i
+          """,
+          """
+          insert into job_languages
+            (job_id, language, status, current_stage, progress, created_at, updated_at)
+          select i, 'en', 'COMPLETED', 'FINALIZING', 100, now(), now()
+          from generate_series(1, 20000) i
+          """,
+          """
+          insert into segments (job_id, seq, start_time, end_time, text, created_at, updated_at)
+          select i % 40000 + 1, i / 40000, (i / 40000) * 3, (i / 40000) * 3 + 3, 'text ' || i,
+                 now(), now()
+          from generate_series(0, 399999) i
+          """,
+          """
+          insert into segment_words (job_id, segment_id, seq, start_time, end_time, word)
+          select job_id, id, 0, start_time, start_time + 1, 'word' from segments
+          """,
+          """
+          insert into ocr_items
+            (job_id, start_time, end_time, origin_text, x, y, w, h, confidence, created_at,
+             updated_at)
+          select i % 40000 + 1, (i / 40000) * 6, (i / 40000) * 6 + 2, 'ocr ' || i,
+                 0.1, 0.1, 0.2, 0.05, 0.9, now(), now()
+          from generate_series(0, 199999) i
+          """,
+          """
+          insert into learning_contents (job_id, content_type, content, language, created_at,
+                                         updated_at)
+          select i % 40000 + 1, 'SUMMARY', 'content', case when i % 4 = 0 then 'en' end,
+                 now(), now()
+          from generate_series(0, 79999) i
+          """,
+          """
+          insert into segment_translations
+            (job_id, language, seq, translated_text, created_at, updated_at)
+          select i % 20000 + 1, 'en', i / 20000, 'translated', now(), now()
+          from generate_series(0, 99999) i
+          """,
+          """
+          insert into idempotency_keys
+            (member_id, idempotency_key, fingerprint, status, expires_at, created_at, updated_at)
+          select i % 2000 + 1, 'key-' || i, repeat('0', 64), 'COMPLETED',
+                 now() + interval '1 day', now(), now()
+          from generate_series(1, 20000) i
+          """,
+          """
+          insert into uploaded_media (file_key, container, created_at, updated_at)
+          select 'uploads/' || i, 'MP4', now(), now() from generate_series(2, 20000, 2) i
+          """,
+          """
+          insert into word_timelines (job_id, word_count, data, created_at, updated_at)
+          select i, 0, decode('00', 'hex'), now(), now() from generate_series(1, 20000) i
+          """,
+          """
+          insert into llm_window_cache (content_hash, response, created_at, updated_at)
+          select md5(i::text), '{}', now(), now() from generate_series(1, 20000) i
+          """,
+          """
+          insert into job_archives
+            (job_id, file_key, segment_count, ocr_item_count, byte_size, archived_at,
+             created_at, updated_at)
+          select i * 40, 'archives/' || i, 10, 5, 1024, now(), now(), now()
+          from generate_series(1, 1000) i
+          """,
+          """
+          insert into storage_deletions (file_key, attempts, next_attempt_at, created_at,
+                                         updated_at)
+          select 'deleted/' || i, 0, now(), now(), now() from generate_series(1, 1000) i
+          """,
+          """
+          insert into retranslation_requests
+            (job_id, requested_at, attempts, next_attempt_at, created_at, updated_at)
+          select i * 40, now(), 0, now(), now(), now() from generate_series(1, 1000) i
+          """,
+          "analyze");
+
+  @Autowired private ApplicationContext applicationContext;
+  @Autowired private DataSource dataSource;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void repositoryQueriesDoNotSeqScanLargeTables() throws Exception {
+    seed();
+    List<String> invoked = invokeRepositoryMethods();
+    Set<String> methodsWithSql =
+        CAPTURED.stream().map(Captured::method).collect(Collectors.toSet());
+    // SQL 을 보내지 않은 메서드는 실행 계획을 확인하지 못한 것이므로 실패
+    assertThat(invoked)
+        .as("repository methods without SQL")
+        .filteredOn(method -> !methodsWithSql.contains(method))
+        .isEmpty();
+
+    Map<String, Long> rows = relationRows();
+    List<String> failures = new ArrayList<>();
+    for (Captured query : CAPTURED) {
+      for (String relation : seqScans(query)) {
+        if (rows.getOrDefault(relation, 0L) >= LARGE_TABLE_ROWS) {
+          failures.add(query.method() + ": seq scan on " + relation + "\n  " + query.sql());
+        }
+      }
+    }
+    assertThat(failures).as("seq scan on large tables").isEmpty();
+  }
+
+  private void seed() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      for (String sql : SEED) {
+        statement.execute(sql);
+      }
+    }
+  }
+
+  // 저장소 인터페이스에 선언한 메서드(상속한 Spring Data 메서드 제외)를 하나씩 호출하고 롤백, 호출한 메서드 이름 반환
+  private List<String> invokeRepositoryMethods() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    List<String> invoked = new ArrayList<>();
+    for (Object repository : applicationContext.getBeansOfType(Repository.class).values()) {
+      for (Class<?> type : ClassUtils.getAllInterfacesAsSet(repository)) {
+        if (!type.getName().startsWith("com.overlang.")) {
+          continue;
+        }
+        Method[] methods = type.getDeclaredMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName));
+        for (Method method : methods) {
+          if (method.isSynthetic() || Modifier.isStatic(method.getModifiers())) {
+            continue;
+          }
+          // 인자를 만들지 못하면 (새 인자 타입) 테스트 실패
+          Object[] args = arguments(method);
+          currentMethod = type.getSimpleName() + "." + method.getName();
+          invoked.add(currentMethod);
+          try {
+            transaction.executeWithoutResult(
+                status -> {
+                  status.setRollbackOnly();
+                  invoke(repository, method, args);
+                });
+          } catch (DataAccessException e) {
+            // 제약 위반 등 DB 오류로 실패해도 실행 계획은 보낸 SQL 로 확인
+          } finally {
+            currentMethod = null;
+          }
+        }
+      }
+    }
+    return invoked;
+  }
+
+  private static Object[] arguments(Method method) {
+    Object[] args = new Object[method.getParameterCount()];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = argument(method.getParameterTypes()[i], method.getGenericParameterTypes()[i]);
+    }
+    return args;
+  }
+
+  private static void invoke(Object repository, Method method, Object[] args) {
+    try {
+      method.invoke(repository, args);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // 실제 조회와 비슷한 선택도가 되도록: 존재하는 ID, 90일 전 시각, 대기 상태
+  private static Object argument(Class<?> type, Type genericType) {
+    if (type == Long.class || type == long.class) {
+      return SEEDED_ID;
+    }
+    if (type == Integer.class || type == int.class) {
+      return 10;
+    }
+    if (type == Double.class || type == double.class) {
+      return 30.0;
+    }
+    if (type == Boolean.class || type == boolean.class) {
+      return true;
+    }
+    if (type == String.class) {
+      return "en";
+    }
+    if (type == Instant.class) {
+      return Instant.now().minus(Duration.ofDays(90));
+    }
+    if (type.isEnum()) {
+      return type.getEnumConstants()[0];
+    }
+    if (Collection.class.isAssignableFrom(type)
+        && genericType instanceof ParameterizedType parameterized) {
+      Type element = parameterized.getActualTypeArguments()[0];
+      return List.of(argument((Class<?>) element, element), argument((Class<?>) element, element));
+    }
+    throw new IllegalArgumentException("지원하지 않는 인자 타입: " + genericType);
+  }
+
+  // 호출할 때와 같은 바인딩 값으로 EXPLAIN (실행하지 않음)
+  private List<String> seqScans(Captured query) throws Exception {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement("explain (format json) " + query.sql())) {
+      for (ParameterSetOperation operation : query.parameters()) {
+        operation.getMethod().invoke(statement, operation.getArgs());
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        List<String> relations = new ArrayList<>();
+        JsonNode plan = objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+        collectSeqScans(plan, relations);
+        return relations;
+      }
+    }
+  }
+
+  private static void collectSeqScans(JsonNode plan, List<String> relations) {
+    if ("Seq Scan".equals(plan.path("Node Type").asText())) {
+      relations.add(plan.path("Relation Name").asText());
+    }
+    for (JsonNode child : plan.path("Plans")) {
+      collectSeqScans(child, relations);
+    }
+  }
+
+  private Map<String, Long> relationRows() throws SQLException {
+    Map<String, Long> rows = new HashMap<>();
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "select relname, reltuples::bigint from pg_class where relkind = 'r'")) {
+      while (resultSet.next()) {
+        rows.put(resultSet.getString(1), resultSet.getLong(2));
+      }
+    }
+    return rows;
+  }
+
+  private record Captured(String method, String sql, List<ParameterSetOperation> parameters) {}
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class CaptureConfig {
+
+    // CacheConfig 의 캐시 지표 등록용
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    // 저장소 메서드를 호출하는 동안 나간 SQL 과 바인딩 값을 모음
+    @Bean
+    static BeanPostProcessor capturingDataSource() {
+      QueryExecutionListener listener =
+          new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+              String method = currentMethod;
+              if (method == null) {
+                return;
+              }
+              for (QueryInfo query : queryInfoList) {
+                List<ParameterSetOperation> parameters =
+                    query.getParametersList().isEmpty()
+                        ? List.of()
+                        : List.copyOf(query.getParametersList().get(0));
+                CAPTURED.add(new Captured(method, query.getQuery(), parameters));
+              }
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+          };
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource).listener(listener).build();
+          }
+          return bean;
+        }
+      };
+    }
+  }
+}
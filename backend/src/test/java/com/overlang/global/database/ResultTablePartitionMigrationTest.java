@@ -0,0 +1,187 @@
+package com.overlang.global.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// ddl-auto=update 시절의 일반 결과 테이블이 남은 DB 를 V2 로 옮겼을 때 파티션 구성, 행, 시퀀스가 맞는지 확인
+// (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class ResultTablePartitionMigrationTest {
+
+  private static final int PARTITIONS = 4;
+
+  @Container
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  // Hibernate 가 만들던 형태 (segment_words 에 job_id 없음, translation_stale 이전)
+  private static final List<String> LEGACY_SCHEMA =
+      List.of(
+          "create table jobs (id bigint generated by default as identity primary key)",
+          """
+          create table segments (
+            id bigserial primary key,
+            job_id bigint not null references jobs (id),
+            seq integer not null,
+            start_time double precision not null,
+            end_time double precision not null,
+            text text not null,
+            translated_text text,
+            language_code varchar(20),
+            created_at timestamp(6) with time zone,
+            updated_at timestamp(6) with time zone not null
+          )
+          """,
+          """
+          create table segment_words (
+            id bigserial primary key,
+            segment_id bigint not null references segments (id),
+            seq integer not null,
+            start_time double precision not null,
+            end_time double precision not null,
+            word varchar(255) not null
+          )
+          """,
+          """
+          create table ocr_items (
+            id bigserial primary key,
+            job_id bigint not null references jobs (id),
+            start_time double precision not null,
+            end_time double precision not null,
+            origin_text text not null,
+            translated_text text,
+            x double precision not null,
+            y double precision not null,
+            w double precision not null,
+            h double precision not null,
+            confidence double precision,
+            created_at timestamp(6) with time zone,
+            updated_at timestamp(6) with time zone not null
+          )
+          """);
+
+  private static final List<String> LEGACY_ROWS =
+      List.of(
+          "insert into jobs (id) select i from generate_series(1, 10) i",
+          """
+          insert into segments
+            (job_id, seq, start_time, end_time, text, translated_text, language_code, updated_at)
+          select i % 10 + 1, i / 10, i, i + 1, 'text ' || i, '번역 ' || i, 'en', now()
+          from generate_series(0, 199) i
+          """,
+          """
+          insert into segment_words (segment_id, seq, start_time, end_time, word)
+          select s.id, w, s.start_time + w * 0.5, s.start_time + w * 0.5 + 0.4, 'w' || w
+          from segments s cross join generate_series(0, 1) w
+          """,
+          """
+          insert into ocr_items
+            (job_id, start_time, end_time, origin_text, x, y, w, h, confidence, updated_at)
+          select i % 10 + 1, i, i + 2, 'ocr ' || i, 0.1, 0.1, 0.5, 0.2, 0.9, now()
+          from generate_series(0, 49) i
+          """);
+
+  @BeforeEach
+  void resetSchema() throws SQLException {
+    execute(List.of("drop schema public cascade", "create schema public"));
+  }
+
+  @Test
+  void movesLegacyTablesIntoHashPartitions() throws SQLException {
+    execute(LEGACY_SCHEMA);
+    execute(LEGACY_ROWS);
+
+    migrate();
+
+    for (String table : List.of("segments", "segment_words", "ocr_items")) {
+      assertThat(query("select relkind::text from pg_class where oid = '" + table + "'::regclass"))
+          .isEqualTo("p");
+      assertThat(
+              query(
+                  "select count(*) from pg_inherits where inhparent = '"
+                      + table
+                      + "'::regclass"))
+          .isEqualTo(String.valueOf(PARTITIONS));
+      assertThat(relation(table + "_legacy")).isNull();
+    }
+    assertThat(query("select count(*) from segments")).isEqualTo("200");
+    assertThat(query("select count(*) from segments where translation_stale")).isEqualTo("0");
+    assertThat(query("select count(*) from segment_words")).isEqualTo("400");
+    assertThat(query("select count(*) from ocr_items")).isEqualTo("50");
+    // 단어 행에 구간의 job_id 가 채워짐
+    assertThat(
+            query(
+                "select count(*) from segment_words w join segments s"
+                    + " on s.id = w.segment_id and s.job_id = w.job_id"))
+        .isEqualTo("400");
+    // 옮긴 뒤 새 행의 ID 가 이전 ID 와 겹치지 않음
+    assertThat(
+            query(
+                "insert into segments (job_id, seq, start_time, end_time, text, updated_at)"
+                    + " values (1, 999, 0, 1, 'new', now()) returning id"))
+        .isEqualTo("201");
+  }
+
+  @Test
+  void rejectsPartiallyCreatedLegacyTables() throws SQLException {
+    execute(LEGACY_SCHEMA.subList(0, 2));
+
+    assertThatThrownBy(this::migrate)
+        .rootCause()
+        .hasMessageContaining("결과 테이블 상태가 일치하지 않습니다");
+    assertThat(query("select relkind::text from pg_class where oid = 'segments'::regclass"))
+        .isEqualTo("r");
+  }
+
+  // 운영 설정처럼 V1 을 baseline 으로 건너뛰고 V2 만 실행
+  private void migrate() {
+    Flyway.configure()
+        .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+        .baselineOnMigrate(true)
+        .baselineVersion("1")
+        .target("2")
+        .placeholders(Map.of("result_hash_partitions", String.valueOf(PARTITIONS)))
+        .load()
+        .migrate();
+  }
+
+  private String relation(String table) throws SQLException {
+    return query("select to_regclass('" + table + "')::text");
+  }
+
+  private void execute(List<String> sqls) throws SQLException {
+    try (Connection connection = connect();
+        Statement statement = connection.createStatement()) {
+      for (String sql : sqls) {
+        statement.execute(sql);
+      }
+    }
+  }
+
+  private String query(String sql) throws SQLException {
+    try (Connection connection = connect();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(sql)) {
+      resultSet.next();
+      return resultSet.getString(1);
+    }
+  }
+
+  private Connection connect() throws SQLException {
+    return DriverManager.getConnection(
+        postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+  }
+}
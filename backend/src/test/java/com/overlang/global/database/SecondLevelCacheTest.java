@@ -0,0 +1,93 @@
+package com.overlang.global.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.overlang.domain.member.entity.Member;
+import com.overlang.domain.member.repository.MemberRepository;
+import com.overlang.domain.project.entity.Project;
+import com.overlang.domain.project.entity.SourceType;
+import com.overlang.domain.project.repository.ProjectRepository;
+import com.overlang.global.config.CacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import javax.cache.CacheManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// 한 번 읽은 회원(firebaseUid natural-id 포함)과 프로젝트를 다음 트랜잭션에서 SQL 없이 2차 캐시로 읽는지 확인
+// (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(CacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private CacheManager hibernateCacheManager;
+
+  @Test
+  void cachedLookupsIssueNoSql() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    Long projectId =
+        transaction.execute(
+            status -> {
+              Member member =
+                  memberRepository.save(new Member("cache@overlang.com", "cache", "cache-uid"));
+              return projectRepository
+                  .save(
+                      new Project(
+                          member, "video", SourceType.UPLOAD, null, "/files/a.mp4", "a.mp4"))
+                  .getId();
+            });
+    // 첫 조회에서 캐시에 올림
+    transaction.executeWithoutResult(status -> lookup(projectId));
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    transaction.executeWithoutResult(status -> lookup(projectId));
+
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2);
+    assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void eachContextGetsItsOwnCacheManager() {
+    CacheManager other = new CacheConfig().hibernateCacheManager(10, 1, 10, 1);
+    try {
+      assertThat(other).isNotSameAs(hibernateCacheManager);
+      assertThat(other.getCache(CacheConfig.MEMBER_REGION))
+          .isNotSameAs(hibernateCacheManager.getCache(CacheConfig.MEMBER_REGION));
+    } finally {
+      other.close();
+    }
+    // 다른 관리자를 닫아도 이 컨텍스트의 캐시는 열려 있음
+    assertThat(hibernateCacheManager.isClosed()).isFalse();
+    assertThat(hibernateCacheManager.getCache(CacheConfig.PROJECT_REGION).isClosed()).isFalse();
+  }
+
+  private void lookup(Long projectId) {
+    assertThat(memberRepository.findByFirebaseUid("cache-uid")).isPresent();
+    assertThat(projectRepository.findById(projectId)).isPresent();
+  }
+}
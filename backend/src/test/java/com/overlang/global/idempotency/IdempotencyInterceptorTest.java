@@ -0,0 +1,67 @@
+package com.overlang.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.global.auth.AuthInterceptor;
+import com.overlang.global.idempotency.IdempotencyService.Claim;
+import com.overlang.global.idempotency.IdempotencyService.Result;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.mock.web.MockPart;
+import org.springframework.web.method.HandlerMethod;
+
+// multipart 지문이 boundary 가 아니라 파트 이름/크기/내용으로 정해지는지 확인
+class IdempotencyInterceptorTest {
+
+  private final IdempotencyService idempotencyService = mock(IdempotencyService.class);
+  private final IdempotencyInterceptor interceptor = new IdempotencyInterceptor(idempotencyService);
+
+  @Test
+  void sameSizedUploadsWithDifferentContentDiffer() throws Exception {
+    String first = fingerprint("boundary-a", "video-one");
+    String retried = fingerprint("boundary-b", "video-one");
+    String other = fingerprint("boundary-a", "video-two");
+
+    assertThat(retried).isEqualTo(first);
+    assertThat(other).isNotEqualTo(first);
+  }
+
+  private String fingerprint(String boundary, String content) throws Exception {
+    when(idempotencyService.begin(eq(1L), eq("key"), any()))
+        .thenReturn(new Result(new Claim(1L, 1L, "key"), null));
+    MockMultipartHttpServletRequest request = new MockMultipartHttpServletRequest();
+    request.setMethod("POST");
+    request.setRequestURI("/api/v1/projects");
+    request.setContentType("multipart/form-data; boundary=" + boundary);
+    request.addHeader(IdempotencyInterceptor.HEADER, "key");
+    request.setAttribute(AuthInterceptor.AUTH_MEMBER_ID, 1L);
+    request.addPart(new MockPart("title", "video".getBytes(StandardCharsets.UTF_8)));
+    request.addPart(new MockPart("file", "a.mp4", content.getBytes(StandardCharsets.UTF_8)));
+
+    interceptor.preHandle(request, new MockHttpServletResponse(), handler());
+
+    ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+    verify(idempotencyService, atLeastOnce())
+        .begin(eq(1L), eq("key"), fingerprint.capture());
+    return fingerprint.getValue();
+  }
+
+  private static HandlerMethod handler() throws NoSuchMethodException {
+    return new HandlerMethod(new UploadHandler(), UploadHandler.class.getMethod("upload"));
+  }
+
+  static class UploadHandler {
+
+    @Idempotent
+    public void upload() {}
+  }
+}
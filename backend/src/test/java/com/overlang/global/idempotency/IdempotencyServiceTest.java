@@ -0,0 +1,128 @@
+package com.overlang.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overlang.domain.idempotency.entity.IdempotencyRecord;
+import com.overlang.domain.idempotency.entity.IdempotencyStatus;
+import com.overlang.domain.idempotency.repository.IdempotencyRecordRepository;
+import com.overlang.global.idempotency.IdempotencyService.Result;
+import com.overlang.global.idempotency.IdempotencyService.StoredResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+// 같은 키의 동시 요청은 하나만 처리, 이후/다른 인스턴스 요청은 저장된 응답 재생, 다른 요청은 거절
+class IdempotencyServiceTest {
+
+  private static final StoredResponse CREATED = new StoredResponse(201, "{\"jobId\":1}");
+
+  private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+  private final IdempotencyService service =
+      new IdempotencyService(repository, new SimpleMeterRegistry(), 24, 60, 5, 10, 100);
+
+  @Test
+  void concurrentRequestsWithSameKeyRunOnce() throws Exception {
+    when(repository.tryInsert(anyLong(), anyString(), anyString(), any())).thenReturn(1);
+    IdempotencyRecord inFlight = record("fp", IdempotencyStatus.IN_FLIGHT);
+    when(repository.findByMemberIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.of(inFlight));
+
+    int requests = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Result>> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+      for (int i = 0; i < requests; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  Result result = service.begin(1L, "key", "fp");
+                  if (result.claim() != null) {
+                    service.complete(result.claim(), CREATED);
+                  }
+                  return result;
+                }));
+      }
+      start.countDown();
+    }
+
+    int claims = 0;
+    for (Future<Result> result : results) {
+      if (result.get().claim() != null) {
+        claims++;
+      } else {
+        assertThat(result.get().replay()).isEqualTo(CREATED);
+      }
+    }
+    assertThat(claims).isEqualTo(1);
+    verify(repository, times(1)).tryInsert(anyLong(), anyString(), anyString(), any());
+  }
+
+  @Test
+  void completedRequestOnOtherInstanceIsReplayed() {
+    when(repository.tryInsert(anyLong(), anyString(), anyString(), any())).thenReturn(0);
+    IdempotencyRecord completed = record("fp", IdempotencyStatus.COMPLETED);
+    when(completed.getResponseStatus()).thenReturn(CREATED.status());
+    when(completed.getResponseBody()).thenReturn(CREATED.body());
+    when(repository.findByMemberIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.of(completed));
+
+    assertThat(service.begin(1L, "key", "fp").replay()).isEqualTo(CREATED);
+    // 두 번째부터는 메모리에 둔 응답 재생 (DB 조회 없음)
+    assertThat(service.begin(1L, "key", "fp").replay()).isEqualTo(CREATED);
+    verify(repository, times(1)).findByMemberIdAndIdempotencyKey(1L, "key");
+  }
+
+  @Test
+  void differentRequestWithSameKeyIsRejected() {
+    when(repository.tryInsert(anyLong(), anyString(), anyString(), any())).thenReturn(1);
+    IdempotencyRecord inFlight = record("fp", IdempotencyStatus.IN_FLIGHT);
+    when(repository.findByMemberIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.of(inFlight));
+    service.begin(1L, "key", "fp");
+
+    assertThatThrownBy(() -> service.begin(1L, "key", "other"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void differentRequestOnOtherInstanceIsRejected() {
+    when(repository.tryInsert(anyLong(), anyString(), anyString(), any())).thenReturn(0);
+    IdempotencyRecord completed = record("fp", IdempotencyStatus.COMPLETED);
+    when(repository.findByMemberIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.of(completed));
+
+    assertThatThrownBy(() -> service.begin(1L, "key", "other"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void abandonedRequestCanBeRetried() {
+    when(repository.tryInsert(anyLong(), anyString(), anyString(), any())).thenReturn(1);
+    IdempotencyRecord inFlight = record("fp", IdempotencyStatus.IN_FLIGHT);
+    when(repository.findByMemberIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.of(inFlight));
+
+    service.abandon(service.begin(1L, "key", "fp").claim());
+
+    assertThat(service.begin(1L, "key", "fp").claim()).isNotNull();
+    verify(repository).deleteByIdAndStatus(7L, IdempotencyStatus.IN_FLIGHT);
+  }
+
+  private static IdempotencyRecord record(String fingerprint, IdempotencyStatus status) {
+    IdempotencyRecord record = mock(IdempotencyRecord.class);
+    when(record.getId()).thenReturn(7L);
+    when(record.getFingerprint()).thenReturn(fingerprint);
+    when(record.getStatus()).thenReturn(status);
+    return record;
+  }
+}
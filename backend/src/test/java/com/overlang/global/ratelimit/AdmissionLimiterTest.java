@@ -0,0 +1,153 @@
+package com.overlang.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.overlang.global.ratelimit.AdmissionLimiter.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+// 버스트/충전(GCRA), 재전송 토큰 반환, 동시 실행 한도, 정리 작업과 동시에 들어온 요청, 잘못된 설정 확인
+class AdmissionLimiterTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  void burstIsAllowedThenRejectedWithRetryAfter() {
+    // 분당 60 (1초에 1개), 버스트 3
+    AdmissionLimiter limiter = limiter(60, 3, 10);
+
+    for (int i = 0; i < 3; i++) {
+      limiter.acquire(1L, AdmissionClass.UPLOAD).release();
+    }
+
+    assertThatThrownBy(() -> limiter.acquire(1L, AdmissionClass.UPLOAD))
+        .isInstanceOfSatisfying(
+            TooManyRequestsException.class, e -> assertThat(e.getRetryAfterSeconds()).isOne());
+    // 다른 회원과 다른 분류는 영향 없음
+    limiter.acquire(2L, AdmissionClass.UPLOAD).release();
+    limiter.acquire(1L, AdmissionClass.JOB_CREATION).release();
+  }
+
+  @Test
+  void tokensRefillAtConfiguredRate() {
+    AdmissionState state = new AdmissionState(0);
+    long burstTolerance = 2 * SECOND; // 버스트 3
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(state.tryConsume(0, SECOND, burstTolerance)).isZero();
+    }
+    assertThat(state.tryConsume(0, SECOND, burstTolerance)).isEqualTo(SECOND);
+
+    // 1초 뒤 한 개만 충전
+    assertThat(state.tryConsume(SECOND, SECOND, burstTolerance)).isZero();
+    assertThat(state.tryConsume(SECOND, SECOND, burstTolerance)).isPositive();
+    // 오래 쉬어도 버스트 크기 이상은 쌓이지 않음
+    long later = 100 * SECOND;
+    for (int i = 0; i < 3; i++) {
+      assertThat(state.tryConsume(later, SECOND, burstTolerance)).isZero();
+    }
+    assertThat(state.tryConsume(later, SECOND, burstTolerance)).isPositive();
+  }
+
+  @Test
+  void refundedTokenCanBeUsedAgain() {
+    // 분당 60, 버스트 2: 재전송으로 돌려받은 토큰은 바로 다시 쓸 수 있음
+    AdmissionLimiter limiter = limiter(60, 2, 10);
+    limiter.acquire(1L, AdmissionClass.UPLOAD).release();
+    Permit replayed = limiter.acquire(1L, AdmissionClass.UPLOAD);
+    replayed.refund();
+    replayed.release();
+
+    limiter.acquire(1L, AdmissionClass.UPLOAD).release();
+    assertThatThrownBy(() -> limiter.acquire(1L, AdmissionClass.UPLOAD))
+        .isInstanceOf(TooManyRequestsException.class);
+  }
+
+  @Test
+  void concurrentPermitsAreCappedUntilReleased() {
+    AdmissionLimiter limiter = limiter(6000, 100, 2);
+    Permit first = limiter.acquire(1L, AdmissionClass.UPLOAD);
+    Permit second = limiter.acquire(1L, AdmissionClass.UPLOAD);
+
+    assertThatThrownBy(() -> limiter.acquire(1L, AdmissionClass.UPLOAD))
+        .isInstanceOf(TooManyRequestsException.class);
+
+    first.release();
+    limiter.acquire(1L, AdmissionClass.UPLOAD).release();
+    second.release();
+  }
+
+  @Test
+  void sweepNeverSplitsMemberState() throws Exception {
+    int maxConcurrent = 2;
+    AdmissionLimiter limiter = limiter(6_000_000, 1_000_000, maxConcurrent);
+    AtomicInteger inside = new AtomicInteger();
+    AtomicInteger maxInside = new AtomicInteger();
+    AtomicBoolean running = new AtomicBoolean(true);
+    CountDownLatch start = new CountDownLatch(1);
+
+    List<Future<?>> workers = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(9)) {
+      for (int t = 0; t < 8; t++) {
+        workers.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < 20_000; i++) {
+                    Permit permit;
+                    try {
+                      permit = limiter.acquire(1L, AdmissionClass.UPLOAD);
+                    } catch (TooManyRequestsException e) {
+                      continue;
+                    }
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    inside.decrementAndGet();
+                    permit.release();
+                  }
+                  return null;
+                }));
+      }
+      executor.submit(
+          () -> {
+            start.await();
+            while (running.get()) {
+              limiter.sweepIdle();
+            }
+            return null;
+          });
+      start.countDown();
+      try {
+        for (Future<?> worker : workers) {
+          worker.get();
+        }
+      } finally {
+        running.set(false);
+      }
+    }
+
+    // 정리된 상태 객체에 permit 을 받으면 한도가 두 벌이 되어 넘어감
+    assertThat(maxInside.get()).isLessThanOrEqualTo(maxConcurrent);
+  }
+
+  @Test
+  void nonPositiveSettingsFailAtStartup() {
+    assertThatThrownBy(() -> limiter(0, 5, 2)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> limiter(10, 0, 2)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> limiter(10, 5, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static AdmissionLimiter limiter(int rate, int burst, int maxConcurrent) {
+    return new AdmissionLimiter(
+        new SimpleMeterRegistry(), rate, burst, maxConcurrent, rate, burst, maxConcurrent);
+  }
+}
@@ -0,0 +1,131 @@
+package com.overlang.global.response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.overlang.api.dto.ocr.OcrItemResponse;
+import com.overlang.api.dto.segment.SegmentResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 자막/OCR 목록 응답의 형식별 직렬화 비교 (./gradlew serializationBenchmark).
+ *
+ * <p>항목 수(인자, 기본 3000)만큼 합성한 응답을 형식마다 반복 직렬화해 응답당 스레드 CPU 시간과 바이트 수를 출력한다. gzip 행은 서버 압축과 같은
+ * 기본 압축 수준이며 CPU 시간에 압축이 포함된다.
+ */
+public class SerializationBenchmark {
+
+  private static final long WARMUP_NANOS = 2_000_000_000L;
+  private static final long MEASURE_NANOS = 3_000_000_000L;
+
+  private record Format(String name, ObjectMapper mapper, boolean gzip) {}
+
+  public static void main(String[] args) throws IOException {
+    int items = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+    List<Format> formats =
+        List.of(
+            // 이 설정 이전의 기본 ObjectMapper (리플렉션 직렬화, JDK double 변환)
+            new Format("json (reflection)", Jackson2ObjectMapperBuilder.json().build(), false),
+            new Format("json", mapper(null), false),
+            new Format("json + gzip", mapper(null), true),
+            new Format("cbor", mapper(new CBORFactory()), false),
+            new Format("smile", mapper(new SmileFactory()), false),
+            new Format("cbor + gzip", mapper(new CBORFactory()), true));
+
+    Random random = new Random(42);
+    run("segments x " + items, ApiResponse.success(segments(items, random)), formats);
+    run("ocr-items x " + items, ApiResponse.success(ocrItems(items, random)), formats);
+  }
+
+  // 서버 설정과 같게: 전용 직렬화기 + spring.jackson.generator.use-fast-double-writer
+  private static ObjectMapper mapper(JsonFactory factory) {
+    Jackson2ObjectMapperBuilder builder =
+        Jackson2ObjectMapperBuilder.json()
+            .modules(TranscriptSerializersTest.module())
+            .featuresToEnable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER.mappedFeature());
+    return factory == null ? builder.build() : builder.factory(factory).build();
+  }
+
+  private static void run(String payload, Object response, List<Format> formats)
+      throws IOException {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    System.out.printf("%n%s%n%-20s %12s %16s%n", payload, "format", "bytes", "cpu us/response");
+    for (Format format : formats) {
+      long bytes = write(format, response);
+      long deadline = System.nanoTime() + WARMUP_NANOS;
+      while (System.nanoTime() < deadline) {
+        write(format, response);
+      }
+
+      int count = 0;
+      long cpuStart = threads.getCurrentThreadCpuTime();
+      deadline = System.nanoTime() + MEASURE_NANOS;
+      while (System.nanoTime() < deadline) {
+        write(format, response);
+        count++;
+      }
+      double cpuMicros = (threads.getCurrentThreadCpuTime() - cpuStart) / 1_000.0 / count;
+      System.out.printf("%-20s %12d %16.1f%n", format.name(), bytes, cpuMicros);
+    }
+  }
+
+  // 서블릿 출력처럼 스트림에 바로 씀
+  private static long write(Format format, Object response) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+    try (OutputStream out = format.gzip() ? new GZIPOutputStream(buffer) : buffer) {
+      format.mapper().writeValue(out, response);
+    }
+    return buffer.size();
+  }
+
+  private static List<SegmentResponse> segments(int count, Random random) {
+    List<SegmentResponse> segments = new ArrayList<>(count);
+    double time = 0;
+    for (int i = 1; i <= count; i++) {
+      double duration = 1.5 + random.nextDouble() * 4;
+      segments.add(
+          new SegmentResponse(
+              100_000L + i,
+              i,
+              time,
+              time + duration,
+              "This is subtitle line number " + i + " with a few more words",
+              "자막 " + i + "번째 줄의 번역 문장입니다",
+              "en",
+              random.nextInt(50) == 0));
+      time += duration;
+    }
+    return segments;
+  }
+
+  private static List<OcrItemResponse> ocrItems(int count, Random random) {
+    List<OcrItemResponse> items = new ArrayList<>(count);
+    for (int i = 1; i <= count; i++) {
+      double start = random.nextDouble() * 3600;
+      items.add(
+          new OcrItemResponse(
+              200_000L + i,
+              start,
+              start + 0.5 + random.nextDouble() * 5,
+              random.nextDouble() * 1920,
+              random.nextDouble() * 1080,
+              20 + random.nextDouble() * 400,
+              10 + random.nextDouble() * 60,
+              random.nextInt(10) == 0 ? null : random.nextDouble(),
+              "EXIT " + i,
+              "출구 " + i));
+    }
+    return items;
+  }
+}
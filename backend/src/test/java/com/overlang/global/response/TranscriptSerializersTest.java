@@ -0,0 +1,62 @@
+package com.overlang.global.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.overlang.api.dto.ocr.OcrItemResponse;
+import com.overlang.api.dto.segment.SegmentResponse;
+import com.overlang.global.response.TranscriptSerializers.OcrItemResponseSerializer;
+import com.overlang.global.response.TranscriptSerializers.SegmentResponseSerializer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 전용 직렬화기가 기본(리플렉션) 직렬화와 같은 필드/값을 쓰는지, CBOR 로도 같은 내용인지 확인
+class TranscriptSerializersTest {
+
+  private static final ApiResponse<List<SegmentResponse>> SEGMENTS =
+      ApiResponse.success(
+          List.of(
+              new SegmentResponse(1L, 1, 0.0, 3.2, "Hello \"everyone\"", "안녕하세요", "en", false),
+              new SegmentResponse(2L, 2, 3.2, 7.75, "Next line", null, null, true)));
+
+  private static final ApiResponse<List<OcrItemResponse>> OCR_ITEMS =
+      ApiResponse.success(
+          List.of(
+              new OcrItemResponse(42L, 12.0, 15.5, 120.0, 48.0, 300.0, 40.0, 0.93, "出口", "출구"),
+              new OcrItemResponse(43L, 16.0, 18.0, 0.5, 0.25, 10.0, 4.0, null, "EXIT", null)));
+
+  @Test
+  void writesSameJsonAsDefaultSerialization() throws Exception {
+    ObjectMapper reflection = Jackson2ObjectMapperBuilder.json().build();
+    ObjectMapper custom = Jackson2ObjectMapperBuilder.json().modules(module()).build();
+
+    assertThat(custom.readTree(custom.writeValueAsBytes(SEGMENTS)))
+        .isEqualTo(reflection.readTree(reflection.writeValueAsBytes(SEGMENTS)));
+    assertThat(custom.readTree(custom.writeValueAsBytes(OCR_ITEMS)))
+        .isEqualTo(reflection.readTree(reflection.writeValueAsBytes(OCR_ITEMS)));
+  }
+
+  @Test
+  void cborCarriesSameContentInFewerBytes() throws Exception {
+    ObjectMapper json = Jackson2ObjectMapperBuilder.json().modules(module()).build();
+    ObjectMapper cbor =
+        Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).modules(module()).build();
+
+    byte[] jsonBytes = json.writeValueAsBytes(OCR_ITEMS);
+    byte[] cborBytes = cbor.writeValueAsBytes(OCR_ITEMS);
+    JsonNode decoded = cbor.readTree(cborBytes);
+
+    assertThat(decoded).isEqualTo(json.readTree(jsonBytes));
+    assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+  }
+
+  static SimpleModule module() {
+    return new SimpleModule()
+        .addSerializer(new SegmentResponseSerializer())
+        .addSerializer(new OcrItemResponseSerializer());
+  }
+}